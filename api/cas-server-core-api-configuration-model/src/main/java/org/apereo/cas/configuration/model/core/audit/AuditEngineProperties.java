@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -126,6 +127,13 @@ public class AuditEngineProperties implements Serializable {
      */
     private int abbreviationLength = 100;
 
+    /**
+     * Control how audit records are queued and written in batches
+     * when audit managers record audit data asynchronously.
+     */
+    @NestedConfigurationProperty
+    private AuditPipelineProperties pipeline = new AuditPipelineProperties();
+
     /**
      * The audit format types.
      */
@@ -0,0 +1,87 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditPipelineProperties}.
+ * Controls how audit records are queued and written in batches
+ * by audit managers that record audit data asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuditPipelineProperties")
+public class AuditPipelineProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5345781626340501902L;
+
+    /**
+     * Maximum number of audit records that may be queued
+     * in memory waiting to be written.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of audit records that are written together in a single batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time queued audit records may wait
+     * before a batch is written, regardless of its size.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide what happens to new audit records when the queue is full.
+     */
+    private OverflowPolicyTypes overflowPolicy = OverflowPolicyTypes.BLOCK;
+
+    /**
+     * When the overflow policy blocks, indicates the maximum amount of time
+     * to wait for room in the queue before the audit record is dropped.
+     */
+    @DurationCapable
+    private String blockTimeout = "PT5S";
+
+    /**
+     * Directory where audit records are spilled when the queue is full
+     * and the overflow policy spills to disk. Spilled records are written
+     * once the queue drains. Defaults to the system temporary directory.
+     */
+    private String spillDirectory;
+
+    /**
+     * Overflow policy types.
+     */
+    public enum OverflowPolicyTypes {
+        /**
+         * Block the caller until there is room in the queue,
+         * up to the configured block timeout.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest queued audit record to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Spill audit records that do not fit in the queue to disk.
+         */
+        SPILL_TO_DISK
+    }
+}
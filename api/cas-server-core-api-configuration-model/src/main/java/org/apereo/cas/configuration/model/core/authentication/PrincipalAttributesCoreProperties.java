@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -85,6 +86,22 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private boolean requireAllRepositorySources;
 
+    /**
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#PARALLEL},
+     * this setting controls how long each attribute repository is given to produce results.
+     * Repositories that fail to respond in time are cancelled and treated as failed sources.
+     */
+    @DurationCapable
+    private String parallelRepositoryTimeout = "PT5S";
+
+    /**
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#PARALLEL},
+     * this setting controls the overall amount of time allowed for all attribute
+     * repositories to produce results, regardless of per-repository timeouts.
+     */
+    @DurationCapable
+    private String parallelAggregationTimeout = "PT10S";
+
     /**
      * CAS provides the ability to release a bundle of principal attributes to all services by default.
      * This bundle is not defined on a per-service basis and is always combined with attributes
@@ -110,7 +127,13 @@ public class PrincipalAttributesCoreProperties implements Serializable {
          * the attributes from the first query in the result set are
          * used as the query for the next repository.
          */
-        CASCADE
+        CASCADE,
+        /**
+         * Query multiple repositories concurrently and merge the results into
+         * a single result set, in the order in which repositories are defined.
+         * Only suitable for repositories that do not depend on one another's results.
+         */
+        PARALLEL
     }
 
     /**
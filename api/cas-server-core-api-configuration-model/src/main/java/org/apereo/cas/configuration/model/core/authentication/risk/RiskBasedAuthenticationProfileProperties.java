@@ -0,0 +1,46 @@
+package org.apereo.cas.configuration.model.core.authentication.risk;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link RiskBasedAuthenticationProfileProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+@RequiresModule(name = "cas-server-support-electrofence")
+public class RiskBasedAuthenticationProfileProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -6325463121498713420L;
+
+    /**
+     * Maximum number of risk profiles, one per principal,
+     * that are kept in memory before the least recently used profiles are evicted.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Duration after which a risk profile kept in memory expires
+     * and is loaded again from the backing store or from authentication history.
+     * Profiles are updated in place as authentication events are recorded, so this
+     * mainly controls how quickly events recorded by other nodes are picked up.
+     */
+    @DurationCapable
+    private String expireAfterWrite = "PT15M";
+
+    /**
+     * Maximum number of distinct IP addresses, user agents and geolocations that
+     * are tracked per day in a risk profile. Values seen after the limit is reached
+     * only count towards the total number of authentication events.
+     */
+    private int maximumFeaturesPerDay = 100;
+}
@@ -60,4 +60,10 @@ public class RiskBasedAuthenticationProperties implements Serializable {
     @NestedConfigurationProperty
     private RiskBasedAuthenticationCoreProperties core = new RiskBasedAuthenticationCoreProperties();
 
+    /**
+     * Control how per-principal risk profiles, built from authentication history, are maintained.
+     */
+    @NestedConfigurationProperty
+    private RiskBasedAuthenticationProfileProperties profile = new RiskBasedAuthenticationProfileProperties();
+
 }
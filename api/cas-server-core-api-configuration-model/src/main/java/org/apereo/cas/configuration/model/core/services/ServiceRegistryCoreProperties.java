@@ -63,6 +63,8 @@ public class ServiceRegistryCoreProperties implements Serializable {
      * client id, etc. This is particularly useful for querying operations in OAuth or OpenID Connect,
      * as there would be no need to loop through all service definitions looking for a matching client id.
      * The indexes allow CAS to execute a direct query on loaded service objects to find the relevant definition.
+     * Service definitions are also indexed by the literal prefix of their service id patterns, where possible,
+     * to narrow down the candidate definitions that need to be evaluated when matching an incoming service request.
      */
     private boolean indexServices = true;
 }
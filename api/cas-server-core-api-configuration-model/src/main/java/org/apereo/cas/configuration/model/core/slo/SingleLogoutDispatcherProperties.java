@@ -0,0 +1,68 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogoutDispatcherProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutDispatcherProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -4385190632714588416L;
+
+    /**
+     * Whether logout requests for the services of a single ticket-granting ticket
+     * should be processed concurrently rather than one service at a time.
+     */
+    private boolean concurrent = true;
+
+    /**
+     * Maximum number of back-channel logout requests that may be in flight
+     * towards the same host at any given time.
+     */
+    private int maxConnectionsPerHost = 10;
+
+    /**
+     * Maximum amount of time to wait for a back-channel logout request to be delivered,
+     * including the time spent waiting for a connection to the target host. Requests that
+     * are not delivered within this time are queued for redelivery.
+     */
+    @DurationCapable
+    private String deadline = "PT5S";
+
+    /**
+     * Maximum number of delivery attempts for a back-channel logout request
+     * before the request is discarded.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Delay before the first redelivery of a failed back-channel logout request.
+     * The delay is doubled for every subsequent attempt. This is also the interval
+     * at which the retry queue is examined for requests that are due for redelivery.
+     */
+    @DurationCapable
+    private String retryBackoff = "PT30S";
+
+    /**
+     * Directory where failed back-channel logout requests are persisted,
+     * so that pending redeliveries survive restarts. If left undefined,
+     * the retry queue is only kept in memory.
+     */
+    private String directory;
+}
@@ -42,4 +42,20 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * When set to true, serialized tickets are wrapped in a compact binary
+     * envelope that carries the ticket type name and a payload
+     * compressed with a preset dictionary of commonly repeated strings,
+     * encoded as URL-safe base64. This reduces the size of tickets that are
+     * stored in registries as text. Tickets that were serialized before this
+     * option was turned on continue to be readable.
+     * <p>
+     * Serialized tickets are no longer readable as JSON once this is turned on.
+     * Registries shipped with CAS only search dedicated fields, such as the principal
+     * or attributes, and not the serialized ticket itself. Custom registries, database
+     * columns typed as JSON, or external tools that query or index the serialized ticket
+     * content must not enable this setting.
+     */
+    private boolean compactSerialization;
 }
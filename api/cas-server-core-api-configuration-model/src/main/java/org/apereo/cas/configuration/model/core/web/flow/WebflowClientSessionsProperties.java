@@ -0,0 +1,47 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link WebflowClientSessionsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+@JsonFilter("WebflowClientSessionsProperties")
+public class WebflowClientSessionsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -1862547140214372946L;
+
+    /**
+     * Whether the flow execution state should be encoded in a compact format,
+     * where commonly used classes are written as short identifiers and the state
+     * is compressed using a dictionary of common flow attributes.
+     * Flow execution state that was encoded in the default serialized format
+     * can still be decoded when this is turned on. Note that nodes that
+     * do not support the compact format are unable to decode such state.
+     * Only relevant if session storage is done on the client.
+     */
+    private boolean compact = true;
+
+    /**
+     * The compression level, between {@code 0} and {@code 9}, that is used to
+     * compress the flow execution state in compact format. Lower levels trade size for speed.
+     * {@code -1} indicates the default compression level.
+     * Only relevant if session storage is done on the client.
+     */
+    private int compressionLevel = -1;
+}
@@ -66,6 +66,12 @@ public class OAuthAccessTokenProperties implements Serializable {
     @NestedConfigurationProperty
     private EncryptionOptionalSigningOptionalJwtCryptographyProperties crypto = new EncryptionOptionalSigningOptionalJwtCryptographyProperties();
 
+    /**
+     * Control how JWT access tokens are validated without the ticket registry.
+     */
+    @NestedConfigurationProperty
+    private OAuthAccessTokenStatelessValidationProperties statelessValidation = new OAuthAccessTokenStatelessValidationProperties();
+
     public OAuthAccessTokenProperties() {
         crypto.getEncryption().setKeySize(EncryptionJwtCryptoProperties.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
         crypto.getSigning().setKeySize(SigningJwtCryptoProperties.DEFAULT_STRINGABLE_SIGNING_KEY_SIZE);
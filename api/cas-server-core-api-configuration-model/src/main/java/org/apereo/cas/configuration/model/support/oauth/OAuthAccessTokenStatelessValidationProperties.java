@@ -0,0 +1,72 @@
+package org.apereo.cas.configuration.model.support.oauth;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link OAuthAccessTokenStatelessValidationProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-oauth")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("OAuthAccessTokenStatelessValidationProperties")
+public class OAuthAccessTokenStatelessValidationProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2214512076584231562L;
+
+    /**
+     * Validate signed or encrypted JWT access tokens that are presented to protected
+     * endpoints without looking them up in the ticket registry. The token signature
+     * and expiration date are verified locally, and a revocation filter that is fed by
+     * revoked access tokens and ended single sign-on sessions is consulted instead.
+     * Tokens that may have been revoked, tokens that outlive the revocation filter
+     * and opaque tokens are always validated against the ticket registry. The idle timeout
+     * of access tokens is not enforced for tokens that are validated this way.
+     * Tokens may be revoked on any node, so this mode is only activated when the
+     * revocation filter is shared by all nodes. The default revocation filter is kept
+     * in memory and is fed by access tokens removed from the in-memory ticket registry;
+     * it is shared when the ticket registry replicates tickets through a message queue,
+     * such as AMQP or Google Cloud Pub/Sub, in which case a revoked token may still be accepted
+     * by other nodes until the removal is delivered to them. Other ticket registries require a
+     * shared revocation filter to be supplied. Access tokens issued by OpenID Connect
+     * are always validated against the ticket registry.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of verified access token claims to keep in memory,
+     * keyed by the digest of the access token.
+     */
+    private long claimsCacheSize = 10_000;
+
+    /**
+     * Duration for which verified access token claims are kept in memory.
+     * This also bounds the time it takes for changes to the application
+     * definition to apply to access tokens that were issued for it.
+     */
+    @DurationCapable
+    private String claimsCacheExpiration = "PT5M";
+
+    /**
+     * Number of revoked access tokens expected to be tracked
+     * by the revocation filter during the lifetime of an access token.
+     */
+    private long revocationFilterCapacity = 100_000;
+
+    /**
+     * Probability of the revocation filter reporting an access token as revoked
+     * when it is not. Such tokens are validated against the ticket registry.
+     */
+    private double revocationFilterFalsePositiveProbability = 0.001;
+}
@@ -48,6 +48,16 @@ public class CoreSamlMetadataProperties implements Serializable {
     @DurationCapable
     private String cacheExpiration = "PT24H";
 
+    /**
+     * How long after being loaded should cached metadata be refreshed in the background.
+     * Once this interval has passed, the next request for the metadata triggers
+     * an asynchronous reload while the previously-cached metadata continues to be served until
+     * the new metadata is ready. Should be shorter than the cache expiration to be effective.
+     * A blank or zero value disables background refreshes.
+     */
+    @DurationCapable
+    private String cacheRefreshInterval;
+
     /**
      * Whether valid metadata is required.
      */
@@ -64,6 +64,13 @@ public class ThrottleProperties implements Serializable {
     @NestedConfigurationProperty
     private ThrottleCoreProperties core = new ThrottleCoreProperties();
 
+    /**
+     * Settings that control how authentication failures
+     * are tracked in memory in a sliding window.
+     */
+    @NestedConfigurationProperty
+    private ThrottleWindowProperties window = new ThrottleWindowProperties();
+
     /**
      * Scheduler settings to clean up throttled attempts.
      */
@@ -0,0 +1,53 @@
+package org.apereo.cas.configuration.model.support.throttle;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that control how authentication failures are tracked in memory
+ * by throttling strategies that are backed by audit records, such as JDBC, MongoDb or Redis.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-throttle")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("ThrottleWindowProperties")
+public class ThrottleWindowProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2287632916245436315L;
+
+    /**
+     * Whether recent authentication failures should be tracked in memory
+     * in a sliding window per client IP address and username. When enabled,
+     * throttling decisions are made from the in-memory window and the audit store
+     * is only queried in the background to keep the window in sync with failures
+     * recorded by other nodes, instead of being queried on every request.
+     */
+    private boolean enabled;
+
+    /**
+     * How often the in-memory window of a given client IP address and username
+     * should be synchronized with failures recorded in the audit store.
+     */
+    @DurationCapable
+    private String synchronizationInterval = "PT30S";
+
+    /**
+     * Maximum number of synchronizations with the audit store that may run at the same time.
+     * Synchronizations that would exceed this limit are skipped and attempted again
+     * on a later request, so that requests for many distinct client IP addresses and usernames
+     * do not result in as many concurrent queries against the audit store.
+     */
+    private int maxConcurrentSynchronizations = 16;
+}
@@ -0,0 +1,48 @@
+package org.apereo.cas.configuration.model.support.x509;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link X509CrlIndexProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-x509-webflow")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class X509CrlIndexProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6920451877243102985L;
+
+    /**
+     * Whether CRLs fetched from distribution points should be kept as compact
+     * indexes of revoked serial numbers instead of parsed CRLs.
+     * Indexes are held outside the heap and are refreshed in the background.
+     */
+    private boolean enabled;
+
+    /**
+     * Directory where CRL indexes are persisted, so that they
+     * survive restarts. If left undefined, indexes are only kept in memory.
+     */
+    private String directory;
+
+    /**
+     * Duration ahead of the next update time of a CRL at which
+     * the CRL is fetched again to refresh its index. CRLs that do not specify
+     * a next update time are refreshed as often as {@code cacheTimeToLiveSeconds}.
+     */
+    @DurationCapable
+    private String refreshAhead = "PT15M";
+}
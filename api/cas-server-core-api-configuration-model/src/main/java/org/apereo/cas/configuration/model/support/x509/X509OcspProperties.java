@@ -0,0 +1,82 @@
+package org.apereo.cas.configuration.model.support.x509;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link X509OcspProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-x509-webflow")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class X509OcspProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -4238531072649017383L;
+
+    /**
+     * URL of the OCSP responder to use for all certificates.
+     * If left undefined, the responder is located via the OCSP access method
+     * of the certificate authorityInfoAccess extension.
+     */
+    private String responderUrl;
+
+    /**
+     * Whether OCSP requests should carry a nonce extension.
+     * When enabled, responses that carry a nonce must echo the nonce of the request.
+     * Note that requests that carry a nonce are not able to benefit from
+     * responses that are pre-produced and cached by the responder.
+     */
+    private boolean nonceEnabled;
+
+    /**
+     * The maximum number of OCSP responses to keep in the cache.
+     */
+    private long cacheMaxElementsInMemory = 10_000;
+
+    /**
+     * Duration for which OCSP responses are cached
+     * when they do not specify a {@code nextUpdate} time.
+     */
+    @DurationCapable
+    private String defaultCacheDuration = "PT5M";
+
+    /**
+     * Clock skew to allow when the {@code thisUpdate} time of an OCSP response
+     * is ahead of the current time. Responses produced further in the future are rejected.
+     */
+    @DurationCapable
+    private String allowedClockSkew = "PT5M";
+
+    /**
+     * Maximum age of an OCSP response, based on its {@code thisUpdate} time.
+     * Older responses are rejected, even if their {@code nextUpdate} time has not passed,
+     * so that stale responses replayed to CAS are not trusted.
+     */
+    @DurationCapable
+    private String maxResponseAge = "P7D";
+
+    /**
+     * Policy to apply when the revocation status cannot be determined via OCSP,
+     * either because the responder is unavailable or the status is unknown.
+     * Accepted values are:
+     * <ul>
+     * <li>{@code ALLOW}: Allow authentication to proceed.</li>
+     * <li>{@code DENY}: Deny authentication and block.</li>
+     * <li>{@code CRL}: Fall back onto checking the CRL URI(s) mentioned in the certificate
+     * cRLDistributionPoints extension field, subject to CRL policies.</li>
+     * </ul>
+     */
+    private String unavailablePolicy = "CRL";
+}
@@ -101,6 +101,8 @@ public class X509Properties implements CasFeatureModule, Serializable {
      * Caches are available to prevent excessive IO against CRL endpoints. CRL data
      * is fetched if does not exist in the cache or if it is expired.</li>
      * <li>{@code RESOURCE}: A CRL hosted at a fixed location. The CRL is fetched at periodic intervals and cached.</li>
+     * <li>{@code OCSP}: The OCSP responder mentioned in the certificate authorityInfoAccess extension field.
+     * Responses are cached until the responder indicates that newer status information is available.</li>
      * </ul>
      */
     private String revocationChecker = "NONE";
@@ -206,6 +208,19 @@ public class X509Properties implements CasFeatureModule, Serializable {
     @NestedConfigurationProperty
     private X509LdapProperties ldap = new X509LdapProperties();
 
+    /**
+     * OCSP settings when checking revocation status via OCSP.
+     */
+    @NestedConfigurationProperty
+    private X509OcspProperties ocsp = new X509OcspProperties();
+
+    /**
+     * Settings that control indexing of CRLs fetched from distribution points.
+     * Activated if {@link #revocationChecker} is {@code CRL}.
+     */
+    @NestedConfigurationProperty
+    private X509CrlIndexProperties crlIndex = new X509CrlIndexProperties();
+
     /**
      * The compiled pattern supplied by the deployer.
      */
@@ -1,9 +1,14 @@
 package org.apereo.cas.logout.slo;
 
+import lombok.val;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Execute and initiate single logout operations
@@ -31,4 +36,20 @@ public interface SingleLogoutRequestExecutor {
     List<SingleLogoutRequestContext> execute(String ticketId,
                                              HttpServletRequest request,
                                              HttpServletResponse response);
+
+    /**
+     * Execute single logout operations for a batch of tickets.
+     *
+     * @param ticketIds the ticket ids
+     * @param request   the request
+     * @param response  the response
+     * @return the single logout requests, keyed by ticket id
+     */
+    default Map<String, List<SingleLogoutRequestContext>> execute(final Collection<String> ticketIds,
+                                                                  final HttpServletRequest request,
+                                                                  final HttpServletResponse response) {
+        val results = new LinkedHashMap<String, List<SingleLogoutRequestContext>>(ticketIds.size());
+        ticketIds.forEach(ticketId -> results.put(ticketId, execute(ticketId, request, response)));
+        return results;
+    }
 }
@@ -81,6 +81,17 @@ public interface TicketRegistry {
      */
     Ticket getTicket(String ticketId, Predicate<Ticket> predicate);
 
+    /**
+     * Retrieve a batch of tickets from the registry.
+     * Tickets that cannot be found or have expired are not included in the result.
+     *
+     * @param ticketIds the ticket ids
+     * @return the tickets that could be found
+     */
+    default List<? extends Ticket> getTickets(final Collection<String> ticketIds) {
+        return ticketIds.stream().map(this::getTicket).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     /**
      * Remove a specific ticket from the registry.
      * If ticket to delete is TGT then related service tickets are removed as well.
@@ -101,6 +112,30 @@ public interface TicketRegistry {
      */
     int deleteTicket(Ticket ticketId) throws Exception;
 
+    /**
+     * Remove a batch of tickets from the registry.
+     * Ticket-granting tickets are removed along with their children, as is the case with {@link #deleteTicket(String)}.
+     *
+     * @param ticketIds the ticket ids
+     * @return the number of tickets deleted including children.
+     * @throws Exception the exception
+     */
+    default int deleteTickets(final Collection<String> ticketIds) throws Exception {
+        return ticketIds.stream().mapToInt(Unchecked.toIntFunction(this::deleteTicket)).sum();
+    }
+
+    /**
+     * Remove a batch of tickets that are already fetched from the registry, without looking them up again.
+     * Ticket-granting tickets are removed along with their children, as is the case with {@link #deleteTicket(Ticket)}.
+     *
+     * @param toDelete the tickets to delete
+     * @return the number of tickets deleted including children.
+     * @throws Exception the exception
+     */
+    default int deleteTickets(final Stream<? extends Ticket> toDelete) throws Exception {
+        return toDelete.mapToInt(Unchecked.toIntFunction(this::deleteTicket)).sum();
+    }
+
     /**
      * Delete all tickets from the registry.
      *
@@ -141,6 +176,17 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Update a batch of tickets.
+     *
+     * @param toUpdate the tickets to update
+     * @return the updated tickets
+     * @throws Exception the exception
+     */
+    default List<? extends Ticket> updateTickets(final Stream<? extends Ticket> toUpdate) throws Exception {
+        return toUpdate.map(Unchecked.function(this::updateTicket)).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
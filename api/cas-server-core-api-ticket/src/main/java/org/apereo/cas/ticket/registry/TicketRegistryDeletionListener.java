@@ -0,0 +1,21 @@
+package org.apereo.cas.ticket.registry;
+
+/**
+ * This is {@link TicketRegistryDeletionListener}.
+ * <p>
+ * Notified of tickets removed from registries that keep tickets in memory,
+ * including removals that are replicated from other nodes through the message queue.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@FunctionalInterface
+public interface TicketRegistryDeletionListener {
+
+    /**
+     * Ticket removed from the registry.
+     *
+     * @param ticketId the ticket id
+     */
+    void ticketDeleted(String ticketId);
+}
@@ -1,19 +1,25 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
+ * <p>
+ * When recording audit data asynchronously, audit records are handed off to a bounded
+ * {@link AuditRecordPipeline} that writes them in batches via {@link #saveAuditRecords(List)}.
+ * Implementations that are able to write several records at once should override that method.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -21,16 +27,23 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+    private AuditPipelineProperties pipelineProperties = new AuditPipelineProperties();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicReference<AuditRecordPipeline> pipeline = new AtomicReference<>();
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            executorService.execute(() -> saveAuditRecord(audit));
+            getAuditRecordPipeline().enqueue(audit);
         } else {
             saveAuditRecord(audit);
         }
@@ -38,7 +51,29 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
-        executorService.shutdown();
+        val currentPipeline = pipeline.getAndSet(null);
+        if (currentPipeline != null) {
+            currentPipeline.close();
+        }
+    }
+
+    protected AuditRecordPipeline getAuditRecordPipeline() {
+        val currentPipeline = pipeline.get();
+        if (currentPipeline != null) {
+            return currentPipeline;
+        }
+        val newPipeline = new AuditRecordPipeline(getClass().getSimpleName(), this::saveAuditRecords, pipelineProperties);
+        return pipeline.compareAndSet(null, newPipeline) ? newPipeline.start() : pipeline.get();
+    }
+
+    /**
+     * Save a batch of audit records.
+     * By default, records are saved one at a time.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
     }
 
     protected abstract void saveAuditRecord(AuditActionContext audit);
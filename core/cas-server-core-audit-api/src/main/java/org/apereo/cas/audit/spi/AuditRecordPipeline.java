@@ -0,0 +1,288 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link AuditRecordPipeline}.
+ * <p>
+ * Queues audit records in a bounded buffer and writes them in batches on a dedicated
+ * writer thread. A batch is written once it reaches the configured size, or once
+ * the flush interval has passed since its first record was queued. When the buffer is full,
+ * new records are handled according to the configured overflow policy: the caller may block
+ * for a limited amount of time, the oldest queued record may be dropped, or the record may be
+ * spilled to disk and written later once the buffer drains.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class AuditRecordPipeline implements AutoCloseable {
+    /**
+     * Metric name prefix for pipeline metrics.
+     */
+    public static final String METRIC_NAME = "cas.audit.pipeline";
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final Consumer<List<AuditActionContext>> writer;
+
+    private final AuditPipelineProperties properties;
+
+    private final int batchSize;
+
+    private final Duration flushInterval;
+
+    private final Duration blockTimeout;
+
+    private final File spillFile;
+
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private final AuditActionContextJsonSerializer serializer = new AuditActionContextJsonSerializer();
+
+    private final Timer flushTimer;
+
+    private final Counter droppedRecords;
+
+    private final Counter spilledRecords;
+
+    private final Counter failedRecords;
+
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    public AuditRecordPipeline(final String name,
+                               final Consumer<List<AuditActionContext>> writer,
+                               final AuditPipelineProperties properties) {
+        this(name, writer, properties, Metrics.globalRegistry);
+    }
+
+    public AuditRecordPipeline(final String name,
+                               final Consumer<List<AuditActionContext>> writer,
+                               final AuditPipelineProperties properties,
+                               final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.writer = writer;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.flushInterval = Beans.newDuration(properties.getFlushInterval());
+        this.blockTimeout = Beans.newDuration(properties.getBlockTimeout());
+        val spillDirectory = StringUtils.defaultIfBlank(properties.getSpillDirectory(), FileUtils.getTempDirectoryPath());
+        this.spillFile = new File(spillDirectory, "cas-audit-" + name + ".spill");
+
+        Gauge.builder(METRIC_NAME + ".queue", queue, BlockingQueue::size)
+            .tag("manager", name)
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_NAME + ".flush").tag("manager", name).register(meterRegistry);
+        this.droppedRecords = meterRegistry.counter(METRIC_NAME + ".records", "manager", name, "outcome", "dropped");
+        this.spilledRecords = meterRegistry.counter(METRIC_NAME + ".records", "manager", name, "outcome", "spilled");
+        this.failedRecords = meterRegistry.counter(METRIC_NAME + ".records", "manager", name, "outcome", "failed");
+        this.writerThread = Thread.ofVirtual().name("audit-pipeline-" + name).unstarted(this::processQueue);
+    }
+
+    /**
+     * Start the writer thread.
+     *
+     * @return this pipeline
+     */
+    public AuditRecordPipeline start() {
+        writerThread.start();
+        return this;
+    }
+
+    /**
+     * Queue the audit record to be written.
+     *
+     * @param audit the audit record
+     */
+    public void enqueue(final AuditActionContext audit) {
+        if (!running) {
+            LOGGER.debug("Audit pipeline [{}] is closed; writing audit record directly", name);
+            flush(List.of(audit));
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case DROP_OLDEST -> {
+                while (!queue.offer(audit)) {
+                    if (queue.poll() != null) {
+                        droppedRecords.increment();
+                    }
+                }
+            }
+            case SPILL_TO_DISK -> {
+                if (!queue.offer(audit)) {
+                    spill(audit);
+                }
+            }
+            default -> {
+                try {
+                    if (!queue.offer(audit, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        droppedRecords.increment();
+                        LOGGER.warn("Audit record for [{}] was dropped; audit queue [{}] remained full for [{}]",
+                            audit.getActionPerformed(), name, blockTimeout);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedRecords.increment();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainQueue();
+    }
+
+    protected void processQueue() {
+        while (running || !queue.isEmpty()) {
+            try {
+                val batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                if (queue.remainingCapacity() > queue.size()) {
+                    recoverSpilledRecords();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    protected List<AuditActionContext> collectBatch() throws InterruptedException {
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        val first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first != null) {
+            batch.add(first);
+            val deadline = System.nanoTime() + flushInterval.toNanos();
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                val remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                    break;
+                }
+                val next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next != null) {
+                    batch.add(next);
+                }
+            }
+        }
+        return batch;
+    }
+
+    protected void flush(final List<AuditActionContext> batch) {
+        try {
+            LOGGER.trace("Writing batch of [{}] audit records via [{}]", batch.size(), name);
+            flushTimer.record(() -> writer.accept(batch));
+        } catch (final Throwable e) {
+            failedRecords.increment(batch.size());
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    protected void spill(final AuditActionContext audit) {
+        spillLock.lock();
+        try (val output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spillFile, true)))) {
+            val bytes = serializer.toString(audit).getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+            spilledRecords.increment();
+        } catch (final Exception e) {
+            droppedRecords.increment();
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    protected void recoverSpilledRecords() {
+        if (!spillFile.exists() || !spillLock.tryLock()) {
+            return;
+        }
+        try {
+            val recovered = new File(spillFile.getParentFile(), spillFile.getName() + ".recovering");
+            if (!spillFile.renameTo(recovered)) {
+                LOGGER.warn("Unable to recover spilled audit records from [{}]", spillFile);
+                return;
+            }
+            spillLock.unlock();
+            LOGGER.debug("Recovering spilled audit records from [{}]", recovered);
+            val batch = new ArrayList<AuditActionContext>(batchSize);
+            try (val input = new DataInputStream(new BufferedInputStream(new FileInputStream(recovered)))) {
+                while (input.available() > 0) {
+                    val bytes = new byte[input.readInt()];
+                    input.readFully(bytes);
+                    batch.add(serializer.from(new String(bytes, StandardCharsets.UTF_8)));
+                    if (batch.size() >= batchSize) {
+                        flush(List.copyOf(batch));
+                        batch.clear();
+                    }
+                }
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+            FileUtils.deleteQuietly(recovered);
+        } finally {
+            if (spillLock.isHeldByCurrentThread()) {
+                spillLock.unlock();
+            }
+        }
+    }
+
+    private void drainQueue() {
+        val remaining = new ArrayList<AuditActionContext>(queue.size());
+        queue.drainTo(remaining);
+        for (var i = 0; i < remaining.size(); i += batchSize) {
+            flush(remaining.subList(i, Math.min(remaining.size(), i + batchSize)));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditRecordPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Audits")
+class AuditRecordPipelineTests {
+    private static AuditActionContext newAuditRecord(final String principal) {
+        return new AuditActionContext(principal, "TEST", "TEST",
+            "CAS", LocalDateTime.now(Clock.systemUTC()),
+            new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London"));
+    }
+
+    @Test
+    void verifyRecordsAreWrittenInBatches() throws Throwable {
+        val batches = Collections.synchronizedList(new ArrayList<List<AuditActionContext>>());
+        val properties = new AuditPipelineProperties().setBatchSize(10).setFlushInterval("PT0.2S");
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val pipeline = new AuditRecordPipeline(UUID.randomUUID().toString(),
+            batch -> batches.add(List.copyOf(batch)), properties, meterRegistry).start()) {
+            for (var i = 0; i < 25; i++) {
+                pipeline.enqueue(newAuditRecord("casuser" + i));
+            }
+            await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> batches.stream().mapToInt(List::size).sum() == 25);
+        }
+        assertTrue(batches.size() >= 3);
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+        assertTrue(meterRegistry.get(AuditRecordPipeline.METRIC_NAME + ".flush").timer().count() >= 3);
+    }
+
+    @Test
+    void verifyDropOldestWhenFull() throws Throwable {
+        val release = new CountDownLatch(1);
+        val written = Collections.synchronizedList(new ArrayList<AuditActionContext>());
+        val properties = new AuditPipelineProperties()
+            .setQueueCapacity(2)
+            .setBatchSize(1)
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.DROP_OLDEST);
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val pipeline = new AuditRecordPipeline(UUID.randomUUID().toString(), batch -> {
+            awaitQuietly(release);
+            written.addAll(batch);
+        }, properties, meterRegistry).start()) {
+            pipeline.enqueue(newAuditRecord("first"));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> pipeline.getQueue().isEmpty());
+            for (var i = 0; i < 5; i++) {
+                pipeline.enqueue(newAuditRecord("casuser" + i));
+            }
+            assertEquals(2, pipeline.getQueue().size());
+            assertEquals(3, pipeline.getDroppedRecords().count());
+            release.countDown();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> written.size() == 3);
+        }
+        assertEquals(List.of("first", "casuser3", "casuser4"), written.stream().map(AuditActionContext::getPrincipal).toList());
+    }
+
+    @Test
+    void verifySpillToDisk() throws Throwable {
+        val release = new CountDownLatch(1);
+        val written = Collections.synchronizedList(new ArrayList<AuditActionContext>());
+        val spillDirectory = Files.createTempDirectory("audit").toFile();
+        val properties = new AuditPipelineProperties()
+            .setQueueCapacity(1)
+            .setBatchSize(1)
+            .setSpillDirectory(spillDirectory.getAbsolutePath())
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.SPILL_TO_DISK);
+        try (val pipeline = new AuditRecordPipeline(UUID.randomUUID().toString(), batch -> {
+            awaitQuietly(release);
+            written.addAll(batch);
+        }, properties, new SimpleMeterRegistry()).start()) {
+            pipeline.enqueue(newAuditRecord("first"));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> pipeline.getQueue().isEmpty());
+            for (var i = 0; i < 4; i++) {
+                pipeline.enqueue(newAuditRecord("casuser" + i));
+            }
+            assertEquals(3, pipeline.getSpilledRecords().count());
+            assertTrue(pipeline.getSpillFile().exists());
+            release.countDown();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> written.size() == 5);
+        } finally {
+            FileUtils.deleteQuietly(spillDirectory);
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
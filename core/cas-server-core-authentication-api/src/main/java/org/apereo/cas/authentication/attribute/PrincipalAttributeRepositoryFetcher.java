@@ -2,7 +2,6 @@ package org.apereo.cas.authentication.attribute;
 
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.Service;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,8 +26,6 @@ import java.util.Set;
 @Getter
 @Slf4j
 public class PrincipalAttributeRepositoryFetcher {
-    private final CasReentrantLock lock = new CasReentrantLock();
-
     private final IPersonAttributeDao attributeRepository;
 
     private final String principalId;
@@ -43,41 +40,47 @@ public class PrincipalAttributeRepositoryFetcher {
 
     private final Service service;
 
+    @Builder.Default
+    private final PrincipalAttributeRepositoryLookupCoalescer lookupCoalescer = PrincipalAttributeRepositoryLookupCoalescer.getInstance();
+
     /**
      * Retrieve person attributes.
      *
      * @return the map
      */
     public Map<String, List<Object>> retrieve() {
-        return lock.tryLock(() -> {
-            val query = new LinkedHashMap<String, Object>();
-            if (currentPrincipal != null) {
-                query.put("principal", currentPrincipal.getId());
-                query.putAll(currentPrincipal.getAttributes());
-            }
-            query.putAll(queryAttributes);
-            query.put("username", principalId.trim());
-
-            if (service != null) {
-                query.put("service", service.getId());
-            }
-
-            LOGGER.debug("Fetching person attributes for query [{}]", query);
-            val people = attributeRepository.getPeople(query, PrincipalAttributeRepositoryFilter.of(this));
-            if (people == null || people.isEmpty()) {
-                LOGGER.warn("No person records were fetched from attribute repositories for [{}]", query);
-                return new HashMap<>(0);
-            }
-
-            if (people.size() > 1) {
-                LOGGER.warn("Multiple records were found for [{}] from attribute repositories for query [{}]. The records are [{}], "
-                    + "and CAS will only pick the first person record from the results.", principalId, query, people);
-            }
-
-            val person = people.iterator().next();
-            LOGGER.debug("Retrieved person [{}] from attribute repositories for query [{}]", person, query);
-            return person.getAttributes();
-        });
+        val query = new LinkedHashMap<String, Object>();
+        if (currentPrincipal != null) {
+            query.put("principal", currentPrincipal.getId());
+            query.putAll(currentPrincipal.getAttributes());
+        }
+        query.putAll(queryAttributes);
+        query.put("username", principalId.trim());
+
+        if (service != null) {
+            query.put("service", service.getId());
+        }
+
+        val lookupKey = new LookupKey(attributeRepository, Set.copyOf(activeAttributeRepositoryIdentifiers), query);
+        return lookupCoalescer.execute(lookupKey, () -> fetchPersonAttributes(query));
+    }
+
+    protected Map<String, List<Object>> fetchPersonAttributes(final Map<String, Object> query) {
+        LOGGER.debug("Fetching person attributes for query [{}]", query);
+        val people = attributeRepository.getPeople(query, PrincipalAttributeRepositoryFilter.of(this));
+        if (people == null || people.isEmpty()) {
+            LOGGER.warn("No person records were fetched from attribute repositories for [{}]", query);
+            return new HashMap<>(0);
+        }
+
+        if (people.size() > 1) {
+            LOGGER.warn("Multiple records were found for [{}] from attribute repositories for query [{}]. The records are [{}], "
+                + "and CAS will only pick the first person record from the results.", principalId, query, people);
+        }
+
+        val person = people.iterator().next();
+        LOGGER.debug("Retrieved person [{}] from attribute repositories for query [{}]", person, query);
+        return person.getAttributes();
     }
 
     /**
@@ -91,4 +94,7 @@ public class PrincipalAttributeRepositoryFetcher {
         activeAttributeRepositoryIdentifiers.add(IPersonAttributeDao.WILDCARD);
         return this;
     }
+
+    private record LookupKey(IPersonAttributeDao attributeRepository, Set<String> attributeRepositoryIdentifiers, Map<String, Object> query) {
+    }
 }
@@ -0,0 +1,124 @@
+package org.apereo.cas.authentication.attribute;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link PrincipalAttributeRepositoryLookupCoalescer}.
+ * <p>
+ * Coalesces concurrent attribute repository lookups that share the same key,
+ * such that only one lookup is executed against the underlying attribute repositories
+ * while all other callers wait for and share its result. Callers that wait longer than
+ * the configured timeout stop waiting and execute the lookup on their own.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class PrincipalAttributeRepositoryLookupCoalescer {
+    /**
+     * Metric name that tracks lookup outcomes.
+     */
+    public static final String METRIC_NAME = "cas.person.directory.lookups";
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final PrincipalAttributeRepositoryLookupCoalescer INSTANCE =
+        new PrincipalAttributeRepositoryLookupCoalescer(DEFAULT_TIMEOUT, Metrics.globalRegistry);
+
+    private final Map<Object, CompletableFuture<Map<String, List<Object>>>> inFlightLookups = new ConcurrentHashMap<>();
+
+    private final Duration timeout;
+
+    private final Counter executedLookups;
+
+    private final Counter coalescedLookups;
+
+    private final Counter timedOutLookups;
+
+    public PrincipalAttributeRepositoryLookupCoalescer(final Duration timeout, final MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.executedLookups = meterRegistry.counter(METRIC_NAME, "outcome", "executed");
+        this.coalescedLookups = meterRegistry.counter(METRIC_NAME, "outcome", "coalesced");
+        this.timedOutLookups = meterRegistry.counter(METRIC_NAME, "outcome", "timeout");
+    }
+
+    /**
+     * Gets the shared instance.
+     *
+     * @return the instance
+     */
+    public static PrincipalAttributeRepositoryLookupCoalescer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Execute the lookup, or join an identical lookup that is already in flight.
+     *
+     * @param key    the lookup key
+     * @param lookup the lookup
+     * @return the attributes
+     */
+    public Map<String, List<Object>> execute(final Object key, final Supplier<Map<String, List<Object>>> lookup) {
+        val lookupFuture = new CompletableFuture<Map<String, List<Object>>>();
+        val inFlight = inFlightLookups.putIfAbsent(key, lookupFuture);
+        if (inFlight != null) {
+            coalescedLookups.increment();
+            try {
+                LOGGER.trace("Waiting for in-flight attribute repository lookup for [{}]", key);
+                return copyOf(inFlight.get(timeout.toMillis(), TimeUnit.MILLISECONDS));
+            } catch (final TimeoutException e) {
+                timedOutLookups.increment();
+                LOGGER.debug("Timed out waiting for in-flight attribute repository lookup for [{}] after [{}]", key, timeout);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof final RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+            executedLookups.increment();
+            return lookup.get();
+        }
+
+        executedLookups.increment();
+        try {
+            val result = lookup.get();
+            lookupFuture.complete(result);
+            return result;
+        } catch (final Throwable e) {
+            lookupFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLookups.remove(key, lookupFuture);
+        }
+    }
+
+    private static Map<String, List<Object>> copyOf(final Map<String, List<Object>> attributes) {
+        if (attributes == null) {
+            return null;
+        }
+        val results = new LinkedHashMap<String, List<Object>>(attributes.size());
+        attributes.forEach((name, values) -> results.put(name, values == null ? null : new ArrayList<>(values)));
+        return results;
+    }
+}
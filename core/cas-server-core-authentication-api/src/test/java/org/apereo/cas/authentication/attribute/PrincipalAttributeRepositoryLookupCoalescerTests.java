@@ -0,0 +1,95 @@
+package org.apereo.cas.authentication.attribute;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link PrincipalAttributeRepositoryLookupCoalescerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Attributes")
+class PrincipalAttributeRepositoryLookupCoalescerTests {
+    @Test
+    void verifyConcurrentLookupsAreCoalesced() throws Throwable {
+        val coalescer = new PrincipalAttributeRepositoryLookupCoalescer(Duration.ofSeconds(30), new SimpleMeterRegistry());
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val executions = new AtomicInteger();
+        try (val executor = Executors.newFixedThreadPool(4)) {
+            val leader = executor.submit(() -> coalescer.execute("casuser", () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return Map.of("name", List.of("CAS"));
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            val followers = List.of(
+                executor.submit(() -> coalescer.execute("casuser", () -> Map.of("name", List.of("Other")))),
+                executor.submit(() -> coalescer.execute("casuser", () -> Map.of("name", List.of("Other")))));
+            while (coalescer.getCoalescedLookups().count() < followers.size()) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            assertEquals(List.of("CAS"), leader.get().get("name"));
+            for (val follower : followers) {
+                assertEquals(List.of("CAS"), follower.get().get("name"));
+            }
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1, coalescer.getExecutedLookups().count());
+        assertEquals(2, coalescer.getCoalescedLookups().count());
+        assertTrue(coalescer.getInFlightLookups().isEmpty());
+    }
+
+    @Test
+    void verifyTimedOutLookupExecutesIndependently() throws Throwable {
+        val coalescer = new PrincipalAttributeRepositoryLookupCoalescer(Duration.ofMillis(50), new SimpleMeterRegistry());
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        try (val executor = Executors.newSingleThreadExecutor()) {
+            val leader = executor.submit(() -> coalescer.execute("casuser", () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return Map.of("name", List.of("CAS"));
+            }));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            val result = coalescer.execute("casuser", () -> Map.of("name", List.of("Other")));
+            assertEquals(List.of("Other"), result.get("name"));
+            release.countDown();
+            assertNotNull(leader.get());
+        }
+        assertEquals(1, coalescer.getTimedOutLookups().count());
+        assertEquals(2, coalescer.getExecutedLookups().count());
+    }
+
+    @Test
+    void verifyFailuresArePropagated() {
+        val coalescer = new PrincipalAttributeRepositoryLookupCoalescer(Duration.ofSeconds(1), new SimpleMeterRegistry());
+        assertThrows(IllegalArgumentException.class, () -> coalescer.execute("casuser", () -> {
+            throw new IllegalArgumentException("failed");
+        }));
+        assertTrue(coalescer.getInFlightLookups().isEmpty());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
 import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.util.function.FunctionUtils;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -40,6 +44,16 @@ public class DefaultLogoutManager implements LogoutManager {
 
     private final LogoutExecutionPlan logoutExecutionPlan;
 
+    /**
+     * Whether logout requests for the services of a ticket
+     * should be processed concurrently.
+     */
+    private final boolean concurrent;
+
+    public DefaultLogoutManager(final boolean singleLogoutCallbacksDisabled, final LogoutExecutionPlan logoutExecutionPlan) {
+        this(singleLogoutCallbacksDisabled, logoutExecutionPlan, false);
+    }
+
     private static <T> Predicate<T> distinctByKey(final Function<? super T, Object> keyExtractor) {
         val seen = new ConcurrentHashMap<>();
         return t -> seen.putIfAbsent(keyExtractor.apply(t), Boolean.TRUE) == null;
@@ -78,23 +92,57 @@ public class DefaultLogoutManager implements LogoutManager {
             .filter(entry -> entry.getValue() instanceof WebApplicationService)
             .map(entry -> Pair.of(entry.getKey(), (WebApplicationService) entry.getValue())).toList();
 
-        val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers();
-        return logoutServices
+        val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers()
+            .stream()
+            .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
+            .toList();
+        val logoutRequests = concurrent && logoutServices.size() > 1
+            ? performLogoutConcurrently(logoutServices, sloHandlers, context)
+            : logoutServices.stream().map(entry -> performLogoutForService(entry, sloHandlers, context)).toList();
+        return logoutRequests
             .stream()
-            .map(entry -> sloHandlers
-                .stream()
-                .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
-                .filter(handler -> handler.supports(context, entry.getValue()))
-                .map(handler -> {
-                    val service = entry.getValue();
-                    LOGGER.trace("Handling single logout callback for [{}]", service.getId());
-                    return handler.handle(service, entry.getKey(), context);
-                })
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()))
             .flatMap(Collection::stream)
             .filter(distinctByKey(SingleLogoutRequestContext::getService))
             .collect(Collectors.toList());
     }
+
+    private static List<List<SingleLogoutRequestContext>> performLogoutConcurrently(
+        final List<Pair<String, WebApplicationService>> logoutServices,
+        final List<SingleLogoutServiceMessageHandler> sloHandlers,
+        final SingleLogoutExecutionRequest context) {
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = logoutServices
+                .stream()
+                .map(entry -> executor.submit(() -> performLogoutForService(entry, sloHandlers, context)))
+                .toList();
+            return results.stream().map(DefaultLogoutManager::getLogoutRequests).toList();
+        }
+    }
+
+    private static List<SingleLogoutRequestContext> getLogoutRequests(final Future<List<SingleLogoutRequestContext>> result) {
+        return FunctionUtils.doUnchecked(() -> {
+            try {
+                return result.get();
+            } catch (final ExecutionException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private static List<SingleLogoutRequestContext> performLogoutForService(
+        final Pair<String, WebApplicationService> entry,
+        final List<SingleLogoutServiceMessageHandler> sloHandlers,
+        final SingleLogoutExecutionRequest context) {
+        return sloHandlers
+            .stream()
+            .filter(handler -> handler.supports(context, entry.getValue()))
+            .map(handler -> {
+                val service = entry.getValue();
+                LOGGER.trace("Handling single logout callback for [{}]", service.getId());
+                return handler.handle(service, entry.getKey(), context);
+            })
+            .flatMap(Collection::stream)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
 }
@@ -3,10 +3,10 @@ package org.apereo.cas.logout;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
+import org.apereo.cas.util.function.FunctionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.jooq.lambda.Unchecked;
 
 /**
  * This is {@link DescendantTicketsLogoutPostProcessor}.
@@ -23,11 +23,16 @@ public class DescendantTicketsLogoutPostProcessor implements LogoutPostProcessor
     @Override
     public void handle(final TicketGrantingTicket ticketGrantingTicket) {
         LOGGER.debug("CAS is configured to track and remove descendant tickets of the ticket-granting tickets");
-        ticketGrantingTicket.getDescendantTickets().forEach(Unchecked.consumer(entry -> {
-            LOGGER.trace("Deleting descendant ticket [{}] from the registry as a descendant of [{}]", entry, ticketGrantingTicket.getId());
-            val ticket = descendantTicketsTrackingPolicy.extractTicket(entry);
-            LOGGER.debug("Deleting ticket [{}] from the registry as a descendant of [{}]", ticket, ticketGrantingTicket.getId());
-            ticketRegistry.deleteTicket(ticket);
-        }));
+        val tickets = ticketGrantingTicket.getDescendantTickets()
+            .stream()
+            .map(entry -> {
+                LOGGER.trace("Deleting descendant ticket [{}] from the registry as a descendant of [{}]", entry, ticketGrantingTicket.getId());
+                return descendantTicketsTrackingPolicy.extractTicket(entry);
+            })
+            .toList();
+        if (!tickets.isEmpty()) {
+            LOGGER.debug("Deleting tickets [{}] from the registry as descendants of [{}]", tickets, ticketGrantingTicket.getId());
+            FunctionUtils.doUnchecked(__ -> ticketRegistry.deleteTickets(tickets));
+        }
     }
 }
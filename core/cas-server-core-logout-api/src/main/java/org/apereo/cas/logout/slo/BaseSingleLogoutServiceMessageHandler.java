@@ -16,6 +16,7 @@ import org.apereo.cas.util.http.HttpClient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -47,6 +48,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    @Setter
+    private SingleLogoutMessageDispatcher messageDispatcher;
+
     @Override
     public Collection<SingleLogoutRequestContext> handle(final WebApplicationService singleLogoutService,
                                                          final String ticketId,
@@ -199,7 +203,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
     }
 
     /**
-     * Send message to endpoint.
+     * Send message to endpoint. If a message dispatcher is available, the message
+     * is handed over to the dispatcher which limits concurrent requests per host
+     * and queues messages that cannot be delivered for redelivery.
      *
      * @param msg           the msg
      * @param request       the request
@@ -209,6 +215,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
     protected boolean sendMessageToEndpoint(final LogoutHttpMessage msg,
                                             final SingleLogoutRequestContext request,
                                             final SingleLogoutMessage logoutMessage) {
+        if (messageDispatcher != null) {
+            return messageDispatcher.dispatch(msg);
+        }
         return this.httpClient.sendMessageToEndPoint(msg);
     }
 
@@ -0,0 +1,260 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+import org.apereo.cas.util.serialization.SerializationUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.File;
+import java.io.Serial;
+import java.io.Serializable;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcher}.
+ * <p>
+ * Delivers logout messages on virtual threads, allowing a limited number of
+ * messages to be in flight towards the same host. Messages that cannot be delivered
+ * are kept in a retry queue and are redelivered with an exponential backoff until
+ * the maximum number of attempts is reached. If a directory is defined, queued messages
+ * are persisted to that directory, so that pending redeliveries survive restarts.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class DefaultSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, InitializingBean, DisposableBean {
+    private static final String DELIVERY_FILE_EXTENSION = ".slo";
+
+    private final Map<String, Semaphore> connections = new ConcurrentHashMap<>();
+
+    private final Map<String, PendingDelivery> pendingDeliveries = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+
+    private final HttpClient httpClient;
+
+    private final int maxConnectionsPerHost;
+
+    private final Duration deadline;
+
+    private final int maxAttempts;
+
+    private final Duration retryBackoff;
+
+    private final File directory;
+
+    private final Clock clock;
+
+    public DefaultSingleLogoutMessageDispatcher(final HttpClient httpClient, final int maxConnectionsPerHost,
+                                                final Duration deadline, final int maxAttempts,
+                                                final Duration retryBackoff, final File directory) {
+        this(httpClient, maxConnectionsPerHost, deadline, maxAttempts, retryBackoff, directory, Clock.systemUTC());
+    }
+
+    public DefaultSingleLogoutMessageDispatcher(final HttpClient httpClient, final int maxConnectionsPerHost,
+                                                final Duration deadline, final int maxAttempts,
+                                                final Duration retryBackoff, final File directory, final Clock clock) {
+        this.httpClient = httpClient;
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.deadline = deadline;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.directory = directory;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (directory != null) {
+            Files.createDirectories(directory.toPath());
+            try (val files = Files.list(directory.toPath())) {
+                files.filter(file -> file.getFileName().toString().endsWith(DELIVERY_FILE_EXTENSION))
+                    .forEach(this::load);
+            }
+            LOGGER.debug("Loaded [{}] pending logout message(s) from [{}]", pendingDeliveries.size(), directory);
+        }
+        val interval = retryBackoff.toMillis();
+        scheduler.scheduleWithFixedDelay(this::retry, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean dispatch(final HttpMessage message) {
+        val delivery = new PendingDelivery(UUID.randomUUID().toString(), message.getUrl(),
+            message.getMessage(), message.getContentType(), 0, clock.instant());
+        val result = CompletableFuture.supplyAsync(() -> deliver(delivery), executor);
+        if (message.isAsynchronous()) {
+            return true;
+        }
+        try {
+            return result.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.warn("Logout message to [{}] could not be delivered within [{}]", message.getUrl(), deadline);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return false;
+    }
+
+    @Override
+    public int retry() {
+        val now = clock.instant();
+        var count = 0;
+        for (val delivery : pendingDeliveries.values()) {
+            if (!now.isBefore(delivery.nextAttempt()) && pendingDeliveries.remove(delivery.id(), delivery)) {
+                LOGGER.debug("Redelivering logout message [{}] to [{}], attempt [{}]",
+                    delivery.id(), delivery.url(), delivery.attempts() + 1);
+                executor.execute(() -> deliver(delivery));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    protected boolean deliver(final PendingDelivery delivery) {
+        var delivered = false;
+        val permits = connections.computeIfAbsent(delivery.url().getAuthority(), __ -> new Semaphore(maxConnectionsPerHost));
+        try {
+            if (permits.tryAcquire(deadline.toMillis(), TimeUnit.MILLISECONDS)) {
+                try {
+                    delivered = httpClient.sendMessageToEndPoint(new DeliveryHttpMessage(delivery));
+                } finally {
+                    permits.release();
+                }
+            } else {
+                LOGGER.debug("No connection to [{}] became available within [{}]", delivery.url().getAuthority(), deadline);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            LoggingUtils.warn(LOGGER, "Unable to deliver logout message to " + delivery.url(), e);
+        }
+        if (delivered) {
+            LOGGER.trace("Delivered logout message [{}] to [{}]", delivery.id(), delivery.url());
+            delete(delivery);
+        } else {
+            enqueue(delivery);
+        }
+        return delivered;
+    }
+
+    protected void enqueue(final PendingDelivery delivery) {
+        val attempts = delivery.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            LOGGER.warn("Logout message [{}] to [{}] could not be delivered after [{}] attempt(s) and is discarded",
+                delivery.id(), delivery.url(), attempts);
+            delete(delivery);
+            return;
+        }
+        val backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+        val next = new PendingDelivery(delivery.id(), delivery.url(), delivery.message(),
+            delivery.contentType(), attempts, clock.instant().plus(backoff));
+        LOGGER.debug("Logout message [{}] to [{}] is queued for redelivery at [{}]", next.id(), next.url(), next.nextAttempt());
+        pendingDeliveries.put(next.id(), next);
+        store(next);
+    }
+
+    private void store(final PendingDelivery delivery) {
+        val file = getDeliveryFile(delivery);
+        if (file != null) {
+            try {
+                val temp = Files.createTempFile(directory.toPath(), delivery.id(), ".tmp");
+                Files.write(temp, SerializationUtils.serialize(delivery));
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to persist logout message to " + file, e);
+            }
+        }
+    }
+
+    private void load(final Path file) {
+        try {
+            val delivery = SerializationUtils.deserialize(Files.readAllBytes(file), PendingDelivery.class);
+            pendingDeliveries.put(delivery.id(), delivery);
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, "Unable to load logout message from " + file, e);
+        }
+    }
+
+    private void delete(final PendingDelivery delivery) {
+        val file = getDeliveryFile(delivery);
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to remove logout message at " + file, e);
+            }
+        }
+    }
+
+    private Path getDeliveryFile(final PendingDelivery delivery) {
+        return directory != null ? directory.toPath().resolve(delivery.id() + DELIVERY_FILE_EXTENSION) : null;
+    }
+
+    /**
+     * A logout message that is waiting to be delivered.
+     *
+     * @param id          the id
+     * @param url         the url
+     * @param message     the formatted message
+     * @param contentType the content type
+     * @param attempts    the number of failed attempts
+     * @param nextAttempt the time of the next attempt
+     */
+    public record PendingDelivery(String id, URL url, String message, String contentType,
+                                  int attempts, Instant nextAttempt) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -2316431581736826513L;
+    }
+
+    /**
+     * Sends an already formatted message and waits for the outcome.
+     */
+    private static final class DeliveryHttpMessage extends HttpMessage {
+        @Serial
+        private static final long serialVersionUID = 6381247126071338165L;
+
+        DeliveryHttpMessage(final PendingDelivery delivery) {
+            super(delivery.url(), delivery.message(), false);
+            setContentType(delivery.contentType());
+        }
+
+        @Override
+        protected String formatOutputMessageInternal(final String message) {
+            return message;
+        }
+    }
+}
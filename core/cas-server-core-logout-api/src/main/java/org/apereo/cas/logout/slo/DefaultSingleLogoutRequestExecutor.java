@@ -13,7 +13,10 @@ import org.springframework.context.ApplicationContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -38,17 +41,7 @@ public class DefaultSingleLogoutRequestExecutor implements SingleLogoutRequestEx
         try {
             val ticket = ticketRegistry.getTicket(ticketId, Ticket.class);
             LOGGER.debug("Ticket [{}] found. Processing logout requests and then deleting the ticket...", ticket.getId());
-            val clientInfo = ClientInfoHolder.getClientInfo();
-            val logoutRequests = new ArrayList<SingleLogoutRequestContext>();
-            if (ticket instanceof final TicketGrantingTicket tgt) {
-                logoutRequests.addAll(logoutManager.performLogout(
-                    SingleLogoutExecutionRequest.builder()
-                        .ticketGrantingTicket(tgt)
-                        .httpServletRequest(Optional.of(request))
-                        .httpServletResponse(Optional.of(response))
-                        .build()));
-                applicationContext.publishEvent(new CasTicketGrantingTicketDestroyedEvent(this, tgt, clientInfo));
-            }
+            val logoutRequests = performLogout(ticket, request, response);
             LOGGER.trace("Removing ticket [{}] from registry...", ticketId);
             ticketRegistry.deleteTicket(ticketId);
             return logoutRequests;
@@ -58,4 +51,38 @@ public class DefaultSingleLogoutRequestExecutor implements SingleLogoutRequestEx
         }
         return new ArrayList<>(0);
     }
+
+    @Override
+    public Map<String, List<SingleLogoutRequestContext>> execute(final Collection<String> ticketIds,
+                                                                 final HttpServletRequest request,
+                                                                 final HttpServletResponse response) {
+        val results = new LinkedHashMap<String, List<SingleLogoutRequestContext>>(ticketIds.size());
+        try {
+            val tickets = ticketRegistry.getTickets(ticketIds);
+            LOGGER.debug("Found [{}] of [{}] ticket(s). Processing logout requests and then deleting the tickets...", tickets.size(), ticketIds.size());
+            tickets.forEach(ticket -> results.put(ticket.getId(), performLogout(ticket, request, response)));
+            LOGGER.trace("Removing tickets [{}] from registry...", results.keySet());
+            ticketRegistry.deleteTickets(results.keySet());
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to process logout requests for tickets [{}]", ticketIds, e);
+        }
+        return results;
+    }
+
+    protected List<SingleLogoutRequestContext> performLogout(final Ticket ticket,
+                                                             final HttpServletRequest request,
+                                                             final HttpServletResponse response) {
+        val logoutRequests = new ArrayList<SingleLogoutRequestContext>();
+        if (ticket instanceof final TicketGrantingTicket tgt) {
+            val clientInfo = ClientInfoHolder.getClientInfo();
+            logoutRequests.addAll(logoutManager.performLogout(
+                SingleLogoutExecutionRequest.builder()
+                    .ticketGrantingTicket(tgt)
+                    .httpServletRequest(Optional.of(request))
+                    .httpServletResponse(Optional.of(response))
+                    .build()));
+            applicationContext.publishEvent(new CasTicketGrantingTicketDestroyedEvent(this, tgt, clientInfo));
+        }
+        return logoutRequests;
+    }
 }
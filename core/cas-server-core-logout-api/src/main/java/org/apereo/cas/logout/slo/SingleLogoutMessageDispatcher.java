@@ -0,0 +1,35 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.util.http.HttpMessage;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} that is responsible
+ * for delivering back-channel logout messages to applications, and
+ * for redelivering messages that could not be delivered.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface SingleLogoutMessageDispatcher {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Dispatch the logout message. Asynchronous messages are accepted immediately,
+     * while synchronous messages are waited upon for a limited amount of time.
+     * Messages that cannot be delivered are queued for redelivery.
+     *
+     * @param message the message
+     * @return true if the message was accepted or delivered
+     */
+    boolean dispatch(HttpMessage message);
+
+    /**
+     * Redeliver queued messages that are due for another attempt.
+     *
+     * @return the number of messages submitted for redelivery
+     */
+    int retry();
+}
@@ -121,6 +121,25 @@ class DefaultLogoutManagerTests {
         assertEquals(this.registeredService.getLogoutUrl(), logoutRequest.getLogoutUrl().toExternalForm());
     }
 
+    @Test
+    void verifyConcurrentLogout() throws Throwable {
+        val plan = new DefaultLogoutExecutionPlan();
+        plan.registerSingleLogoutServiceMessageHandler(singleLogoutServiceMessageHandler);
+        this.logoutManager = new DefaultLogoutManager(false, plan, true);
+        for (var i = 0; i < 10; i++) {
+            val url = "https://app%s.example.org".formatted(i);
+            val service = getService(url);
+            tgt.getServices().put("ST-" + i, service);
+            when(servicesManager.findServiceBy(service)).thenReturn(getRegisteredService(url));
+        }
+        val logoutRequests = this.logoutManager.performLogout(SingleLogoutExecutionRequest
+            .builder()
+            .ticketGrantingTicket(tgt)
+            .build());
+        assertEquals(11, logoutRequests.size());
+        assertTrue(logoutRequests.stream().allMatch(request -> request.getStatus() == LogoutRequestStatus.SUCCESS));
+    }
+
     @Test
     void verifyLogoutDisabled() throws Throwable {
         val plan = new DefaultLogoutExecutionPlan();
@@ -0,0 +1,132 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.logout.slo.DefaultSingleLogoutMessageDispatcher;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Logout")
+class DefaultSingleLogoutMessageDispatcherTests {
+
+    @Test
+    void verifySynchronousDelivery() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+        val dispatcher = newDispatcher(httpClient, 3, null, Clock.systemUTC());
+        val message = newMessage(false);
+        assertTrue(dispatcher.dispatch(message));
+        verify(httpClient).sendMessageToEndPoint(argThat((HttpMessage msg) -> !msg.isAsynchronous()
+            && msg.getMessage().equals(message.getMessage())
+            && msg.getContentType().equals(message.getContentType())));
+        assertTrue(dispatcher.getPendingDeliveries().isEmpty());
+    }
+
+    @Test
+    void verifyConnectionsPerHostAreLimited() throws Throwable {
+        val inFlight = new AtomicInteger();
+        val maxInFlight = new AtomicInteger();
+        val delivered = new AtomicInteger();
+        val release = new CountDownLatch(1);
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            release.await(10, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            delivered.incrementAndGet();
+            return true;
+        });
+        val dispatcher = new DefaultSingleLogoutMessageDispatcher(httpClient, 2,
+            Duration.ofSeconds(30), 3, Duration.ofMinutes(1), null);
+        for (var i = 0; i < 6; i++) {
+            assertTrue(dispatcher.dispatch(newMessage(true)));
+        }
+        await().atMost(10, TimeUnit.SECONDS).until(() -> inFlight.get() == 2);
+        release.countDown();
+        await().atMost(10, TimeUnit.SECONDS).until(() -> delivered.get() == 6);
+        assertEquals(2, maxInFlight.get());
+        assertTrue(dispatcher.getPendingDeliveries().isEmpty());
+    }
+
+    @Test
+    void verifyFailedDeliveryIsPersistedAndRetried() throws Throwable {
+        val directory = Files.createTempDirectory("slo").toFile();
+        try {
+            val httpClient = mock(HttpClient.class);
+            when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+            val now = Instant.now();
+            val dispatcher = newDispatcher(httpClient, 3, directory, Clock.fixed(now, ZoneOffset.UTC));
+            assertFalse(dispatcher.dispatch(newMessage(false)));
+            assertEquals(1, dispatcher.getPendingDeliveries().size());
+            assertEquals(1, FileUtils.listFiles(directory, new String[]{"slo"}, false).size());
+            assertEquals(0, dispatcher.retry());
+
+            when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(true);
+            val restarted = newDispatcher(httpClient, 3, directory, Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC));
+            restarted.afterPropertiesSet();
+            try {
+                assertEquals(1, restarted.getPendingDeliveries().size());
+                assertEquals(1, restarted.retry());
+                await().atMost(10, TimeUnit.SECONDS)
+                    .until(() -> FileUtils.listFiles(directory, new String[]{"slo"}, false).isEmpty());
+                assertTrue(restarted.getPendingDeliveries().isEmpty());
+            } finally {
+                restarted.destroy();
+            }
+        } finally {
+            FileUtils.deleteQuietly(directory);
+        }
+    }
+
+    @Test
+    void verifyDeliveryIsDiscardedAfterMaxAttempts() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+        val clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.now());
+        val dispatcher = newDispatcher(httpClient, 2, null, clock);
+        assertFalse(dispatcher.dispatch(newMessage(false)));
+        assertEquals(1, dispatcher.getPendingDeliveries().size());
+
+        when(clock.instant()).thenReturn(Instant.now().plus(Duration.ofHours(1)));
+        assertEquals(1, dispatcher.retry());
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(
+            () -> verify(httpClient, times(2)).sendMessageToEndPoint(any(HttpMessage.class)));
+        assertEquals(0, dispatcher.retry());
+        assertTrue(dispatcher.getPendingDeliveries().isEmpty());
+    }
+
+    private static DefaultSingleLogoutMessageDispatcher newDispatcher(final HttpClient httpClient, final int maxAttempts,
+                                                                      final File directory, final Clock clock) {
+        return new DefaultSingleLogoutMessageDispatcher(httpClient, 2, Duration.ofSeconds(5),
+            maxAttempts, Duration.ofSeconds(30), directory, clock);
+    }
+
+    private static LogoutHttpMessage newMessage(final boolean asynchronous) throws Exception {
+        return new LogoutHttpMessage(new URI("https://app.example.org/logout").toURL(), "<samlp:LogoutRequest/>", asynchronous);
+    }
+}
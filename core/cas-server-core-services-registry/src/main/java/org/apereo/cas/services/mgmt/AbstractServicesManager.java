@@ -53,12 +53,17 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
-    private final IndexedCollection<RegisteredService> indexedRegisteredServices;
+    private volatile IndexedCollection<RegisteredService> indexedRegisteredServices;
+
+    private volatile RegisteredServiceMatchingIndex registeredServiceMatchingIndex = new RegisteredServiceMatchingIndex();
 
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
+        this.indexedRegisteredServices = newIndexedRegisteredServices();
+    }
 
-        this.indexedRegisteredServices = new ConcurrentIndexedCollection<>();
+    private IndexedCollection<RegisteredService> newIndexedRegisteredServices() {
+        val indexedServices = new ConcurrentIndexedCollection<RegisteredService>();
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
             configurationContext.getRegisteredServiceLocators()
                 .forEach(locator -> locator.getRegisteredServiceIndexes()
@@ -69,9 +74,10 @@ public abstract class AbstractServicesManager implements ServicesManager {
                     .forEach(index -> {
                         LOGGER.debug("Adding registered service index [{}] supplied by [{}]",
                             index.getAttribute().toString(), locator.getClass().getSimpleName());
-                        indexedRegisteredServices.addIndex(index);
+                        indexedServices.addIndex(index);
                     }));
         }
+        return indexedServices;
     }
 
 
@@ -124,6 +130,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         lock.tryLock(__ -> {
             configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
             configurationContext.getServicesCache().invalidateAll();
+            registeredServiceMatchingIndex.clear();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
         });
@@ -145,6 +152,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
                 publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
                 configurationContext.getServiceRegistry().delete(service);
                 configurationContext.getServicesCache().invalidate(service.getId());
+                registeredServiceMatchingIndex.remove(service);
                 deleteInternal(service);
                 publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
             }
@@ -200,6 +208,9 @@ public abstract class AbstractServicesManager implements ServicesManager {
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        if (isServiceMatchingIndexed()) {
+            results.values().forEach(registeredServiceMatchingIndex::index);
+        }
         return results.values();
     }
 
@@ -217,8 +228,13 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     @Override
     public RegisteredService findServiceBy(final long id) {
-        val result = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id));
+        val result = configurationContext.getServicesCache().get(id, __ -> {
+            val registeredService = configurationContext.getServiceRegistry().findServiceById(id);
+            if (isServiceMatchingIndexed()) {
+                registeredServiceMatchingIndex.index(registeredService);
+            }
+            return registeredService;
+        });
         return validateRegisteredService(result);
     }
 
@@ -230,8 +246,13 @@ public abstract class AbstractServicesManager implements ServicesManager {
         }
         LOGGER.trace("The service with id [{}] and type [{}] is not found in the cache; trying to find it from [{}]",
             id, clazz, configurationContext.getServiceRegistry().getName());
-        service = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
+        service = configurationContext.getServicesCache().get(id, __ -> {
+            val registeredService = configurationContext.getServiceRegistry().findServiceById(id, clazz);
+            if (isServiceMatchingIndexed()) {
+                registeredServiceMatchingIndex.index(registeredService);
+            }
+            return registeredService;
+        });
         return (T) validateRegisteredService(service);
     }
 
@@ -348,12 +369,35 @@ public abstract class AbstractServicesManager implements ServicesManager {
         });
     }
 
+    /**
+     * Publish the loaded services to the cache without ever leaving it empty.
+     * Loaded definitions replace cached entries first, and only then are
+     * the definitions that no longer exist in the registry removed.
+     * Indexes are rebuilt aside and swapped in once complete, so that
+     * queries never observe a partially populated index.
+     */
     private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
         val servicesCache = configurationContext.getServicesCache();
-        servicesCache.invalidateAll();
+        val removedServices = servicesCache.asMap()
+            .entrySet()
+            .stream()
+            .filter(entry -> !servicesMap.containsKey(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .toList();
+        val replacedServices = servicesMap.values()
+            .stream()
+            .map(service -> servicesCache.getIfPresent(service.getId()))
+            .filter(service -> service != null && service != servicesMap.get(service.getId()))
+            .toList();
         servicesCache.putAll(servicesMap);
-        if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
-            indexedRegisteredServices.addAll(servicesMap.values());
+        servicesCache.invalidateAll(removedServices.stream().map(RegisteredService::getId).toList());
+        LOGGER.debug("Published [{}] service(s) to the cache, replacing [{}] and removing [{}] service(s)",
+            servicesMap.size(), replacedServices.size(), removedServices.size());
+        if (isServiceMatchingIndexed()) {
+            val indexedServices = newIndexedRegisteredServices();
+            indexedServices.addAll(servicesMap.values());
+            indexedRegisteredServices = indexedServices;
+            registeredServiceMatchingIndex = RegisteredServiceMatchingIndex.of(servicesMap.values());
         }
         return servicesCache.asMap();
     }
@@ -404,6 +448,10 @@ public abstract class AbstractServicesManager implements ServicesManager {
         return this.configurationContext.getRegisteredServicesTemplatesManager().apply(service);
     }
 
+    protected boolean isServiceMatchingIndexed() {
+        return configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices();
+    }
+
     protected Supplier<Stream<RegisteredService>> getCacheableServicesStream() {
         configurationContext.getServicesCache().cleanUp();
         val size = configurationContext.getServicesCache().estimatedSize();
@@ -416,8 +464,9 @@ public abstract class AbstractServicesManager implements ServicesManager {
     private void cacheRegisteredService(final RegisteredService service) {
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
-            if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
+            if (isServiceMatchingIndexed()) {
                 indexedRegisteredServices.add(service);
+                registeredServiceMatchingIndex.index(service);
             }
         }
     }
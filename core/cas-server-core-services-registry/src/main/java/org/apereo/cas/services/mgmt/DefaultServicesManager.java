@@ -5,8 +5,11 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 
+import lombok.val;
+
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +35,16 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
+        val servicesCache = configurationContext.getServicesCache();
+        val matchingIndex = getRegisteredServiceMatchingIndex();
+        if (isServiceMatchingIndexed() && !matchingIndex.isEmpty() && servicesCache.estimatedSize() > 0) {
+            return matchingIndex
+                .findCandidates(serviceId)
+                .stream()
+                .map(registeredService -> servicesCache.getIfPresent(registeredService.getId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        }
         return getCacheableServicesStream()
             .get()
             .sorted(Comparator.naturalOrder())
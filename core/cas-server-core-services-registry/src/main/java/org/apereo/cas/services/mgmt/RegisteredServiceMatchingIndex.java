@@ -0,0 +1,243 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndex}, which narrows down the set of
+ * registered services that could possibly match a given service id.
+ * <p>
+ * Service definitions whose matching strategy can be reduced to a fixed, case-folded
+ * literal prefix (i.e. literal matching, or full/anchored regular expressions that begin
+ * with literal characters) are indexed by that prefix. All other definitions, including those
+ * that are handled by protocol-specific locators, are kept in a separate bucket and are always
+ * considered as candidates. Candidates are always returned in their natural evaluation order,
+ * and the actual matching decision remains with the registered service locators.
+ * <p>
+ * The index is updated incrementally as definitions are saved or deleted. When all definitions
+ * are loaded, a new index is built and replaces the current one, so concurrent lookups
+ * never observe a partially rebuilt index.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class RegisteredServiceMatchingIndex {
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private static final String REGEX_OPTIONAL_QUANTIFIERS = "?*{";
+
+    private final Map<Long, IndexedRegisteredService> indexedServices = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<Long, RegisteredService>> prefixedServices = new ConcurrentHashMap<>();
+
+    private final Map<Long, RegisteredService> unindexedServices = new ConcurrentHashMap<>();
+
+    private final NavigableSet<Integer> prefixLengths = new ConcurrentSkipListSet<>();
+
+    /**
+     * Index the registered service, replacing any previous entry
+     * that was indexed under the same identifier.
+     *
+     * @param registeredService the registered service
+     */
+    public void index(final RegisteredService registeredService) {
+        if (registeredService != null) {
+            indexedServices.compute(registeredService.getId(), (id, existing) -> {
+                val prefix = StringUtils.defaultString(determineLiteralPrefix(registeredService));
+                if (StringUtils.isEmpty(prefix)) {
+                    unindexedServices.put(id, registeredService);
+                } else {
+                    prefixLengths.add(prefix.length());
+                    prefixedServices.compute(prefix, (__, services) -> {
+                        val results = services == null ? new ConcurrentHashMap<Long, RegisteredService>() : services;
+                        results.put(id, registeredService);
+                        return results;
+                    });
+                }
+                if (existing != null && !StringUtils.equals(existing.prefix(), prefix)) {
+                    unindex(existing);
+                }
+                LOGGER.trace("Indexed registered service [{}] with literal prefix [{}]", registeredService.getName(), prefix);
+                return new IndexedRegisteredService(registeredService, prefix);
+            });
+        }
+    }
+
+    /**
+     * Remove the registered service from the index.
+     *
+     * @param registeredService the registered service
+     */
+    public void remove(final RegisteredService registeredService) {
+        if (registeredService != null) {
+            indexedServices.computeIfPresent(registeredService.getId(), (id, existing) -> {
+                unindex(existing);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Build a new index from the given definitions.
+     *
+     * @param registeredServices the registered services
+     * @return the index
+     */
+    public static RegisteredServiceMatchingIndex of(final Collection<RegisteredService> registeredServices) {
+        val index = new RegisteredServiceMatchingIndex();
+        registeredServices.forEach(index::index);
+        return index;
+    }
+
+    /**
+     * Find candidate services that might match the given service id,
+     * sorted by their natural evaluation order.
+     *
+     * @param serviceId the service id
+     * @return the candidates
+     */
+    public List<RegisteredService> findCandidates(final String serviceId) {
+        val candidates = new ArrayList<RegisteredService>(unindexedServices.values());
+        if (StringUtils.isNotBlank(serviceId) && !prefixedServices.isEmpty()) {
+            val foldedServiceId = foldCase(serviceId);
+            for (val length : prefixLengths) {
+                if (length > foldedServiceId.length()) {
+                    break;
+                }
+                val services = prefixedServices.get(foldedServiceId.substring(0, length));
+                if (services != null) {
+                    candidates.addAll(services.values());
+                }
+            }
+        }
+        candidates.sort(Comparator.naturalOrder());
+        return candidates;
+    }
+
+    /**
+     * Number of indexed services.
+     *
+     * @return the size
+     */
+    public int size() {
+        return indexedServices.size();
+    }
+
+    /**
+     * Is index empty?
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return indexedServices.isEmpty();
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        indexedServices.clear();
+        prefixedServices.clear();
+        unindexedServices.clear();
+        prefixLengths.clear();
+    }
+
+    private void unindex(final IndexedRegisteredService entry) {
+        val id = entry.registeredService().getId();
+        if (StringUtils.isEmpty(entry.prefix())) {
+            unindexedServices.remove(id);
+        } else {
+            prefixedServices.computeIfPresent(entry.prefix(), (prefix, services) -> {
+                services.remove(id);
+                return services.isEmpty() ? null : services;
+            });
+        }
+    }
+
+    /**
+     * Determine the literal prefix that every service id matched by the given definition
+     * must begin with. Only definitions handled by the default CAS locator are considered,
+     * since other locators may match on request attributes other than the service id.
+     *
+     * @param registeredService the registered service
+     * @return the case-folded prefix, or null if the service cannot be indexed.
+     */
+    protected String determineLiteralPrefix(final RegisteredService registeredService) {
+        val serviceId = registeredService.getServiceId();
+        if (StringUtils.isBlank(serviceId) || !(registeredService instanceof CasRegisteredService)
+            || !CasRegisteredService.FRIENDLY_NAME.equalsIgnoreCase(registeredService.getFriendlyName())) {
+            return null;
+        }
+        val strategy = registeredService.getMatchingStrategy();
+        if (strategy != null && strategy.getClass().equals(LiteralRegisteredServiceMatchingStrategy.class)) {
+            return foldCase(serviceId.trim());
+        }
+        if (strategy == null || strategy.getClass().equals(FullRegexRegisteredServiceMatchingStrategy.class)) {
+            return determineRegexLiteralPrefix(serviceId, false);
+        }
+        if (strategy.getClass().equals(PartialRegexRegisteredServiceMatchingStrategy.class)) {
+            return determineRegexLiteralPrefix(serviceId, true);
+        }
+        return null;
+    }
+
+    private static String determineRegexLiteralPrefix(final String pattern, final boolean requireAnchor) {
+        if (pattern.indexOf('|') >= 0) {
+            return null;
+        }
+        var index = 0;
+        if (pattern.charAt(0) == '^') {
+            index++;
+        } else if (requireAnchor) {
+            return null;
+        }
+        val prefix = new StringBuilder();
+        while (index < pattern.length()) {
+            val current = pattern.charAt(index);
+            if (current == '\\') {
+                if (index + 1 >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(index + 1))) {
+                    break;
+                }
+                prefix.append(pattern.charAt(index + 1));
+                index += 2;
+            } else if (REGEX_METACHARACTERS.indexOf(current) >= 0) {
+                break;
+            } else {
+                prefix.append(current);
+                index++;
+            }
+        }
+        if (index < pattern.length() && REGEX_OPTIONAL_QUANTIFIERS.indexOf(pattern.charAt(index)) >= 0 && !prefix.isEmpty()) {
+            prefix.setLength(prefix.length() - 1);
+        }
+        return foldCase(prefix.toString());
+    }
+
+    private static String foldCase(final String value) {
+        val chars = value.toCharArray();
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private record IndexedRegisteredService(RegisteredService registeredService, String prefix) {
+    }
+}
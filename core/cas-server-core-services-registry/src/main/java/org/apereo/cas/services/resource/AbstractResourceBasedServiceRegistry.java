@@ -12,6 +12,7 @@ import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicePreDeleteEvent;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
@@ -26,6 +27,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.codec.digest.MessageDigestAlgorithms;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -38,18 +40,26 @@ import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -76,10 +86,12 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     protected Path serviceRegistryDirectory;
     
     @Getter
-    protected Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
+    protected volatile Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
+    private volatile Map<File, RegisteredServiceDefinitionFile> definitionFiles = Map.of();
+
     private Collection<StringSerializer<RegisteredService>> registeredServiceSerializers;
 
     @Setter
@@ -246,6 +258,12 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         files.forEach(File::delete);
     }
 
+    /**
+     * Load service definitions from the registry directory. Files whose modification time, size
+     * and content are unchanged since the previous load are not parsed again, and the services
+     * they contained are reused. Modified files are parsed concurrently, and the results are
+     * published once all files are processed.
+     */
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
@@ -258,10 +276,11 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
             LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
             val clientInfo = ClientInfoHolder.getClientInfo();
 
-            this.services = files
+            val loadedFiles = loadDefinitionFiles(files);
+            this.definitionFiles = Collections.unmodifiableMap(loadedFiles);
+            this.services = loadedFiles.values()
                 .stream()
-                .map(this::load)
-                .filter(Objects::nonNull)
+                .map(RegisteredServiceDefinitionFile::services)
                 .flatMap(Collection::stream)
                 .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
                 .sorted()
@@ -279,50 +298,14 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     @Override
     public Collection<RegisteredService> load(final File file) {
-        val fileName = file.getName();
-        if (!file.canRead()) {
-            LOGGER.warn("[{}] is not readable. Check file permissions", fileName);
+        if (!isLoadable(file)) {
             return new ArrayList<>(0);
         }
-        if (!file.exists()) {
-            LOGGER.warn("[{}] is not found at the path specified", fileName);
-            return new ArrayList<>(0);
-        }
-        if (file.length() == 0) {
-            LOGGER.debug("[{}] appears to be empty so no service definition will be loaded", fileName);
-            return new ArrayList<>(0);
-        }
-        if (fileName.startsWith(".")) {
-            LOGGER.debug("[{}] starts with ., ignoring", fileName);
-            return new ArrayList<>(0);
-        }
-        if (Arrays.stream(getExtensions()).noneMatch(fileName::endsWith)) {
-            LOGGER.debug("[{}] doesn't end with valid extension, ignoring", fileName);
-            return new ArrayList<>(0);
-        }
-
-        if (!RegexUtils.matches(this.serviceFileNamePattern, fileName)) {
-            LOGGER.warn("[{}] does not match the recommended pattern [{}]. "
-                    + "While CAS tries to be forgiving as much as possible, it's recommended "
-                    + "that you rename the file to match the requested pattern to avoid issues with duplicate service loading. "
-                    + "Future CAS versions may try to strictly force the naming syntax, refusing to load the file.",
-                fileName, this.serviceFileNamePattern.pattern());
-        }
-
         LOGGER.debug("Attempting to read and parse [{}]", file.getAbsoluteFile());
         try (val in = Files.newBufferedReader(file.toPath())) {
-            return registeredServiceSerializers
-                .stream()
-                .filter(serializer -> serializer.supports(file))
-                .map(serializer -> serializer.load(in))
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
-                .map(this::invokeServiceRegistryListenerPostLoad)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+            return load(file, in);
         } catch (final Exception e) {
-            LOGGER.error("Error reading configuration file [{}]", fileName);
+            LOGGER.error("Error reading configuration file [{}]", file.getName());
             LoggingUtils.error(LOGGER, e);
         }
         return new ArrayList<>(0);
@@ -354,6 +337,118 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         this.serviceRegistryWatcherService.close();
     }
 
+    protected boolean isLoadable(final File file) {
+        val fileName = file.getName();
+        if (!file.canRead()) {
+            LOGGER.warn("[{}] is not readable. Check file permissions", fileName);
+            return false;
+        }
+        if (!file.exists()) {
+            LOGGER.warn("[{}] is not found at the path specified", fileName);
+            return false;
+        }
+        if (file.length() == 0) {
+            LOGGER.debug("[{}] appears to be empty so no service definition will be loaded", fileName);
+            return false;
+        }
+        if (fileName.startsWith(".")) {
+            LOGGER.debug("[{}] starts with ., ignoring", fileName);
+            return false;
+        }
+        if (Arrays.stream(getExtensions()).noneMatch(fileName::endsWith)) {
+            LOGGER.debug("[{}] doesn't end with valid extension, ignoring", fileName);
+            return false;
+        }
+
+        if (!RegexUtils.matches(this.serviceFileNamePattern, fileName)) {
+            LOGGER.warn("[{}] does not match the recommended pattern [{}]. "
+                    + "While CAS tries to be forgiving as much as possible, it's recommended "
+                    + "that you rename the file to match the requested pattern to avoid issues with duplicate service loading. "
+                    + "Future CAS versions may try to strictly force the naming syntax, refusing to load the file.",
+                fileName, this.serviceFileNamePattern.pattern());
+        }
+        return true;
+    }
+
+    private List<RegisteredService> load(final File file, final Reader reader) {
+        return registeredServiceSerializers
+            .stream()
+            .filter(serializer -> serializer.supports(file))
+            .map(serializer -> serializer.load(reader))
+            .filter(Objects::nonNull)
+            .flatMap(Collection::stream)
+            .filter(service -> StringUtils.isNotBlank(service.getServiceId()) && StringUtils.isNotBlank(service.getName()))
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private Map<File, RegisteredServiceDefinitionFile> loadDefinitionFiles(final Collection<File> files) {
+        val previousFiles = this.definitionFiles;
+        val results = new LinkedHashMap<File, Future<RegisteredServiceDefinitionFile>>();
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            files.forEach(file -> {
+                val previous = previousFiles.get(file);
+                final Future<RegisteredServiceDefinitionFile> result = previous != null && previous.isUnmodified(file)
+                    ? CompletableFuture.completedFuture(previous)
+                    : executor.submit(() -> loadDefinitionFile(file, previous));
+                results.put(file, result);
+            });
+        }
+        val loadedFiles = new LinkedHashMap<File, RegisteredServiceDefinitionFile>();
+        results.forEach((file, result) -> loadedFiles.put(file, FunctionUtils.doUnchecked(() -> result.get())));
+        LOGGER.debug("Loaded [{}] service definition file(s) from [{}], of which [{}] were modified", loadedFiles.size(),
+            serviceRegistryDirectory, loadedFiles.entrySet().stream().filter(entry -> entry.getValue() != previousFiles.get(entry.getKey())).count());
+        return loadedFiles;
+    }
+
+    private RegisteredServiceDefinitionFile loadDefinitionFile(final File file, final RegisteredServiceDefinitionFile previous) {
+        val loadedAt = System.currentTimeMillis();
+        val lastModified = file.lastModified();
+        val length = file.length();
+        if (!isLoadable(file)) {
+            return new RegisteredServiceDefinitionFile(lastModified, length, loadedAt, StringUtils.EMPTY, List.of());
+        }
+        try {
+            val content = Files.readAllBytes(file.toPath());
+            val digest = DigestUtils.digest(MessageDigestAlgorithms.SHA_256, content);
+            if (previous != null && previous.digest().equals(digest)) {
+                LOGGER.trace("Content of [{}] is unchanged; reusing previously loaded service definitions", file);
+                return new RegisteredServiceDefinitionFile(lastModified, length, loadedAt, digest, previous.services());
+            }
+            LOGGER.debug("Attempting to read and parse [{}]", file.getAbsoluteFile());
+            try (val reader = new StringReader(new String(content, StandardCharsets.UTF_8))) {
+                return new RegisteredServiceDefinitionFile(lastModified, length, loadedAt, digest, load(file, reader));
+            }
+        } catch (final Exception e) {
+            LOGGER.error("Error reading configuration file [{}]", file.getName());
+            LoggingUtils.error(LOGGER, e);
+        }
+        return new RegisteredServiceDefinitionFile(lastModified, length, loadedAt, StringUtils.EMPTY, List.of());
+    }
+
+    /**
+     * Loaded service definition file. Modification times are only trusted for files that were
+     * last modified well before they were loaded; a file that was modified within the granularity
+     * of the file system clock of the time it was loaded may have been modified again without
+     * its modification time or length changing, and is compared by content instead.
+     *
+     * @param lastModified the modification time of the file when it was loaded
+     * @param length       the length of the file when it was loaded
+     * @param loadedAt     the time at which the file was loaded
+     * @param digest       the digest of the file content
+     * @param services     the services loaded from the file
+     */
+    private record RegisteredServiceDefinitionFile(long lastModified, long length, long loadedAt, String digest,
+                                                   List<RegisteredService> services) {
+        private static final long MODIFICATION_TIME_GRANULARITY = Duration.ofSeconds(2).toMillis();
+
+        boolean isUnmodified(final File file) {
+            return lastModified == file.lastModified() && length == file.length()
+                && lastModified + MODIFICATION_TIME_GRANULARITY < loadedAt;
+        }
+    }
+
     /**
      * Remove registered service.
      *
@@ -67,6 +67,45 @@ public abstract class BaseResourceBasedServiceRegistryTests extends AbstractServ
         assertTrue(newServiceRegistry.load(file).isEmpty());
     }
 
+    @Test
+    void verifyUnchangedDefinitionsAreNotParsedAgain() throws Throwable {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        val id = newServiceRegistry.save(registeredService).getId();
+        val loaded = findLoadedService(id);
+        assertSame(loaded, findLoadedService(id));
+
+        val file = FileUtils.listFiles(RESOURCE.getFile(), null, true).iterator().next();
+        assertTrue(file.setLastModified(file.lastModified() + 10_000));
+        assertSame(loaded, findLoadedService(id));
+
+        registeredService.setDescription("Modified service definition");
+        newServiceRegistry.save(registeredService);
+        assertTrue(file.setLastModified(file.lastModified() + 20_000));
+        val modified = findLoadedService(id);
+        assertNotSame(loaded, modified);
+        assertEquals("Modified service definition", modified.getDescription());
+
+        assertTrue(file.delete());
+        assertTrue(newServiceRegistry.load().stream().noneMatch(service -> service.getId() == id));
+    }
+
+    @Test
+    void verifyRecentEditsWithSameLengthAndModificationTime() throws Throwable {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        registeredService.setDescription("Definition A");
+        val id = newServiceRegistry.save(registeredService).getId();
+        assertEquals("Definition A", findLoadedService(id).getDescription());
+
+        val file = FileUtils.listFiles(RESOURCE.getFile(), null, true).iterator().next();
+        val lastModified = file.lastModified();
+        val length = file.length();
+        registeredService.setDescription("Definition B");
+        newServiceRegistry.save(registeredService);
+        assertTrue(file.setLastModified(lastModified));
+        assertEquals(length, file.length());
+        assertEquals("Definition B", findLoadedService(id).getDescription());
+    }
+
     @Test
     void verify() {
         val applicationContext = new StaticApplicationContext();
@@ -85,4 +124,12 @@ public abstract class BaseResourceBasedServiceRegistryTests extends AbstractServ
         assertThrows(IllegalArgumentException.class, () -> registry.save(r));
         registry.destroy();
     }
+
+    private RegisteredService findLoadedService(final long id) {
+        return newServiceRegistry.load()
+            .stream()
+            .filter(service -> service.getId() == id)
+            .findFirst()
+            .orElseThrow();
+    }
 }
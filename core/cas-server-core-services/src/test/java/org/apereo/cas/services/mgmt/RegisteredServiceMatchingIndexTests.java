@@ -0,0 +1,136 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceMatchingStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("RegisteredService")
+@Slf4j
+class RegisteredServiceMatchingIndexTests {
+    private static final AtomicLong ID_GENERATOR = new AtomicLong();
+
+    private static CasRegisteredService newService(final String serviceId, final int evaluationOrder,
+                                                   final RegisteredServiceMatchingStrategy strategy) {
+        val registeredService = new CasRegisteredService();
+        registeredService.setId(ID_GENERATOR.incrementAndGet());
+        registeredService.setName("Service" + registeredService.getId());
+        registeredService.setServiceId(serviceId);
+        registeredService.setEvaluationOrder(evaluationOrder);
+        registeredService.setMatchingStrategy(strategy);
+        return registeredService;
+    }
+
+    private static RegisteredService findFirstMatch(final RegisteredServiceMatchingIndex index, final String serviceId) {
+        return index.findCandidates(serviceId)
+            .stream()
+            .filter(registeredService -> registeredService.matches(serviceId))
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Test
+    void verifyRegexPrefixes() throws Throwable {
+        val app1 = newService("^https://app1\\.example\\.org/.*", 1, null);
+        val app2 = newService("https://APP2.example.org/cas.*", 2, null);
+        val optional = newService("https?://app3.example.org/.*", 3, null);
+        val alternation = newService("https://app4.example.org/.*|https://app5.example.org/.*", 4, null);
+        val grouped = newService("^(https|imaps)://.*", 100, null);
+        val index = RegisteredServiceMatchingIndex.of(List.of(app1, app2, optional, alternation, grouped));
+        assertEquals(5, index.size());
+
+        var candidates = index.findCandidates("https://app1.example.org/login");
+        assertEquals(List.of(app1, optional, alternation, grouped), candidates);
+        candidates = index.findCandidates("https://app2.example.org/cas/login");
+        assertEquals(List.of(app2, optional, alternation, grouped), candidates);
+        candidates = index.findCandidates("http://app3.example.org/login");
+        assertEquals(List.of(optional, alternation, grouped), candidates);
+        assertEquals(grouped, findFirstMatch(index, "imaps://mail.example.org"));
+        assertEquals(alternation, findFirstMatch(index, "https://app5.example.org/cas"));
+    }
+
+    @Test
+    void verifyLiteralAndPartialStrategies() throws Throwable {
+        val index = new RegisteredServiceMatchingIndex();
+        val literal = newService("https://literal.example.org/app ", 1, new LiteralRegisteredServiceMatchingStrategy(true));
+        val anchored = newService("^https://partial.example.org", 2, new PartialRegexRegisteredServiceMatchingStrategy());
+        val unanchored = newService("example.net", 3, new PartialRegexRegisteredServiceMatchingStrategy());
+        index.index(literal);
+        index.index(anchored);
+        index.index(unanchored);
+
+        assertEquals(List.of(literal, unanchored), index.findCandidates("https://LITERAL.example.org/app"));
+        assertEquals(literal, findFirstMatch(index, "https://LITERAL.example.org/app"));
+        assertEquals(List.of(anchored, unanchored), index.findCandidates("https://partial.example.org/app"));
+        assertEquals(unanchored, findFirstMatch(index, "https://www.example.net/app"));
+    }
+
+    @Test
+    void verifyIncrementalUpdates() throws Throwable {
+        val index = new RegisteredServiceMatchingIndex();
+        val service = newService("https://app.example.org/.*", 1, null);
+        index.index(service);
+        assertEquals(List.of(service), index.findCandidates("https://app.example.org/cas"));
+
+        val updated = newService("https://other.example.org/.*", 1, null);
+        updated.setId(service.getId());
+        index.index(updated);
+        assertEquals(1, index.size());
+        assertTrue(index.findCandidates("https://app.example.org/cas").isEmpty());
+        assertEquals(List.of(updated), index.findCandidates("https://other.example.org/cas"));
+
+        val renamed = newService("https://other.example.org/.*", 1, null);
+        renamed.setId(service.getId());
+        renamed.setName("Renamed");
+        index.index(renamed);
+        assertEquals(1, index.size());
+        assertEquals(List.of(renamed), index.findCandidates("https://other.example.org/cas"));
+
+        index.remove(renamed);
+        assertTrue(index.isEmpty());
+        assertTrue(index.findCandidates("https://other.example.org/cas").isEmpty());
+    }
+
+    @Test
+    void verifyLookupsAgainstManyServices() throws Throwable {
+        val services = new ArrayList<RegisteredService>();
+        for (var i = 0; i < 10_000; i++) {
+            services.add(newService("^https://app" + i + "\\.example\\.org/.*", i, null));
+        }
+        val fallback = newService("^https://.*", Integer.MAX_VALUE, null);
+        services.add(fallback);
+        val index = RegisteredServiceMatchingIndex.of(services);
+
+        val lookups = 100_000;
+        val watch = StopWatch.createStarted();
+        for (var i = 0; i < lookups; i++) {
+            val id = i % 10_000;
+            val result = findFirstMatch(index, "https://app" + id + ".example.org/cas/login");
+            assertNotNull(result);
+            assertEquals(id, result.getEvaluationOrder());
+        }
+        watch.stop();
+        LOGGER.info("Completed [{}] lookups against [{}] services in [{}]ms", lookups, services.size(), watch.getTime(TimeUnit.MILLISECONDS));
+        assertEquals(fallback, findFirstMatch(index, "https://unknown.example.org"));
+    }
+}
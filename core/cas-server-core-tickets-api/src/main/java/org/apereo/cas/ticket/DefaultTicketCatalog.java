@@ -7,13 +7,22 @@ import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultTicketCatalog}.
+ * <p>
+ * Registered definitions are kept in an immutable snapshot that is replaced
+ * whenever a definition is registered or updated. The snapshot indexes definitions
+ * by their prefix in a case-insensitive hash table that is probed directly with the
+ * ticket id, and remembers the sorted results of lookups by ticket class, so that
+ * lookups neither allocate nor sort once the catalog is populated.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
@@ -23,10 +32,15 @@ import java.util.stream.Collectors;
 public class DefaultTicketCatalog implements TicketCatalog {
     private final Map<String, TicketDefinition> ticketMetadataMap = new HashMap<>(0);
 
+    private volatile Snapshot snapshot = new Snapshot(Map.of());
+
     @Override
     public void register(final TicketDefinition ticketDefinition) {
         LOGGER.trace("Registering/Updating ticket definition [{}]", ticketDefinition);
-        ticketMetadataMap.put(ticketDefinition.getPrefix(), ticketDefinition);
+        synchronized (ticketMetadataMap) {
+            ticketMetadataMap.put(ticketDefinition.getPrefix(), ticketDefinition);
+            snapshot = new Snapshot(ticketMetadataMap);
+        }
     }
 
     @Override
@@ -37,22 +51,17 @@ public class DefaultTicketCatalog implements TicketCatalog {
     @Override
     public boolean contains(final String ticketId) {
         LOGGER.trace("Locating ticket definition for [{}]", ticketId);
-        return ticketMetadataMap.containsKey(ticketId);
+        return snapshot.definitions().containsKey(ticketId);
     }
 
     @Override
     public TicketDefinition find(final String ticketId) {
+        val currentSnapshot = snapshot;
         val index = ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR);
-        val prefix = index == -1 ? ticketId : ticketId.substring(0, index);
-
-        val definition = ticketMetadataMap.values()
-            .stream()
-            .filter(md -> prefix.equalsIgnoreCase(md.getPrefix()))
-            .findFirst()
-            .orElse(null);
+        val definition = currentSnapshot.findByPrefix(ticketId, index == -1 ? ticketId.length() : index);
         if (definition == null) {
             LOGGER.error("Ticket definition for [{}] cannot be found in the ticket catalog "
-                         + "which only contains the following ticket types: [{}]", ticketId, ticketMetadataMap.keySet());
+                         + "which only contains the following ticket types: [{}]", ticketId, currentSnapshot.definitions().keySet());
         }
         return definition;
     }
@@ -65,30 +74,120 @@ public class DefaultTicketCatalog implements TicketCatalog {
 
     @Override
     public Collection<TicketDefinition> findTicketImplementations(final Class<? extends Ticket> ticketClass) {
-        val list = ticketMetadataMap.values()
-            .stream()
-            .sorted()
-            .filter(t -> ticketClass.isAssignableFrom(t.getImplementationClass()))
-            .collect(Collectors.toList());
-        AnnotationAwareOrderComparator.sort(list);
+        val list = snapshot.findTicketImplementations(ticketClass);
         LOGGER.trace("Located all registered and known sorted ticket definitions [{}] that match [{}]", list, ticketClass);
         return list;
     }
 
     @Override
     public Optional<TicketDefinition> findTicketDefinition(final Class<? extends Ticket> ticketClass) {
-        return ticketMetadataMap.values()
-            .stream()
-            .sorted()
-            .filter(t -> ticketClass.equals(t.getApiClass()))
-            .findFirst();
+        return snapshot.findTicketDefinition(ticketClass);
     }
 
     @Override
     public Collection<TicketDefinition> findAll() {
-        val list = new ArrayList<>(ticketMetadataMap.values());
-        AnnotationAwareOrderComparator.sort(list);
+        val list = snapshot.sortedDefinitions();
         LOGGER.trace("Located all registered and known sorted ticket definitions [{}]", list);
         return list;
     }
+
+    /**
+     * Immutable view of the registered definitions.
+     */
+    private static final class Snapshot {
+        private final Map<String, TicketDefinition> definitions;
+
+        private final List<TicketDefinition> sortedDefinitions;
+
+        private final String[] prefixes;
+
+        private final TicketDefinition[] prefixDefinitions;
+
+        private final Map<Class<?>, List<TicketDefinition>> implementations = new ConcurrentHashMap<>();
+
+        private final Map<Class<?>, Optional<TicketDefinition>> apiDefinitions = new ConcurrentHashMap<>();
+
+        Snapshot(final Map<String, TicketDefinition> registeredDefinitions) {
+            this.definitions = Map.copyOf(registeredDefinitions);
+            val sorted = new ArrayList<>(definitions.values());
+            AnnotationAwareOrderComparator.sort(sorted);
+            this.sortedDefinitions = Collections.unmodifiableList(sorted);
+
+            val capacity = Integer.highestOneBit(Math.max(1, definitions.size()) * 4 - 1) << 1;
+            this.prefixes = new String[capacity];
+            this.prefixDefinitions = new TicketDefinition[capacity];
+            for (val definition : sortedDefinitions) {
+                val prefix = definition.getPrefix();
+                var slot = hash(prefix, prefix.length()) & (capacity - 1);
+                while (prefixes[slot] != null && !prefixes[slot].equalsIgnoreCase(prefix)) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                if (prefixes[slot] == null) {
+                    prefixes[slot] = prefix;
+                    prefixDefinitions[slot] = definition;
+                }
+            }
+        }
+
+        Map<String, TicketDefinition> definitions() {
+            return definitions;
+        }
+
+        List<TicketDefinition> sortedDefinitions() {
+            return sortedDefinitions;
+        }
+
+        TicketDefinition findByPrefix(final String ticketId, final int length) {
+            val mask = prefixes.length - 1;
+            var slot = hash(ticketId, length) & mask;
+            while (prefixes[slot] != null) {
+                val prefix = prefixes[slot];
+                if (prefix.length() == length && prefix.regionMatches(true, 0, ticketId, 0, length)) {
+                    return prefixDefinitions[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        List<TicketDefinition> findTicketImplementations(final Class<? extends Ticket> ticketClass) {
+            val result = implementations.get(ticketClass);
+            if (result != null) {
+                return result;
+            }
+            return implementations.computeIfAbsent(ticketClass, __ -> {
+                val list = definitions.values()
+                    .stream()
+                    .sorted()
+                    .filter(t -> ticketClass.isAssignableFrom(t.getImplementationClass()))
+                    .collect(Collectors.toList());
+                AnnotationAwareOrderComparator.sort(list);
+                return Collections.unmodifiableList(list);
+            });
+        }
+
+        Optional<TicketDefinition> findTicketDefinition(final Class<? extends Ticket> ticketClass) {
+            val result = apiDefinitions.get(ticketClass);
+            if (result != null) {
+                return result;
+            }
+            return apiDefinitions.computeIfAbsent(ticketClass, __ -> definitions.values()
+                .stream()
+                .sorted()
+                .filter(t -> ticketClass.equals(t.getApiClass()))
+                .findFirst());
+        }
+
+        /**
+         * Case-insensitive hash of the first characters of the given value,
+         * consistent with {@link String#equalsIgnoreCase(String)}.
+         */
+        private static int hash(final String value, final int length) {
+            var hash = 0;
+            for (var i = 0; i < length; i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
 }
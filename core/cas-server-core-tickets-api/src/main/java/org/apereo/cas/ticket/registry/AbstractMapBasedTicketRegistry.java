@@ -1,8 +1,11 @@
 package org.apereo.cas.ticket.registry;
 
+import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.ticket.AuthenticationAwareTicket;
+import org.apereo.cas.ticket.ServiceAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
@@ -16,14 +19,27 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractMapBasedTicketRegistry}.
+ * <p>
+ * Tickets are indexed by type, by the principal of single sign-on sessions and by service
+ * as they are added, updated and removed, so that session and service queries only visit
+ * matching tickets. Principals and services are digested in the index when tickets are encrypted.
+ * Deletion listeners are notified of tickets removed on this node and of removals
+ * received from other nodes through the message queue.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -35,6 +51,12 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    protected final TicketExpirationIndex expirationIndex = new TicketExpirationIndex();
+
+    protected final TicketRegistryIndex ticketIndex = new TicketRegistryIndex();
+
+    protected final List<TicketRegistryDeletionListener> deletionListeners = new CopyOnWriteArrayList<>();
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -117,7 +139,9 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     public void addTicketToQueue(final Ticket ticket) throws Exception {
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
+        indexTicket(encTicket.getId(), ticket);
         getMapInstance().put(encTicket.getId(), encTicket);
+        expirationIndex.schedule(encTicket.getId(), ticket);
     }
 
     @Override
@@ -130,21 +154,37 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        if (StringUtils.isBlank(encTicketId)) {
+            return 0;
+        }
+        expirationIndex.remove(encTicketId);
+        val result = getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        ticketIndex.remove(encTicketId);
+        deletionListeners.forEach(listener -> listener.ticketDeleted(ticketId));
+        return result;
+    }
+
+    /**
+     * Register a listener to be notified of removed tickets.
+     *
+     * @param listener the listener
+     */
+    public void registerDeletionListener(final TicketRegistryDeletionListener listener) {
+        deletionListeners.add(listener);
     }
 
     @Override
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        expirationIndex.clear();
+        ticketIndex.clear();
         return size;
     }
 
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
-        return getMapInstance()
-            .values()
-            .stream()
+        return streamIndexedTickets(() -> ticketIndex.getTicketsByType(criteria.getType()))
             .filter(ticket -> criteria.getType().equals(ticket.getPrefix()))
             .map(ticket -> criteria.isDecode() ? decodeTicket(ticket) : ticket)
             .filter(ticket -> StringUtils.isBlank(criteria.getPrincipal())
@@ -154,6 +194,108 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
             .collect(Collectors.toList());
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return streamIndexedTickets(() -> ticketIndex.getSessionsByPrincipal(digestPrincipalId(principalId))).count();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return decodeTickets(streamIndexedTickets(() -> ticketIndex.getSessionsByPrincipal(digestPrincipalId(principalId))))
+            .filter(ticket -> ticket instanceof TicketGrantingTicket && !ticket.isExpired()
+                && getPrincipalIdFrom(ticket).equals(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        return decodeTickets(streamIndexedTickets(ticketIndex::getSessions))
+            .filter(ticket -> isSessionWithAttributes(ticket, queryAttributes));
+    }
+
+    @Override
+    public long countTicketsFor(final Service service) {
+        return decodeTickets(streamIndexedTickets(() -> ticketIndex.getTicketsByService(digestIdentifier(service.getId()))))
+            .filter(ServiceAwareTicket.class::isInstance)
+            .filter(ticket -> !ticket.isExpired())
+            .map(ServiceAwareTicket.class::cast)
+            .filter(ticket -> Objects.nonNull(ticket.getService()))
+            .filter(ticket -> ticket.getService().getId().equals(service.getId()))
+            .count();
+    }
+
+    /**
+     * Stream tickets that have expired, consulting the expiration index
+     * to only visit tickets that are due to be checked for expiration.
+     * Tickets that are due but have not yet expired are rescheduled.
+     * The entire registry is swept and the index is rebuilt periodically, or when
+     * the index has fallen out of sync with the registry.
+     *
+     * @return the expired tickets
+     */
+    public Stream<? extends Ticket> streamExpiredTickets() {
+        val expiredTickets = new ArrayList<Ticket>();
+        if (expirationIndex.isSweepDue() || expirationIndex.size() < getMapInstance().size()) {
+            LOGGER.debug("Sweeping all tickets in the registry to rebuild the expiration index");
+            expirationIndex.clear();
+            getMapInstance().forEach((key, value) -> collectExpiredTicket(key, value, expiredTickets));
+            expirationIndex.markSwept();
+        } else {
+            val dueKeys = expirationIndex.pollDue();
+            LOGGER.trace("Checking [{}] tickets that are due for expiration", dueKeys.size());
+            dueKeys.forEach(key -> {
+                val value = getMapInstance().get(key);
+                if (value != null) {
+                    collectExpiredTicket(key, value, expiredTickets);
+                }
+            });
+        }
+        return expiredTickets.stream();
+    }
+
+    /**
+     * Record the ticket in the ticket index.
+     *
+     * @param key    the key under which the ticket is stored
+     * @param ticket the decoded ticket
+     */
+    protected void indexTicket(final String key, final Ticket ticket) {
+        val session = ticket instanceof TicketGrantingTicket;
+        val principal = session ? digestPrincipalId(getPrincipalIdFrom(ticket)) : null;
+        val service = ticket instanceof final ServiceAwareTicket serviceAwareTicket && serviceAwareTicket.getService() != null
+            ? digestIdentifier(serviceAwareTicket.getService().getId())
+            : null;
+        ticketIndex.index(key, ticket.getPrefix(), session, principal, service);
+    }
+
+    private Stream<Ticket> streamIndexedTickets(final Supplier<Set<String>> keys) {
+        if (ticketIndex.size() < getMapInstance().size()) {
+            LOGGER.debug("Rebuilding the ticket index from all tickets in the registry");
+            ticketIndex.clear();
+            getMapInstance().forEach((key, value) -> {
+                val ticket = decodeTicket(value);
+                if (ticket != null) {
+                    indexTicket(key, ticket);
+                }
+            });
+        }
+        return keys.get().stream().map(getMapInstance()::get).filter(Objects::nonNull);
+    }
+
+    private String digestPrincipalId(final String principalId) {
+        return digestIdentifier(StringUtils.lowerCase(principalId, Locale.ENGLISH));
+    }
+
+    private void collectExpiredTicket(final String key, final Ticket value, final List<Ticket> expiredTickets) {
+        val ticket = decodeTicket(value);
+        if (ticket != null) {
+            if (ticket.isExpired()) {
+                expiredTickets.add(ticket);
+            } else {
+                expirationIndex.schedule(key, ticket);
+            }
+        }
+    }
+
     /**
      * Create map instance, which must ben created during initialization phases
      * and always be the same instance.
@@ -25,9 +25,9 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
-import org.jooq.lambda.Unchecked;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -35,7 +35,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -129,6 +128,60 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return clazz.cast(ticket);
     }
 
+    @Override
+    public List<? extends Ticket> getTickets(final Collection<String> ticketIds) {
+        val ids = ticketIds.stream().filter(StringUtils::isNotBlank).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        val tickets = new ArrayList<Ticket>(ids.size());
+        val expiredTickets = new ArrayList<Ticket>();
+        try (val results = findTickets(ids)) {
+            results.filter(Objects::nonNull).forEach(ticket -> {
+                if (ticket.isExpired()) {
+                    expiredTickets.add(ticket);
+                } else {
+                    tickets.add(ticket);
+                }
+            });
+        }
+        if (!expiredTickets.isEmpty()) {
+            LOGGER.debug("[{}] ticket(s) have expired and will be removed from the ticket registry", expiredTickets.size());
+            deleteSingleTickets(expiredTickets);
+        }
+        return tickets;
+    }
+
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) throws Exception {
+        val ids = ticketIds.stream().filter(StringUtils::isNotBlank).distinct().toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        try (val results = findTickets(ids)) {
+            val tickets = results.filter(Objects::nonNull).toList();
+            return deleteTickets(tickets.stream());
+        }
+    }
+
+    @Override
+    public int deleteTickets(final Stream<? extends Ticket> toDelete) throws Exception {
+        val count = new AtomicLong(0);
+        val tickets = new ArrayList<Ticket>();
+        for (val ticket : toDelete.filter(Objects::nonNull).toList()) {
+            if (ticket instanceof TicketGrantingTicket) {
+                count.getAndAdd(deleteTicket(ticket));
+            } else {
+                tickets.add(ticket);
+            }
+        }
+        if (!tickets.isEmpty()) {
+            LOGGER.debug("Removing [{}] ticket(s) from the registry.", tickets.size());
+            count.getAndAdd(deleteSingleTickets(tickets));
+        }
+        return count.intValue();
+    }
+
     @Override
     public int deleteTicket(final String ticketId) throws Exception {
         if (StringUtils.isBlank(ticketId)) {
@@ -190,7 +243,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
             }
             return false;
         };
-        return getTickets(ticketPredicate).count();
+        try (val sessions = getTickets(ticketPredicate)) {
+            return sessions.count();
+        }
     }
 
     @Override
@@ -217,43 +272,55 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long countTicketsFor(final Service service) {
-        return stream()
-            .map(this::decodeTicket)
-            .filter(ServiceAwareTicket.class::isInstance)
-            .filter(ticket -> !ticket.isExpired())
-            .map(ServiceAwareTicket.class::cast)
-            .filter(ticket -> Objects.nonNull(ticket.getService()))
-            .filter(ticket -> ticket.getService().getId().equals(service.getId()))
-            .count();
+        try (val tickets = stream()) {
+            return tickets
+                .map(this::decodeTicket)
+                .filter(ServiceAwareTicket.class::isInstance)
+                .filter(ticket -> !ticket.isExpired())
+                .map(ServiceAwareTicket.class::cast)
+                .filter(ticket -> Objects.nonNull(ticket.getService()))
+                .filter(ticket -> ticket.getService().getId().equals(service.getId()))
+                .count();
+        }
     }
 
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
-        return getTickets(ticket -> {
-            if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket && !ticket.isExpired()
-                && ticketGrantingTicket.getAuthentication() != null) {
-                val attributes = collectAndDigestTicketAttributes(ticketGrantingTicket);
-
-                return queryAttributes.entrySet().stream().anyMatch(queryEntry -> {
-                    val attributeKey = digestIdentifier(queryEntry.getKey());
-
-                    if (attributes.containsKey(attributeKey)) {
-
-                        val authnAttributeValues = CollectionUtils.toCollection(attributes.get(attributeKey));
-
-                        return authnAttributeValues.stream().anyMatch(value -> {
-                            val attributeValue = value.toString();
-                            return queryEntry.getValue()
-                                .stream()
-                                .map(queryValue -> digestIdentifier(queryValue.toString()))
-                                .anyMatch(attributeValue::equalsIgnoreCase);
-                        });
-                    }
-                    return false;
-                });
-            }
-            return false;
-        });
+        return getTickets(ticket -> isSessionWithAttributes(ticket, queryAttributes));
+    }
+
+    /**
+     * Whether the ticket is an unexpired single sign-on session
+     * whose authentication carries any of the query attributes.
+     *
+     * @param ticket          the ticket
+     * @param queryAttributes the query attributes
+     * @return true/false
+     */
+    protected boolean isSessionWithAttributes(final Ticket ticket, final Map<String, List<Object>> queryAttributes) {
+        if (ticket instanceof final TicketGrantingTicket ticketGrantingTicket && !ticket.isExpired()
+            && ticketGrantingTicket.getAuthentication() != null) {
+            val attributes = collectAndDigestTicketAttributes(ticketGrantingTicket);
+
+            return queryAttributes.entrySet().stream().anyMatch(queryEntry -> {
+                val attributeKey = digestIdentifier(queryEntry.getKey());
+
+                if (attributes.containsKey(attributeKey)) {
+
+                    val authnAttributeValues = CollectionUtils.toCollection(attributes.get(attributeKey));
+
+                    return authnAttributeValues.stream().anyMatch(value -> {
+                        val attributeValue = value.toString();
+                        return queryEntry.getValue()
+                            .stream()
+                            .map(queryValue -> digestIdentifier(queryValue.toString()))
+                            .anyMatch(attributeValue::equalsIgnoreCase);
+                    });
+                }
+                return false;
+            });
+        }
+        return false;
     }
 
     protected long deleteSingleTicket(final Ticket ticket) {
@@ -262,12 +329,28 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected abstract Ticket addSingleTicket(Ticket ticket) throws Exception;
 
-    protected int deleteTickets(final Set<String> tickets) {
-        return deleteTickets(tickets.stream());
+    /**
+     * Delete a batch of tickets, without removing their children.
+     * Registries that are able to remove several entries in a single
+     * operation should override this to avoid a round trip per ticket.
+     *
+     * @param tickets the tickets
+     * @return the count of tickets that were removed
+     */
+    protected long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        return tickets.stream().mapToLong(this::deleteSingleTicket).sum();
     }
 
-    protected int deleteTickets(final Stream<String> tickets) {
-        return tickets.mapToInt(Unchecked.toIntFunction(this::deleteTicket)).sum();
+    /**
+     * Find a batch of tickets by their ids, decoded but regardless of their expiration status.
+     * Registries that are able to fetch several entries in a single
+     * operation should override this to avoid a round trip per ticket.
+     *
+     * @param ticketIds the ticket ids
+     * @return the tickets that could be found
+     */
+    protected Stream<? extends Ticket> findTickets(final Collection<String> ticketIds) {
+        return ticketIds.stream().map(ticketId -> getTicket(ticketId, ticket -> true));
     }
 
     /**
@@ -277,24 +360,16 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
      * @return the count of tickets that were removed including child tickets and zero if the ticket was not deleted
      */
     protected int deleteChildren(final TicketGrantingTicket ticket) {
-        val count = new AtomicLong(0);
         val services = ticket.getServices();
         if (services != null && !services.isEmpty()) {
-            services.keySet()
-                .stream()
-                .map(this::getTicket)
-                .filter(Objects::nonNull)
-                .forEach(serviceTicket -> {
-                    val deleteCount = deleteSingleTicket(serviceTicket);
-                    if (deleteCount > 0) {
-                        LOGGER.debug("Removed ticket [{}]", serviceTicket.getId());
-                        count.getAndAdd(deleteCount);
-                    } else {
-                        LOGGER.debug("Unable to remove ticket [{}]", serviceTicket.getId());
-                    }
-                });
+            val serviceTickets = getTickets(services.keySet());
+            if (!serviceTickets.isEmpty()) {
+                val deleteCount = deleteSingleTickets(serviceTickets);
+                LOGGER.debug("Removed [{}] of [{}] service ticket(s) for [{}]", deleteCount, serviceTickets.size(), ticket.getId());
+                return (int) deleteCount;
+            }
         }
-        return count.intValue();
+        return 0;
     }
 
     protected Ticket encodeTicket(final Ticket ticket) throws Exception {
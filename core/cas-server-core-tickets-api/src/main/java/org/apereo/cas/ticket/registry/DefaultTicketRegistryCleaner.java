@@ -6,11 +6,17 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.lock.LockRepository;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
@@ -22,12 +28,25 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Transactional(transactionManager = "ticketTransactionManager")
 public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
+    private static final int BATCH_SIZE = 500;
+
     private final LockRepository lockRepository;
 
     private final LogoutManager logoutManager;
 
     private final TicketRegistry ticketRegistry;
 
+    /**
+     * Executor that carries out logout operations for expired ticket-granting tickets,
+     * so that cleaning the registry does not wait on applications to be notified.
+     */
+    private final Executor logoutExecutor;
+
+    public DefaultTicketRegistryCleaner(final LockRepository lockRepository, final LogoutManager logoutManager,
+                                        final TicketRegistry ticketRegistry) {
+        this(lockRepository, logoutManager, ticketRegistry, Runnable::run);
+    }
+
     @Override
     public int clean() {
         try {
@@ -44,19 +63,7 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
 
     @Override
     public int cleanTicket(final Ticket ticket) {
-        return lockRepository.execute(ticket.getId(), () -> {
-            try {
-                if (ticket instanceof final TicketGrantingTicket tgt) {
-                    LOGGER.debug("Cleaning up expired ticket-granting ticket [{}]", ticket.getId());
-                    val request = SingleLogoutExecutionRequest.builder()
-                        .ticketGrantingTicket(tgt)
-                        .build();
-                    logoutManager.performLogout(request);
-                }
-            } catch (final Throwable e) {
-                LoggingUtils.error(LOGGER, e);
-            }
-
+        val result = lockRepository.execute(ticket.getId(), () -> {
             try {
                 LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
                 return ticketRegistry.deleteTicket(ticket);
@@ -64,17 +71,78 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
                 LoggingUtils.error(LOGGER, e);
                 return 0;
             }
-        }).orElse(0);
+        });
+        if (result.isPresent() && ticket instanceof final TicketGrantingTicket tgt) {
+            logoutExecutor.execute(() -> performLogout(tgt));
+        }
+        return result.orElse(0);
+    }
+
+    protected void performLogout(final TicketGrantingTicket ticket) {
+        try {
+            LOGGER.debug("Performing logout for expired ticket-granting ticket [{}]", ticket.getId());
+            val request = SingleLogoutExecutionRequest.builder()
+                .ticketGrantingTicket(ticket)
+                .build();
+            logoutManager.performLogout(request);
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+        }
     }
 
     protected int cleanInternal() {
-        try (val expiredTickets = ticketRegistry.stream().filter(Objects::nonNull).filter(Ticket::isExpired)) {
-            val ticketsDeleted = expiredTickets.mapToInt(this::cleanTicket).sum();
+        try (val expiredTickets = streamExpiredTickets()) {
+            val ticketsDeleted = Streams.stream(Iterators.partition(expiredTickets.iterator(), BATCH_SIZE))
+                .mapToInt(this::cleanTickets)
+                .sum();
             LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
             return ticketsDeleted;
         }
     }
 
+    /**
+     * Clean a batch of expired tickets. Ticket-granting tickets are cleaned one at a time
+     * under their lock so their logout can be carried out, while all other tickets are removed
+     * from the registry in a single batch operation.
+     * <p>
+     * The batch removal does not take the per-ticket lock. Operations that lock on other tickets,
+     * such as service ticket validation, check for expiration while holding the lock and reject
+     * expired tickets, and an expired ticket never becomes valid again. So the removal cannot
+     * interfere with a locked operation that is allowed to succeed; at worst, an update that was
+     * already in progress stores the expired ticket again, and it is removed on the next run.
+     *
+     * @param tickets the tickets
+     * @return the number of tickets removed
+     */
+    protected int cleanTickets(final List<? extends Ticket> tickets) {
+        val ticketsByType = tickets.stream().collect(Collectors.partitioningBy(TicketGrantingTicket.class::isInstance));
+        val count = ticketsByType.get(Boolean.TRUE).stream().mapToInt(this::cleanTicket).sum();
+        val otherTickets = ticketsByType.get(Boolean.FALSE);
+        if (otherTickets.isEmpty()) {
+            return count;
+        }
+        try {
+            LOGGER.debug("Cleaning up [{}] expired ticket(s)", otherTickets.size());
+            return count + ticketRegistry.deleteTickets(otherTickets.stream());
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+            return count;
+        }
+    }
+
+    /**
+     * Stream expired tickets. Map-based registries maintain an expiration index
+     * that allows the cleaner to only visit tickets that are due to expire.
+     *
+     * @return the expired tickets
+     */
+    protected Stream<? extends Ticket> streamExpiredTickets() {
+        if (ticketRegistry instanceof final AbstractMapBasedTicketRegistry registry) {
+            return registry.streamExpiredTickets();
+        }
+        return ticketRegistry.stream().filter(Objects::nonNull).filter(Ticket::isExpired);
+    }
+
     /**
      * Indicates whether the registry supports automated ticket cleanup.
      * Generally, a registry that is able to return a collection of available
@@ -0,0 +1,173 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link TicketExpirationIndex}.
+ * <p>
+ * Keeps track of ticket keys sorted by the instant at which each ticket is next due to be
+ * checked for expiration, so that registry cleaners only need to visit tickets that may have
+ * expired instead of scanning the entire registry. The next due instant is calculated from the
+ * ticket's expiration policy, and must be recalculated whenever the ticket is updated to account
+ * for sliding expiration policies. Tickets whose expiration cannot be calculated are re-checked
+ * periodically.
+ * <p>
+ * Since tickets may also be expired in ways that cannot be predicted from their expiration policy,
+ * the index also signals when a full sweep of the registry is due, during which it should be rebuilt.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class TicketExpirationIndex {
+    private static final Duration DEFAULT_RECHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofHours(1);
+
+    private final ConcurrentSkipListSet<ScheduledTicket> schedule = new ConcurrentSkipListSet<>(
+        Comparator.comparingLong(ScheduledTicket::dueAt).thenComparing(ScheduledTicket::key));
+
+    private final Map<String, ScheduledTicket> scheduledTickets = new ConcurrentHashMap<>();
+
+    private final Duration recheckInterval;
+
+    private final Duration sweepInterval;
+
+    private final Clock clock;
+
+    private volatile Instant lastSweep;
+
+    public TicketExpirationIndex() {
+        this(DEFAULT_RECHECK_INTERVAL, DEFAULT_SWEEP_INTERVAL, Clock.systemUTC());
+    }
+
+    public TicketExpirationIndex(final Duration recheckInterval, final Duration sweepInterval, final Clock clock) {
+        this.recheckInterval = recheckInterval;
+        this.sweepInterval = sweepInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Schedule the ticket to be checked for expiration, replacing any previous schedule.
+     *
+     * @param key    the key under which the ticket is stored
+     * @param ticket the decoded ticket
+     */
+    public void schedule(final String key, final Ticket ticket) {
+        val dueAt = determineExpirationInstant(ticket);
+        val scheduledTicket = new ScheduledTicket(dueAt.toEpochMilli(), key);
+        scheduledTickets.compute(key, (__, previous) -> {
+            if (previous != null) {
+                schedule.remove(previous);
+            }
+            schedule.add(scheduledTicket);
+            return scheduledTicket;
+        });
+    }
+
+    /**
+     * Remove the ticket from the index.
+     *
+     * @param key the key
+     */
+    public void remove(final String key) {
+        scheduledTickets.computeIfPresent(key, (__, previous) -> {
+            schedule.remove(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        scheduledTickets.clear();
+        schedule.clear();
+    }
+
+    /**
+     * Number of tickets in the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return scheduledTickets.size();
+    }
+
+    /**
+     * Remove and collect the keys of all tickets that are due
+     * to be checked for expiration.
+     *
+     * @return the keys
+     */
+    public List<String> pollDue() {
+        val bound = new ScheduledTicket(Instant.now(clock).toEpochMilli() + 1, StringUtils.EMPTY);
+        val dueKeys = new ArrayList<String>();
+        for (val scheduledTicket : schedule.headSet(bound)) {
+            if (scheduledTickets.remove(scheduledTicket.key(), scheduledTicket)) {
+                dueKeys.add(scheduledTicket.key());
+            }
+            schedule.remove(scheduledTicket);
+        }
+        return dueKeys;
+    }
+
+    /**
+     * Determine whether a full sweep of the registry is due.
+     *
+     * @return true/false
+     */
+    public boolean isSweepDue() {
+        return lastSweep == null || !lastSweep.plus(sweepInterval).isAfter(Instant.now(clock));
+    }
+
+    /**
+     * Record that the registry was swept.
+     */
+    public void markSwept() {
+        lastSweep = Instant.now(clock);
+    }
+
+    protected Instant determineExpirationInstant(final Ticket ticket) {
+        val now = Instant.now(clock);
+        try {
+            if (ticket.isExpired()) {
+                return now;
+            }
+            val policy = ticket.getExpirationPolicy();
+            val dueAt = policy == null
+                ? null
+                : Stream.of(policy.toMaximumExpirationTime(ticket), policy.getIdleExpirationTime(ticket))
+                    .filter(Objects::nonNull)
+                    .map(ZonedDateTime::toInstant)
+                    .min(Comparator.naturalOrder())
+                    .orElse(null);
+            return dueAt == null || !dueAt.isAfter(now) ? now.plus(recheckInterval) : dueAt;
+        } catch (final Exception e) {
+            LOGGER.trace("Unable to determine expiration instant for [{}]: [{}]", ticket.getId(), e.getMessage());
+            return now.plus(recheckInterval);
+        }
+    }
+
+    private record ScheduledTicket(long dueAt, String key) {
+    }
+}
@@ -0,0 +1,172 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link TicketRegistryIndex}.
+ * <p>
+ * Keeps secondary indexes of ticket keys by ticket type, by the principal of single sign-on sessions
+ * and by the service for which tickets were issued, so that registries which keep tickets in a map
+ * are able to answer such queries by only visiting matching tickets instead of decoding every ticket
+ * in the registry. The index only deals with keys under which tickets are stored and the values that
+ * are given to it, which are expected to be digested when tickets are encrypted.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class TicketRegistryIndex {
+    private final Map<String, IndexedTicket> indexedTickets = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> ticketsByType = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> sessionsByPrincipal = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> ticketsByService = new ConcurrentHashMap<>();
+
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Index the ticket, replacing any previous entries for the key.
+     *
+     * @param key       the key under which the ticket is stored
+     * @param type      the ticket type or prefix
+     * @param session   whether the ticket represents a single sign-on session
+     * @param principal the principal of the session, if any
+     * @param service   the service for which the ticket was issued, if any
+     */
+    public void index(final String key, final String type, final boolean session,
+                      final String principal, final String service) {
+        val indexedTicket = new IndexedTicket(type, session, principal, service);
+        indexedTickets.compute(key, (__, previous) -> {
+            if (previous != null) {
+                unlink(key, previous);
+            }
+            link(key, indexedTicket);
+            return indexedTicket;
+        });
+    }
+
+    /**
+     * Remove the ticket from the index.
+     *
+     * @param key the key
+     */
+    public void remove(final String key) {
+        indexedTickets.computeIfPresent(key, (__, previous) -> {
+            unlink(key, previous);
+            return null;
+        });
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        indexedTickets.clear();
+        ticketsByType.clear();
+        sessionsByPrincipal.clear();
+        ticketsByService.clear();
+        sessions.clear();
+    }
+
+    /**
+     * Number of tickets in the index.
+     *
+     * @return the size
+     */
+    public int size() {
+        return indexedTickets.size();
+    }
+
+    /**
+     * Keys of tickets of the given type.
+     *
+     * @param type the type
+     * @return the keys
+     */
+    public Set<String> getTicketsByType(final String type) {
+        return lookup(ticketsByType, type);
+    }
+
+    /**
+     * Keys of single sign-on sessions that belong to the given principal.
+     *
+     * @param principal the principal
+     * @return the keys
+     */
+    public Set<String> getSessionsByPrincipal(final String principal) {
+        return lookup(sessionsByPrincipal, principal);
+    }
+
+    /**
+     * Keys of tickets that were issued for the given service.
+     *
+     * @param service the service
+     * @return the keys
+     */
+    public Set<String> getTicketsByService(final String service) {
+        return lookup(ticketsByService, service);
+    }
+
+    /**
+     * Keys of all single sign-on sessions.
+     *
+     * @return the keys
+     */
+    public Set<String> getSessions() {
+        return Set.copyOf(sessions);
+    }
+
+    private void link(final String key, final IndexedTicket indexedTicket) {
+        add(ticketsByType, indexedTicket.type(), key);
+        add(ticketsByService, indexedTicket.service(), key);
+        if (indexedTicket.session()) {
+            sessions.add(key);
+            add(sessionsByPrincipal, indexedTicket.principal(), key);
+        }
+    }
+
+    private void unlink(final String key, final IndexedTicket indexedTicket) {
+        remove(ticketsByType, indexedTicket.type(), key);
+        remove(ticketsByService, indexedTicket.service(), key);
+        if (indexedTicket.session()) {
+            sessions.remove(key);
+            remove(sessionsByPrincipal, indexedTicket.principal(), key);
+        }
+    }
+
+    private static void add(final Map<String, Set<String>> index, final String value, final String key) {
+        if (StringUtils.isNotBlank(value)) {
+            index.compute(value, (__, keys) -> {
+                val results = keys == null ? ConcurrentHashMap.<String>newKeySet() : keys;
+                results.add(key);
+                return results;
+            });
+        }
+    }
+
+    private static void remove(final Map<String, Set<String>> index, final String value, final String key) {
+        if (StringUtils.isNotBlank(value)) {
+            index.computeIfPresent(value, (__, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static Set<String> lookup(final Map<String, Set<String>> index, final String value) {
+        if (StringUtils.isBlank(value)) {
+            return Set.of();
+        }
+        val keys = index.get(value);
+        return keys == null ? Set.of() : Set.copyOf(keys);
+    }
+
+    private record IndexedTicket(String type, boolean session, String principal, String service) {
+    }
+}
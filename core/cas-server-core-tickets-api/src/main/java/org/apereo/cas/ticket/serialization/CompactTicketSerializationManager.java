@@ -0,0 +1,221 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * This is {@link CompactTicketSerializationManager}.
+ * <p>
+ * Wraps the ticket payloads produced by another {@link TicketSerializationManager} in a compact
+ * binary envelope that carries the ticket type name and, optionally, a payload
+ * compressed with a preset dictionary of strings that tend to repeat across tickets, such as
+ * class names, field names and common attribute names. The envelope is encoded as URL-safe base64
+ * so that it can be stored by any ticket registry that stores serialized tickets as text.
+ * The type name is written into every envelope, so that content can be read by any node
+ * without the type being known up front.
+ * <p>
+ * Content that is not wrapped in the envelope, i.e. tickets that were serialized before this
+ * format was activated, is handed off to the delegate as-is so existing entries remain readable.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class CompactTicketSerializationManager implements TicketSerializationManager {
+    private static final byte MAGIC = (byte) 0xCA;
+
+    private static final byte VERSION = 2;
+
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private static final int HEADER_LENGTH = 1 + 1 + 1 + Short.BYTES;
+
+    private static final List<String> DEFAULT_DICTIONARY_ENTRIES = List.of(
+        "https://", "http://", "true", "false", "null",
+        "java.util.ArrayList", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.concurrent.ConcurrentHashMap",
+        "java.time.ZonedDateTime", "@class", "@type", "id", "name", "value", "type",
+        "org.apereo.cas.ticket.TicketGrantingTicketImpl", "org.apereo.cas.ticket.ServiceTicketImpl",
+        "org.apereo.cas.ticket.proxy.ProxyGrantingTicketImpl", "org.apereo.cas.ticket.proxy.ProxyTicketImpl",
+        "org.apereo.cas.ticket.TransientSessionTicketImpl", "org.apereo.cas.ticket.DefaultEncodedTicket",
+        "org.apereo.cas.authentication.DefaultAuthentication", "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.ticket.expiration.TicketGrantingTicketExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.MultiTimeUseOrTimeoutExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.TimeoutExpirationPolicy",
+        "org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy",
+        "expirationPolicy", "timeToKillInSeconds", "maxTimeToLiveInSeconds", "timeToLive", "numberOfUses", "timeZone",
+        "lastTimeUsed", "previousTimeUsed", "creationTime", "countOfUses", "expired", "stateful",
+        "ticketGrantingTicket", "authentication", "authenticationDate", "principal", "attributes",
+        "successes", "failures", "credentials", "credentialClass", "credentialMetadata", "handlerName", "warnings",
+        "services", "proxyGrantingTickets", "descendantTickets", "proxiedBy", "fromNewLogin", "service",
+        "originalUrl", "artifactId", "source", "format", "responseType", "tenant",
+        "authenticationMethod", "successfulAuthenticationHandlers", "credentialType", "isFromNewLogin",
+        "longTermAuthenticationRequestTokenUsed", "authnContextClass", "clientIpAddress", "serverIpAddress",
+        "userAgent", "geoLocation", "uid", "mail", "email", "cn", "givenName", "sn", "displayName", "memberOf",
+        "eduPersonPrincipalName", "eduPersonAffiliation", "UTC");
+
+    private final TicketSerializationManager delegate;
+
+    private final boolean compressionEnabled;
+
+    private final byte[] dictionary;
+
+    public CompactTicketSerializationManager(final TicketSerializationManager delegate,
+                                             final boolean compressionEnabled) {
+        this(delegate, compressionEnabled, List.of());
+    }
+
+    public CompactTicketSerializationManager(final TicketSerializationManager delegate,
+                                             final boolean compressionEnabled,
+                                             final List<String> dictionaryEntries) {
+        this.delegate = delegate;
+        this.compressionEnabled = compressionEnabled;
+        val entries = new ArrayList<>(dictionaryEntries);
+        entries.addAll(DEFAULT_DICTIONARY_ENTRIES);
+        this.dictionary = String.join("\"", entries.reversed()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String serializeTicket(final Ticket ticket) {
+        val payload = delegate.serializeTicket(ticket).getBytes(StandardCharsets.UTF_8);
+        val typeName = ticket.getClass().getName();
+        val type = typeName.getBytes(StandardCharsets.UTF_8);
+
+        var flags = (byte) 0;
+        var body = payload;
+        if (compressionEnabled) {
+            val compressed = compress(payload);
+            if (compressed.length < payload.length) {
+                body = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+        val buffer = ByteBuffer.allocate(HEADER_LENGTH + type.length + body.length)
+            .put(MAGIC)
+            .put(VERSION)
+            .put(flags)
+            .putShort((short) type.length)
+            .put(type)
+            .put(body);
+        LOGGER.trace("Encoded ticket [{}] of type [{}] from [{}] into [{}] bytes", ticket.getId(), typeName, payload.length, buffer.capacity());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    @Override
+    public Ticket deserializeTicket(final String ticketContent, final String type) {
+        val envelope = decodeEnvelope(ticketContent);
+        if (envelope == null) {
+            return delegate.deserializeTicket(ticketContent, type);
+        }
+        val resolvedType = StringUtils.defaultIfBlank(type, envelope.type());
+        return delegate.deserializeTicket(envelope.payload(), resolvedType);
+    }
+
+    @Override
+    public <T extends Ticket> T deserializeTicket(final String ticketContent, final Class<T> clazz) {
+        val envelope = decodeEnvelope(ticketContent);
+        return delegate.deserializeTicket(envelope == null ? ticketContent : envelope.payload(), clazz);
+    }
+
+    /**
+     * Determine whether the given content is wrapped in the compact envelope.
+     *
+     * @param ticketContent the ticket content
+     * @return true/false
+     */
+    public boolean isCompact(final String ticketContent) {
+        return decodeEnvelope(ticketContent) != null;
+    }
+
+    protected byte[] compress(final byte[] payload) {
+        val deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setDictionary(dictionary);
+            deflater.setInput(payload);
+            deflater.finish();
+            val output = new ByteArrayOutputStream(payload.length);
+            val chunk = new byte[Math.max(64, payload.length)];
+            while (!deflater.finished()) {
+                val count = deflater.deflate(chunk);
+                output.write(chunk, 0, count);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    protected byte[] decompress(final byte[] body) throws DataFormatException {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(body);
+            val output = new ByteArrayOutputStream(body.length * 4);
+            val chunk = new byte[Math.max(256, body.length * 2)];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(chunk);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.needsInput()) {
+                        throw new DataFormatException("Compressed ticket content is truncated");
+                    }
+                }
+                output.write(chunk, 0, count);
+            }
+            return output.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Envelope decodeEnvelope(final String ticketContent) {
+        if (StringUtils.isBlank(ticketContent) || ticketContent.charAt(0) == '{') {
+            return null;
+        }
+        try {
+            val bytes = Base64.getUrlDecoder().decode(ticketContent);
+            if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != VERSION) {
+                return null;
+            }
+            val buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 2);
+            val flags = buffer.get();
+            val typeLength = Short.toUnsignedInt(buffer.getShort());
+            if (typeLength > buffer.remaining()) {
+                return null;
+            }
+            val type = new byte[typeLength];
+            buffer.get(type);
+            val body = new byte[buffer.remaining()];
+            buffer.get(body);
+            val payload = (flags & FLAG_COMPRESSED) == FLAG_COMPRESSED ? decompress(body) : body;
+            return new Envelope(new String(type, StandardCharsets.UTF_8), new String(payload, StandardCharsets.UTF_8));
+        } catch (final IllegalArgumentException e) {
+            LOGGER.trace("Ticket content is not encoded in compact form: [{}]", e.getMessage());
+            return null;
+        } catch (final DataFormatException e) {
+            throw new IllegalStateException("Unable to decompress ticket content", e);
+        }
+    }
+
+    private record Envelope(String type, String payload) {
+    }
+}
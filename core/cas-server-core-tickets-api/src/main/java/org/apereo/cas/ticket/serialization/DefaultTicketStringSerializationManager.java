@@ -10,7 +10,9 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link DefaultTicketStringSerializationManager}.
@@ -21,6 +23,8 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Slf4j
 public class DefaultTicketStringSerializationManager implements TicketSerializationManager {
+    private final Map<String, Class<? extends Ticket>> ticketTypes = new ConcurrentHashMap<>();
+
     private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
 
     @Override
@@ -44,10 +48,9 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         if (serializer == null) {
             throw new IllegalArgumentException("Unable to find ticket deserializer for " + type);
         }
-        return Unchecked.supplier(() -> {
-            val clazz = Class.forName(type);
-            return deserializeTicket(ticketContent, (Class) clazz);
-        }).get();
+        val clazz = ticketTypes.computeIfAbsent(type,
+            Unchecked.function(className -> (Class<? extends Ticket>) Class.forName(className)));
+        return deserializeTicket(ticketContent, clazz);
     }
 
     @Override
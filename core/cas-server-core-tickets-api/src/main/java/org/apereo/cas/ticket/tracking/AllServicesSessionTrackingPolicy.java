@@ -4,13 +4,15 @@ import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.TicketRegistry;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.concurrent.CasStripedLock;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 /**
  * This is {@link AllServicesSessionTrackingPolicy}.
+ * Tracking operations are serialized per owning ticket, so that service tickets
+ * issued for unrelated ticket-granting tickets do not contend with one another.
  *
  * @author Misagh Moayyed
  * @since 6.6.0
@@ -19,14 +21,14 @@ import lombok.val;
 public class AllServicesSessionTrackingPolicy implements TicketTrackingPolicy {
     protected final TicketRegistry ticketRegistry;
 
-    private final CasReentrantLock lock = new CasReentrantLock();
-    
+    private final CasStripedLock locks = new CasStripedLock();
+
     @Override
     public String trackTicket(final Ticket ownerTicket, final Ticket ticket) {
         val serviceTicket = (ServiceTicket) ticket;
         val ticketGrantingTicket = (TicketGrantingTicket) ownerTicket;
         val trackedEntry = String.format("%s,%s", serviceTicket.getId(), serviceTicket.getService());
-        lock.tryLock(__ -> {
+        locks.tryLock(ownerTicket.getId(), __ -> {
             ownerTicket.update();
             serviceTicket.getService().setPrincipal(ticketGrantingTicket.getRoot().getAuthentication().getPrincipal().getId());
             beforeTrackingServiceTicket(ownerTicket, serviceTicket);
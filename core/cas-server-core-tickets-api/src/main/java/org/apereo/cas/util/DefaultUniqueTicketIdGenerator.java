@@ -3,8 +3,10 @@ package org.apereo.cas.util;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.util.gen.Base64RandomStringGenerator;
 import org.apereo.cas.util.gen.DefaultLongNumericGenerator;
+import org.apereo.cas.util.gen.LongNumericGenerator;
 import org.apereo.cas.util.gen.NumericGenerator;
 import org.apereo.cas.util.gen.RandomStringGenerator;
+import org.apereo.cas.util.gen.StripedDrbgSecureRandom;
 
 import lombok.Setter;
 import lombok.val;
@@ -17,6 +19,11 @@ import org.apache.commons.lang3.StringUtils;
  * <p>
  * Tickets are of the form [PREFIX]-[SEQUENCE NUMBER]-[RANDOM STRING]-[SUFFIX]
  * </p>
+ * <p>
+ * By default, the random part is produced by a {@link StripedDrbgSecureRandom} so that concurrent
+ * requests do not contend for the same source of randomness, and the ticket id is assembled
+ * in a single pre-sized buffer.
+ * </p>
  *
  * @author Scott Battaglia
  * @since 3.0.0
@@ -24,6 +31,9 @@ import org.apache.commons.lang3.StringUtils;
 @Setter
 public class DefaultUniqueTicketIdGenerator implements UniqueTicketIdGenerator {
 
+    private static final char[] BASE64_CHARACTERS =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789--".toCharArray();
+
     /**
      * The numeric generator to generate the static part of the id.
      */
@@ -72,6 +82,14 @@ public class DefaultUniqueTicketIdGenerator implements UniqueTicketIdGenerator {
      */
     @Override
     public String getNewTicketId(final String prefix) {
+        if (randomStringGenerator instanceof final Base64RandomStringGenerator base64Generator
+            && numericGenerator instanceof final LongNumericGenerator longGenerator) {
+            val number = longGenerator.getNextLong();
+            if (number >= 0) {
+                val random = base64Generator.getNewStringAsBytes(Long.valueOf(base64Generator.getDefaultLength()).intValue());
+                return buildTicketId(prefix, number, random);
+            }
+        }
         val number = this.numericGenerator.getNextNumberAsString();
         val ticketBody = this.randomStringGenerator.getNewString().replace('_', SEPARATOR);
         val origSuffix = StringUtils.defaultString(this.suffix);
@@ -85,7 +103,68 @@ public class DefaultUniqueTicketIdGenerator implements UniqueTicketIdGenerator {
      * @param maxLength the max length
      */
     public void setMaxLength(final long maxLength) {
-        this.randomStringGenerator = new Base64RandomStringGenerator(maxLength);
+        this.randomStringGenerator = new Base64RandomStringGenerator(maxLength, StripedDrbgSecureRandom.getInstance());
         this.numericGenerator = new DefaultLongNumericGenerator(1);
     }
+
+    /**
+     * Build the ticket id in a buffer sized upfront, encoding the random bytes
+     * with the url-safe base64 alphabet without padding, where {@code _} is replaced
+     * by the {@link #SEPARATOR}. The result is identical to the output of the
+     * {@link Base64RandomStringGenerator}, sanitized for the ticket id body.
+     */
+    private String buildTicketId(final String prefix, final long number, final byte[] random) {
+        val suffixValue = StringUtils.defaultString(this.suffix);
+        val numberLength = numberOfDigits(number);
+        val bodyLength = (random.length * 4 + 2) / 3;
+        val length = prefix.length() + 1 + numberLength + 1 + bodyLength
+            + (suffixValue.isEmpty() ? 0 : suffixValue.length() + 1);
+        val buffer = new char[length];
+
+        prefix.getChars(0, prefix.length(), buffer, 0);
+        var position = prefix.length();
+        buffer[position++] = SEPARATOR;
+
+        var remaining = number;
+        for (var i = position + numberLength - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        position += numberLength;
+        buffer[position++] = SEPARATOR;
+
+        var index = 0;
+        while (index + 3 <= random.length) {
+            val bits = (random[index++] & 0xff) << 16 | (random[index++] & 0xff) << 8 | random[index++] & 0xff;
+            buffer[position++] = BASE64_CHARACTERS[bits >>> 18 & 0x3f];
+            buffer[position++] = BASE64_CHARACTERS[bits >>> 12 & 0x3f];
+            buffer[position++] = BASE64_CHARACTERS[bits >>> 6 & 0x3f];
+            buffer[position++] = BASE64_CHARACTERS[bits & 0x3f];
+        }
+        val leftover = random.length - index;
+        if (leftover > 0) {
+            val bits = (random[index] & 0xff) << 16 | (leftover == 2 ? (random[index + 1] & 0xff) << 8 : 0);
+            buffer[position++] = BASE64_CHARACTERS[bits >>> 18 & 0x3f];
+            buffer[position++] = BASE64_CHARACTERS[bits >>> 12 & 0x3f];
+            if (leftover == 2) {
+                buffer[position++] = BASE64_CHARACTERS[bits >>> 6 & 0x3f];
+            }
+        }
+
+        if (!suffixValue.isEmpty()) {
+            buffer[position++] = SEPARATOR;
+            suffixValue.getChars(0, suffixValue.length(), buffer, position);
+        }
+        return new String(buffer);
+    }
+
+    private static int numberOfDigits(final long number) {
+        var digits = 1;
+        var remaining = number;
+        while (remaining >= 10) {
+            remaining /= 10;
+            digits++;
+        }
+        return digits;
+    }
 }
@@ -35,6 +35,7 @@ import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryDeletionListener;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessageReceiver;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
@@ -188,13 +189,16 @@ class CasCoreTicketsConfiguration {
             final TicketSerializationManager ticketSerializationManager,
             @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
             final ObjectProvider<LogoutManager> logoutManager,
+            final ObjectProvider<List<TicketRegistryDeletionListener>> ticketRegistryDeletionListeners,
             final CasConfigurationProperties casProperties) {
             LOGGER.info("Runtime memory is used as the persistence storage for retrieving and managing tickets. "
                         + "Tickets that are issued during runtime will be LOST when the web server is restarted. This MAY impact SSO functionality.");
             val mem = casProperties.getTicket().getRegistry().getInMemory();
             val storageMap = new ConcurrentHashMap<String, Ticket>(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency());
-            return new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
+            val registry = new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
                 storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+            ticketRegistryDeletionListeners.ifAvailable(listeners -> listeners.forEach(registry::registerDeletionListener));
+            return registry;
         }
 
         @Bean
@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
@@ -31,6 +32,11 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * This is {@link CasCoreTicketsSchedulingConfiguration}.
  *
@@ -54,11 +60,13 @@ class CasCoreTicketsSchedulingConfiguration {
         final CasConfigurationProperties casProperties,
         @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
         @Qualifier(LogoutManager.DEFAULT_BEAN_NAME) final LogoutManager logoutManager,
-        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
+        @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
+        @Qualifier("ticketRegistryCleanerLogoutExecutor") final ExecutorService ticketRegistryCleanerLogoutExecutor) {
         val isCleanerEnabled = casProperties.getTicket().getRegistry().getCleaner().getSchedule().isEnabled();
         if (isCleanerEnabled) {
             LOGGER.debug("Ticket registry cleaner is enabled.");
-            return new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
+            return new DefaultTicketRegistryCleaner(lockRepository, logoutManager,
+                ticketRegistry, ticketRegistryCleanerLogoutExecutor);
         }
         LOGGER.debug("Ticket registry cleaner is not enabled. "
                      + "Expired tickets are not forcefully cleaned by CAS. It is up to the ticket registry itself to "
@@ -66,6 +74,30 @@ class CasCoreTicketsSchedulingConfiguration {
         return NoOpTicketRegistryCleaner.getInstance();
     }
 
+    /**
+     * Executor for the logout of expired ticket-granting tickets. The number of concurrent logouts
+     * matches the number of back-channel logout requests allowed per host, and the queue holds as many
+     * logouts as can be carried out by the time the cleaner runs again, given the single logout deadline.
+     * Once the queue is full, the cleaner carries out logouts itself and slows down accordingly.
+     *
+     * @param casProperties the cas properties
+     * @return the executor service
+     */
+    @ConditionalOnMissingBean(name = "ticketRegistryCleanerLogoutExecutor")
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService ticketRegistryCleanerLogoutExecutor(final CasConfigurationProperties casProperties) {
+        val dispatcher = casProperties.getSlo().getDispatcher();
+        val concurrency = Math.max(1, dispatcher.getMaxConnectionsPerHost());
+        val deadline = Beans.newDuration(dispatcher.getDeadline());
+        val repeatInterval = Beans.newDuration(casProperties.getTicket().getRegistry().getCleaner().getSchedule().getRepeatInterval());
+        val logoutsPerCycle = deadline.isPositive() ? repeatInterval.dividedBy(deadline) : 1;
+        val capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(1, logoutsPerCycle * concurrency));
+        LOGGER.debug("Expired ticket-granting tickets are logged out by [{}] concurrent tasks with a queue of [{}]", concurrency, capacity);
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacity), Thread.ofVirtual().name("ticket-registry-cleaner-logout-", 0).factory(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
     @ConditionalOnMissingBean(name = "ticketRegistryCleanerScheduler")
     @ConditionalOnMatchingHostname(name = "cas.ticket.registry.cleaner.schedule.enabled-on-host")
     @Bean
@@ -1,6 +1,7 @@
 package org.apereo.cas.ticket;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.mock.MockServiceTicket;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.ticket.factory.BaseTicketFactoryTests;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
@@ -13,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.Ordered;
+import java.util.stream.IntStream;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -68,4 +71,32 @@ class DefaultTicketCatalogTests {
         assertNotNull(ticketCatalog.find(st.getId()));
         assertNotNull(st.getClass());
     }
+
+    @Test
+    void verifyPrefixLookup() throws Throwable {
+        val catalog = new DefaultTicketCatalog();
+        assertNull(catalog.find("TGT-1-abcdef"));
+        catalog.register(new DefaultTicketDefinition(MockTicketGrantingTicket.class, TicketGrantingTicket.class,
+            TicketGrantingTicket.PREFIX, Ordered.LOWEST_PRECEDENCE));
+        catalog.register(new DefaultTicketDefinition(MockServiceTicket.class, ServiceTicket.class,
+            ServiceTicket.PREFIX, 0));
+        assertEquals(MockTicketGrantingTicket.class, catalog.find("TGT-1-abcdef").getImplementationClass());
+        assertEquals(MockTicketGrantingTicket.class, catalog.find("tgt-1-abcdef").getImplementationClass());
+        assertEquals(MockServiceTicket.class, catalog.find("ST").getImplementationClass());
+        assertNull(catalog.find("TG-1-abcdef"));
+        assertNull(catalog.find("TGTX-1-abcdef"));
+        assertTrue(catalog.contains(TicketGrantingTicket.PREFIX));
+
+        val all = catalog.findAll();
+        assertEquals(ServiceTicket.PREFIX, all.iterator().next().getPrefix());
+        assertSame(catalog.findTicketImplementations(Ticket.class), catalog.findTicketImplementations(Ticket.class));
+        assertEquals(2, catalog.findTicketImplementations(Ticket.class).size());
+        assertTrue(catalog.findTicketDefinition(ServiceTicket.class).isPresent());
+
+        IntStream.range(0, 50).parallel().forEach(i -> catalog.register(new DefaultTicketDefinition(MockServiceTicket.class,
+            ServiceTicket.class, "T" + i, i)));
+        assertEquals(52, catalog.findAll().size());
+        assertEquals(52, catalog.findTicketImplementations(Ticket.class).size());
+        IntStream.range(0, 50).forEach(i -> assertEquals("T" + i, catalog.find("t" + i + "-1-abcdef").getPrefix()));
+    }
 }
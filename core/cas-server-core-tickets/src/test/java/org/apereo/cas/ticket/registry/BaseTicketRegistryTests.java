@@ -419,6 +419,41 @@ public abstract class BaseTicketRegistryTests {
         assertNull(ticketRegistry.getTicket(addedTicket.getId()), () -> TICKET_SHOULD_BE_NULL_USE_ENCRYPTION + useEncryption + ']');
     }
 
+    @RepeatedTest(2)
+    void verifyBatchOperations() throws Throwable {
+        assumeTrue(canTicketRegistryDelete());
+        val ticketGrantingTickets = new ArrayList<TicketGrantingTicket>();
+        val serviceTicketIds = new ArrayList<String>();
+        val service = RegisteredServiceTestUtils.getService("BATCH_TEST");
+        for (var i = 0; i < 3; i++) {
+            val tgt = new TicketGrantingTicketImpl(TICKET_GRANTING_TICKET_ID_GENERATOR.getNewTicketId(TicketGrantingTicket.PREFIX),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            ticketRegistry.addTicket(tgt);
+            ticketGrantingTickets.add(tgt);
+        }
+        val ticketIds = ticketGrantingTickets.stream().map(Ticket::getId).toList();
+        await().untilAsserted(() -> assertEquals(3, ticketRegistry.getTickets(ticketIds).size()));
+
+        for (val tgt : ticketGrantingTickets) {
+            val serviceTicket = tgt.grantServiceTicket(TestTicketIdentifiers.generate().serviceTicketId(),
+                service, NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            ticketRegistry.addTicket(serviceTicket);
+            serviceTicketIds.add(serviceTicket.getId());
+        }
+        assertEquals(3, ticketRegistry.updateTickets(ticketGrantingTickets.stream()).size());
+        ticketRegistry.getTickets(ticketIds).forEach(ticket ->
+            assertEquals(1, ((TicketGrantingTicket) ticket).getServices().size(), () -> "Ticket was not updated. useEncryption[" + useEncryption + ']'));
+        assertEquals(3, ticketRegistry.getTickets(serviceTicketIds).size());
+
+        val unknownTicketId = TestTicketIdentifiers.generate().ticketGrantingTicketId();
+        val toDelete = new ArrayList<>(ticketIds);
+        toDelete.add(unknownTicketId);
+        assertEquals(6, ticketRegistry.deleteTickets(toDelete), () -> "Wrong ticket count. useEncryption[" + useEncryption + ']');
+        assertTrue(ticketRegistry.getTickets(ticketIds).isEmpty());
+        assertTrue(ticketRegistry.getTickets(serviceTicketIds).isEmpty());
+        assertTrue(ticketRegistry.getTickets(List.of(unknownTicketId)).isEmpty());
+    }
+
     @RepeatedTest(2)
     void verifyTransientSessionTickets() throws Throwable {
         assumeTrue(canTicketRegistryDelete());
@@ -3,7 +3,10 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.lock.LockRepository;
 
@@ -12,6 +15,9 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -39,6 +45,32 @@ class DefaultTicketRegistryCleanerTests {
         assertEquals(0, ticketRegistry.sessionCount());
     }
 
+    @Test
+    void verifyExpirationIndex() throws Throwable {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = (AbstractMapBasedTicketRegistry) newTicketRegistry();
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), logoutManager, ticketRegistry);
+        assertEquals(0, cleaner.clean());
+
+        val expiringTicket = new MockTicketGrantingTicket("casuser");
+        expiringTicket.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+        ticketRegistry.addTicket(expiringTicket);
+        val otherTicket = new MockTicketGrantingTicket("casuser");
+        otherTicket.setExpirationPolicy(NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(otherTicket);
+        assertEquals(2, ticketRegistry.expirationIndex.size());
+        assertTrue(ticketRegistry.expirationIndex.pollDue().isEmpty());
+
+        Thread.sleep(1500);
+        assertEquals(1, cleaner.clean());
+        assertNull(ticketRegistry.getTicket(expiringTicket.getId()));
+        assertNotNull(ticketRegistry.getTicket(otherTicket.getId()));
+        assertEquals(1, ticketRegistry.expirationIndex.size());
+
+        ticketRegistry.deleteTicket(otherTicket);
+        assertEquals(0, ticketRegistry.expirationIndex.size());
+    }
+
     @Test
     void verifyLogoutFail() throws Throwable {
         val logoutManager = mock(LogoutManager.class);
@@ -51,6 +83,39 @@ class DefaultTicketRegistryCleanerTests {
         assertEquals(1, cleaner.cleanTicket(tgt));
     }
 
+    @Test
+    void verifyLogoutIsEnqueued() throws Throwable {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = newTicketRegistry();
+        val tgt = new MockTicketGrantingTicket("casuser");
+        ticketRegistry.addTicket(tgt);
+        val logoutTasks = new ArrayList<Runnable>();
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), logoutManager, ticketRegistry, logoutTasks::add);
+        assertEquals(1, cleaner.cleanTicket(tgt));
+        assertNull(ticketRegistry.getTicket(tgt.getId()));
+        verifyNoInteractions(logoutManager);
+        assertEquals(1, logoutTasks.size());
+        logoutTasks.getFirst().run();
+        verify(logoutManager).performLogout(argThat(request -> request.getTicketGrantingTicket() == tgt));
+    }
+
+    @Test
+    void verifyExpiredTicketsAreDeletedInBatch() throws Throwable {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = mock(TicketRegistry.class);
+        val serviceTicket = mock(ServiceTicket.class);
+        when(serviceTicket.getId()).thenReturn("ST-1");
+        when(serviceTicket.isExpired()).thenReturn(Boolean.TRUE);
+        doReturn(Stream.of(serviceTicket)).when(ticketRegistry).stream();
+        when(ticketRegistry.deleteTickets(any(Stream.class))).thenReturn(1);
+        val cleaner = new DefaultTicketRegistryCleaner(LockRepository.noOp(), logoutManager, ticketRegistry);
+        assertEquals(1, cleaner.clean());
+        verify(ticketRegistry).deleteTickets(any(Stream.class));
+        verify(ticketRegistry, never()).deleteTickets(anyCollection());
+        verify(ticketRegistry, never()).deleteTicket(any(Ticket.class));
+        verifyNoInteractions(logoutManager);
+    }
+
     @Test
     void verifyCleanFail() throws Throwable {
         val logoutManager = mock(LogoutManager.class);
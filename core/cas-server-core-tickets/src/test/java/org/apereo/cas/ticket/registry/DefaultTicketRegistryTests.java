@@ -6,13 +6,18 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
+import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
 import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -72,6 +77,44 @@ class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
         assertEquals(5, count);
     }
 
+    @RepeatedTest(1)
+    void verifyIndexedQueries() throws Throwable {
+        val registry = getNewTicketRegistry();
+        val user = UUID.randomUUID().toString();
+        val service = RegisteredServiceTestUtils.getService(UUID.randomUUID().toString());
+        val tgt = new MockTicketGrantingTicket(user);
+        val st = tgt.grantServiceTicket(service, TicketTrackingPolicy.noOp());
+        registry.addTicket(tgt);
+        registry.addTicket(st);
+        registry.addTicket(new MockTicketGrantingTicket(UUID.randomUUID().toString()));
+
+        assertEquals(1, registry.countSessionsFor(user.toUpperCase(Locale.ENGLISH)));
+        assertEquals(1, registry.getSessionsFor(user).count());
+        assertEquals(1, registry.countTicketsFor(service));
+        assertEquals(2, registry.query(TicketRegistryQueryCriteria.builder()
+            .type(TicketGrantingTicket.PREFIX).build()).size());
+        assertEquals(1, registry.query(TicketRegistryQueryCriteria.builder()
+            .type(TicketGrantingTicket.PREFIX).principal(user).decode(true).build()).size());
+
+        registry.deleteTicket(st.getId());
+        assertEquals(0, registry.countTicketsFor(service));
+        registry.deleteTicket(tgt.getId());
+        assertEquals(0, registry.countSessionsFor(user));
+        assertEquals(1, registry.query(TicketRegistryQueryCriteria.builder()
+            .type(TicketGrantingTicket.PREFIX).build()).size());
+    }
+
+    @RepeatedTest(1)
+    void verifyIndexIsRebuilt() throws Throwable {
+        val storage = new ConcurrentHashMap<String, Ticket>();
+        val registry = new DefaultTicketRegistry(CipherExecutor.noOp(), mock(TicketSerializationManager.class),
+            new DefaultTicketCatalog(), storage, QueueableTicketRegistryMessagePublisher.noOp(), new PublisherIdentifier());
+        val user = UUID.randomUUID().toString();
+        val tgt = new MockTicketGrantingTicket(user);
+        storage.put(tgt.getId(), tgt);
+        assertEquals(1, registry.countSessionsFor(user));
+        assertEquals(1, registry.getSessionsFor(user).count());
+    }
 
     @RepeatedTest(1)
     void verifyEncodeFails() throws Throwable {
@@ -0,0 +1,134 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.config.CasCoreAuthenticationAutoConfiguration;
+import org.apereo.cas.config.CasCoreAutoConfiguration;
+import org.apereo.cas.config.CasCoreLogoutAutoConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsAutoConfiguration;
+import org.apereo.cas.config.CasCoreServicesAutoConfiguration;
+import org.apereo.cas.config.CasCoreTicketsAutoConfiguration;
+import org.apereo.cas.config.CasCoreUtilAutoConfiguration;
+import org.apereo.cas.config.CasCoreWebAutoConfiguration;
+import org.apereo.cas.config.CasPersonDirectoryAutoConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CompactTicketSerializationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    WebMvcAutoConfiguration.class,
+    CasCoreLogoutAutoConfiguration.class,
+    CasCoreTicketsAutoConfiguration.class,
+    CasCoreNotificationsAutoConfiguration.class,
+    CasCoreUtilAutoConfiguration.class,
+    CasCoreAuthenticationAutoConfiguration.class,
+    CasPersonDirectoryAutoConfiguration.class,
+    CasCoreAutoConfiguration.class,
+    CasCoreWebAutoConfiguration.class,
+    CasCoreServicesAutoConfiguration.class
+}, properties = "cas.ticket.registry.core.compact-serialization=true")
+@Tag("Tickets")
+@Slf4j
+class CompactTicketSerializationManagerTests {
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory defaultTicketFactory;
+
+    private TicketGrantingTicket createTicketGrantingTicket() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) defaultTicketFactory.get(TicketGrantingTicket.class);
+        return factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+    }
+
+    @Test
+    void verifyOperation() throws Throwable {
+        assertInstanceOf(CompactTicketSerializationManager.class, ticketSerializationManager);
+        val compactManager = (CompactTicketSerializationManager) ticketSerializationManager;
+        val ticket = createTicketGrantingTicket();
+
+        val result = compactManager.serializeTicket(ticket);
+        assertTrue(compactManager.isCompact(result));
+        val json = compactManager.getDelegate().serializeTicket(ticket);
+        assertTrue(result.length() < json.length());
+        LOGGER.info("Serialized ticket [{}] as [{}] characters, compared to [{}] characters as JSON",
+            ticket.getId(), result.length(), json.length());
+
+        assertEquals(ticket, compactManager.deserializeTicket(result, TicketGrantingTicket.class));
+        assertEquals(ticket, compactManager.deserializeTicket(result, ticket.getClass().getName()));
+        assertEquals(ticket, compactManager.deserializeTicket(result, (String) null));
+    }
+
+    @Test
+    void verifyLegacyContent() throws Throwable {
+        val compactManager = (CompactTicketSerializationManager) ticketSerializationManager;
+        val ticket = createTicketGrantingTicket();
+        val json = compactManager.getDelegate().serializeTicket(ticket);
+        assertFalse(compactManager.isCompact(json));
+        assertEquals(ticket, compactManager.deserializeTicket(json, TicketGrantingTicket.class));
+        assertEquals(ticket, compactManager.deserializeTicket(json, ticket.getClass().getName()));
+    }
+
+    @Test
+    void verifyUncompressedContent() throws Throwable {
+        val compactManager = (CompactTicketSerializationManager) ticketSerializationManager;
+        val uncompressedManager = new CompactTicketSerializationManager(compactManager.getDelegate(), false);
+        val ticket = createTicketGrantingTicket();
+        val result = uncompressedManager.serializeTicket(ticket);
+        assertTrue(compactManager.isCompact(result));
+        assertEquals(ticket, compactManager.deserializeTicket(result, TicketGrantingTicket.class));
+    }
+
+    @Test
+    void verifyContentReadByAnotherManager() throws Throwable {
+        val compactManager = (CompactTicketSerializationManager) ticketSerializationManager;
+        val ticket = createTicketGrantingTicket();
+        val result = compactManager.serializeTicket(ticket);
+        val otherManager = new CompactTicketSerializationManager(compactManager.getDelegate(), true);
+        assertEquals(ticket, otherManager.deserializeTicket(result, (String) null));
+        assertEquals(ticket, otherManager.deserializeTicket(result, StringUtils.EMPTY));
+    }
+
+    @Test
+    void verifyThroughput() throws Throwable {
+        val compactManager = (CompactTicketSerializationManager) ticketSerializationManager;
+        val ticket = createTicketGrantingTicket();
+        for (val manager : new TicketSerializationManager[]{compactManager.getDelegate(), compactManager}) {
+            val watch = StopWatch.createStarted();
+            var size = 0L;
+            for (var i = 0; i < 1000; i++) {
+                val content = manager.serializeTicket(ticket);
+                size += content.length();
+                assertNotNull(manager.deserializeTicket(content, TicketGrantingTicket.class));
+            }
+            watch.stop();
+            LOGGER.info("[{}] completed 1000 round trips in [{}]ms with [{}] characters in total",
+                manager.getClass().getSimpleName(), watch.getTime(TimeUnit.MILLISECONDS), size);
+        }
+    }
+}
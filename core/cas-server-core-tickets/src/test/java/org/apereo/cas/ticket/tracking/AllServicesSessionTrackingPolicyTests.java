@@ -0,0 +1,87 @@
+package org.apereo.cas.ticket.tracking;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.time.StopWatch;
+import org.jooq.lambda.Unchecked;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link AllServicesSessionTrackingPolicyTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+@Slf4j
+class AllServicesSessionTrackingPolicyTests {
+    private static final int SERVICE_TICKETS_PER_SESSION = 500;
+
+    private final TicketTrackingPolicy trackingPolicy = new AllServicesSessionTrackingPolicy(mock(TicketRegistry.class));
+
+    private final DefaultUniqueTicketIdGenerator idGenerator = new DefaultUniqueTicketIdGenerator();
+
+    private static TicketGrantingTicket newTicketGrantingTicket() {
+        return new TicketGrantingTicketImpl(UUID.randomUUID().toString(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+    }
+
+    private long issueServiceTickets(final List<TicketGrantingTicket> ticketGrantingTickets, final int threads) throws Exception {
+        val service = RegisteredServiceTestUtils.getService();
+        val watch = StopWatch.createStarted();
+        try (val executor = Executors.newFixedThreadPool(threads)) {
+            for (val tgt : ticketGrantingTickets) {
+                for (var i = 0; i < SERVICE_TICKETS_PER_SESSION; i++) {
+                    executor.submit(Unchecked.runnable(() -> tgt.grantServiceTicket(idGenerator.getNewTicketId(ServiceTicket.PREFIX),
+                        service, NeverExpiresExpirationPolicy.INSTANCE, false, trackingPolicy)));
+                }
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+        watch.stop();
+        return watch.getTime(TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void verifyConcurrentTrackingForSameSession() throws Throwable {
+        val tgt = newTicketGrantingTicket();
+        issueServiceTickets(List.of(tgt), 8);
+        assertEquals(SERVICE_TICKETS_PER_SESSION, tgt.getServices().size());
+        assertEquals(SERVICE_TICKETS_PER_SESSION, tgt.getCountOfUses());
+    }
+
+    @Test
+    void verifyTrackingScalesAcrossSessions() throws Throwable {
+        val processors = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (val threads : new int[]{1, processors}) {
+            val ticketGrantingTickets = new ArrayList<TicketGrantingTicket>();
+            for (var i = 0; i < 64; i++) {
+                ticketGrantingTickets.add(newTicketGrantingTicket());
+            }
+            val elapsed = issueServiceTickets(ticketGrantingTickets, threads);
+            val issued = ticketGrantingTickets.size() * SERVICE_TICKETS_PER_SESSION;
+            LOGGER.info("Issued and tracked [{}] service tickets with [{}] thread(s) in [{}]ms", issued, threads, elapsed);
+            ticketGrantingTickets.forEach(tgt -> assertEquals(SERVICE_TICKETS_PER_SESSION, tgt.getServices().size()));
+        }
+    }
+}
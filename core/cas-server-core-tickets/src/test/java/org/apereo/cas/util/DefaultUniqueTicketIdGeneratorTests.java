@@ -1,5 +1,6 @@
 package org.apereo.cas.util;
 
+import org.apereo.cas.util.gen.Base64RandomStringGenerator;
 import org.apereo.cas.util.gen.DefaultLongNumericGenerator;
 import org.apereo.cas.util.gen.HexRandomStringGenerator;
 
@@ -7,6 +8,10 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -46,4 +51,33 @@ class DefaultUniqueTicketIdGeneratorTests {
 
         assertEquals(lengthWithoutSuffix, ticketId.length());
     }
+
+    @Test
+    void verifyTicketIdFormat() throws Throwable {
+        val generator = new DefaultUniqueTicketIdGenerator(32, "cas-01");
+        val ticketId = generator.getNewTicketId("TGT");
+        assertTrue(ticketId.matches("^TGT-1-[A-Za-z0-9-]{43}-cas-01$"), ticketId);
+        assertTrue(generator.getNewTicketId("TGT").startsWith("TGT-2-"));
+
+        val random = new byte[]{(byte) 0xfb, (byte) 0xff, (byte) 0xbf, 0x01, 0x02};
+        val legacyGenerator = new DefaultUniqueTicketIdGenerator(new DefaultLongNumericGenerator(5),
+            new Base64RandomStringGenerator(random.length) {
+                @Override
+                public byte[] getNewStringAsBytes(final int size) {
+                    return random;
+                }
+            }, null);
+        assertEquals("ST-5-----AQI", legacyGenerator.getNewTicketId("ST"));
+    }
+
+    @Test
+    void verifyConcurrentGeneration() throws Throwable {
+        val generator = new DefaultUniqueTicketIdGenerator(32);
+        val ticketIds = ConcurrentHashMap.<String>newKeySet();
+        try (val executor = Executors.newFixedThreadPool(32)) {
+            IntStream.range(0, 32).forEach(i -> executor.execute(() ->
+                IntStream.range(0, 500).forEach(j -> ticketIds.add(generator.getNewTicketId("ST")))));
+        }
+        assertEquals(32 * 500, ticketIds.size());
+    }
 }
@@ -7,6 +7,7 @@ import org.apereo.cas.util.crypto.IdentifiableKey;
 import org.apereo.cas.util.crypto.PrivateKeyFactoryBean;
 import org.apereo.cas.util.crypto.PublicKeyFactoryBean;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.jwt.HmacJsonWebSignatureSigner;
 import org.apereo.cas.util.jwt.JsonWebTokenSigner;
 
 import lombok.AccessLevel;
@@ -62,6 +63,10 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
 
     private String signingAlgorithm;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile HmacJsonWebSignatureSigner hmacSigner;
+
     /**
      * Extract private key from resource private key.
      *
@@ -135,9 +140,13 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
      * @return the byte [ ]
      */
     protected byte[] signWith(final byte[] value, final String algHeaderValue, final Key key) {
-        val headers = new LinkedHashMap<>(commonHeaders);
-        headers.putAll(getSigningOpHeaders());
-
+        val headers = getSigningHeaders();
+        if (isHmacSignatureOptimized()) {
+            val signer = getHmacSigner(key, algHeaderValue, headers);
+            if (signer.isPresent()) {
+                return signer.get().sign(value);
+            }
+        }
         return JsonWebTokenSigner.builder()
             .key(key)
             .headers(headers)
@@ -176,6 +185,12 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
         if (givenKey == null) {
             return value;
         }
+        if (isHmacSignatureOptimized()) {
+            val signer = getHmacSigner(givenKey, getSigningAlgorithmFor(givenKey), getSigningHeaders());
+            if (signer.isPresent() && signer.get().supports(value)) {
+                return signer.get().verify(value);
+            }
+        }
         try {
             val activeSigningKey = givenKey instanceof final IdentifiableKey idk ? idk.getKey() : givenKey;
             if (activeSigningKey instanceof final RSAPrivateKey privKey) {
@@ -189,6 +204,37 @@ public abstract class AbstractCipherExecutor<T, R> implements CipherExecutor<T,
         }
     }
 
+    /**
+     * Whether values signed with HMAC algorithms should be signed and verified
+     * by {@link HmacJsonWebSignatureSigner} instead of the generic JWS implementation.
+     * Such values carry no key id in their protected header.
+     *
+     * @return true/false
+     */
+    protected boolean isHmacSignatureOptimized() {
+        return false;
+    }
+
+    private Optional<HmacJsonWebSignatureSigner> getHmacSigner(final Key key, final String algorithm,
+                                                               final Map<String, Object> headers) {
+        val signer = hmacSigner;
+        if (signer != null && signer.supports(key, algorithm, headers)) {
+            return Optional.of(signer);
+        }
+        val created = HmacJsonWebSignatureSigner.of(key, algorithm, headers);
+        created.ifPresent(result -> {
+            LOGGER.trace("Values signed with [{}] will be signed and verified directly", algorithm);
+            hmacSigner = result;
+        });
+        return created;
+    }
+
+    private Map<String, Object> getSigningHeaders() {
+        val headers = new LinkedHashMap<>(commonHeaders);
+        headers.putAll(getSigningOpHeaders());
+        return headers;
+    }
+
     /**
      * Gets signing algorithm for.
      *
@@ -2,9 +2,11 @@ package org.apereo.cas.util.cipher;
 
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.crypto.DecryptionException;
+import org.apereo.cas.util.crypto.JceInstancePool;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.gen.Base64RandomStringGenerator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
@@ -22,6 +24,7 @@ import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import java.nio.charset.StandardCharsets;
+import java.security.Provider;
 import java.security.spec.AlgorithmParameterSpec;
 
 /**
@@ -30,6 +33,11 @@ import java.security.spec.AlgorithmParameterSpec;
  * A implementation that is based on algorithms
  * provided by the default platform's JCE. By default AES encryption is
  * used.
+ * <p>
+ * Ciphers initialized for decryption are pooled and reused, and the security provider
+ * that handles the cipher is resolved once. Ciphers used for encryption are always
+ * initialized again, since GCM does not allow a key and IV pair to be reused for encryption.
+ * Values are signed with HMAC algorithms directly when the signing key allows it.
  *
  * @author Misagh Moayyed
  * @since 4.2
@@ -63,6 +71,14 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
 
     private boolean signingEnabled = true;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final JceInstancePool<Cipher> decryptionCiphers = new JceInstancePool<>(() -> newCipher(Cipher.DECRYPT_MODE));
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Provider cipherProvider;
+
     protected BaseBinaryCipherExecutor(final String encryptionSecretKey, final String signingSecretKey,
                                        final int signingKeySize, final int encryptionKeySize,
                                        final String cipherName) {
@@ -82,8 +98,7 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
     @Override
     public byte[] encode(final byte[] value, final Object[] parameters) {
         return FunctionUtils.doUnchecked(() -> {
-            val aesCipher = Cipher.getInstance(CIPHER_ALGORITHM);
-            aesCipher.init(Cipher.ENCRYPT_MODE, this.encryptionKey, this.parameterSpec);
+            val aesCipher = newCipher(Cipher.ENCRYPT_MODE);
             val result = aesCipher.doFinal(value);
             return signingEnabled ? sign(result, getSigningKey()) : result;
         });
@@ -93,14 +108,17 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
     public byte[] decode(final byte[] value, final Object[] parameters) {
         try {
             val verifiedValue = signingEnabled ? verifySignature(value, getSigningKey()) : value;
-            val aesCipher = Cipher.getInstance(CIPHER_ALGORITHM);
-            aesCipher.init(Cipher.DECRYPT_MODE, this.encryptionKey, this.parameterSpec);
-            return aesCipher.doFinal(verifiedValue);
-        } catch (final Exception e) {
+            return decryptionCiphers.execute(aesCipher -> aesCipher.doFinal(verifiedValue));
+        } catch (final Throwable e) {
             throw LOGGER.isTraceEnabled() ? new DecryptionException(e) : new DecryptionException();
         }
     }
 
+    @Override
+    protected boolean isHmacSignatureOptimized() {
+        return true;
+    }
+
     /**
      * Gets encryption key setting.
      *
@@ -115,6 +133,19 @@ public abstract class BaseBinaryCipherExecutor extends AbstractCipherExecutor<by
      */
     protected abstract String getSigningKeySetting();
 
+    private Cipher newCipher(final int mode) throws Exception {
+        val provider = this.cipherProvider;
+        val cipher = provider == null
+            ? Cipher.getInstance(CIPHER_ALGORITHM)
+            : Cipher.getInstance(CIPHER_ALGORITHM, provider);
+        cipher.init(mode, this.encryptionKey, this.parameterSpec);
+        if (provider == null) {
+            LOGGER.trace("Resolved security provider [{}] for cipher [{}]", cipher.getProvider().getName(), CIPHER_ALGORITHM);
+            this.cipherProvider = cipher.getProvider();
+        }
+        return cipher;
+    }
+
     private AlgorithmParameterSpec buildParameterSpec(final int encryptionKeySize) {
         val iv = new byte[encryptionSecretKey.length];
         if (encryptionKeySize > MINIMUM_ENCRYPTION_KEY_LENGTH) {
@@ -34,6 +34,11 @@ public class TicketGrantingCookieCipherExecutor extends BaseStringCipherExecutor
         return "Ticket-granting Cookie";
     }
 
+    @Override
+    protected boolean isHmacSignatureOptimized() {
+        return true;
+    }
+
     @Override
     public String getEncryptionKeySetting() {
         return "cas.tgc.crypto.encryption.key";
@@ -0,0 +1,77 @@
+package org.apereo.cas.util.concurrent;
+
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedConsumer;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+
+/**
+ * This is {@link CasStripedLock}.
+ * <p>
+ * Maintains a fixed set of {@link CasReentrantLock} stripes and selects one based on a key,
+ * so that operations on the same key are serialized while operations on unrelated keys
+ * may proceed concurrently without competing for a single global lock.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class CasStripedLock {
+    private static final int DEFAULT_STRIPES_PER_PROCESSOR = 4;
+
+    private final CasReentrantLock[] stripes;
+
+    public CasStripedLock() {
+        this(Runtime.getRuntime().availableProcessors() * DEFAULT_STRIPES_PER_PROCESSOR);
+    }
+
+    public CasStripedLock(final int stripeCount) {
+        val count = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new CasReentrantLock[count];
+        for (var i = 0; i < count; i++) {
+            stripes[i] = new CasReentrantLock();
+        }
+    }
+
+    /**
+     * Gets the lock stripe assigned to the given key.
+     *
+     * @param key the key
+     * @return the lock
+     */
+    public CasReentrantLock get(final Object key) {
+        val hash = key == null ? 0 : key.hashCode();
+        val spread = hash ^ (hash >>> 16);
+        return stripes[spread & (stripes.length - 1)];
+    }
+
+    /**
+     * Acquire the lock stripe for the given key and execute the supplier.
+     *
+     * @param <T>      the type parameter
+     * @param key      the key
+     * @param supplier the supplier
+     * @return the result of the supplier
+     */
+    public <T> T tryLock(final Object key, final CheckedSupplier<T> supplier) {
+        return get(key).tryLock(supplier);
+    }
+
+    /**
+     * Acquire the lock stripe for the given key and execute the consumer.
+     *
+     * @param <T>      the type parameter
+     * @param key      the key
+     * @param consumer the consumer
+     */
+    public <T> void tryLock(final Object key, final CheckedConsumer<T> consumer) {
+        get(key).tryLock(consumer);
+    }
+
+    /**
+     * Number of lock stripes.
+     *
+     * @return the count
+     */
+    public int size() {
+        return stripes.length;
+    }
+}
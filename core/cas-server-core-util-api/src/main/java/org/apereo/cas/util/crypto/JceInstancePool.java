@@ -0,0 +1,64 @@
+package org.apereo.cas.util.crypto;
+
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedFunction;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * This is {@link JceInstancePool}.
+ * <p>
+ * Keeps a bounded number of initialized JCE engines such as {@link javax.crypto.Cipher}
+ * or {@link javax.crypto.Mac} around so that they can be reused across operations instead of being
+ * looked up from the security providers and initialized with the key every time. An engine is
+ * borrowed for the duration of a single operation, and a new one is created when none is available.
+ * Engines that fail an operation are discarded, since their state can no longer be trusted.
+ * Only engines that return to their initialized state once an operation completes may be pooled.
+ *
+ * @param <T> the engine type
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class JceInstancePool<T> {
+    private final BlockingQueue<T> instances;
+
+    private final CheckedSupplier<T> factory;
+
+    public JceInstancePool(final int capacity, final CheckedSupplier<T> factory) {
+        this.instances = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+    }
+
+    public JceInstancePool(final CheckedSupplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors() * 2, factory);
+    }
+
+    /**
+     * Execute the operation with a pooled engine.
+     *
+     * @param <R>       the result type
+     * @param operation the operation
+     * @return the result
+     * @throws Throwable the throwable
+     */
+    public <R> R execute(final CheckedFunction<T, R> operation) throws Throwable {
+        var instance = instances.poll();
+        if (instance == null) {
+            instance = factory.get();
+        }
+        val result = operation.apply(instance);
+        instances.offer(instance);
+        return result;
+    }
+
+    /**
+     * Number of engines that are currently available for reuse.
+     *
+     * @return the count
+     */
+    public int size() {
+        return instances.size();
+    }
+}
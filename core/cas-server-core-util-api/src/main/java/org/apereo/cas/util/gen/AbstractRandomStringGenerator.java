@@ -2,9 +2,7 @@ package org.apereo.cas.util.gen;
 
 import org.apereo.cas.util.RandomUtils;
 
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 import java.nio.charset.StandardCharsets;
@@ -20,12 +18,11 @@ import java.security.SecureRandom;
  * @since 5.2.0
  */
 @Getter
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractRandomStringGenerator implements RandomStringGenerator {
     /**
      * An instance of secure random to ensure randomness is secure.
      */
-    protected final SecureRandom randomizer = RandomUtils.getNativeInstance();
+    protected final SecureRandom randomizer;
 
     /**
      * Default string length before encoding.
@@ -40,6 +37,15 @@ public abstract class AbstractRandomStringGenerator implements RandomStringGener
         this(DEFAULT_LENGTH);
     }
 
+    protected AbstractRandomStringGenerator(final long defaultLength) {
+        this(defaultLength, RandomUtils.getNativeInstance());
+    }
+
+    protected AbstractRandomStringGenerator(final long defaultLength, final SecureRandom randomizer) {
+        this.defaultLength = defaultLength;
+        this.randomizer = randomizer;
+    }
+
     @Override
     public String getAlgorithm() {
         return randomizer.getAlgorithm();
@@ -4,6 +4,8 @@ import org.apereo.cas.util.EncodingUtils;
 
 import lombok.NoArgsConstructor;
 
+import java.security.SecureRandom;
+
 /**
  * This is {@link Base64RandomStringGenerator}.
  * <p>
@@ -20,6 +22,10 @@ public class Base64RandomStringGenerator extends AbstractRandomStringGenerator {
         super(defaultLength);
     }
 
+    public Base64RandomStringGenerator(final long defaultLength, final SecureRandom randomizer) {
+        super(defaultLength, randomizer);
+    }
+
     /**
      * Converts byte[] to String by Base64 encoding.
      *
@@ -0,0 +1,162 @@
+package org.apereo.cas.util.gen;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.SecureRandomSpi;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link StripedDrbgSecureRandom}.
+ * <p>
+ * A {@link SecureRandom} that spreads requests over a number of independently seeded
+ * {@code DRBG} instances, selected based on the calling thread. Native implementations
+ * of {@link SecureRandom} serialize all callers on a single lock, which becomes a point
+ * of contention when random values are produced on every request, such as when
+ * ticket ids are generated. Each instance is periodically reseeded from the
+ * entropy source of the system.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class StripedDrbgSecureRandom extends SecureRandom {
+    /**
+     * The algorithm name of the underlying instances.
+     */
+    public static final String ALGORITHM = "DRBG";
+
+    /**
+     * Default interval at which instances are reseeded.
+     */
+    public static final Duration DEFAULT_RESEED_INTERVAL = Duration.ofMinutes(5);
+
+    @Serial
+    private static final long serialVersionUID = -3319645230476052519L;
+
+    private static final int SECURITY_STRENGTH = 256;
+
+    private final transient Stripe[] stripes;
+
+    private final transient int mask;
+
+    private final transient long reseedIntervalNanos;
+
+    public StripedDrbgSecureRandom() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_RESEED_INTERVAL);
+    }
+
+    public StripedDrbgSecureRandom(final int concurrency, final Duration reseedInterval) {
+        this(new Stripe[Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1], reseedInterval);
+    }
+
+    private StripedDrbgSecureRandom(final Stripe[] stripes, final Duration reseedInterval) {
+        super(new StripedSecureRandomSpi(stripes), null);
+        this.stripes = stripes;
+        this.mask = stripes.length - 1;
+        this.reseedIntervalNanos = reseedInterval.toNanos();
+        for (var i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(newInstance(i), System.nanoTime());
+        }
+        LOGGER.debug("Created [{}] DRBG instance(s) reseeded every [{}]", stripes.length, reseedInterval);
+    }
+
+    /**
+     * Gets the shared instance.
+     *
+     * @return the instance
+     */
+    public static StripedDrbgSecureRandom getInstance() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        val stripe = stripes[(int) Thread.currentThread().threadId() & mask];
+        reseedIfNecessary(stripe);
+        stripe.random().nextBytes(bytes);
+    }
+
+    @Override
+    public byte[] generateSeed(final int numBytes) {
+        return stripes[(int) Thread.currentThread().threadId() & mask].random().generateSeed(numBytes);
+    }
+
+    @Override
+    public String toString() {
+        return ALGORITHM + '[' + stripes.length + ']';
+    }
+
+    private void reseedIfNecessary(final Stripe stripe) {
+        val lastReseed = stripe.lastReseed().get();
+        val now = System.nanoTime();
+        if (now - lastReseed >= reseedIntervalNanos && stripe.lastReseed().compareAndSet(lastReseed, now)) {
+            stripe.random().reseed();
+        }
+    }
+
+    private static SecureRandom newInstance(final int index) {
+        try {
+            val personalization = ByteBuffer.allocate(Long.BYTES * 2)
+                .putLong(index).putLong(System.nanoTime()).array();
+            return SecureRandom.getInstance(ALGORITHM, DrbgParameters.instantiation(SECURITY_STRENGTH,
+                DrbgParameters.Capability.RESEED_ONLY, personalization));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Stripe(SecureRandom random, AtomicLong lastReseed) {
+        Stripe(final SecureRandom random, final long lastReseed) {
+            this(random, new AtomicLong(lastReseed));
+        }
+    }
+
+    private static final class SharedInstanceHolder {
+        private static final StripedDrbgSecureRandom INSTANCE = new StripedDrbgSecureRandom();
+    }
+
+    /**
+     * Backs the operations of {@link SecureRandom} that are not overridden directly.
+     */
+    private static final class StripedSecureRandomSpi extends SecureRandomSpi {
+        @Serial
+        private static final long serialVersionUID = 4461958719416823563L;
+
+        private final transient Stripe[] stripes;
+
+        StripedSecureRandomSpi(final Stripe[] stripes) {
+            this.stripes = stripes;
+        }
+
+        @Override
+        protected void engineSetSeed(final byte[] seed) {
+            stripe().random().setSeed(seed);
+        }
+
+        @Override
+        protected void engineNextBytes(final byte[] bytes) {
+            stripe().random().nextBytes(bytes);
+        }
+
+        @Override
+        protected byte[] engineGenerateSeed(final int numBytes) {
+            return stripe().random().generateSeed(numBytes);
+        }
+
+        private Stripe stripe() {
+            return stripes[(int) Thread.currentThread().threadId() & (stripes.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.apereo.cas.util.jwt;
+
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.crypto.IdentifiableKey;
+import org.apereo.cas.util.crypto.JceInstancePool;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jose4j.json.JsonUtil;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.jwx.HeaderParameterNames;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link HmacJsonWebSignatureSigner}.
+ * <p>
+ * Signs and verifies byte arrays as compact JSON web signatures using HMAC algorithms
+ * without going through the generic JWS machinery. The protected header is fixed for the signer
+ * and is encoded once, and {@link Mac} instances initialized with the key are pooled and reused.
+ * Values that are produced here are standard compact serializations that any JWS implementation
+ * is able to verify. Values whose protected header does not match the header of this signer
+ * are not supported and should be verified by {@link EncodingUtils#verifyJwsSignature(Key, byte[])}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class HmacJsonWebSignatureSigner {
+    private static final Map<String, String> MAC_ALGORITHMS = Map.of(
+        AlgorithmIdentifiers.HMAC_SHA256, "HmacSHA256",
+        AlgorithmIdentifiers.HMAC_SHA384, "HmacSHA384",
+        AlgorithmIdentifiers.HMAC_SHA512, "HmacSHA512");
+
+    private static final byte SEPARATOR = '.';
+
+    private final Key key;
+
+    private final String algorithm;
+
+    private final Map<String, Object> headers;
+
+    private final byte[] encodedHeader;
+
+    private final JceInstancePool<Mac> macs;
+
+    protected HmacJsonWebSignatureSigner(final Key key, final String algorithm, final String macAlgorithm,
+                                         final Map<String, Object> headers) {
+        this.key = key;
+        this.algorithm = algorithm;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+
+        val protectedHeaders = new LinkedHashMap<String, Object>();
+        protectedHeaders.put(HeaderParameterNames.ALGORITHM, algorithm);
+        protectedHeaders.put(HeaderParameterNames.TYPE, "JWT");
+        headers.forEach((name, value) -> protectedHeaders.put(name, value.toString()));
+        val header = EncodingUtils.encodeUrlSafeBase64(JsonUtil.toJson(protectedHeaders)) + (char) SEPARATOR;
+        this.encodedHeader = header.getBytes(StandardCharsets.US_ASCII);
+
+        val secretKey = new SecretKeySpec(key.getEncoded(), macAlgorithm);
+        this.macs = new JceInstancePool<>(() -> {
+            val mac = Mac.getInstance(macAlgorithm);
+            mac.init(secretKey);
+            return mac;
+        });
+    }
+
+    /**
+     * Create a signer for the key and algorithm, if both are supported.
+     * Keys must expose their raw bytes and be at least as long as the hash
+     * output of the algorithm, as required for JWS.
+     *
+     * @param key       the key
+     * @param algorithm the algorithm
+     * @param headers   additional protected headers
+     * @return the signer, or empty
+     */
+    public static Optional<HmacJsonWebSignatureSigner> of(final Key key, final String algorithm,
+                                                          final Map<String, Object> headers) {
+        val macAlgorithm = MAC_ALGORITHMS.get(algorithm);
+        if (macAlgorithm == null || key == null || key instanceof IdentifiableKey || !"RAW".equalsIgnoreCase(key.getFormat())) {
+            return Optional.empty();
+        }
+        val encoded = key.getEncoded();
+        val minimumLength = Integer.parseInt(algorithm.substring(2)) / Byte.SIZE;
+        if (encoded == null || encoded.length < minimumLength) {
+            LOGGER.trace("Signing key is too short for [{}] and cannot be used to sign values directly", algorithm);
+            return Optional.empty();
+        }
+        return Optional.of(new HmacJsonWebSignatureSigner(key, algorithm, macAlgorithm, headers));
+    }
+
+    /**
+     * Whether this signer can sign values with the given settings.
+     *
+     * @param key       the key
+     * @param algorithm the algorithm
+     * @param headers   the headers
+     * @return true/false
+     */
+    public boolean supports(final Key key, final String algorithm, final Map<String, Object> headers) {
+        return this.key.equals(key) && this.algorithm.equals(algorithm) && this.headers.equals(headers);
+    }
+
+    /**
+     * Whether the signed value carries the protected header of this signer
+     * and can be verified here.
+     *
+     * @param value the value
+     * @return true/false
+     */
+    public boolean supports(final byte[] value) {
+        return value != null && value.length > encodedHeader.length
+            && Arrays.equals(value, 0, encodedHeader.length, encodedHeader, 0, encodedHeader.length);
+    }
+
+    /**
+     * Sign the value and produce a compact serialization
+     * whose payload is the base64url-encoded value.
+     *
+     * @param value the value
+     * @return the signed value
+     */
+    public byte[] sign(final byte[] value) {
+        val payload = EncodingUtils.encodeUrlSafeBase64(value).getBytes(StandardCharsets.US_ASCII);
+        val signingInput = new byte[encodedHeader.length + payload.length];
+        System.arraycopy(encodedHeader, 0, signingInput, 0, encodedHeader.length);
+        System.arraycopy(payload, 0, signingInput, encodedHeader.length, payload.length);
+
+        val signature = EncodingUtils.encodeUrlSafeBase64(digest(signingInput, signingInput.length))
+            .getBytes(StandardCharsets.US_ASCII);
+        val result = Arrays.copyOf(signingInput, signingInput.length + 1 + signature.length);
+        result[signingInput.length] = SEPARATOR;
+        System.arraycopy(signature, 0, result, signingInput.length + 1, signature.length);
+        return result;
+    }
+
+    /**
+     * Verify the signature of a supported value.
+     *
+     * @param value the value
+     * @return the decoded payload, or null if the signature cannot be verified
+     */
+    public byte[] verify(final byte[] value) {
+        var index = value.length - 1;
+        while (index >= encodedHeader.length && value[index] != SEPARATOR) {
+            index--;
+        }
+        if (index < encodedHeader.length) {
+            LOGGER.trace("Signed value does not contain a signature");
+            return null;
+        }
+        val signature = EncodingUtils.decodeUrlSafeBase64(new String(value, index + 1,
+            value.length - index - 1, StandardCharsets.US_ASCII));
+        if (!MessageDigest.isEqual(signature, digest(value, index))) {
+            LOGGER.trace("Signature of the signed value cannot be verified");
+            return null;
+        }
+        return EncodingUtils.decodeUrlSafeBase64(new String(value, encodedHeader.length,
+            index - encodedHeader.length, StandardCharsets.US_ASCII));
+    }
+
+    private byte[] digest(final byte[] input, final int length) {
+        return FunctionUtils.doUnchecked(() -> macs.execute(mac -> {
+            mac.update(input, 0, length);
+            return mac.doFinal();
+        }));
+    }
+}
@@ -4,7 +4,6 @@ import org.apereo.cas.configuration.model.core.cache.ExpiringSimpleCacheProperti
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.ResourceUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
@@ -14,14 +13,14 @@ import java.util.Set;
 
 /**
  * This is {@link GroovyScriptResourceCacheManager}.
+ * Inline scripts are cached as {@link GroovyShellScript} instances
+ * that hold on to their compiled script class.
  *
  * @author Misagh Moayyed
  * @since 6.3.0
  */
 @Slf4j
 public class GroovyScriptResourceCacheManager implements ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> {
-    private final CasReentrantLock lock = new CasReentrantLock();
-
     private final Cache<String, ExecutableCompiledGroovyScript> cache;
 
     public GroovyScriptResourceCacheManager(final ExpiringSimpleCacheProperties properties) {
@@ -30,7 +29,7 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
     @Override
     public ExecutableCompiledGroovyScript get(final String key) {
-        return lock.tryLock(() -> cache.getIfPresent(key));
+        return cache.getIfPresent(key);
     }
 
     @Override
@@ -42,34 +41,30 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> put(
         final String key, final ExecutableCompiledGroovyScript value) {
-        return lock.tryLock(() -> {
-            this.cache.put(key, value);
-            return this;
-        });
+        this.cache.put(key, value);
+        return this;
     }
 
     @Override
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> remove(final String key) {
-        return lock.tryLock(() -> {
-            this.cache.invalidate(key);
-            return this;
-        });
+        this.cache.invalidate(key);
+        return this;
     }
 
     @Override
     public Set<String> getKeys() {
-        return lock.tryLock(() -> cache.asMap().keySet());
+        return cache.asMap().keySet();
     }
 
     @Override
     public void close() {
-        lock.tryLock(__ -> cache.invalidateAll());
+        cache.invalidateAll();
     }
 
     @Override
     public boolean isEmpty() {
-        return lock.tryLock(() -> cache.asMap().isEmpty());
+        return cache.asMap().isEmpty();
     }
 
     @Override
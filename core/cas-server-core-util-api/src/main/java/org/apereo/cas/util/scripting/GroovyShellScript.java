@@ -1,8 +1,6 @@
 package org.apereo.cas.util.scripting;
 
 import org.apereo.cas.util.LoggingUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
-import groovy.lang.Binding;
 import groovy.lang.GroovyRuntimeException;
 import groovy.lang.Script;
 import lombok.Getter;
@@ -12,9 +10,12 @@ import lombok.val;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * This is {@link GroovyShellScript}.
+ * The inline script is compiled once into a script class, and every execution
+ * operates on its own script instance and binding, allowing concurrent executions.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -25,10 +26,11 @@ import java.util.Map;
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
     private static final ThreadLocal<Map<String, Object>> BINDING_THREAD_LOCAL = new ThreadLocal<>();
 
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private final ReentrantLock lock = new ReentrantLock();
+
     private final String script;
 
-    private Script groovyScript;
+    private volatile Class<? extends Script> groovyScriptClass;
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz) throws Throwable {
@@ -42,31 +44,20 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) throws Throwable {
-        if (lock.tryLock()) {
-            try {
-                LOGGER.trace("Beginning to execute script [{}]", this);
-                val binding = BINDING_THREAD_LOCAL.get();
-                if (groovyScript == null) {
-                    groovyScript = ScriptingUtils.parseGroovyShellScript(binding, script);
-                }
-                if (binding != null && !binding.isEmpty()) {
-                    LOGGER.trace("Setting binding [{}]", binding);
-                    groovyScript.setBinding(new Binding(binding));
-                }
-                LOGGER.trace("Current binding [{}]", groovyScript.getBinding());
-                val result = ScriptingUtils.executeGroovyShellScript(groovyScript, clazz);
-                LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
-                return result;
-            } catch (final GroovyRuntimeException e) {
-                LoggingUtils.error(LOGGER, e);
-            } finally {
-                BINDING_THREAD_LOCAL.remove();
-                if (groovyScript != null) {
-                    groovyScript.setBinding(new Binding(Map.of()));
-                }
-                LOGGER.trace("Completed script execution [{}]", this);
-                lock.unlock();
-            }
+        try {
+            LOGGER.trace("Beginning to execute script [{}]", this);
+            val binding = BINDING_THREAD_LOCAL.get();
+            val scriptClass = getOrCompileGroovyScriptClass();
+            val groovyScript = ScriptingUtils.newGroovyShellScript(scriptClass, binding);
+            LOGGER.trace("Current binding [{}]", groovyScript.getBinding());
+            val result = ScriptingUtils.executeGroovyShellScript(groovyScript, clazz);
+            LOGGER.debug("Groovy script [{}] returns result [{}]", this, result);
+            return result;
+        } catch (final GroovyRuntimeException e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            BINDING_THREAD_LOCAL.remove();
+            LOGGER.trace("Completed script execution [{}]", this);
         }
         return null;
     }
@@ -81,6 +72,23 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
         BINDING_THREAD_LOCAL.set(new HashMap<>(args));
     }
 
+    private Class<? extends Script> getOrCompileGroovyScriptClass() {
+        var scriptClass = groovyScriptClass;
+        if (scriptClass == null) {
+            lock.lock();
+            try {
+                scriptClass = groovyScriptClass;
+                if (scriptClass == null) {
+                    scriptClass = ScriptingUtils.parseGroovyShellScriptClass(script);
+                    groovyScriptClass = scriptClass;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return scriptClass;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
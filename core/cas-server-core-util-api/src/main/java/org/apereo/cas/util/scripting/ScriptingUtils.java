@@ -22,6 +22,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
 import org.codehaus.groovy.control.customizers.ImportCustomizer;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 import java.io.BufferedReader;
@@ -399,6 +400,31 @@ public class ScriptingUtils {
         return StringUtils.isNotBlank(script) ? parseGroovyShellScript(Map.of(), script) : null;
     }
 
+    /**
+     * Parse groovy shell script into a compiled script class
+     * that can be instantiated per execution.
+     *
+     * @param script the script
+     * @return the script class
+     */
+    public static Class<? extends Script> parseGroovyShellScriptClass(final String script) {
+        return parseGroovyShellScript(Map.of(), script).getClass();
+    }
+
+    /**
+     * Create a new groovy shell script instance from a compiled script class
+     * with its own binding.
+     *
+     * @param scriptClass    the script class
+     * @param inputVariables the input variables
+     * @return the script
+     */
+    public static Script newGroovyShellScript(final Class<? extends Script> scriptClass, final Map<String, Object> inputVariables) {
+        val variables = inputVariables != null ? new HashMap<String, Object>(inputVariables) : new HashMap<String, Object>();
+        variables.putIfAbsent("logger", LOGGER);
+        return InvokerHelper.createScript(scriptClass, new Binding(variables));
+    }
+
     /**
      * Parse groovy script groovy object.
      *
@@ -0,0 +1,50 @@
+package org.apereo.cas.util.concurrent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasStripedLockTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Utility")
+class CasStripedLockTests {
+    @Test
+    void verifyStripes() throws Throwable {
+        assertEquals(1, new CasStripedLock(0).size());
+        assertEquals(8, new CasStripedLock(5).size());
+        assertEquals(16, new CasStripedLock(16).size());
+        val lock = new CasStripedLock(16);
+        assertSame(lock.get("TGT-1"), lock.get("TGT-1"));
+        assertNotNull(lock.get(null));
+        assertEquals("result", lock.tryLock("TGT-1", () -> "result"));
+    }
+
+    @Test
+    void verifySameKeyIsSerialized() throws Throwable {
+        val lock = new CasStripedLock();
+        val counter = new AtomicInteger();
+        val active = new AtomicInteger();
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            for (var i = 0; i < 1000; i++) {
+                executor.submit(() -> lock.tryLock("TGT-1", __ -> {
+                    assertEquals(1, active.incrementAndGet());
+                    counter.incrementAndGet();
+                    active.decrementAndGet();
+                }));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        }
+        assertEquals(1000, counter.get());
+    }
+}
@@ -0,0 +1,75 @@
+package org.apereo.cas.util.jwt;
+
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.gen.DefaultRandomStringGenerator;
+
+import lombok.val;
+import org.jose4j.jws.AlgorithmIdentifiers;
+import org.jose4j.keys.AesKey;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link HmacJsonWebSignatureSignerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Utility")
+class HmacJsonWebSignatureSignerTests {
+    private static final byte[] VALUE = "ThisIsATestValue".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void verifySignedValuesAreStandard() throws Throwable {
+        val key = newKey(64);
+        val signer = HmacJsonWebSignatureSigner.of(key, AlgorithmIdentifiers.HMAC_SHA512, Map.of("name", "value")).orElseThrow();
+        val signed = signer.sign(VALUE);
+        assertTrue(signer.supports(signed));
+        assertArrayEquals(VALUE, signer.verify(signed));
+        assertArrayEquals(VALUE, EncodingUtils.verifyJwsSignature(key, signed));
+        assertTrue(signer.supports(key, AlgorithmIdentifiers.HMAC_SHA512, Map.of("name", "value")));
+        assertFalse(signer.supports(key, AlgorithmIdentifiers.HMAC_SHA256, Map.of("name", "value")));
+    }
+
+    @Test
+    void verifyValuesSignedElsewhere() throws Throwable {
+        val key = newKey(64);
+        val signer = HmacJsonWebSignatureSigner.of(key, AlgorithmIdentifiers.HMAC_SHA512, Map.of()).orElseThrow();
+        val signed = JsonWebTokenSigner.builder()
+            .key(key)
+            .algorithm(AlgorithmIdentifiers.HMAC_SHA512)
+            .build()
+            .sign(VALUE);
+        assertFalse(signer.supports(signed));
+        assertFalse(signer.supports(VALUE));
+    }
+
+    @Test
+    void verifyTamperedValues() throws Throwable {
+        val signer = HmacJsonWebSignatureSigner.of(newKey(32), AlgorithmIdentifiers.HMAC_SHA256, Map.of()).orElseThrow();
+        val signed = signer.sign(VALUE);
+        val tampered = signed.clone();
+        tampered[tampered.length - 2] = (byte) (tampered[tampered.length - 2] == 'A' ? 'B' : 'A');
+        assertNull(signer.verify(tampered));
+
+        val other = HmacJsonWebSignatureSigner.of(newKey(32), AlgorithmIdentifiers.HMAC_SHA256, Map.of()).orElseThrow();
+        assertTrue(other.supports(signed));
+        assertNull(other.verify(signed));
+    }
+
+    @Test
+    void verifyUnsupportedKeys() throws Throwable {
+        assertTrue(HmacJsonWebSignatureSigner.of(newKey(16), AlgorithmIdentifiers.HMAC_SHA512, Map.of()).isEmpty());
+        assertTrue(HmacJsonWebSignatureSigner.of(newKey(64), AlgorithmIdentifiers.RSA_USING_SHA512, Map.of()).isEmpty());
+        assertTrue(HmacJsonWebSignatureSigner.of(null, AlgorithmIdentifiers.HMAC_SHA512, Map.of()).isEmpty());
+    }
+
+    private static AesKey newKey(final int size) {
+        return new AesKey(new DefaultRandomStringGenerator().getNewString(size).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.time.StopWatch;
+import org.jooq.lambda.Unchecked;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -109,6 +114,31 @@ class GroovyShellScriptTests {
                 fail("Test failed");
             }
         }
+
+        @Test
+        void verifyConcurrentThroughput() throws Throwable {
+            val shellScript = new GroovyShellScript("return attributes['uid'].get(0).toUpperCase()");
+            val attributes = CollectionUtils.<String, Object>wrap("uid", List.of("casuser"));
+            val executions = 2_000;
+            for (val threads : new int[]{1, Math.max(2, Runtime.getRuntime().availableProcessors())}) {
+                val watch = StopWatch.createStarted();
+                try (val executor = Executors.newFixedThreadPool(threads)) {
+                    val results = new ArrayList<Future<String>>();
+                    for (var i = 0; i < executions; i++) {
+                        results.add(executor.submit(Unchecked.callable(() -> {
+                            shellScript.setBinding(CollectionUtils.wrap("attributes", attributes));
+                            return shellScript.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class);
+                        })));
+                    }
+                    for (val result : results) {
+                        assertEquals("CASUSER", result.get());
+                    }
+                }
+                watch.stop();
+                LOGGER.info("Executed inline script [{}] times with [{}] thread(s) in [{}]ms",
+                    executions, threads, watch.getTime(TimeUnit.MILLISECONDS));
+            }
+        }
     }
 
     @Nested
@@ -117,10 +147,11 @@ class GroovyShellScriptTests {
         @Test
         void verifyExec() {
             try (val shell = new GroovyShellScript("println 'test'")) {
-                assertNull(shell.getGroovyScript());
+                assertNull(shell.getGroovyScriptClass());
                 assertNotNull(shell.getScript());
 
                 assertDoesNotThrow(() -> shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY));
+                assertNotNull(shell.getGroovyScriptClass());
                 assertNotNull(shell.toString());
             }
         }
@@ -0,0 +1,100 @@
+package org.apereo.cas.util.cipher;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CipherExecutorPerformanceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Cipher")
+@Slf4j
+class CipherExecutorPerformanceTests {
+    private static final String SIGNING_KEY = "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w";
+
+    private static final String ENCRYPTION_KEY = "P4fxK62MCY5xL5y1DGb3_Q";
+
+    private static final int ITERATIONS = 2000;
+
+    private static final int THREADS = 8;
+
+    @Test
+    void verifyTicketCipherExecutor() throws Throwable {
+        val cipher = new DefaultTicketCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, "AES", 512, 16, "Ticket");
+        val value = ("TGT-1-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+        val nanos = measure(() -> cipher.decode(cipher.encode(value)));
+        LOGGER.info("Ticket cipher: [{}] ns per round trip", nanos);
+        verifyConcurrently(() -> Arrays.equals(value, cipher.decode(cipher.encode(value))));
+    }
+
+    @Test
+    void verifyWebflowConversationStateCipherExecutor() throws Throwable {
+        val cipher = new WebflowConversationStateCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, "AES", 512, 16);
+        val value = new byte[2048];
+        for (var i = 0; i < value.length; i++) {
+            value[i] = (byte) i;
+        }
+        val nanos = measure(() -> cipher.decode(cipher.encode(value)));
+        LOGGER.info("Webflow conversation state cipher: [{}] ns per round trip", nanos);
+        verifyConcurrently(() -> Arrays.equals(value, cipher.decode(cipher.encode(value))));
+    }
+
+    @Test
+    void verifyTicketGrantingCookieCipherExecutor() throws Throwable {
+        val cipher = new TicketGrantingCookieCipherExecutor("1PbwSbnHeinpkZOSZjuSJ8yYpUrInm5aaV18J2Ar4rM", SIGNING_KEY, 0, 0);
+        val value = "TGT-1-" + UUID.randomUUID();
+        val nanos = measure(() -> cipher.decode(cipher.encode(value)));
+        LOGGER.info("Ticket-granting cookie cipher: [{}] ns per round trip", nanos);
+        verifyConcurrently(() -> value.equals(cipher.decode(cipher.encode(value))));
+    }
+
+    @Test
+    void verifyValuesSignedWithKeyIdentifiers() throws Throwable {
+        val legacy = new DefaultTicketCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, "AES", 512, 16, "Ticket") {
+            @Override
+            protected boolean isHmacSignatureOptimized() {
+                return false;
+            }
+        };
+        val cipher = new DefaultTicketCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, "AES", 512, 16, "Ticket");
+        val value = "ST-1234567890".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(value, cipher.decode(legacy.encode(value)));
+        assertArrayEquals(value, legacy.decode(cipher.encode(value)));
+    }
+
+    private static long measure(final Runnable operation) {
+        for (var i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        val start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static void verifyConcurrently(final Callable<Boolean> roundTrip) throws Exception {
+        try (val executor = Executors.newFixedThreadPool(THREADS)) {
+            val tasks = new ArrayList<Callable<Boolean>>();
+            for (var i = 0; i < THREADS * 50; i++) {
+                tasks.add(roundTrip);
+            }
+            for (val result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.apereo.cas.util.gen;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StripedDrbgSecureRandomTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Simple")
+class StripedDrbgSecureRandomTests {
+
+    @Test
+    void verifyRandomBytes() {
+        val random = StripedDrbgSecureRandom.getInstance();
+        assertSame(random, StripedDrbgSecureRandom.getInstance());
+        assertEquals(StripedDrbgSecureRandom.ALGORITHM, random.getAlgorithm());
+        val first = new byte[32];
+        val second = new byte[32];
+        random.nextBytes(first);
+        random.nextBytes(second);
+        assertFalse(HexFormat.of().formatHex(first).equals(HexFormat.of().formatHex(second)));
+        assertEquals(16, random.generateSeed(16).length);
+        assertTrue(random.nextInt(10) < 10);
+    }
+
+    @Test
+    void verifyConcurrentUse() throws Throwable {
+        val random = new StripedDrbgSecureRandom(4, Duration.ZERO);
+        val values = ConcurrentHashMap.<String>newKeySet();
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            val results = new ArrayList<Future<?>>();
+            for (var i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> generate(random, values)));
+            }
+            for (val result : results) {
+                result.get();
+            }
+        }
+        assertEquals(8 * 1000, values.size());
+    }
+
+    private static void generate(final StripedDrbgSecureRandom random, final Set<String> values) {
+        for (var i = 0; i < 1000; i++) {
+            val bytes = new byte[16];
+            random.nextBytes(bytes);
+            values.add(HexFormat.of().formatHex(bytes));
+        }
+    }
+}
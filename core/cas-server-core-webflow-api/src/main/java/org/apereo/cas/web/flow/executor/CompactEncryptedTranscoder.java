@@ -0,0 +1,225 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link CompactEncryptedTranscoder}.
+ * <p>
+ * Produces a smaller encoding of the flow execution state than {@link EncryptedTranscoder}. Class descriptors
+ * of registered classes that commonly appear in flow executions are written as short identifiers instead of
+ * full names, field names and types, and the serialized stream is compressed with raw deflate using a preset
+ * dictionary of common flow attribute names and state ids. The encoded state starts with a format marker,
+ * and state that was encoded by {@link EncryptedTranscoder} is still decoded by falling back to its format.
+ * <p>
+ * Registered classes and the dictionary are part of the format: entries may only be appended to the lists,
+ * and any other change requires a new format version.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class CompactEncryptedTranscoder extends EncryptedTranscoder {
+    private static final byte FORMAT_MARKER = 0x43;
+
+    private static final byte FORMAT_VERSION = 0x01;
+
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private static final int HEADER_LENGTH = 3;
+
+    private static final int DESCRIPTOR_REGISTERED = 0;
+
+    private static final int DESCRIPTOR_UNREGISTERED = 1;
+
+    private static final List<String> REGISTERED_CLASSES = List.of(
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.springframework.webflow.core.collection.LocalSharedAttributeMap",
+        "org.springframework.binding.collection.SharedMapDecorator",
+        "org.springframework.binding.message.Message",
+        "org.springframework.binding.message.Severity",
+        "org.apereo.cas.authentication.credential.AbstractCredential",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "java.lang.Boolean",
+        "java.lang.Enum",
+        "java.lang.Number",
+        "java.lang.Integer",
+        "java.lang.Long",
+        "java.util.ArrayList",
+        "java.util.LinkedList",
+        "java.util.HashMap",
+        "java.util.LinkedHashMap",
+        "java.util.TreeMap",
+        "java.util.HashSet",
+        "java.util.LinkedHashSet",
+        "java.util.concurrent.ConcurrentHashMap",
+        "java.time.Ser",
+        "[Ljava.lang.Object;",
+        "[Ljava.lang.String;",
+        "[B"
+    );
+
+    private static final Map<String, Integer> REGISTERED_CLASS_IDENTIFIERS = IntStream.range(0, REGISTERED_CLASSES.size())
+        .boxed()
+        .collect(Collectors.toUnmodifiableMap(REGISTERED_CLASSES::get, Function.identity()));
+
+    private static final byte[] DICTIONARY = String.join(" ",
+        "org.apereo.cas.", "org.springframework.webflow.", "java.util.", "java.lang.String",
+        "login", "logout", "flowExecutionUrl", "flowExecutionKey", "execution", "_eventId", "submit",
+        "initialFlowSetup", "viewLoginForm", "realSubmit", "afterInitializeLoginForm", "initializeLoginForm",
+        "ticketGrantingTicketCheck", "hasServiceCheck", "serviceAuthorizationCheck", "createTicketGrantingTicket",
+        "sendTicketGrantingTicket", "generateServiceTicket", "redirectView", "casLoginView", "casGenericSuccessView",
+        "credential", "username", "password", "rememberMe", "source", "service", "originalUrl", "registeredService",
+        "ticketGrantingTicketId", "warnCookieValue", "authentication", "authenticationResultBuilder",
+        "authenticationResult", "principal", "attributes", "httpServletRequest", "httpServletResponse",
+        "customLoginFormFields", "passwordManagementEnabled", "delegatedAuthenticationProviderConfigurations",
+        "existingSingleSignOnSessionAvailable", "singleSignOnSessionAuthentication", "staticAuthentication",
+        "localeSelection", "mfaProvider", "mfa-").getBytes(StandardCharsets.UTF_8);
+
+    private final int compressionLevel;
+
+    private final boolean compression;
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, true, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean, final boolean compression, final int compressionLevel) {
+        super(cipherBean, compression);
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val outBuffer = new ByteArrayOutputStream();
+        outBuffer.write(FORMAT_MARKER);
+        outBuffer.write(FORMAT_VERSION);
+        outBuffer.write(compression ? FLAG_COMPRESSED : 0);
+        val deflater = compression ? newDeflater() : null;
+        try (val out = new CompactObjectOutputStream(deflater != null
+            ? new DeflaterOutputStream(outBuffer, deflater)
+            : outBuffer)) {
+            writeObjectToOutputStream(o, out);
+        } catch (final NotSerializableException e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+        return encrypt(outBuffer);
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    protected Object deserialize(final byte[] data) throws IOException {
+        if (data == null || data.length < HEADER_LENGTH || data[0] != FORMAT_MARKER) {
+            LOGGER.trace("Flow execution state is not in compact format and will be decoded as serialized state");
+            return super.deserialize(data);
+        }
+        if (data[1] != FORMAT_VERSION) {
+            throw new IOException("Unsupported flow execution state format version " + data[1]);
+        }
+        val inflater = (data[2] & FLAG_COMPRESSED) != 0 ? newInflater() : null;
+        val inBuffer = new ByteArrayInputStream(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+        try (val in = new CompactObjectInputStream(inflater != null
+            ? new InflaterInputStream(inBuffer, inflater)
+            : inBuffer)) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    private Deflater newDeflater() {
+        val deflater = new Deflater(compressionLevel, true);
+        deflater.setDictionary(DICTIONARY);
+        return deflater;
+    }
+
+    private static Inflater newInflater() {
+        val inflater = new Inflater(true);
+        inflater.setDictionary(DICTIONARY);
+        return inflater;
+    }
+
+    private static final class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            val identifier = REGISTERED_CLASS_IDENTIFIERS.get(desc.getName());
+            if (identifier != null) {
+                writeByte(DESCRIPTOR_REGISTERED);
+                writeShort(identifier);
+            } else {
+                writeByte(DESCRIPTOR_UNREGISTERED);
+                super.writeClassDescriptor(desc);
+            }
+        }
+    }
+
+    private static final class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val type = readUnsignedByte();
+            if (type == DESCRIPTOR_UNREGISTERED) {
+                return super.readClassDescriptor();
+            }
+            val identifier = readUnsignedShort();
+            if (type != DESCRIPTOR_REGISTERED || identifier >= REGISTERED_CLASSES.size()) {
+                throw new StreamCorruptedException("Invalid class descriptor " + type + '/' + identifier);
+            }
+            val clazz = ClassUtils.forName(REGISTERED_CLASSES.get(identifier), ClassUtils.getDefaultClassLoader());
+            return ObjectStreamClass.lookupAny(clazz);
+        }
+    }
+}
@@ -77,6 +77,9 @@ public class WebflowExecutorFactory {
 
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        val client = webflowProperties.getSession().getClient();
+        return client.isCompact()
+            ? new CompactEncryptedTranscoder(cipherBean, true, client.getCompressionLevel())
+            : new EncryptedTranscoder(cipherBean);
     }
 }
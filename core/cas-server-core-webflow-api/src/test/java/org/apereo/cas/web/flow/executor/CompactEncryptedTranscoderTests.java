@@ -0,0 +1,150 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.generator.sp80038d.RBGNonce;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CompactEncryptedTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Webflow")
+@Slf4j
+class CompactEncryptedTranscoderTests {
+    private static final int ITERATIONS = 500;
+
+    @Test
+    void verifyEncodeDecode() throws Throwable {
+        val transcoder = new CompactEncryptedTranscoder(newCipherBean());
+        val state = newFlowState();
+        assertEquals(state, transcoder.decode(transcoder.encode(state)));
+
+        val uncompressed = new CompactEncryptedTranscoder(newCipherBean(), false, Deflater.DEFAULT_COMPRESSION);
+        assertEquals(state, uncompressed.decode(uncompressed.encode(state)));
+    }
+
+    @Test
+    void verifyUnregisteredClasses() throws Throwable {
+        val transcoder = new CompactEncryptedTranscoder(newCipherBean());
+        val url = new URI("https://apereo.github.io/cas").toURL();
+        assertEquals(url, transcoder.decode(transcoder.encode(url)));
+    }
+
+    @Test
+    void verifyDecodesSerializedState() throws Throwable {
+        val cipherBean = newCipherBean();
+        val state = newFlowState();
+        val encoded = new EncryptedTranscoder(cipherBean).encode(state);
+        assertEquals(state, new CompactEncryptedTranscoder(cipherBean).decode(encoded));
+    }
+
+    @Test
+    void verifyBadDecoding() throws Throwable {
+        val bean = mock(CipherBean.class);
+        when(bean.decrypt(any())).thenReturn(new byte[]{0x43, 0x02, 0x01, 0x00});
+        val transcoder = new CompactEncryptedTranscoder(bean);
+        assertThrows(IOException.class, () -> transcoder.decode(new byte[]{1}));
+        when(bean.decrypt(any())).thenReturn(new byte[]{0x43, 0x01, 0x01, 0x00});
+        assertThrows(IOException.class, () -> transcoder.decode(new byte[]{1}));
+    }
+
+    @Test
+    void verifyNotSerializable() throws Throwable {
+        val transcoder = new CompactEncryptedTranscoder(mock(CipherBean.class));
+        assertNull(transcoder.encode(new Object()));
+        assertNotNull(transcoder.encode(null));
+    }
+
+    @Test
+    void verifySizeAndLatency() throws Throwable {
+        val cipherBean = newCipherBean();
+        val state = newFlowState();
+        val serialized = new EncryptedTranscoder(cipherBean);
+        val compact = new CompactEncryptedTranscoder(cipherBean);
+
+        val serializedSize = serialized.encode(state).length;
+        val compactSize = compact.encode(state).length;
+        val serializedTime = measure(serialized, state);
+        val compactTime = measure(compact, state);
+        LOGGER.info("Serialized flow state: [{}] bytes, [{}] ns per round trip", serializedSize, serializedTime);
+        LOGGER.info("Compact flow state: [{}] bytes, [{}] ns per round trip", compactSize, compactTime);
+        assertTrue(compactSize < serializedSize);
+    }
+
+    private static long measure(final Transcoder transcoder, final Object state) throws Exception {
+        for (var i = 0; i < ITERATIONS; i++) {
+            transcoder.decode(transcoder.encode(state));
+        }
+        val start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            transcoder.decode(transcoder.encode(state));
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static LocalAttributeMap<Object> newFlowState() {
+        val credential = new RememberMeUsernamePasswordCredential();
+        credential.setUsername("casuser");
+        credential.assignPassword("Mellon");
+        credential.setRememberMe(true);
+
+        val customFields = new LinkedHashMap<String, Object>();
+        customFields.put("phone", "555-1234");
+        customFields.put("department", List.of("engineering", "operations"));
+
+        val providers = new ArrayList<String>();
+        for (var i = 0; i < 5; i++) {
+            providers.add("DelegatedClient" + i);
+        }
+
+        val state = new LocalAttributeMap<Object>();
+        state.put("credential", credential);
+        state.put("service", "https://app.example.org/login?ticket=" + UUID.randomUUID());
+        state.put("ticketGrantingTicketId", "TGT-1-" + UUID.randomUUID());
+        state.put("warnCookieValue", Boolean.FALSE);
+        state.put("customLoginFormFields", customFields);
+        state.put("delegatedAuthenticationProviderConfigurations", providers);
+        state.put("passwordManagementEnabled", Boolean.TRUE);
+        state.put("rememberMeAuthenticationEnabled", Boolean.TRUE);
+        return state;
+    }
+
+    private static CipherBean newCipherBean() throws Exception {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val cipherBean = new AEADBlockCipherBean();
+        cipherBean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        cipherBean.setKeyStore(ksFactory.newInstance());
+        cipherBean.setKeyAlias("aes128");
+        cipherBean.setKeyPassword("changeit");
+        cipherBean.setNonce(new RBGNonce());
+        return cipherBean;
+    }
+}
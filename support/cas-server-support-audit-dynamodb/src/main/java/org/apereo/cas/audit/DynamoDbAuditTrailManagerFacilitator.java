@@ -17,14 +17,18 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +42,10 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynamoDbProperties, DynamoDbClient amazonDynamoDBClient) {
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+
+    private static final int MAX_BATCH_WRITE_ATTEMPTS = 3;
+
     /**
      * Build table attribute values map.
      *
@@ -93,6 +101,38 @@ public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynam
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save records in batches. Records that share the same principal overwrite
+     * one another as they would when saved individually, so only the last such
+     * record is written since a batch may not contain duplicate keys.
+     *
+     * @param records the records
+     */
+    public void save(final List<AuditActionContext> records) {
+        val items = new LinkedHashMap<String, Map<String, AttributeValue>>();
+        records.forEach(record -> {
+            items.remove(record.getPrincipal());
+            items.put(record.getPrincipal(), buildTableAttributeValuesMap(record));
+        });
+        val writeRequests = items.values()
+            .stream()
+            .map(values -> WriteRequest.builder().putRequest(PutRequest.builder().item(values).build()).build())
+            .toList();
+        for (var i = 0; i < writeRequests.size(); i += MAX_BATCH_WRITE_ITEMS) {
+            val chunk = writeRequests.subList(i, Math.min(writeRequests.size(), i + MAX_BATCH_WRITE_ITEMS));
+            var requestItems = Map.<String, List<WriteRequest>>of(dynamoDbProperties.getTableName(), chunk);
+            for (var attempt = 0; attempt < MAX_BATCH_WRITE_ATTEMPTS && !requestItems.isEmpty(); attempt++) {
+                LOGGER.debug("Submitting batch write request for [{}] records", requestItems.values().stream().mapToInt(List::size).sum());
+                val result = amazonDynamoDBClient.batchWriteItem(BatchWriteItemRequest.builder().requestItems(requestItems).build());
+                requestItems = result.hasUnprocessedItems() ? result.unprocessedItems() : Map.of();
+            }
+            if (!requestItems.isEmpty()) {
+                LOGGER.warn("Unable to write [{}] audit records to [{}] after [{}] attempts", requestItems.values().stream().mapToInt(List::size).sum(),
+                    dynamoDbProperties.getTableName(), MAX_BATCH_WRITE_ATTEMPTS);
+            }
+        }
+    }
+
     /**
      * Remove all.
      */
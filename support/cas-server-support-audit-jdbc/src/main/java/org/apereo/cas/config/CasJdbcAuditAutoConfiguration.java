@@ -172,6 +172,7 @@ public class CasJdbcAuditAutoConfiguration {
 
                     val jdbc = casProperties.getAudit().getJdbc();
                     manager.setAsynchronous(jdbc.isAsynchronous());
+                    manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
                     manager.setColumnLength(jdbc.getColumnLength());
                     manager.setTableName(getAuditTableNameFrom(jdbc));
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), manager::setSelectByDateSqlTemplate);
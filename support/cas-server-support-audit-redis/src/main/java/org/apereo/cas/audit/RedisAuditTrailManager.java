@@ -7,8 +7,11 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -50,6 +53,10 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
         return CAS_AUDIT_CONTEXT_PREFIX + '*';
     }
 
+    private static String getAuditRedisKey(final AuditActionContext audit) {
+        return getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().toEpochSecond(ZoneOffset.UTC)), audit.getPrincipal());
+    }
+
     @Override
     public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDate) whereClause.get(WhereClauseFields.DATE);
@@ -76,8 +83,21 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
 
     @Override
     protected void saveAuditRecord(final AuditActionContext audit) {
-        val redisKey = getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().toEpochSecond(ZoneOffset.UTC)), audit.getPrincipal());
-        this.redisTemplate.boundValueOps(redisKey).set(audit);
+        this.redisTemplate.boundValueOps(getAuditRedisKey(audit)).set(audit);
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        LOGGER.trace("Writing batch of [{}] audit records via pipeline", audits.size());
+        this.redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                val valueOperations = ((RedisOperations<String, Object>) operations).opsForValue();
+                audits.forEach(audit -> valueOperations.set(getAuditRedisKey(audit), audit));
+                return null;
+            }
+        });
     }
 
     private Stream<String> getAuditRedisKeys() {
@@ -13,8 +13,13 @@ import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
 
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.term.Term;
+import com.google.common.collect.Lists;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -43,6 +48,8 @@ import java.util.stream.Stream;
  */
 @Slf4j
 public class CassandraTicketRegistry extends AbstractTicketRegistry implements DisposableBean, InitializingBean {
+    private static final int BATCH_SIZE = 100;
+
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -147,6 +154,57 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
         return 1;
     }
 
+    @Override
+    public List<? extends Ticket> updateTickets(final Stream<? extends Ticket> toUpdate) throws Exception {
+        val tickets = toUpdate.filter(Objects::nonNull).collect(Collectors.toList());
+        val statements = new ArrayList<SimpleStatement>(tickets.size());
+        for (val ticket : tickets) {
+            statements.add(buildTicketStatement(ticket, false));
+        }
+        executeBatch(statements);
+        return tickets;
+    }
+
+    @Override
+    protected long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        val statements = tickets
+            .stream()
+            .map(ticket -> QueryBuilder
+                .deleteFrom(properties.getKeyspace(), ticketCatalog.find(ticket).getProperties().getStorageName())
+                .whereColumn("id").isEqualTo(QueryBuilder.literal(digestIdentifier(ticket.getId())))
+                .build())
+            .toList();
+        LOGGER.debug("Deleting [{}] ticket(s)", statements.size());
+        executeBatch(statements);
+        return statements.size();
+    }
+
+    @Override
+    protected Stream<? extends Ticket> findTickets(final Collection<String> ticketIds) {
+        return ticketIds
+            .stream()
+            .filter(ticketId -> ticketCatalog.find(ticketId) != null)
+            .collect(Collectors.groupingBy(ticketCatalog::find,
+                Collectors.mapping(ticketId -> QueryBuilder.literal(digestIdentifier(ticketId)), Collectors.toList())))
+            .entrySet()
+            .stream()
+            .flatMap(entry -> Lists.partition(entry.getValue(), BATCH_SIZE)
+                .stream()
+                .flatMap(ids -> {
+                    val select = QueryBuilder.selectFrom(properties.getKeyspace(), entry.getKey().getProperties().getStorageName())
+                        .all()
+                        .whereColumn("id").in(List.<Term>copyOf(ids))
+                        .build()
+                        .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
+                        .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
+                        .setTimeout(Beans.newDuration(properties.getTimeout()));
+                    LOGGER.trace("Attempting to locate tickets via query [{}]", select);
+                    val rowMapper = new BeanPropertyRowMapper<>(CassandraTicketHolder.class, true);
+                    return cassandraSessionFactory.getCqlTemplate().query(select, rowMapper).stream();
+                }))
+            .map(holder -> decodeTicket(deserializeTicket(holder.getData(), holder.getType())));
+    }
+
     @Override
     public long deleteAll() {
         ticketCatalog.findAll()
@@ -280,6 +338,27 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
 
     private Ticket addTicketToCassandra(final Ticket ticket, final boolean inserting) throws Exception {
         LOGGER.debug("Adding ticket [{}]", ticket.getId());
+        val statement = buildTicketStatement(ticket, inserting);
+        LOGGER.trace("Attempting to locate ticket via query [{}]", statement.getQuery());
+        cassandraSessionFactory.getCqlTemplate().execute(statement);
+        LOGGER.debug("Added ticket [{}]", ticket.getId());
+        return ticket;
+    }
+
+    private void executeBatch(final List<? extends BatchableStatement<?>> statements) {
+        Lists.partition(statements, BATCH_SIZE).forEach(batch -> {
+            val statement = BatchStatement.builder(DefaultBatchType.UNLOGGED)
+                .addStatements(List.copyOf(batch))
+                .setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
+                .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
+                .setTimeout(Beans.newDuration(properties.getTimeout()))
+                .build();
+            LOGGER.trace("Executing batch of [{}] statement(s)", batch.size());
+            cassandraSessionFactory.getCqlTemplate().execute(statement);
+        });
+    }
+
+    private SimpleStatement buildTicketStatement(final Ticket ticket, final boolean inserting) throws Exception {
         val metadata = ticketCatalog.find(ticket);
         LOGGER.trace("Located ticket definition [{}] in the ticket catalog", metadata);
         val encTicket = encodeTicket(ticket);
@@ -320,13 +399,8 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                 .whereColumn("type").isEqualTo(QueryBuilder.literal(encTicket.getClass().getName()))
                 .build();
         }
-        statement = statement.setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
+        return statement.setConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getConsistencyLevel()))
             .setSerialConsistencyLevel(DefaultConsistencyLevel.valueOf(properties.getSerialConsistencyLevel()))
             .setTimeout(Beans.newDuration(properties.getTimeout()));
-
-        LOGGER.trace("Attempting to locate ticket via query [{}]", statement.getQuery());
-        cassandraSessionFactory.getCqlTemplate().execute(statement);
-        LOGGER.debug("Added ticket [{}]", encTicket.getId());
-        return ticket;
     }
 }
@@ -2,11 +2,19 @@ package org.apereo.cas.services;
 
 import org.apereo.cas.support.events.service.CasRegisteredServiceLoadedEvent;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -16,9 +24,18 @@ import java.util.stream.Collectors;
  * @author Misagh Moayyed
  * @since 5.1.0
  */
+@Slf4j
 public class DynamoDbServiceRegistry extends AbstractServiceRegistry {
+    /**
+     * Modifications are looked up slightly ahead of the previous load,
+     * to account for clock differences between nodes.
+     */
+    private static final Duration MODIFICATION_TIME_TOLERANCE = Duration.ofMinutes(1);
+
     private final DynamoDbServiceRegistryFacilitator dbTableService;
 
+    private volatile LoadedRegisteredServices loadedServices;
+
     public DynamoDbServiceRegistry(final ConfigurableApplicationContext applicationContext,
                                    final DynamoDbServiceRegistryFacilitator dbTableService,
                                    final Collection<ServiceRegistryListener> serviceRegistryListeners) {
@@ -43,14 +60,22 @@ public class DynamoDbServiceRegistry extends AbstractServiceRegistry {
         this.dbTableService.deleteAll();
     }
 
+    /**
+     * Load service definitions from the table. Once the first load is complete,
+     * only items modified since the previous load are parsed again, while the remaining
+     * services are reused if their identifiers are still present. Every load still reads
+     * the whole table in a single scan.
+     */
     @Override
     public Collection<RegisteredService> load() {
-        val svc = dbTableService.getAll();
+        val previous = loadedServices;
+        val loadedAt = Instant.now(Clock.systemUTC());
+        val services = previous == null ? loadAllServices() : loadModifiedServices(previous);
+        loadedServices = new LoadedRegisteredServices(loadedAt, Collections.unmodifiableMap(services));
         val clientInfo = ClientInfoHolder.getClientInfo();
-        return svc
+        return services.values()
             .stream()
-            .map(this::invokeServiceRegistryListenerPostLoad)
-            .filter(Objects::nonNull)
+            .sorted(Comparator.comparingInt(RegisteredService::getEvaluationOrder))
             .peek(s -> publishEvent(new CasRegisteredServiceLoadedEvent(this, s, clientInfo)))
             .collect(Collectors.toList());
     }
@@ -64,4 +89,41 @@ public class DynamoDbServiceRegistry extends AbstractServiceRegistry {
     public long size() {
         return dbTableService.count();
     }
+
+    private Map<Long, RegisteredService> loadAllServices() {
+        val services = new LinkedHashMap<Long, RegisteredService>();
+        dbTableService.getAll()
+            .stream()
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .forEach(service -> services.put(service.getId(), service));
+        return services;
+    }
+
+    private Map<Long, RegisteredService> loadModifiedServices(final LoadedRegisteredServices previous) {
+        val results = dbTableService.getModifiedSince(
+            previous.loadedAt().minus(MODIFICATION_TIME_TOLERANCE), previous.services().keySet());
+        val identifiers = results.identifiers();
+        val modifiedServices = results.modifiedServices();
+        val modifiedIdentifiers = modifiedServices.stream().map(RegisteredService::getId).collect(Collectors.toSet());
+
+        val services = new LinkedHashMap<Long, RegisteredService>();
+        identifiers
+            .stream()
+            .filter(id -> !modifiedIdentifiers.contains(id))
+            .map(id -> previous.services().get(id))
+            .filter(Objects::nonNull)
+            .forEach(service -> services.put(service.getId(), service));
+        modifiedServices
+            .stream()
+            .map(this::invokeServiceRegistryListenerPostLoad)
+            .filter(Objects::nonNull)
+            .forEach(service -> services.put(service.getId(), service));
+        LOGGER.debug("Loaded [{}] service(s), of which [{}] were modified since [{}]",
+            services.size(), modifiedServices.size(), previous.loadedAt());
+        return services;
+    }
+
+    private record LoadedRegisteredServices(Instant loadedAt, Map<Long, RegisteredService> services) {
+    }
 }
@@ -26,11 +26,16 @@ import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.io.ByteArrayOutputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -108,6 +113,39 @@ public class DynamoDbServiceRegistryFacilitator {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the identifiers of all services, along with the services that are modified since
+     * the given instant, that carry no record of their modification time or that are not
+     * among the given known identifiers, in a single scan. Only the definitions of such services are parsed.
+     * <p>
+     * Note that this still reads every item in the table: DynamoDB charges scans for the items
+     * that are read, whether or not they are filtered out or projected away, and the table has
+     * no index on the modification time. Compared to {@link #getAll()}, this only saves parsing
+     * the definitions of services that did not change.
+     *
+     * @param since            the instant
+     * @param knownIdentifiers the identifiers of services that are already loaded
+     * @return the identifiers and the modified services
+     */
+    public ModifiedRegisteredServices getModifiedSince(final Instant since, final Set<Long> knownIdentifiers) {
+        val scan = ScanRequest.builder().tableName(dynamoDbProperties.getTableName()).build();
+        LOGGER.debug("Scanning table with request [{}] to find modified services", scan);
+        val identifiers = new HashSet<Long>();
+        val modifiedServices = new ArrayList<RegisteredService>();
+        amazonDynamoDBClient.scanPaginator(scan).items().forEach(item -> {
+            val id = Long.valueOf(item.get(ColumnNames.ID.getColumnName()).s());
+            identifiers.add(id);
+            val lastModified = item.get(ColumnNames.LAST_MODIFIED.getColumnName());
+            if (lastModified == null || Long.parseLong(lastModified.n()) >= since.toEpochMilli() || !knownIdentifiers.contains(id)) {
+                val service = deserializeServiceFromBinaryBlob(item);
+                if (service != null) {
+                    modifiedServices.add(service);
+                }
+            }
+        });
+        return new ModifiedRegisteredServices(identifiers, modifiedServices);
+    }
+
     /**
      * Get registered service.
      *
@@ -166,6 +204,8 @@ public class DynamoDbServiceRegistryFacilitator {
         val out = new ByteArrayOutputStream();
         jsonSerializer.to(out, service);
         values.put(ColumnNames.ENCODED.getColumnName(), AttributeValue.builder().b(SdkBytes.fromByteArray(out.toByteArray())).build());
+        values.put(ColumnNames.LAST_MODIFIED.getColumnName(),
+            AttributeValue.builder().n(String.valueOf(Instant.now(Clock.systemUTC()).toEpochMilli())).build());
         LOGGER.debug("Created attribute values [{}] based on provided service [{}]", values, service);
         return values;
     }
@@ -177,6 +217,15 @@ public class DynamoDbServiceRegistryFacilitator {
         createServicesTable(true);
     }
 
+    /**
+     * The identifiers of all services in the table, and the services that were modified.
+     *
+     * @param identifiers      the identifiers
+     * @param modifiedServices the modified services
+     */
+    public record ModifiedRegisteredServices(Set<Long> identifiers, List<RegisteredService> modifiedServices) {
+    }
+
     @Getter
     @RequiredArgsConstructor
     private enum ColumnNames {
@@ -184,7 +233,8 @@ public class DynamoDbServiceRegistryFacilitator {
         NAME("name"),
         DESCRIPTION("description"),
         SERVICE_ID("serviceId"),
-        ENCODED("encoded");
+        ENCODED("encoded"),
+        LAST_MODIFIED("lastModified");
 
         private final String columnName;
     }
@@ -3,13 +3,22 @@ package org.apereo.cas.services;
 import org.apereo.cas.config.CasDynamoDbServiceRegistryAutoConfiguration;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This is {@link DynamoDbServiceRegistryTests}.
@@ -41,4 +50,62 @@ class DynamoDbServiceRegistryTests extends AbstractServiceRegistryTests {
     @Autowired
     @Qualifier(ServiceRegistry.BEAN_NAME)
     private ServiceRegistry newServiceRegistry;
+
+    @Autowired
+    @Qualifier("dynamoDbServiceRegistry")
+    private ServiceRegistry dynamoDbServiceRegistry;
+
+    @Autowired
+    @Qualifier("dynamoDbServiceRegistryFacilitator")
+    private DynamoDbServiceRegistryFacilitator dynamoDbServiceRegistryFacilitator;
+
+    @Test
+    void verifyOnlyModifiedServicesAreLoadedAgain() throws Throwable {
+        val unchanged = dynamoDbServiceRegistry.save(buildRegisteredServiceInstance(1, CasRegisteredService.class));
+        val modified = dynamoDbServiceRegistry.save(buildRegisteredServiceInstance(2, CasRegisteredService.class));
+        val skewed = dynamoDbServiceRegistry.save(buildRegisteredServiceInstance(3, CasRegisteredService.class));
+        val untracked = dynamoDbServiceRegistry.save(buildRegisteredServiceInstance(4, CasRegisteredService.class));
+        val deleted = dynamoDbServiceRegistry.save(buildRegisteredServiceInstance(5, CasRegisteredService.class));
+        val loaded = loadServices();
+        assertEquals(5, loaded.size());
+
+        val now = Instant.now();
+        updateLastModified(unchanged.getId(), now.minusSeconds(120));
+        updateLastModified(modified.getId(), now.plusSeconds(1));
+        updateLastModified(skewed.getId(), now.minusSeconds(30));
+        updateLastModified(untracked.getId(), null);
+        dynamoDbServiceRegistryFacilitator.delete(deleted);
+
+        val reloaded = loadServices();
+        assertEquals(4, reloaded.size());
+        assertSame(loaded.get(unchanged.getId()), reloaded.get(unchanged.getId()));
+        assertNotSame(loaded.get(modified.getId()), reloaded.get(modified.getId()));
+        assertNotSame(loaded.get(skewed.getId()), reloaded.get(skewed.getId()));
+        assertNotSame(loaded.get(untracked.getId()), reloaded.get(untracked.getId()));
+        assertFalse(reloaded.containsKey(deleted.getId()));
+
+        val reloadedAgain = loadServices();
+        assertSame(reloaded.get(unchanged.getId()), reloadedAgain.get(unchanged.getId()));
+        assertNotSame(reloaded.get(untracked.getId()), reloadedAgain.get(untracked.getId()));
+    }
+
+    private Map<Long, RegisteredService> loadServices() {
+        return dynamoDbServiceRegistry.load()
+            .stream()
+            .collect(Collectors.toMap(RegisteredService::getId, Function.identity()));
+    }
+
+    private void updateLastModified(final long id, final Instant lastModified) {
+        val request = UpdateItemRequest.builder()
+            .tableName(dynamoDbServiceRegistryFacilitator.getDynamoDbProperties().getTableName())
+            .key(Map.of("id", AttributeValue.builder().s(String.valueOf(id)).build()));
+        if (lastModified == null) {
+            request.updateExpression("REMOVE lastModified");
+        } else {
+            request.updateExpression("SET lastModified = :lastModified")
+                .expressionAttributeValues(Map.of(":lastModified",
+                    AttributeValue.builder().n(String.valueOf(lastModified.toEpochMilli())).build()));
+        }
+        dynamoDbServiceRegistryFacilitator.getAmazonDynamoDBClient().updateItem(request.build());
+    }
 }
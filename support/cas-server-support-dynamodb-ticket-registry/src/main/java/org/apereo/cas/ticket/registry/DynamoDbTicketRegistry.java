@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -148,6 +149,23 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return ticket;
     }
 
+    @Override
+    public List<? extends Ticket> updateTickets(final Stream<? extends Ticket> toUpdate) throws Exception {
+        return addTicket(toUpdate.filter(Objects::nonNull).filter(ticket -> !ticket.isExpired()));
+    }
+
+    @Override
+    protected Stream<? extends Ticket> findTickets(final Collection<String> ticketIds) {
+        val ids = ticketIds.stream().distinct().collect(Collectors.toMap(Function.identity(), this::digestIdentifier));
+        return dbTableService.get(ids).map(this::decodeTicket).filter(Objects::nonNull);
+    }
+
+    @Override
+    protected long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        val ids = tickets.stream().map(Ticket::getId).distinct().collect(Collectors.toMap(Function.identity(), this::digestIdentifier));
+        return dbTableService.delete(ids);
+    }
+
     @Override
     public long deleteSingleTicket(final Ticket ticketToDelete) {
         val ticketId = digestIdentifier(ticketToDelete.getId());
@@ -9,6 +9,7 @@ import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,12 +23,15 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
@@ -59,6 +63,8 @@ import java.util.stream.Stream;
 public class DynamoDbTicketRegistryFacilitator {
     private static final int BATCH_PUT_REQUEST_LIMIT = 25;
 
+    private static final int BATCH_GET_REQUEST_LIMIT = 100;
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
@@ -96,6 +102,33 @@ public class DynamoDbTicketRegistryFacilitator {
         return false;
     }
 
+    /**
+     * Delete tickets in batches.
+     *
+     * @param ticketIds the ticket ids, mapped to their encoded ids
+     * @return the number of tickets deleted
+     */
+    public long delete(final Map<String, String> ticketIds) {
+        val requests = new HashMap<String, List<WriteRequest>>();
+        ticketIds.forEach((ticketId, encodedTicketId) -> {
+            val metadata = ticketCatalog.find(ticketId);
+            if (metadata != null) {
+                val key = CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build());
+                requests.computeIfAbsent(metadata.getProperties().getStorageName(), __ -> new ArrayList<>())
+                    .add(WriteRequest.builder().deleteRequest(DeleteRequest.builder().key(key).build()).build());
+            }
+        });
+        requests.forEach((tableName, writeRequests) -> Lists.partition(writeRequests, BATCH_PUT_REQUEST_LIMIT).forEach(batch -> {
+            var requestItems = Map.<String, List<WriteRequest>>of(tableName, batch);
+            while (!requestItems.isEmpty()) {
+                LOGGER.debug("Submitting batch delete request for [{}] ticket(s) to table [{}]", batch.size(), tableName);
+                val request = BatchWriteItemRequest.builder().requestItems(requestItems).build();
+                requestItems = amazonDynamoDBClient.batchWriteItem(request).unprocessedItems();
+            }
+        }));
+        return requests.values().stream().mapToLong(List::size).sum();
+    }
+
     /**
      * Delete all.
      *
@@ -208,6 +241,38 @@ public class DynamoDbTicketRegistryFacilitator {
         return null;
     }
 
+    /**
+     * Get tickets in batches.
+     * Tickets are returned regardless of their expiration status.
+     *
+     * @param ticketIds the ticket ids, mapped to their encoded ids
+     * @return the tickets
+     */
+    public Stream<Ticket> get(final Map<String, String> ticketIds) {
+        val keys = new HashMap<String, List<Map<String, AttributeValue>>>();
+        ticketIds.forEach((ticketId, encodedTicketId) -> {
+            val metadata = ticketCatalog.find(ticketId);
+            if (metadata != null) {
+                keys.computeIfAbsent(metadata.getProperties().getStorageName(), __ -> new ArrayList<>())
+                    .add(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build()));
+            }
+        });
+        val items = new ArrayList<Map<String, AttributeValue>>(ticketIds.size());
+        keys.forEach((tableName, tableKeys) -> Lists.partition(tableKeys, BATCH_GET_REQUEST_LIMIT).forEach(batch -> {
+            var requestItems = Map.of(tableName, KeysAndAttributes.builder().keys(batch).build());
+            while (!requestItems.isEmpty()) {
+                LOGGER.debug("Submitting batch get request for [{}] ticket(s) to table [{}]", batch.size(), tableName);
+                val response = amazonDynamoDBClient.batchGetItem(BatchGetItemRequest.builder().requestItems(requestItems).build());
+                response.responses().values().forEach(items::addAll);
+                requestItems = response.unprocessedKeys();
+            }
+        }));
+        return items
+            .stream()
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull);
+    }
+
     /**
      * Put.
      *
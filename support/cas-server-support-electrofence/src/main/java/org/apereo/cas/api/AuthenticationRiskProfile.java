@@ -0,0 +1,219 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link AuthenticationRiskProfile}.
+ * <p>
+ * Summarizes the authentication history of a principal as frequency counts of
+ * client IP addresses, user agents, geolocations and hours of the day, kept in daily buckets.
+ * The profile is updated incrementally as authentication events are recorded, so that
+ * risk calculations need not scan the authentication history. Buckets that fall outside
+ * the recent history are pruned. Profiles may be updated and read concurrently.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString(of = "principal")
+public class AuthenticationRiskProfile implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2717063488925513614L;
+
+    private static final int HOURS_PER_DAY = 24;
+
+    private final String principal;
+
+    private final int maximumFeaturesPerDay;
+
+    @Getter(AccessLevel.NONE)
+    private final ConcurrentNavigableMap<Long, DailyActivity> activity = new ConcurrentSkipListMap<>();
+
+    /**
+     * Record the authentication event into the profile.
+     *
+     * @param event the event
+     * @return this profile
+     */
+    public AuthenticationRiskProfile record(final CasEvent event) {
+        val creationTime = StringUtils.isNotBlank(event.getCreationTime())
+            ? DateTimeUtils.convertToZonedDateTime(event.getCreationTime())
+            : Optional.ofNullable(event.get(CasEvent.FIELD_TIMESTAMP))
+                .map(timestamp -> DateTimeUtils.zonedDateTimeOf(Long.parseLong(timestamp)))
+                .orElseGet(() -> ZonedDateTime.now(ZoneOffset.UTC));
+        return record(creationTime, event.getClientIpAddress(), event.getAgent(), event.getGeoLocation());
+    }
+
+    /**
+     * Record the authentication attempt into the profile.
+     *
+     * @param creationTime    the creation time
+     * @param clientIpAddress the client ip address
+     * @param userAgent       the user agent
+     * @param geoLocation     the geo location
+     * @return this profile
+     */
+    public AuthenticationRiskProfile record(final ZonedDateTime creationTime, final String clientIpAddress,
+                                            final String userAgent, final GeoLocationRequest geoLocation) {
+        val time = creationTime.withZoneSameInstant(ZoneOffset.UTC);
+        val day = activity.computeIfAbsent(time.toLocalDate().toEpochDay(), __ -> new DailyActivity());
+        day.getTotal().increment();
+        day.getHours().incrementAndGet(time.getHour());
+        increment(day.getIpAddresses(), toIpAddressKey(clientIpAddress));
+        increment(day.getUserAgents(), toUserAgentKey(userAgent));
+        increment(day.getGeoLocations(), toGeoLocationKey(geoLocation));
+        return this;
+    }
+
+    /**
+     * Remove activity recorded before the given date.
+     *
+     * @param since the earliest date to keep
+     * @return this profile
+     */
+    public AuthenticationRiskProfile prune(final LocalDate since) {
+        activity.headMap(since.toEpochDay()).clear();
+        return this;
+    }
+
+    /**
+     * Total number of authentication events in the profile.
+     *
+     * @return the count
+     */
+    public long getTotalCount() {
+        return activity.values().stream().mapToLong(day -> day.getTotal().sum()).sum();
+    }
+
+    /**
+     * Number of authentication events from the given client IP address.
+     *
+     * @param clientIpAddress the client ip address
+     * @return the count
+     */
+    public long getIpAddressCount(final String clientIpAddress) {
+        return count(DailyActivity::getIpAddresses, toIpAddressKey(clientIpAddress));
+    }
+
+    /**
+     * Number of authentication events from the given user agent.
+     *
+     * @param userAgent the user agent
+     * @return the count
+     */
+    public long getUserAgentCount(final String userAgent) {
+        return count(DailyActivity::getUserAgents, toUserAgentKey(userAgent));
+    }
+
+    /**
+     * Number of authentication events from the given geolocation.
+     *
+     * @param geoLocation the geo location
+     * @return the count
+     */
+    public long getGeoLocationCount(final GeoLocationRequest geoLocation) {
+        return count(DailyActivity::getGeoLocations, toGeoLocationKey(geoLocation));
+    }
+
+    /**
+     * Number of authentication events whose hour of the day, in UTC, matches the given predicate.
+     *
+     * @param hours the hours
+     * @return the count
+     */
+    public long getHourOfDayCount(final IntPredicate hours) {
+        return activity.values()
+            .stream()
+            .mapToLong(day -> IntStream.range(0, HOURS_PER_DAY)
+                .filter(hours)
+                .mapToLong(hour -> day.getHours().get(hour))
+                .sum())
+            .sum();
+    }
+
+    /**
+     * Whether the profile holds any activity.
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return getTotalCount() == 0;
+    }
+
+    private long count(final Function<DailyActivity, Map<String, LongAdder>> counts, final String key) {
+        if (key == null) {
+            return 0;
+        }
+        return activity.values()
+            .stream()
+            .map(day -> counts.apply(day).get(key))
+            .mapToLong(counter -> counter == null ? 0 : counter.sum())
+            .sum();
+    }
+
+    private void increment(final Map<String, LongAdder> counts, final String key) {
+        if (key != null) {
+            val counter = counts.size() < maximumFeaturesPerDay
+                ? counts.computeIfAbsent(key, __ -> new LongAdder())
+                : counts.get(key);
+            Optional.ofNullable(counter).ifPresent(LongAdder::increment);
+        }
+    }
+
+    private static String toIpAddressKey(final String clientIpAddress) {
+        return StringUtils.isBlank(clientIpAddress) ? null : clientIpAddress.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String toUserAgentKey(final String userAgent) {
+        return StringUtils.isBlank(userAgent) ? null : userAgent.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String toGeoLocationKey(final GeoLocationRequest geoLocation) {
+        return geoLocation == null || StringUtils.isAnyBlank(geoLocation.getLatitude(), geoLocation.getLongitude())
+            ? null
+            : geoLocation.getLatitude() + ',' + geoLocation.getLongitude();
+    }
+
+    @Getter
+    private static final class DailyActivity implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -1867035012356478232L;
+
+        private final LongAdder total = new LongAdder();
+
+        private final AtomicLongArray hours = new AtomicLongArray(HOURS_PER_DAY);
+
+        private final Map<String, LongAdder> ipAddresses = new ConcurrentHashMap<>();
+
+        private final Map<String, LongAdder> userAgents = new ConcurrentHashMap<>();
+
+        private final Map<String, LongAdder> geoLocations = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,28 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.util.spring.CasEventListener;
+
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link AuthenticationRiskProfileEventListener}.
+ * <p>
+ * Listens for events that are recorded into the CAS event repository,
+ * so that risk profiles may be updated incrementally. Events are handled
+ * synchronously, on the thread that recorded the event, which is typically
+ * already decoupled from the authentication request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface AuthenticationRiskProfileEventListener extends CasEventListener {
+    /**
+     * Handle the event that is published when a CAS event is recorded.
+     *
+     * @param event the event
+     * @throws Throwable the throwable
+     */
+    @EventListener
+    void handleCasEventRecordedEvent(AuditApplicationEvent event) throws Throwable;
+}
@@ -0,0 +1,38 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+
+/**
+ * This is {@link AuthenticationRiskProfileRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface AuthenticationRiskProfileRepository {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileRepository";
+
+    /**
+     * Gets the risk profile for the principal,
+     * covering the recent authentication history.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+
+    /**
+     * Record the authentication event into the risk profile of its principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+
+    /**
+     * Remove all profiles held by this repository.
+     */
+    default void clear() {
+    }
+}
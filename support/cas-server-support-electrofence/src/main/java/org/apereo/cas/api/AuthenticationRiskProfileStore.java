@@ -0,0 +1,51 @@
+package org.apereo.cas.api;
+
+import java.util.Optional;
+
+/**
+ * This is {@link AuthenticationRiskProfileStore}.
+ * <p>
+ * Backing store for risk profiles that can be shared by all nodes in a cluster.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface AuthenticationRiskProfileStore {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileStore";
+
+    /**
+     * Find the risk profile for the principal.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    Optional<AuthenticationRiskProfile> find(String principal);
+
+    /**
+     * Store the risk profile.
+     *
+     * @param profile the profile
+     */
+    void store(AuthenticationRiskProfile profile);
+
+    /**
+     * Store that does not keep profiles.
+     *
+     * @return the store
+     */
+    static AuthenticationRiskProfileStore noOp() {
+        return new AuthenticationRiskProfileStore() {
+            @Override
+            public Optional<AuthenticationRiskProfile> find(final String principal) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void store(final AuthenticationRiskProfile profile) {
+            }
+        };
+    }
+}
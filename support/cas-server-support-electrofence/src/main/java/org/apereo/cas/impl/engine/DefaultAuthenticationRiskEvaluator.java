@@ -1,6 +1,7 @@
 package org.apereo.cas.impl.engine;
 
 import org.apereo.cas.api.AuthenticationRequestRiskCalculator;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskScore;
 import org.apereo.cas.audit.AuditActionResolvers;
@@ -36,6 +37,7 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
     private final List<AuthenticationRequestRiskCalculator> calculators;
     private final CasConfigurationProperties casProperties;
     private final CasEventRepository casEventRepository;
+    private final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
 
     @Audit(action = AuditableActions.EVALUATE_RISKY_AUTHENTICATION,
         actionResolverName = AuditActionResolvers.ADAPTIVE_RISKY_AUTHENTICATION_ACTION_RESOLVER,
@@ -49,9 +51,10 @@ public class DefaultAuthenticationRiskEvaluator implements AuthenticationRiskEva
             return AuthenticationRiskScore.highestRiskScore();
         }
 
+        val profile = authenticationRiskProfileRepository.getProfile(authentication.getPrincipal().getId());
         val scores = calculators
             .stream()
-            .map(riskCalculator -> riskCalculator.calculate(authentication, service, clientInfo))
+            .map(riskCalculator -> riskCalculator.calculate(authentication, service, clientInfo, profile))
             .filter(Objects::nonNull)
             .toList();
 
@@ -0,0 +1,40 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfileEventListener;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+
+import java.util.Objects;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileEventListener}.
+ * <p>
+ * Records {@link CasTicketGrantingTicketCreatedEvent}s into risk profiles
+ * once they are saved in the CAS event repository.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class DefaultAuthenticationRiskProfileEventListener implements AuthenticationRiskProfileEventListener {
+    private final AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Override
+    public void handleCasEventRecordedEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        if (CasTicketGrantingTicketCreatedEvent.class.getName().equals(auditEvent.getType())) {
+            val casEvent = new CasEvent();
+            casEvent.setType(auditEvent.getType());
+            casEvent.setPrincipalId(auditEvent.getPrincipal());
+            auditEvent.getData().forEach((key, value) -> casEvent.put(key, Objects.toString(value, null)));
+            authenticationRiskProfileRepository.record(casEvent);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepository}.
+ * <p>
+ * Keeps risk profiles in memory, with eviction, and updates them in place as authentication events
+ * are recorded. A profile that is not found in memory is fetched from the backing store, if any, or is
+ * otherwise built once from the recent authentication history in the {@link CasEventRepository}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class DefaultAuthenticationRiskProfileRepository implements AuthenticationRiskProfileRepository {
+    private final CasEventRepository casEventRepository;
+
+    private final AuthenticationRiskProfileStore profileStore;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final Cache<String, AuthenticationRiskProfile> profiles;
+
+    public DefaultAuthenticationRiskProfileRepository(final CasEventRepository casEventRepository,
+                                                      final AuthenticationRiskProfileStore profileStore,
+                                                      final CasConfigurationProperties casProperties) {
+        this.casEventRepository = casEventRepository;
+        this.profileStore = profileStore;
+        this.casProperties = casProperties;
+        val properties = casProperties.getAuthn().getAdaptive().getRisk().getProfile();
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(Beans.newDuration(properties.getExpireAfterWrite()))
+            .build();
+    }
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        return profiles.get(principal, this::loadProfile).prune(getRecentHistoryStart());
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        val principal = event.getPrincipalId();
+        if (StringUtils.isBlank(principal)) {
+            return;
+        }
+        val cachedProfile = profiles.getIfPresent(principal);
+        if (cachedProfile != null) {
+            LOGGER.trace("Recording authentication event into cached risk profile for [{}]", principal);
+            profileStore.store(cachedProfile.record(event).prune(getRecentHistoryStart()));
+        } else {
+            profileStore.find(principal).ifPresent(profile -> {
+                LOGGER.trace("Recording authentication event into stored risk profile for [{}]", principal);
+                profileStore.store(profile.record(event).prune(getRecentHistoryStart()));
+                profiles.put(principal, profile);
+            });
+        }
+    }
+
+    @Override
+    public void clear() {
+        profiles.invalidateAll();
+    }
+
+    protected AuthenticationRiskProfile loadProfile(final String principal) {
+        return profileStore.find(principal).orElseGet(() -> {
+            val profile = buildProfile(principal);
+            profileStore.store(profile);
+            return profile;
+        });
+    }
+
+    protected AuthenticationRiskProfile buildProfile(final String principal) {
+        val type = CasTicketGrantingTicketCreatedEvent.class.getName();
+        val properties = casProperties.getAuthn().getAdaptive().getRisk();
+        val date = ZonedDateTime.now(ZoneOffset.UTC).minusDays(properties.getCore().getDaysInRecentHistory());
+        LOGGER.debug("Building risk profile for [{}] from events of type [{}] since [{}]", principal, type, date);
+        val profile = new AuthenticationRiskProfile(principal, properties.getProfile().getMaximumFeaturesPerDay());
+        try (val events = casEventRepository.getEventsOfTypeForPrincipal(type, principal, date)) {
+            events.forEach(profile::record);
+        }
+        LOGGER.debug("Built risk profile for [{}] from [{}] authentication event(s)", principal, profile.getTotalCount());
+        return profile;
+    }
+
+    protected LocalDate getRecentHistoryStart() {
+        val days = casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory();
+        return LocalDate.now(ZoneOffset.UTC).minusDays(days);
+    }
+}
@@ -0,0 +1,88 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfileRepository;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.impl.calcs.BaseAuthenticationRequestRiskCalculatorTests;
+import org.apereo.cas.impl.mock.MockTicketGrantingTicketCreatedEventProducer;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Authentication")
+class DefaultAuthenticationRiskProfileRepositoryTests extends BaseAuthenticationRequestRiskCalculatorTests {
+    @Autowired
+    @Qualifier(AuthenticationRiskProfileRepository.BEAN_NAME)
+    private AuthenticationRiskProfileRepository authenticationRiskProfileRepository;
+
+    @Test
+    void verifyProfileIsBuiltFromHistory() throws Throwable {
+        val id = UUID.randomUUID().toString();
+        val event = MockTicketGrantingTicketCreatedEventProducer.createEvent(id, casEventRepository);
+        val profile = authenticationRiskProfileRepository.getProfile(id);
+        assertEquals(1, profile.getTotalCount());
+        assertEquals(1, profile.getIpAddressCount(event.getClientIpAddress()));
+        assertEquals(1, profile.getUserAgentCount(event.getAgent().toUpperCase(Locale.ENGLISH)));
+        assertEquals(1, profile.getGeoLocationCount(event.getGeoLocation()));
+        assertEquals(0, profile.getIpAddressCount("1.2.3.4"));
+        assertTrue(authenticationRiskProfileRepository.getProfile(UUID.randomUUID().toString()).isEmpty());
+    }
+
+    @Test
+    void verifyProfileIsUpdatedIncrementally() throws Throwable {
+        val id = UUID.randomUUID().toString();
+        MockTicketGrantingTicketCreatedEventProducer.createEvent(id, casEventRepository);
+        val profile = authenticationRiskProfileRepository.getProfile(id);
+        assertEquals(1, profile.getTotalCount());
+
+        val event = new CasEvent();
+        event.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        event.setPrincipalId(id);
+        event.setCreationTime(ZonedDateTime.now(ZoneOffset.UTC).toString());
+        event.putTimestamp(System.currentTimeMillis());
+        event.putClientIpAddress("185.86.151.11");
+        event.putAgent("Firefox");
+        event.putGeoLocation(new GeoLocationRequest(51.5, -0.12));
+        casEventRepository.save(event);
+
+        val updated = authenticationRiskProfileRepository.getProfile(id);
+        assertSame(profile, updated);
+        assertEquals(2, updated.getTotalCount());
+        assertEquals(1, updated.getIpAddressCount("185.86.151.11"));
+        assertEquals(1, updated.getUserAgentCount("firefox"));
+        assertEquals(1, updated.getGeoLocationCount(new GeoLocationRequest(51.5, -0.12)));
+        assertEquals(1, updated.getHourOfDayCount(hour -> hour == ZonedDateTime.now(ZoneOffset.UTC).getHour()));
+    }
+
+    @Test
+    void verifyOldActivityIsPruned() throws Throwable {
+        val id = UUID.randomUUID().toString();
+        val event = new CasEvent();
+        event.setType(CasTicketGrantingTicketCreatedEvent.class.getName());
+        event.setPrincipalId(id);
+        val days = casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory();
+        event.setCreationTime(ZonedDateTime.now(ZoneOffset.UTC).minusDays(days + 2).toString());
+        event.putClientIpAddress("185.86.151.11");
+        val profile = authenticationRiskProfileRepository.getProfile(id);
+        profile.record(event);
+        assertEquals(1, profile.getTotalCount());
+        assertTrue(authenticationRiskProfileRepository.getProfile(id).isEmpty());
+    }
+}
@@ -12,6 +12,7 @@ import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
 import com.hazelcast.query.Predicates;
 import lombok.NonNull;
@@ -19,11 +20,13 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.DisposableBean;
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -63,38 +66,34 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
     }
 
     @Override
-    public Ticket addSingleTicket(final Ticket ticket) throws Exception {
-        var ttl = ticket.getExpirationPolicy().getTimeToLive();
-        /*
-         * Valid values are integers between 0 and Integer.MAX VALUE. Its default value is 0,
-         * which means infinite (no expiration and eviction).
-         * If it is not 0, entries are evicted regardless of the set eviction policy described below.
-         */
-        if (ttl < 0 || ttl >= Integer.MAX_VALUE) {
-            LOGGER.debug("The expiration policy of ticket [{}] is set to use a negative (i.e. infinite) ttl", ticket.getId());
-            ttl = 0L;
+    public List<? extends Ticket> updateTickets(final Stream<? extends Ticket> toUpdate) throws Exception {
+        val tickets = toUpdate.filter(Objects::nonNull).collect(Collectors.toList());
+        val operations = new ArrayList<CompletableFuture<Void>>(tickets.size());
+        for (val ticket : tickets.stream().filter(ticket -> !ticket.isExpired()).toList()) {
+            val metadata = ticketCatalog.find(ticket);
+            val ticketMap = getTicketMapInstanceByMetadata(metadata);
+            if (ticketMap != null) {
+                val holder = buildTicketDocument(ticket, metadata);
+                operations.add(ticketMap.setAsync(holder.getId(), holder, holder.getTimeToLive(), TimeUnit.SECONDS).toCompletableFuture());
+            } else {
+                LOGGER.warn("Unable to locate ticket map for ticket metadata [{}]", metadata);
+            }
         }
+        CompletableFuture.allOf(operations.toArray(CompletableFuture[]::new)).join();
+        LOGGER.debug("Updated [{}] ticket(s)", operations.size());
+        return tickets;
+    }
 
-        LOGGER.debug("Adding ticket [{}] with ttl [{}s]", ticket.getId(), ttl);
-        val encTicket = encodeTicket(ticket);
-
+    @Override
+    public Ticket addSingleTicket(final Ticket ticket) throws Exception {
         val metadata = ticketCatalog.find(ticket);
         val ticketMap = getTicketMapInstanceByMetadata(metadata);
 
         if (ticketMap != null) {
-            val holder = HazelcastTicketDocument
-                .builder()
-                .id(encTicket.getId())
-                .type(metadata.getImplementationClass().getName())
-                .principal(digestIdentifier(getPrincipalIdFrom(ticket)))
-                .timeToLive(ttl)
-                .ticket(encTicket)
-                .prefix(metadata.getPrefix())
-                .service(ticket instanceof final ServiceAwareTicket sat && Objects.nonNull(sat.getService()) ? sat.getService().getId() : null)
-                .attributes(collectAndDigestTicketAttributes(ticket))
-                .build();
-            ticketMap.set(encTicket.getId(), holder, ttl, TimeUnit.SECONDS);
-            LOGGER.debug("Added ticket [{}] with ttl [{}s]", encTicket.getId(), ttl);
+            val holder = buildTicketDocument(ticket, metadata);
+            LOGGER.debug("Adding ticket [{}] with ttl [{}s]", ticket.getId(), holder.getTimeToLive());
+            ticketMap.set(holder.getId(), holder, holder.getTimeToLive(), TimeUnit.SECONDS);
+            LOGGER.debug("Added ticket [{}] with ttl [{}s]", holder.getId(), holder.getTimeToLive());
         } else {
             LOGGER.warn("Unable to locate ticket map for ticket metadata [{}]", metadata);
         }
@@ -135,6 +134,43 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         return map != null && map.remove(encTicketId) != null ? 1 : 0;
     }
 
+    @Override
+    protected long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        return tickets
+            .stream()
+            .collect(Collectors.groupingBy(ticketCatalog::find,
+                Collectors.mapping(ticket -> digestIdentifier(ticket.getId()), Collectors.toSet())))
+            .entrySet()
+            .stream()
+            .mapToLong(entry -> {
+                val map = getTicketMapInstanceByMetadata(entry.getKey());
+                return map == null ? 0 : map.executeOnKeys(entry.getValue(), new RemoveTicketEntryProcessor())
+                    .values()
+                    .stream()
+                    .filter(Boolean.TRUE::equals)
+                    .count();
+            })
+            .sum();
+    }
+
+    @Override
+    protected Stream<? extends Ticket> findTickets(final Collection<String> ticketIds) {
+        return ticketIds
+            .stream()
+            .filter(ticketId -> ticketCatalog.find(ticketId) != null)
+            .collect(Collectors.groupingBy(ticketCatalog::find,
+                Collectors.mapping(this::digestIdentifier, Collectors.toSet())))
+            .entrySet()
+            .stream()
+            .flatMap(entry -> {
+                val map = getTicketMapInstanceByMetadata(entry.getKey());
+                return map == null ? Stream.empty() : map.getAll(entry.getValue()).values().stream();
+            })
+            .map(HazelcastTicketDocument::getTicket)
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket);
+    }
+
     @Override
     public long deleteAll() {
         return ticketCatalog.findAll()
@@ -267,6 +303,31 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
+    private HazelcastTicketDocument buildTicketDocument(final Ticket ticket, final TicketDefinition metadata) throws Exception {
+        var ttl = ticket.getExpirationPolicy().getTimeToLive();
+        /*
+         * Valid values are integers between 0 and Integer.MAX VALUE. Its default value is 0,
+         * which means infinite (no expiration and eviction).
+         * If it is not 0, entries are evicted regardless of the set eviction policy described below.
+         */
+        if (ttl < 0 || ttl >= Integer.MAX_VALUE) {
+            LOGGER.debug("The expiration policy of ticket [{}] is set to use a negative (i.e. infinite) ttl", ticket.getId());
+            ttl = 0L;
+        }
+        val encTicket = encodeTicket(ticket);
+        return HazelcastTicketDocument
+            .builder()
+            .id(encTicket.getId())
+            .type(metadata.getImplementationClass().getName())
+            .principal(digestIdentifier(getPrincipalIdFrom(ticket)))
+            .timeToLive(ttl)
+            .ticket(encTicket)
+            .prefix(metadata.getPrefix())
+            .service(ticket instanceof final ServiceAwareTicket sat && Objects.nonNull(sat.getService()) ? sat.getService().getId() : null)
+            .attributes(collectAndDigestTicketAttributes(ticket))
+            .build();
+    }
+
     private IMap<String, HazelcastTicketDocument> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
@@ -281,4 +342,16 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
             return inst;
         });
     }
+
+    private static final class RemoveTicketEntryProcessor implements EntryProcessor<String, HazelcastTicketDocument, Boolean> {
+        @Serial
+        private static final long serialVersionUID = -2414128387349474311L;
+
+        @Override
+        public Boolean process(final Map.Entry<String, HazelcastTicketDocument> entry) {
+            val exists = entry.getValue() != null;
+            entry.setValue(null);
+            return exists;
+        }
+    }
 }
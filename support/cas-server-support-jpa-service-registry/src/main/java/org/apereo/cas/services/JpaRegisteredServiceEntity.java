@@ -18,6 +18,7 @@ import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.ZonedDateTime;
 
 /**
  * This is {@link JpaRegisteredServiceEntity}.
@@ -64,4 +65,7 @@ public class JpaRegisteredServiceEntity implements Serializable {
     @Column(nullable = false, length = 8_000)
     private String body;
 
+    @Column
+    private ZonedDateTime lastModified;
+
 }
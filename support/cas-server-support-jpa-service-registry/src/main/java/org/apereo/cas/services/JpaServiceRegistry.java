@@ -16,7 +16,14 @@ import org.springframework.transaction.support.TransactionOperations;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -39,6 +46,12 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
      */
     public static final String PERSISTENCE_UNIT_NAME = "jpaServiceRegistryContext";
 
+    /**
+     * Modifications are looked up slightly ahead of the previous load, to account for
+     * clock differences between nodes and for transactions that commit after the load.
+     */
+    private static final Duration MODIFICATION_TIME_TOLERANCE = Duration.ofMinutes(1);
+
     private final TransactionOperations transactionTemplate;
 
     @Getter
@@ -47,6 +60,8 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
 
     private final StringSerializer<RegisteredService> serializer;
 
+    private volatile LoadedRegisteredServices loadedServices;
+
     public JpaServiceRegistry(final ConfigurableApplicationContext applicationContext,
                               final Collection<ServiceRegistryListener> serviceRegistryListeners,
                               final TransactionOperations transactionTemplate) {
@@ -77,18 +92,24 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
         });
     }
 
+    /**
+     * Load service definitions from the database. Once the first load is complete,
+     * only entities modified since the previous load are fetched and parsed again.
+     * Entities that are unchanged are reused, and those that no longer exist are removed,
+     * based on the set of entity identifiers that is queried on every load. Entities that
+     * are not part of the previous load and fall outside the modification window are fetched as well.
+     */
     @Override
     public Collection<RegisteredService> load() {
         return transactionTemplate.execute(status -> {
-            val query = String.format("SELECT r FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
-            val list = entityManager.createQuery(query, JpaRegisteredServiceEntity.class).getResultList();
+            val previous = loadedServices;
+            val loadedAt = ZonedDateTime.now(Clock.systemUTC());
+            val services = previous == null ? loadAllServices() : loadModifiedServices(previous);
+            loadedServices = new LoadedRegisteredServices(loadedAt, Collections.unmodifiableMap(services));
             val clientInfo = ClientInfoHolder.getClientInfo();
-            return list
+            return services.values()
                 .stream()
-                .map(this::toRegisteredService)
                 .sorted()
-                .map(this::invokeServiceRegistryListenerPostLoad)
-                .filter(Objects::nonNull)
                 .peek(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)))
                 .collect(Collectors.toList());
         });
@@ -184,6 +205,61 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
         });
     }
 
+    private Map<Long, RegisteredService> loadAllServices() {
+        val query = String.format("SELECT r FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+        val services = new LinkedHashMap<Long, RegisteredService>();
+        entityManager.createQuery(query, JpaRegisteredServiceEntity.class)
+            .getResultList()
+            .stream()
+            .map(this::toLoadedRegisteredService)
+            .filter(Objects::nonNull)
+            .forEach(service -> services.put(service.getId(), service));
+        return services;
+    }
+
+    private Map<Long, RegisteredService> loadModifiedServices(final LoadedRegisteredServices previous) {
+        val identifiersQuery = String.format("SELECT r.id FROM %s r", JpaRegisteredServiceEntity.ENTITY_NAME);
+        val identifiers = entityManager.createQuery(identifiersQuery, Long.class).getResultList();
+
+        val modifiedQuery = String.format("SELECT r FROM %s r WHERE r.lastModified IS NULL OR r.lastModified >= :since",
+            JpaRegisteredServiceEntity.ENTITY_NAME);
+        val modifiedEntities = new ArrayList<>(entityManager.createQuery(modifiedQuery, JpaRegisteredServiceEntity.class)
+            .setParameter("since", previous.loadedAt().minus(MODIFICATION_TIME_TOLERANCE))
+            .getResultList());
+        val modifiedIdentifiers = modifiedEntities.stream().map(JpaRegisteredServiceEntity::getId).collect(Collectors.toSet());
+
+        val missingIdentifiers = identifiers
+            .stream()
+            .filter(id -> !modifiedIdentifiers.contains(id) && !previous.services().containsKey(id))
+            .toList();
+        if (!missingIdentifiers.isEmpty()) {
+            val missingQuery = String.format("SELECT r FROM %s r WHERE r.id IN :identifiers", JpaRegisteredServiceEntity.ENTITY_NAME);
+            modifiedEntities.addAll(entityManager.createQuery(missingQuery, JpaRegisteredServiceEntity.class)
+                .setParameter("identifiers", missingIdentifiers)
+                .getResultList());
+        }
+
+        val services = new LinkedHashMap<Long, RegisteredService>();
+        identifiers
+            .stream()
+            .filter(id -> !modifiedIdentifiers.contains(id))
+            .map(id -> previous.services().get(id))
+            .filter(Objects::nonNull)
+            .forEach(service -> services.put(service.getId(), service));
+        modifiedEntities
+            .stream()
+            .map(this::toLoadedRegisteredService)
+            .filter(Objects::nonNull)
+            .forEach(service -> services.put(service.getId(), service));
+        LOGGER.debug("Loaded [{}] service(s), of which [{}] were modified since [{}]",
+            services.size(), modifiedEntities.size(), previous.loadedAt());
+        return services;
+    }
+
+    private RegisteredService toLoadedRegisteredService(final JpaRegisteredServiceEntity entity) {
+        return invokeServiceRegistryListenerPostLoad(toRegisteredService(entity));
+    }
+
     private RegisteredService saveInternal(final RegisteredService registeredService) {
         val isNew = registeredService.getId() == RegisteredServiceDefinition.INITIAL_IDENTIFIER_VALUE;
         invokeServiceRegistryListenerPreSave(registeredService);
@@ -212,6 +288,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
             .serviceId(service.getServiceId())
             .evaluationOrder(service.getEvaluationOrder())
             .body(jsonBody)
+            .lastModified(ZonedDateTime.now(Clock.systemUTC()))
             .build();
     }
 
@@ -226,4 +303,7 @@ public class JpaServiceRegistry extends AbstractServiceRegistry implements JpaPe
     public void destroy() throws Exception {
         FunctionUtils.doAndHandle(__ -> entityManager.close());
     }
+
+    private record LoadedRegisteredServices(ZonedDateTime loadedAt, Map<Long, RegisteredService> services) {
+    }
 }
@@ -10,8 +10,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -36,6 +42,10 @@ class JpaServiceRegistryTests extends AbstractServiceRegistryTests {
     @Qualifier("jpaServiceRegistry")
     protected ServiceRegistry newServiceRegistry;
 
+    @Autowired
+    @Qualifier("serviceEntityManagerFactory")
+    private EntityManagerFactory serviceEntityManagerFactory;
+
     @Test
     void verifyLargeDataset() throws Throwable {
         newServiceRegistry.save(
@@ -69,4 +79,67 @@ class JpaServiceRegistryTests extends AbstractServiceRegistryTests {
         stopwatch.stop();
         assertTrue(stopwatch.getTime(TimeUnit.SECONDS) <= 10);
     }
+
+    @Test
+    void verifyOnlyModifiedServicesAreLoadedAgain() throws Throwable {
+        val unchanged = newServiceRegistry.save(buildRegisteredServiceInstance(1, CasRegisteredService.class));
+        val modified = newServiceRegistry.save(buildRegisteredServiceInstance(2, CasRegisteredService.class));
+        val skewed = newServiceRegistry.save(buildRegisteredServiceInstance(3, CasRegisteredService.class));
+        val untracked = newServiceRegistry.save(buildRegisteredServiceInstance(4, CasRegisteredService.class));
+        val deleted = newServiceRegistry.save(buildRegisteredServiceInstance(5, CasRegisteredService.class));
+        val loaded = loadServices();
+        assertEquals(5, loaded.size());
+
+        val now = ZonedDateTime.now(Clock.systemUTC());
+        updateLastModified(unchanged.getId(), now.minusMinutes(2));
+        updateLastModified(modified.getId(), now.plusSeconds(1));
+        updateLastModified(skewed.getId(), now.minusSeconds(30));
+        updateLastModified(untracked.getId(), null);
+        deleteEntity(deleted.getId());
+
+        val reloaded = loadServices();
+        assertEquals(4, reloaded.size());
+        assertSame(loaded.get(unchanged.getId()), reloaded.get(unchanged.getId()));
+        assertNotSame(loaded.get(modified.getId()), reloaded.get(modified.getId()));
+        assertNotSame(loaded.get(skewed.getId()), reloaded.get(skewed.getId()));
+        assertNotSame(loaded.get(untracked.getId()), reloaded.get(untracked.getId()));
+        assertFalse(reloaded.containsKey(deleted.getId()));
+
+        val reloadedAgain = loadServices();
+        assertSame(reloaded.get(unchanged.getId()), reloadedAgain.get(unchanged.getId()));
+        assertNotSame(reloaded.get(untracked.getId()), reloadedAgain.get(untracked.getId()));
+    }
+
+    private Map<Long, RegisteredService> loadServices() {
+        return newServiceRegistry.load()
+            .stream()
+            .collect(Collectors.toMap(RegisteredService::getId, Function.identity()));
+    }
+
+    private void updateLastModified(final long id, final ZonedDateTime lastModified) {
+        if (lastModified == null) {
+            executeUpdate(String.format("UPDATE %s r SET r.lastModified = NULL WHERE r.id = :id",
+                JpaRegisteredServiceEntity.ENTITY_NAME), Map.of("id", id));
+        } else {
+            executeUpdate(String.format("UPDATE %s r SET r.lastModified = :lastModified WHERE r.id = :id",
+                JpaRegisteredServiceEntity.ENTITY_NAME), Map.of("id", id, "lastModified", lastModified));
+        }
+    }
+
+    private void deleteEntity(final long id) {
+        executeUpdate(String.format("DELETE FROM %s r WHERE r.id = :id", JpaRegisteredServiceEntity.ENTITY_NAME), Map.of("id", id));
+    }
+
+    private void executeUpdate(final String statement, final Map<String, ?> parameters) {
+        val entityManager = serviceEntityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            val query = entityManager.createQuery(statement);
+            parameters.forEach(query::setParameter);
+            query.executeUpdate();
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
 }
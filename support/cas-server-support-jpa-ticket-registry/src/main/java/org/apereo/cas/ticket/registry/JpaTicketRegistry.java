@@ -15,6 +15,7 @@ import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import com.google.common.collect.Lists;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -48,6 +49,7 @@ import java.util.stream.Stream;
 @Getter
 @Monitorable
 public class JpaTicketRegistry extends AbstractTicketRegistry {
+    private static final int BATCH_SIZE = 500;
 
     private final JpaBeanFactory jpaBeanFactory;
 
@@ -115,6 +117,16 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return transactionTemplate.execute(callback -> FunctionUtils.doUnchecked(() -> super.deleteTicket(ticketId)));
     }
 
+    @Override
+    public int deleteTickets(final Collection<String> ticketIds) {
+        return transactionTemplate.execute(callback -> FunctionUtils.doUnchecked(() -> super.deleteTickets(ticketIds)));
+    }
+
+    @Override
+    public int deleteTickets(final Stream<? extends Ticket> toDelete) {
+        return transactionTemplate.execute(callback -> FunctionUtils.doUnchecked(() -> super.deleteTickets(toDelete)));
+    }
+
     @Override
     public long deleteAll() {
         return transactionTemplate.execute(status -> {
@@ -325,6 +337,62 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return Objects.requireNonNull(result);
     }
 
+    @Override
+    public List<? extends Ticket> updateTickets(final Stream<? extends Ticket> toUpdate) {
+        return transactionTemplate.execute(status -> toUpdate
+            .map(ticket -> FunctionUtils.doUnchecked(() -> {
+                val ticketEntity = getTicketEntityFrom(ticket);
+                entityManager.merge(ticketEntity);
+                LOGGER.debug("Updated ticket [{}]", ticketEntity.getId());
+                return encodeTicket(ticket);
+            }))
+            .collect(Collectors.toList()));
+    }
+
+    @Override
+    protected Stream<? extends Ticket> findTickets(final Collection<String> ticketIds) {
+        val encTicketIds = ticketIds.stream().map(this::digestIdentifier).toList();
+        val result = transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = String.format("SELECT t FROM %s t WHERE t.id IN :ids", factory.getEntityName());
+            return Lists.partition(encTicketIds, BATCH_SIZE)
+                .stream()
+                .flatMap(ids -> {
+                    val query = entityManager.createQuery(sql, factory.getType());
+                    query.setParameter("ids", ids);
+                    query.setLockMode(casProperties.getTicket().getRegistry().getJpa().getTicketLockType());
+                    return query.getResultList().stream();
+                })
+                .map(factory::toTicket)
+                .map(this::decodeTicket)
+                .filter(Objects::nonNull)
+                .toList();
+        });
+        return Objects.requireNonNull(result).stream();
+    }
+
+    @Override
+    protected long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        val ticketsByCascade = tickets
+            .stream()
+            .collect(Collectors.partitioningBy(ticket -> ticketCatalog.find(ticket).getProperties().isCascadeRemovals(),
+                Collectors.mapping(ticket -> digestIdentifier(ticket.getId()), Collectors.toList())));
+        val result = transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val cascadeSql = String.format("DELETE FROM %s t WHERE t.parentId IN :ids OR t.id IN :ids", factory.getEntityName());
+            val sql = String.format("DELETE FROM %s t WHERE t.id IN :ids", factory.getEntityName());
+            return Lists.partition(ticketsByCascade.get(Boolean.TRUE), BATCH_SIZE)
+                .stream()
+                .mapToLong(ids -> entityManager.createQuery(cascadeSql).setParameter("ids", ids).executeUpdate())
+                .sum()
+                + Lists.partition(ticketsByCascade.get(Boolean.FALSE), BATCH_SIZE)
+                .stream()
+                .mapToLong(ids -> entityManager.createQuery(sql).setParameter("ids", ids).executeUpdate())
+                .sum();
+        });
+        return Objects.requireNonNull(result);
+    }
+
     protected BaseTicketEntity getTicketEntityFrom(final Ticket ticket) {
         return FunctionUtils.doUnchecked(() -> {
             val encodeTicket = encodeTicket(ticket);
@@ -20,12 +20,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
 import org.springframework.data.domain.Limit;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.TextCriteria;
-import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.data.mongodb.core.query.Update;
 import java.io.Serializable;
 import java.time.Instant;
@@ -48,8 +46,6 @@ import java.util.stream.Stream;
 @Slf4j
 @Monitorable
 public class MongoDbTicketRegistry extends AbstractTicketRegistry {
-    private static final int PAGE_SIZE = 500;
-
     private final MongoOperations mongoTemplate;
 
     public MongoDbTicketRegistry(final CipherExecutor cipherExecutor, final TicketSerializationManager ticketSerializationManager,
@@ -179,6 +175,25 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return null;
     }
 
+    @Override
+    public List<? extends Ticket> updateTickets(final Stream<? extends Ticket> toUpdate) {
+        val tickets = toUpdate.filter(Objects::nonNull).collect(Collectors.toList());
+        tickets.stream()
+            .filter(ticket -> ticketCatalog.find(ticket) != null)
+            .collect(Collectors.groupingBy(ticket -> getTicketCollectionInstanceByMetadata(ticketCatalog.find(ticket))))
+            .forEach((collectionName, batch) -> {
+                val operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+                batch.forEach(ticket -> FunctionUtils.doUnchecked(__ -> {
+                    val holder = buildTicketAsDocument(ticket);
+                    val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(holder.getTicketId()));
+                    operations.updateOne(query, Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson()));
+                }));
+                val result = operations.execute();
+                LOGGER.debug("Updated [{}] ticket(s) in collection [{}]", result.getModifiedCount(), collectionName);
+            });
+        return tickets;
+    }
+
     @Override
     public Stream<Ticket> stream() {
         return ticketCatalog
@@ -206,9 +221,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .stream()
             .map(this::getTicketCollectionInstanceByMetadata)
             .flatMap(map -> {
-                val query = isCipherExecutorEnabled()
-                    ? new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(principalId)))
-                    : TextQuery.queryText(TextCriteria.forDefaultLanguage().matchingAny(principalId)).sortByScore().with(PageRequest.of(0, PAGE_SIZE));
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(digestIdentifier(principalId)));
                 return mongoTemplate.stream(query, MongoDbTicketDocument.class, map);
             })
             .map(ticket -> decodeTicket(deserializeTicket(ticket.getJson(), ticket.getType())))
@@ -261,6 +274,39 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         return res.getDeletedCount();
     }
 
+    @Override
+    protected long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        return tickets
+            .stream()
+            .collect(Collectors.groupingBy(ticket -> getTicketCollectionInstanceByMetadata(ticketCatalog.find(ticket)),
+                Collectors.mapping(ticket -> digestIdentifier(ticket.getId()), Collectors.toList())))
+            .entrySet()
+            .stream()
+            .mapToLong(entry -> {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).in(entry.getValue()));
+                val res = mongoTemplate.remove(query, entry.getKey());
+                LOGGER.debug("Deleted [{}] ticket(s) from collection [{}]", res.getDeletedCount(), entry.getKey());
+                return res.getDeletedCount();
+            })
+            .sum();
+    }
+
+    @Override
+    protected Stream<? extends Ticket> findTickets(final Collection<String> ticketIds) {
+        return ticketIds
+            .stream()
+            .filter(ticketId -> ticketCatalog.find(ticketId) != null)
+            .collect(Collectors.groupingBy(ticketId -> getTicketCollectionInstanceByMetadata(ticketCatalog.find(ticketId)),
+                Collectors.mapping(this::digestIdentifier, Collectors.toList())))
+            .entrySet()
+            .stream()
+            .flatMap(entry -> {
+                val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).in(entry.getValue()));
+                return mongoTemplate.find(query, MongoDbTicketDocument.class, entry.getKey()).stream();
+            })
+            .map(document -> decodeTicket(deserializeTicket(document.getJson(), document.getType())));
+    }
+
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
         val ticketDefinitions = StringUtils.isNotBlank(criteria.getType())
@@ -320,8 +366,10 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
         val json = serializeTicket(encTicket);
         FunctionUtils.throwIf(StringUtils.isBlank(json),
             () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
-        LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
-            JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        if (LOGGER.isTraceEnabled() && json.startsWith("{")) {
+            LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
+                JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        }
 
         val expireAt = getExpireAt(ticket);
         LOGGER.trace("Calculated expiration date for ticket ttl as [{}]", expireAt);
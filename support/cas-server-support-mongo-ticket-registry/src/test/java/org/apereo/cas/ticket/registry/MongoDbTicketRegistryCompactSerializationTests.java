@@ -0,0 +1,85 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.CasMongoDbTicketRegistryAutoConfiguration;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.CompactTicketSerializationManager;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MongoDbTicketRegistryCompactSerializationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("MongoDb")
+@Import(CasMongoDbTicketRegistryAutoConfiguration.class)
+@TestPropertySource(properties = {
+    "cas.ticket.registry.core.compact-serialization=true",
+    "cas.ticket.registry.mongo.database-name=ticket-registry",
+    "cas.ticket.registry.mongo.authentication-database-name=admin",
+    "cas.ticket.registry.mongo.host=localhost",
+    "cas.ticket.registry.mongo.port=27017",
+    "cas.ticket.registry.mongo.drop-collection=true",
+    "cas.ticket.registry.mongo.update-indexes=true",
+    "cas.ticket.registry.mongo.drop-indexes=true",
+    "cas.ticket.registry.mongo.user-id=root",
+    "cas.ticket.registry.mongo.password=secret"
+})
+@EnabledIfListeningOnPort(port = 27017)
+@Getter
+class MongoDbTicketRegistryCompactSerializationTests extends BaseTicketRegistryTests {
+
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry newTicketRegistry;
+
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier("mongoDbTicketRegistryTemplate")
+    private MongoOperations mongoDbTicketRegistryTemplate;
+
+    @BeforeEach
+    public void before() {
+        newTicketRegistry.deleteAll();
+    }
+
+    @RepeatedTest(1)
+    void verifySessionsForPrincipalWithCompactTickets() throws Throwable {
+        val compactManager = assertInstanceOf(CompactTicketSerializationManager.class, ticketSerializationManager);
+        val principalId = UUID.randomUUID().toString();
+        val ticketGrantingTicketId = TestTicketIdentifiers.generate().ticketGrantingTicketId();
+        newTicketRegistry.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE));
+
+        val documents = mongoDbTicketRegistryTemplate.find(
+            new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(newTicketRegistry.digestIdentifier(principalId))),
+            MongoDbTicketDocument.class, "ticketGrantingTicketsCollection");
+        assertFalse(documents.isEmpty());
+        assertTrue(documents.stream().allMatch(document -> compactManager.isCompact(document.getJson())));
+
+        assertEquals(1, newTicketRegistry.countSessionsFor(principalId));
+        try (val results = newTicketRegistry.getSessionsFor(principalId)) {
+            assertEquals(1, results.count());
+        }
+    }
+}
@@ -1,22 +1,42 @@
 package org.apereo.cas.support.oauth.authenticator;
 
+import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.pac4j.core.context.CallContext;
 import org.pac4j.core.credentials.Credentials;
 import org.pac4j.core.credentials.TokenCredentials;
 import org.pac4j.core.credentials.authenticator.Authenticator;
 import org.pac4j.core.profile.CommonProfile;
 
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Optional;
@@ -24,6 +44,11 @@ import java.util.Set;
 
 /**
  * This is {@link OAuth20AccessTokenAuthenticator}.
+ * <p>
+ * When stateless validation is enabled with a shared revocation filter, signed or encrypted JWT access tokens
+ * are validated without a ticket registry lookup, as long as the token has not expired, the filter
+ * can vouch that it was not revoked and its claims carry the required scopes. Verified claims are
+ * cached by the digest of the token. All other tokens are validated against the ticket registry.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -39,6 +64,51 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
 
     private Set<String> requiredScopes = new LinkedHashSet<>();
 
+    @Setter(AccessLevel.NONE)
+    private OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter;
+
+    @Setter(AccessLevel.NONE)
+    private Cache<String, VerifiedAccessToken> verifiedAccessTokens;
+
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Build the cache of verified access token claims.
+     *
+     * @param maximumSize the maximum size
+     * @param expiration  the expiration
+     * @return the cache
+     */
+    public static Cache<String, VerifiedAccessToken> newVerifiedAccessTokenCache(final long maximumSize,
+                                                                                final Duration expiration) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expiration)
+            .build();
+    }
+
+    /**
+     * Validate JWT access tokens without the ticket registry, as long as the revocation filter
+     * is shared by all nodes so that tokens revoked on any node are never accepted.
+     *
+     * @param revocationFilter the revocation filter
+     * @param cacheSize        the maximum size of the claims cache
+     * @param cacheExpiration  the expiration of the claims cache
+     * @return true if access tokens are validated without the ticket registry
+     */
+    public boolean enableStatelessValidation(final OAuth20AccessTokenRevocationFilter revocationFilter,
+                                             final long cacheSize, final Duration cacheExpiration) {
+        if (!revocationFilter.isShared()) {
+            LOGGER.warn("Access tokens cannot be validated without the ticket registry, since revocations recorded by [{}] "
+                        + "are not shared by all nodes. Define a shared revocation filter under the bean name [{}] instead.",
+                revocationFilter.getClass().getSimpleName(), OAuth20AccessTokenRevocationFilter.BEAN_NAME);
+            return false;
+        }
+        this.accessTokenRevocationFilter = revocationFilter;
+        this.verifiedAccessTokens = newVerifiedAccessTokenCache(cacheSize, cacheExpiration);
+        return true;
+    }
+
     protected String extractAccessTokenFrom(final TokenCredentials tokenCredentials) {
         return OAuth20JwtAccessTokenEncoder.toDecodableCipher(accessTokenJwtBuilder).decode(tokenCredentials.getToken());
     }
@@ -46,7 +116,23 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
     @Override
     public Optional<Credentials> validate(final CallContext callContext, final Credentials credentials) {
         val tokenCredentials = (TokenCredentials) credentials;
-        val token = extractAccessTokenFrom(tokenCredentials);
+        if (accessTokenRevocationFilter != null && verifiedAccessTokens != null) {
+            val verifiedAccessToken = verifyAccessToken(tokenCredentials.getToken());
+            if (verifiedAccessToken != null) {
+                if (isEligibleForStatelessValidation(verifiedAccessToken)) {
+                    LOGGER.trace("Validated access token [{}] without the ticket registry", verifiedAccessToken.id());
+                    val profile = buildUserProfile(tokenCredentials, callContext, verifiedAccessToken);
+                    return finalizeValidation(tokenCredentials, profile);
+                }
+                return validateAccessToken(tokenCredentials, callContext, verifiedAccessToken.id());
+            }
+        }
+        return validateAccessToken(tokenCredentials, callContext, extractAccessTokenFrom(tokenCredentials));
+    }
+
+    protected Optional<Credentials> validateAccessToken(final TokenCredentials tokenCredentials,
+                                                        final CallContext callContext,
+                                                        final String token) {
         LOGGER.trace("Received access token [{}] for authentication", token);
 
         val accessToken = ticketRegistry.getTicket(token, OAuth20AccessToken.class);
@@ -61,14 +147,104 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
         }
 
         val profile = buildUserProfile(tokenCredentials, callContext, accessToken);
+        return finalizeValidation(tokenCredentials, profile);
+    }
+
+    protected Optional<Credentials> finalizeValidation(final TokenCredentials tokenCredentials, final CommonProfile profile) {
         if (profile != null) {
-            LOGGER.trace("Final user profile based on access token [{}] is [{}]", accessToken, profile);
+            LOGGER.trace("Final user profile based on access token is [{}]", profile);
             tokenCredentials.setUserProfile(profile);
             return Optional.of(tokenCredentials);
         }
         return Optional.empty();
     }
 
+    /**
+     * Verify the signature of the access token and collect its claims.
+     * Opaque and unsecured tokens, and tokens whose application cannot be determined, are not verified.
+     *
+     * @param token the token
+     * @return the verified access token, or null
+     */
+    protected VerifiedAccessToken verifyAccessToken(final String token) {
+        if (StringUtils.isBlank(token)) {
+            return null;
+        }
+        return verifiedAccessTokens.get(DigestUtils.sha256(token), __ -> {
+            try {
+                val jwt = JWTParser.parse(token);
+                if (!(jwt instanceof SignedJWT) && !(jwt instanceof EncryptedJWT)) {
+                    return null;
+                }
+                val registeredService = resolveRegisteredService(jwt);
+                if (registeredService == null) {
+                    LOGGER.trace("Unable to determine the application for the access token");
+                    return null;
+                }
+                val claims = accessTokenJwtBuilder.unpack(Optional.of(registeredService), token);
+                return new VerifiedAccessToken(claims.getJWTID(), claims, registeredService.getClientId());
+            } catch (final ParseException e) {
+                LOGGER.trace("Access token is not a JWT and cannot be verified without the ticket registry");
+                return null;
+            }
+        });
+    }
+
+    protected OAuthRegisteredService resolveRegisteredService(final JWT jwt) throws ParseException {
+        val servicesManager = accessTokenJwtBuilder.getServicesManager();
+        val serviceId = jwt.getHeader().getCustomParam(RegisteredServiceCipherExecutor.CUSTOM_HEADER_REGISTERED_SERVICE_ID);
+        if (serviceId != null) {
+            return servicesManager.findServiceBy(Long.parseLong(serviceId.toString()), OAuthRegisteredService.class);
+        }
+        if (jwt instanceof final SignedJWT signedJwt) {
+            return CollectionUtils.firstElement(signedJwt.getJWTClaimsSet().getClaim(OAuth20Constants.CLIENT_ID))
+                .map(clientId -> OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, clientId.toString()))
+                .orElse(null);
+        }
+        return null;
+    }
+
+    protected boolean isEligibleForStatelessValidation(final VerifiedAccessToken accessToken) {
+        val claims = accessToken.claims();
+        if (StringUtils.isBlank(accessToken.id()) || claims.getExpirationTime() == null || claims.getIssueTime() == null) {
+            return false;
+        }
+        val expiration = claims.getExpirationTime().toInstant();
+        if (!Instant.now(clock).isBefore(expiration)) {
+            LOGGER.debug("Access token [{}] has expired and will be checked against the ticket registry", accessToken.id());
+            return false;
+        }
+        if (Duration.between(claims.getIssueTime().toInstant(), expiration).compareTo(accessTokenRevocationFilter.getRetention()) > 0) {
+            LOGGER.debug("Access token [{}] outlives the revocation filter and will be checked against the ticket registry", accessToken.id());
+            return false;
+        }
+        if (accessTokenRevocationFilter.isRevoked(accessToken.id())) {
+            LOGGER.debug("Access token [{}] may have been revoked and will be checked against the ticket registry", accessToken.id());
+            return false;
+        }
+        if (!requiredScopes.isEmpty()) {
+            val scopes = Optional.ofNullable(claims.getClaim(OAuth20Constants.SCOPE))
+                .map(scope -> Set.copyOf(Arrays.asList(scope.toString().split(" "))))
+                .orElseGet(Set::of);
+            return scopes.containsAll(requiredScopes);
+        }
+        return true;
+    }
+
+    protected CommonProfile buildUserProfile(final TokenCredentials tokenCredentials,
+                                             final CallContext callContext,
+                                             final VerifiedAccessToken accessToken) {
+        val userProfile = new CommonProfile(true);
+        val claims = accessToken.claims();
+        userProfile.setId(claims.getSubject());
+        val attributes = new HashMap<>(claims.getClaims());
+        JWTClaimsSet.getRegisteredNames().forEach(attributes::remove);
+        userProfile.addAttributes(attributes);
+        userProfile.addAttribute(OAuth20Constants.CLIENT_ID, accessToken.clientId());
+        LOGGER.trace("Built user profile based on verified access token [{}] is [{}]", accessToken.id(), userProfile);
+        return userProfile;
+    }
+
     protected CommonProfile buildUserProfile(final TokenCredentials tokenCredentials,
                                              final CallContext callContext,
                                              final OAuth20AccessToken accessToken) {
@@ -85,4 +261,14 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
         LOGGER.trace("Built user profile based on access token [{}] is [{}]", accessToken, userProfile);
         return userProfile;
     }
+
+    /**
+     * Access token whose signature is verified.
+     *
+     * @param id       the access token id
+     * @param claims   the claims
+     * @param clientId the client id
+     */
+    public record VerifiedAccessToken(String id, JWTClaimsSet claims, String clientId) {
+    }
 }
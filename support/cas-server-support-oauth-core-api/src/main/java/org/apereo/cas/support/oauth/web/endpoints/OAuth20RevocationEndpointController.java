@@ -145,6 +145,7 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
     protected void revokeToken(final String token) throws Exception {
         LOGGER.debug("Revoking token [{}]", token);
         getConfigurationContext().getTicketRegistry().deleteTicket(token);
+        getConfigurationContext().getAccessTokenRevocationFilter().revoke(token);
     }
 
     protected OAuthRegisteredService getRegisteredServiceByClientId(final String clientId) {
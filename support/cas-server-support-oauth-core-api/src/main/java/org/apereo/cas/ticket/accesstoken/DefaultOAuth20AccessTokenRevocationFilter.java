@@ -0,0 +1,105 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is {@link DefaultOAuth20AccessTokenRevocationFilter}.
+ * <p>
+ * Keeps revoked access tokens in two generations of bloom filters held in memory.
+ * Revocations are recorded in the current generation, which becomes the previous
+ * generation once the retention period has passed, so that every revoked token is
+ * remembered for at least the retention period. The filter is fed by explicit
+ * revocations, by access tokens that descend from ended single sign-on sessions
+ * and by access tokens removed from the in-memory ticket registry. When the ticket registry
+ * replicates removed tickets to all nodes through a message queue, every node records the same
+ * revocations shortly after they happen and the filter is reported as shared; otherwise
+ * revocations are only known to the node that recorded them.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class DefaultOAuth20AccessTokenRevocationFilter implements OAuth20AccessTokenRevocationFilter {
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<Generations> generations;
+
+    private final long capacity;
+
+    private final double falsePositiveProbability;
+
+    private final Duration retention;
+
+    private final boolean shared;
+
+    private final Clock clock;
+
+    public DefaultOAuth20AccessTokenRevocationFilter(final long capacity, final double falsePositiveProbability,
+                                                     final Duration retention) {
+        this(capacity, falsePositiveProbability, retention, false, Clock.systemUTC());
+    }
+
+    public DefaultOAuth20AccessTokenRevocationFilter(final long capacity, final double falsePositiveProbability,
+                                                     final Duration retention, final boolean shared) {
+        this(capacity, falsePositiveProbability, retention, shared, Clock.systemUTC());
+    }
+
+    public DefaultOAuth20AccessTokenRevocationFilter(final long capacity, final double falsePositiveProbability,
+                                                     final Duration retention, final boolean shared, final Clock clock) {
+        this.capacity = capacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.retention = retention;
+        this.shared = shared;
+        this.clock = clock;
+        this.generations = new AtomicReference<>(new Generations(newBloomFilter(), newBloomFilter(), clock.instant()));
+    }
+
+    @Override
+    public void revoke(final String accessTokenId) {
+        if (StringUtils.isNotBlank(accessTokenId)) {
+            LOGGER.trace("Recording access token [{}] as revoked", accessTokenId);
+            currentGenerations().current().put(accessTokenId);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(final String accessTokenId) {
+        val current = currentGenerations();
+        return current.current().mightContain(accessTokenId) || current.previous().mightContain(accessTokenId);
+    }
+
+    private Generations currentGenerations() {
+        while (true) {
+            val current = generations.get();
+            val now = clock.instant();
+            if (now.isBefore(current.createdAt().plus(retention))) {
+                return current;
+            }
+            val rotated = new Generations(newBloomFilter(), current.current(), now);
+            if (generations.compareAndSet(current, rotated)) {
+                LOGGER.debug("Rotated access token revocation filter with approximately [{}] revoked tokens",
+                    current.current().approximateElementCount());
+                return rotated;
+            }
+        }
+    }
+
+    private BloomFilter<CharSequence> newBloomFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), capacity, falsePositiveProbability);
+    }
+
+    private record Generations(BloomFilter<CharSequence> current, BloomFilter<CharSequence> previous, Instant createdAt) {
+    }
+}
@@ -0,0 +1,103 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.registry.TicketRegistryDeletionListener;
+
+import java.time.Duration;
+
+/**
+ * This is {@link OAuth20AccessTokenRevocationFilter}.
+ * <p>
+ * Tracks access tokens that have been revoked before their expiration date, so that
+ * JWT access tokens can be validated without a ticket registry lookup. Implementations
+ * may report tokens as revoked when they are not, but must never miss a revoked
+ * token during the retention period. Since tokens may be revoked on any node,
+ * access tokens are only validated without the ticket registry when the filter
+ * is shared by all nodes. Filters are also fed by access tokens that are removed
+ * from registries that keep tickets in memory.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface OAuth20AccessTokenRevocationFilter extends TicketRegistryDeletionListener {
+
+    /**
+     * Bean name.
+     */
+    String BEAN_NAME = "accessTokenRevocationFilter";
+
+    /**
+     * Record the access token as revoked.
+     *
+     * @param accessTokenId the access token id
+     */
+    void revoke(String accessTokenId);
+
+    /**
+     * Whether the access token might have been revoked.
+     *
+     * @param accessTokenId the access token id
+     * @return true if the token might have been revoked, false if it certainly was not.
+     */
+    boolean isRevoked(String accessTokenId);
+
+    /**
+     * The minimum duration for which revoked access tokens are remembered.
+     * Access tokens whose lifetime exceeds this duration cannot be checked by the filter.
+     *
+     * @return the retention duration
+     */
+    Duration getRetention();
+
+    /**
+     * Whether revocations recorded by this filter are visible to all nodes
+     * of the deployment, and not just the node that recorded them.
+     *
+     * @return true/false
+     */
+    default boolean isShared() {
+        return false;
+    }
+
+    /**
+     * Record access tokens that descend from the ended single sign-on session as revoked.
+     *
+     * @param ticketGrantingTicket the ticket granting ticket
+     */
+    default void revokeDescendants(final TicketGrantingTicket ticketGrantingTicket) {
+        ticketGrantingTicket.getDescendantTickets()
+            .stream()
+            .filter(ticketId -> ticketId.startsWith(OAuth20AccessToken.PREFIX))
+            .forEach(this::revoke);
+    }
+
+    @Override
+    default void ticketDeleted(final String ticketId) {
+        if (ticketId.startsWith(OAuth20AccessToken.PREFIX)) {
+            revoke(ticketId);
+        }
+    }
+
+    /**
+     * A filter that does not track revocations and reports every access token as possibly revoked.
+     *
+     * @return the filter
+     */
+    static OAuth20AccessTokenRevocationFilter noOp() {
+        return new OAuth20AccessTokenRevocationFilter() {
+            @Override
+            public void revoke(final String accessTokenId) {
+            }
+
+            @Override
+            public boolean isRevoked(final String accessTokenId) {
+                return true;
+            }
+
+            @Override
+            public Duration getRetention() {
+                return Duration.ZERO;
+            }
+        };
+    }
+}
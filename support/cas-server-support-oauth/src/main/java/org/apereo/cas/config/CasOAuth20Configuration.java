@@ -19,6 +19,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.support.replication.CookieSessionReplicationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.pac4j.TicketRegistrySessionStore;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
@@ -114,10 +115,12 @@ import org.apereo.cas.ticket.TicketCatalogConfigurer;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.DefaultOAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenCompactor;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenExpirationPolicyBuilder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenFactory;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.accesstoken.OAuth20DefaultAccessTokenFactory;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.code.OAuth20Code;
@@ -141,6 +144,7 @@ import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshTokenExpirationPolicyBui
 import org.apereo.cas.ticket.refreshtoken.OAuth20RefreshTokenFactory;
 import org.apereo.cas.ticket.registry.TicketCompactor;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
@@ -307,7 +311,8 @@ class CasOAuth20Configuration {
             final ObjectProvider<List<OAuth20AuthorizationRequestValidator>> oauthAuthorizationRequestValidators,
             @Qualifier("oauthTokenGenerator") final OAuth20TokenGenerator oauthTokenGenerator,
             final List<OAuth20IntrospectionResponseGenerator> oauthIntrospectionResponseGenerator,
-            @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER) final PrincipalResolver defaultPrincipalResolver) {
+            @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER) final PrincipalResolver defaultPrincipalResolver,
+            @Qualifier(OAuth20AccessTokenRevocationFilter.BEAN_NAME) final OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter) {
             return OAuth20ConfigurationContext.builder()
                 .argumentExtractor(argumentExtractor)
                 .requestParameterResolver(oauthRequestParameterResolver)
@@ -344,6 +349,7 @@ class CasOAuth20Configuration {
                 .attributeDefinitionStore(attributeDefinitionStore)
                 .introspectionResponseGenerator(oauthIntrospectionResponseGenerator)
                 .principalResolver(defaultPrincipalResolver)
+                .accessTokenRevocationFilter(accessTokenRevocationFilter)
                 .build();
         }
     }
@@ -721,8 +727,10 @@ class CasOAuth20Configuration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public LogoutExecutionPlanConfigurer oauthLogoutExecutionPlanConfigurer(
             final CasConfigurationProperties casProperties,
+            @Qualifier(OAuth20AccessTokenRevocationFilter.BEAN_NAME) final OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter,
             @Qualifier("oauthDistributedSessionStore") final SessionStore oauthDistributedSessionStore) {
             return plan -> {
+                plan.registerLogoutPostProcessor(accessTokenRevocationFilter::revokeDescendants);
                 val replicate = casProperties.getAuthn().getOauth().getSessionReplication().isReplicateSessions();
                 if (replicate) {
                     plan.registerLogoutPostProcessor(ticketGrantingTicket -> {
@@ -1148,6 +1156,22 @@ class CasOAuth20Configuration {
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasOAuth20TicketsConfiguration {
 
+        @Bean
+        @ConditionalOnMissingBean(name = OAuth20AccessTokenRevocationFilter.BEAN_NAME)
+        public OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter(
+            @Qualifier("messageQueueTicketRegistryPublisher")
+            final ObjectProvider<QueueableTicketRegistryMessagePublisher> messageQueueTicketRegistryPublisher,
+            final CasConfigurationProperties casProperties) {
+            val accessToken = casProperties.getAuthn().getOauth().getAccessToken();
+            val validation = accessToken.getStatelessValidation();
+            val replicated = Optional.ofNullable(messageQueueTicketRegistryPublisher.getIfAvailable())
+                .map(QueueableTicketRegistryMessagePublisher::isEnabled)
+                .orElse(Boolean.FALSE);
+            return new DefaultOAuth20AccessTokenRevocationFilter(validation.getRevocationFilterCapacity(),
+                validation.getRevocationFilterFalsePositiveProbability(),
+                Beans.newDuration(accessToken.getMaxTimeToLiveInSeconds()), replicated);
+        }
+
         @Bean
         @ConditionalOnMissingBean(name = "accessTokenExpirationPolicy")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -1464,9 +1488,17 @@ class CasOAuth20Configuration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public Authenticator oauthAccessTokenAuthenticator(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(OAuth20AccessTokenRevocationFilter.BEAN_NAME) final OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter,
             @Qualifier("accessTokenJwtBuilder") final JwtBuilder accessTokenJwtBuilder,
             @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
-            return new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            val authenticator = new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            val validation = casProperties.getAuthn().getOauth().getAccessToken().getStatelessValidation();
+            if (validation.isEnabled()) {
+                authenticator.enableStatelessValidation(accessTokenRevocationFilter,
+                    validation.getClaimsCacheSize(), Beans.newDuration(validation.getClaimsCacheExpiration()));
+            }
+            return authenticator;
         }
 
 
@@ -1,7 +1,10 @@
 package org.apereo.cas.support.oauth.authenticator;
 
+import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.ticket.ExpirationPolicy;
 import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.accesstoken.DefaultOAuth20AccessTokenRevocationFilter;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -14,7 +17,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import java.time.Duration;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * This is {@link OAuth20AccessTokenAuthenticatorTests}.
@@ -66,4 +71,30 @@ class OAuth20AccessTokenAuthenticatorTests extends BaseOAuth20AuthenticatorTests
         oauthAccessTokenAuthenticator.validate(new CallContext(ctx, new JEESessionStore()), credentials);
         assertNotNull(credentials.getUserProfile());
     }
+
+    @Test
+    void verifyStatelessAuthenticationWithJwtAccessToken() throws Throwable {
+        val accessToken = getAccessToken();
+        val expirationPolicy = mock(ExpirationPolicy.class);
+        when(expirationPolicy.getTimeToLive()).thenReturn(60L);
+        when(accessToken.getExpirationPolicy()).thenReturn(expirationPolicy);
+
+        val revocationFilter = new DefaultOAuth20AccessTokenRevocationFilter(1000, 0.001, Duration.ofHours(1), true);
+        val authenticator = new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+        assertTrue(authenticator.enableStatelessValidation(revocationFilter, 100, Duration.ofMinutes(1)));
+
+        val encodedAccessToken = OAuth20JwtAccessTokenEncoder.toEncodableCipher(accessTokenJwtBuilder, serviceJwtAccessToken,
+            accessToken, accessToken.getService(), casProperties, false).encode(accessToken.getId());
+        val credentials = new TokenCredentials(encodedAccessToken);
+        val ctx = new JEEContext(new MockHttpServletRequest(), new MockHttpServletResponse());
+        assertTrue(authenticator.validate(new CallContext(ctx, new JEESessionStore()), credentials).isPresent());
+        assertEquals("casuser", credentials.getUserProfile().getId());
+        assertEquals(serviceJwtAccessToken.getClientId(), credentials.getUserProfile().getAttribute(OAuth20Constants.CLIENT_ID));
+        assertEquals(1, authenticator.getVerifiedAccessTokens().estimatedSize());
+
+        revocationFilter.ticketDeleted(accessToken.getId());
+        val revokedCredentials = new TokenCredentials(encodedAccessToken);
+        assertThrows(InvalidTicketException.class,
+            () -> authenticator.validate(new CallContext(ctx, new JEESessionStore()), revokedCredentials));
+    }
 }
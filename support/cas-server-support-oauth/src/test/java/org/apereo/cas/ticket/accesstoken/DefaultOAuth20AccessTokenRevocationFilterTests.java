@@ -0,0 +1,96 @@
+package org.apereo.cas.ticket.accesstoken;
+
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.support.oauth.authenticator.OAuth20AccessTokenAuthenticator;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.token.JwtBuilder;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultOAuth20AccessTokenRevocationFilterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("OAuthToken")
+class DefaultOAuth20AccessTokenRevocationFilterTests {
+    @Test
+    void verifyRevocationsAreRetained() {
+        val now = Instant.now(Clock.systemUTC());
+        val clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(now);
+        val filter = new DefaultOAuth20AccessTokenRevocationFilter(1000, 0.001, Duration.ofHours(1), false, clock);
+
+        val accessTokenId = OAuth20AccessToken.PREFIX + '-' + UUID.randomUUID();
+        assertFalse(filter.isRevoked(accessTokenId));
+        filter.revoke(accessTokenId);
+        assertTrue(filter.isRevoked(accessTokenId));
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(90)));
+        assertTrue(filter.isRevoked(accessTokenId));
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(150)));
+        assertFalse(filter.isRevoked(accessTokenId));
+    }
+
+    @Test
+    void verifyDescendantsOfDestroyedSessionsAreRevoked() {
+        val filter = new DefaultOAuth20AccessTokenRevocationFilter(1000, 0.001, Duration.ofHours(1));
+        val ticketGrantingTicket = new MockTicketGrantingTicket("casuser");
+        val accessTokenId = OAuth20AccessToken.PREFIX + '-' + UUID.randomUUID();
+        val serviceTicketId = "ST-" + UUID.randomUUID();
+        ticketGrantingTicket.getDescendantTickets().add(accessTokenId);
+        ticketGrantingTicket.getDescendantTickets().add(serviceTicketId);
+
+        filter.revokeDescendants(ticketGrantingTicket);
+        assertTrue(filter.isRevoked(accessTokenId));
+        assertFalse(filter.isRevoked(serviceTicketId));
+    }
+
+    @Test
+    void verifyNoOpFilter() {
+        val filter = OAuth20AccessTokenRevocationFilter.noOp();
+        filter.revoke("AT-1");
+        assertTrue(filter.isRevoked("AT-2"));
+        assertEquals(Duration.ZERO, filter.getRetention());
+    }
+
+    @Test
+    void verifyStatelessValidationRequiresSharedFilter() {
+        val authenticator = new OAuth20AccessTokenAuthenticator(mock(TicketRegistry.class), mock(JwtBuilder.class));
+        val filter = new DefaultOAuth20AccessTokenRevocationFilter(1000, 0.001, Duration.ofHours(1));
+        assertFalse(filter.isShared());
+        assertFalse(authenticator.enableStatelessValidation(filter, 100, Duration.ofMinutes(1)));
+        assertNull(authenticator.getAccessTokenRevocationFilter());
+
+        val sharedFilter = new DefaultOAuth20AccessTokenRevocationFilter(1000, 0.001, Duration.ofHours(1), true);
+        assertTrue(sharedFilter.isShared());
+        assertTrue(authenticator.enableStatelessValidation(sharedFilter, 100, Duration.ofMinutes(1)));
+        assertNotNull(authenticator.getVerifiedAccessTokens());
+    }
+
+    @Test
+    void verifyDeletedAccessTokensAreRevoked() {
+        val filter = new DefaultOAuth20AccessTokenRevocationFilter(1000, 0.001, Duration.ofHours(1), true);
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), mock(TicketCatalog.class));
+        registry.registerDeletionListener(filter);
+
+        val accessTokenId = OAuth20AccessToken.PREFIX + '-' + UUID.randomUUID();
+        val serviceTicketId = "ST-" + UUID.randomUUID();
+        registry.deleteTicketFromQueue(accessTokenId);
+        registry.deleteTicketFromQueue(serviceTicketId);
+        assertTrue(filter.isRevoked(accessTokenId));
+        assertFalse(filter.isRevoked(serviceTicketId));
+    }
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.support.oauth.authenticator.OAuth20AccessTokenAuthenticato
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -14,10 +15,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.pac4j.core.context.CallContext;
 import org.pac4j.core.credentials.TokenCredentials;
 import org.pac4j.core.profile.CommonProfile;
+import java.time.Duration;
 import java.util.Optional;
 
 /**
  * This is {@link OidcAccessTokenAuthenticator}.
+ * <p>
+ * Access tokens are always validated against the ticket registry, since user profiles
+ * are built from the subject and claims of the ID token linked to the access token
+ * and from the authentication attributes, neither of which are carried by the access token.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -37,6 +43,14 @@ public class OidcAccessTokenAuthenticator extends OAuth20AccessTokenAuthenticato
         this.idTokenSigningAndEncryptionService = signingAndEncryptionService;
         this.servicesManager = servicesManager;
     }
+
+    @Override
+    public boolean enableStatelessValidation(final OAuth20AccessTokenRevocationFilter revocationFilter,
+                                             final long cacheSize, final Duration cacheExpiration) {
+        LOGGER.debug("Access tokens issued by OpenID Connect are always validated against the ticket registry");
+        return false;
+    }
+
     @Override
     protected CommonProfile buildUserProfile(final TokenCredentials tokenCredentials,
                                              final CallContext callContext,
@@ -105,6 +105,7 @@ import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TicketFactoryExecutionPlanConfigurer;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.accesstoken.OAuth20AccessTokenRevocationFilter;
 import org.apereo.cas.ticket.accesstoken.OAuth20JwtBuilder;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
@@ -780,7 +781,9 @@ class OidcConfiguration {
             final AuditableExecution registeredServiceAccessStrategyEnforcer,
             final List<OAuth20IntrospectionResponseGenerator> oauthIntrospectionResponseGenerator,
             @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER)
-            final PrincipalResolver principalResolver) {
+            final PrincipalResolver principalResolver,
+            @Qualifier(OAuth20AccessTokenRevocationFilter.BEAN_NAME)
+            final OAuth20AccessTokenRevocationFilter accessTokenRevocationFilter) {
 
             val sortedIdClaimCollectors = new ArrayList<>(oidcIdTokenClaimCollectors);
             AnnotationAwareOrderComparator.sortIfNecessary(sortedIdClaimCollectors);
@@ -837,6 +840,7 @@ class OidcConfiguration {
                 .clientSecretValidator(oauth20ClientSecretValidator)
                 .attributeDefinitionStore(attributeDefinitionStore)
                 .principalResolver(principalResolver)
+                .accessTokenRevocationFilter(accessTokenRevocationFilter)
                 .build();
         }
     }
@@ -10,6 +10,8 @@ import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.pac4j.client.DelegatedIdentityProviderFactory;
 import org.apereo.cas.support.pac4j.authentication.attributes.GroovyAttributeConverter;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.concurrent.CasReentrantLock;
@@ -28,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.pac4j.cas.client.CasClient;
 import org.pac4j.cas.config.CasConfiguration;
@@ -68,16 +71,26 @@ import org.pac4j.saml.store.EmptyStoreFactory;
 import org.pac4j.saml.store.HttpSessionStoreFactory;
 import org.pac4j.saml.store.SAMLMessageStoreFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.ECPrivateKey;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -104,22 +117,46 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
 
     private final Cache<String, Collection<IndirectClient>> clientsCache;
 
+    private final Map<IndirectClient, String> clientFingerprints = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private final AtomicReference<ClientRegistry> clientRegistry = new AtomicReference<>();
+
     protected abstract Collection<IndirectClient> loadIdentityProviders() throws Exception;
 
     @Override
     public final Collection<IndirectClient> build() {
-        return lock.tryLock(() -> {
-            val core = casProperties.getAuthn().getPac4j().getCore();
-            val currentClients = getCachedClients().isEmpty() || !core.isLazyInit() ? loadIdentityProviders() : getCachedClients();
-            clientsCache.put(casProperties.getServer().getName(), currentClients);
-            return currentClients;
-        });
+        val cachedClients = clientsCache.getIfPresent(casProperties.getServer().getName());
+        if (cachedClients != null) {
+            return cachedClients;
+        }
+        return buildClients(true);
     }
 
+    /**
+     * Rebuild all clients. Unlike builds that follow the expiration of cached clients,
+     * clients are not carried over from the previous version and are all initialized again.
+     *
+     * @return the clients
+     */
     @Override
     public Collection<IndirectClient> rebuild() {
         clientsCache.invalidateAll();
-        return build();
+        return buildClients(false);
+    }
+
+    private Collection<IndirectClient> buildClients(final boolean reuseClients) {
+        return lock.tryLock(() -> {
+            val currentClients = clientsCache.getIfPresent(casProperties.getServer().getName());
+            if (currentClients != null) {
+                return currentClients;
+            }
+            clientFingerprints.clear();
+            val registry = buildClientRegistry(clientRegistry.get(), loadIdentityProviders(), reuseClients);
+            clientRegistry.set(registry);
+            clientsCache.put(casProperties.getServer().getName(), registry.clients());
+            LOGGER.debug("Built version [{}] of delegated identity providers with [{}] client(s)", registry.version(), registry.clients().size());
+            return registry.clients();
+        });
     }
 
     protected Collection<IndirectClient> getCachedClients() {
@@ -127,6 +164,95 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
         return ObjectUtils.defaultIfNull(cachedClients, new ArrayList<>());
     }
 
+    /**
+     * Build a new version of the client registry from the loaded clients.
+     * When clients can be reused, clients whose configuration is unchanged since the previous version
+     * are carried over as they are, so they do not need to be initialized again. New or changed clients are
+     * initialized concurrently unless initialization is deferred, and clients of the previous version
+     * that are not carried over are destroyed.
+     *
+     * @param previous      the previous registry, if any
+     * @param loadedClients the loaded clients
+     * @param reuseClients  whether unchanged clients of the previous registry can be carried over
+     * @return the client registry
+     */
+    protected ClientRegistry buildClientRegistry(final ClientRegistry previous, final Collection<IndirectClient> loadedClients,
+                                                 final boolean reuseClients) {
+        val reusableClients = previous == null || !reuseClients
+            ? new HashMap<String, IndirectClient>()
+            : new HashMap<>(previous.fingerprints());
+        val clients = new ArrayList<IndirectClient>(loadedClients.size());
+        val fingerprints = new LinkedHashMap<String, IndirectClient>();
+        val pendingClients = new ArrayList<IndirectClient>();
+        for (val loadedClient : loadedClients) {
+            val fingerprint = clientFingerprints.remove(loadedClient);
+            val existingClient = fingerprint == null ? null : reusableClients.remove(fingerprint);
+            val client = ObjectUtils.defaultIfNull(existingClient, loadedClient);
+            if (existingClient == null && !casProperties.getAuthn().getPac4j().getCore().isLazyInit()) {
+                pendingClients.add(client);
+            }
+            clients.add(client);
+            if (fingerprint != null) {
+                fingerprints.putIfAbsent(fingerprint, client);
+            }
+        }
+        initializeClients(pendingClients);
+        if (previous != null) {
+            previous.clients()
+                .stream()
+                .filter(client -> clients.stream().noneMatch(current -> current == client))
+                .filter(SAML2Client.class::isInstance)
+                .map(SAML2Client.class::cast)
+                .forEach(client -> FunctionUtils.doAndHandle(__ -> client.destroy()));
+        }
+        LOGGER.trace("Reused [{}] and initialized [{}] delegated client(s)", clients.size() - pendingClients.size(), pendingClients.size());
+        return new ClientRegistry(previous == null ? 1 : previous.version() + 1,
+            Collections.unmodifiableList(clients), Collections.unmodifiableMap(fingerprints));
+    }
+
+    protected void initializeClients(final List<IndirectClient> clients) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = clients
+                .stream()
+                .map(client -> executor.submit(() -> {
+                    client.init();
+                    return client;
+                }))
+                .toList();
+            for (var i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (final ExecutionException e) {
+                    LOGGER.warn("Unable to initialize delegated client [{}]; initialization will be retried when the client is used: [{}]",
+                        clients.get(i).getName(), e.getCause().getMessage());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    protected String getClientFingerprint(final IndirectClient client,
+                                          final Pac4jBaseClientProperties clientProperties,
+                                          final CasConfigurationProperties givenProperties) {
+        try {
+            val pac4jProperties = givenProperties.getAuthn().getPac4j();
+            val output = new ByteArrayOutputStream();
+            output.writeBytes(client.getClass().getName().getBytes(StandardCharsets.UTF_8));
+            output.writeBytes(casProperties.getServer().getLoginUrl().getBytes(StandardCharsets.UTF_8));
+            output.writeBytes(SerializationUtils.serialize(pac4jProperties.getCore()));
+            output.writeBytes(SerializationUtils.serialize(clientProperties));
+            return DigestUtils.sha256(EncodingUtils.encodeBase64(output.toByteArray()));
+        } catch (final Exception e) {
+            LOGGER.trace("Unable to calculate fingerprint for client [{}]: [{}]", client.getName(), e.getMessage());
+            return null;
+        }
+    }
+
     protected void configureClient(final IndirectClient client,
                                    final Pac4jBaseClientProperties clientProperties,
                                    final CasConfigurationProperties givenProperties) {
@@ -160,9 +286,8 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
             case QUERY_PARAMETER -> client.setCallbackUrlResolver(new QueryParameterCallbackUrlResolver());
         }
         customizers.forEach(customizer -> customizer.customize(client));
-        if (!givenProperties.getAuthn().getPac4j().getCore().isLazyInit()) {
-            client.init();
-        }
+        FunctionUtils.doIfNotNull(getClientFingerprint(client, clientProperties, givenProperties),
+            fingerprint -> clientFingerprints.put(client, fingerprint));
     }
 
     protected Collection<IndirectClient> buildFoursquareIdentityProviders(final CasConfigurationProperties casProperties) {
@@ -682,4 +807,15 @@ public abstract class BaseDelegatedIdentityProviderFactory implements DelegatedI
         newClients.addAll(buildHiOrgServerIdentityProviders(properties));
         return newClients;
     }
+
+    /**
+     * An immutable, versioned snapshot of delegated clients,
+     * indexed by the fingerprint of each client's configuration.
+     *
+     * @param version      the version
+     * @param clients      the clients
+     * @param fingerprints the clients keyed by configuration fingerprint
+     */
+    protected record ClientRegistry(long version, List<IndirectClient> clients, Map<String, IndirectClient> fingerprints) {
+    }
 }
@@ -40,6 +40,7 @@ public class DefaultDelegatedIdentityProviderFactory extends BaseDelegatedIdenti
     public void destroy() {
         Optional.ofNullable(getCachedClients())
             .stream()
+            .flatMap(Collection::stream)
             .filter(SAML2Client.class::isInstance)
             .map(SAML2Client.class::cast)
             .forEach(Unchecked.consumer(SAML2Client::destroy));
@@ -63,12 +63,14 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -261,6 +263,18 @@ class DelegatedAuthenticationEventExecutionPlanConfiguration {
             return new DefaultDelegatedIdentityProviderFactory(casProperties,
                 customizers, casSslContext, samlMessageStoreFactory, clientsCache);
         }
+
+        @EventListener
+        public void initializeDelegatedIdentityProvidersWhenReady(final ApplicationReadyEvent event) {
+            val casProperties = event.getApplicationContext().getBean(CasConfigurationProperties.class);
+            if (!casProperties.getAuthn().getPac4j().getCore().isLazyInit()) {
+                val factory = event.getApplicationContext().getBean("pac4jDelegatedClientFactory", DelegatedIdentityProviderFactory.class);
+                Thread.ofVirtual().name("pac4jDelegatedClientFactory").start(() -> FunctionUtils.doAndHandle(__ -> {
+                    val clients = factory.build();
+                    LOGGER.debug("Initialized [{}] delegated identity provider(s)", clients.size());
+                }));
+            }
+        }
     }
 
     @Configuration(value = "DelegatedAuthenticationEventExecutionPlanClientConfiguration", proxyBeanMethods = false)
@@ -1,17 +1,22 @@
 package org.apereo.cas.support.pac4j.clients;
 
+import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.support.pac4j.authentication.attributes.GroovyAttributeConverter;
 import lombok.val;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.pac4j.cas.client.CasClient;
+import org.pac4j.core.client.IndirectClient;
 import org.pac4j.core.profile.converter.AttributeConverter;
+import org.pac4j.oauth.client.BitbucketClient;
+import org.pac4j.oauth.client.DropBoxClient;
 import org.pac4j.oauth.client.GitHubClient;
 import org.pac4j.saml.client.SAML2Client;
 import org.pac4j.saml.metadata.DefaultSAML2MetadataSigner;
 import org.pac4j.saml.store.HttpSessionStoreFactory;
 import org.pac4j.saml.store.SAMLMessageStoreFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -38,13 +43,36 @@ class DefaultDelegatedIdentityProviderFactoryTests {
         "cas.authn.pac4j.dropbox.secret=secret"
     })
     class EagerInitialization extends BaseDelegatedClientFactoryTests {
+        @Autowired
+        private CasConfigurationProperties casProperties;
+
         @Test
         void verifyEagerInit() throws Throwable {
             val clients1 = List.copyOf(delegatedIdentityProviderFactory.build());
             assertEquals(2, clients1.size());
+            assertTrue(clients1.stream().allMatch(IndirectClient::isInitialized));
             val clients2 = List.copyOf(delegatedIdentityProviderFactory.build());
-            assertFalse(clients2.stream()
-                .allMatch(c2 -> clients1.stream().anyMatch(client -> client.hashCode() == c2.hashCode())));
+            assertTrue(clients2.stream()
+                .allMatch(c2 -> clients1.stream().anyMatch(client -> client == c2)));
+        }
+
+        @Test
+        void verifyRebuildReinitializesAllClients() throws Throwable {
+            val clients1 = List.copyOf(delegatedIdentityProviderFactory.build());
+            casProperties.getAuthn().getPac4j().getDropbox().setSecret("changed-secret");
+            try {
+                val clients2 = List.copyOf(delegatedIdentityProviderFactory.rebuild());
+                assertEquals(2, clients2.size());
+                val bitbucket = clients2.stream().filter(BitbucketClient.class::isInstance).findFirst().orElseThrow();
+                assertTrue(clients1.stream().noneMatch(client -> client == bitbucket));
+                assertTrue(bitbucket.isInitialized());
+                val dropbox = (DropBoxClient) clients2.stream().filter(DropBoxClient.class::isInstance).findFirst().orElseThrow();
+                assertTrue(clients1.stream().noneMatch(client -> client == dropbox));
+                assertEquals("changed-secret", dropbox.getSecret());
+                assertTrue(dropbox.isInitialized());
+            } finally {
+                casProperties.getAuthn().getPac4j().getDropbox().setSecret("secret");
+            }
         }
     }
 
@@ -0,0 +1,238 @@
+package org.apereo.cas.persondir;
+
+import org.apereo.cas.util.CollectionUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.BasePersonAttributeDao;
+import org.apereo.services.persondir.support.IUsernameAttributeProvider;
+import org.apereo.services.persondir.support.SimpleUsernameAttributeProvider;
+import org.apereo.services.persondir.support.merger.IAttributeMerger;
+import org.apereo.services.persondir.support.merger.MultivaluedAttributeMerger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This is {@link ParallelMergingPersonAttributeDao}.
+ * <p>
+ * Queries all attribute repositories concurrently on virtual threads and merges
+ * their results with the configured {@link IAttributeMerger}, in the order in which
+ * repositories are defined. Each repository is given a deadline of its own, and the
+ * aggregation as a whole is bounded by a global deadline; repositories that fail to
+ * respond in time are cancelled and treated as failed sources.
+ * <p>
+ * Since all repositories receive the same query, this aggregation mode is only
+ * suitable for repositories that are independent of one another. Cascading repositories
+ * that feed results of one source into the next must continue to execute sequentially.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+@Setter
+public class ParallelMergingPersonAttributeDao extends BasePersonAttributeDao implements AutoCloseable {
+    /**
+     * Metric name that tracks per-repository latencies and outcomes.
+     */
+    public static final String METRIC_NAME = "cas.person.directory.repositories";
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final MeterRegistry meterRegistry;
+
+    private List<IPersonAttributeDao> personAttributeDaos = new ArrayList<>();
+
+    private IAttributeMerger merger = new MultivaluedAttributeMerger();
+
+    private IUsernameAttributeProvider usernameAttributeProvider = new SimpleUsernameAttributeProvider();
+
+    private Duration repositoryTimeout = Duration.ofSeconds(5);
+
+    private Duration aggregationTimeout = Duration.ofSeconds(10);
+
+    private boolean requireAll;
+
+    private boolean recoverExceptions = true;
+
+    public ParallelMergingPersonAttributeDao() {
+        this(Metrics.globalRegistry);
+    }
+
+    public ParallelMergingPersonAttributeDao(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public IPersonAttributes getPerson(final String uid, final Set<IPersonAttributes> resolvedPeople,
+                                       final IPersonAttributeDaoFilter filter) {
+        val query = Map.<String, List<Object>>of(usernameAttributeProvider.getUsernameAttribute(), List.of(uid));
+        val people = getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+        if (people == null || people.isEmpty()) {
+            return null;
+        }
+        if (people.size() > 1) {
+            LOGGER.warn("Attribute repositories produced [{}] results for [{}]; only the first result is used", people.size(), uid);
+        }
+        return people.iterator().next();
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeople(final Map<String, Object> query, final IPersonAttributeDaoFilter filter,
+                                            final Set<IPersonAttributes> resolvedPeople) {
+        val multivaluedQuery = new LinkedHashMap<String, List<Object>>(query.size());
+        query.forEach((key, value) -> multivaluedQuery.put(key, CollectionUtils.toCollection(value, ArrayList.class)));
+        return getPeopleWithMultivaluedAttributes(multivaluedQuery, filter, resolvedPeople);
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                     final IPersonAttributeDaoFilter filter,
+                                                                     final Set<IPersonAttributes> resolvedPeople) {
+        val startTime = System.nanoTime();
+        val aggregationDeadline = startTime + aggregationTimeout.toNanos();
+        val repositoryDeadline = startTime + repositoryTimeout.toNanos();
+
+        val submissions = new LinkedHashMap<IPersonAttributeDao, Future<Set<IPersonAttributes>>>();
+        personAttributeDaos
+            .stream()
+            .filter(IPersonAttributeDao::isEnabled)
+            .filter(repository -> filter == null || filter.choosePersonAttributeDao(repository))
+            .forEach(repository -> submissions.put(repository, submit(repository, query, filter, resolvedPeople)));
+
+        Set<IPersonAttributes> resultPeople = null;
+        try {
+            for (val entry : submissions.entrySet()) {
+                val repository = entry.getKey();
+                val currentPeople = awaitResult(repository, entry.getValue(), Math.min(aggregationDeadline, repositoryDeadline));
+                if (currentPeople == null || currentPeople.isEmpty()) {
+                    if (requireAll) {
+                        throw new IllegalStateException("No results were produced by attribute repository "
+                            + getRepositoryId(repository) + " while all repositories are required to produce results");
+                    }
+                    continue;
+                }
+                resultPeople = resultPeople == null
+                    ? new LinkedHashSet<>(currentPeople)
+                    : merger.mergeResults(resultPeople, currentPeople);
+            }
+        } catch (final RuntimeException e) {
+            submissions.values().forEach(result -> result.cancel(true));
+            throw e;
+        }
+        LOGGER.debug("Queried [{}] attribute repositories concurrently in [{}]ms", submissions.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return resultPeople;
+    }
+
+    @Override
+    public Set<String> getPossibleUserAttributeNames(final IPersonAttributeDaoFilter filter) {
+        Set<String> names = new LinkedHashSet<>();
+        for (val repository : personAttributeDaos) {
+            val currentNames = repository.getPossibleUserAttributeNames(filter);
+            if (currentNames != null) {
+                names = merger.mergePossibleUserAttributeNames(names, currentNames);
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public Set<String> getAvailableQueryAttributes(final IPersonAttributeDaoFilter filter) {
+        Set<String> names = new LinkedHashSet<>();
+        for (val repository : personAttributeDaos) {
+            val currentNames = repository.getAvailableQueryAttributes(filter);
+            if (currentNames != null) {
+                names = merger.mergeAvailableQueryAttributes(names, currentNames);
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+
+    protected Future<Set<IPersonAttributes>> submit(final IPersonAttributeDao repository,
+                                                    final Map<String, List<Object>> query,
+                                                    final IPersonAttributeDaoFilter filter,
+                                                    final Set<IPersonAttributes> resolvedPeople) {
+        return executorService.submit(() -> {
+            val sample = Timer.start(meterRegistry);
+            try {
+                val people = repository.getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+                sample.stop(getTimer(repository, "success"));
+                return people;
+            } catch (final Throwable e) {
+                if (!Thread.currentThread().isInterrupted()) {
+                    sample.stop(getTimer(repository, "failure"));
+                }
+                throw e;
+            }
+        });
+    }
+
+    protected Set<IPersonAttributes> awaitResult(final IPersonAttributeDao repository,
+                                                 final Future<Set<IPersonAttributes>> result,
+                                                 final long deadline) {
+        try {
+            return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            result.cancel(true);
+            getTimer(repository, "timeout").record(Math.min(repositoryTimeout.toNanos(), aggregationTimeout.toNanos()), TimeUnit.NANOSECONDS);
+            LOGGER.warn("Attribute repository [{}] did not produce results within its deadline", getRepositoryId(repository));
+            return handleFailure(repository, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            return handleFailure(repository, e);
+        } catch (final ExecutionException e) {
+            LOGGER.warn("Attribute repository [{}] failed to produce results: [{}]", getRepositoryId(repository), e.getCause().getMessage());
+            return handleFailure(repository, e.getCause());
+        }
+    }
+
+    private Set<IPersonAttributes> handleFailure(final IPersonAttributeDao repository, final Throwable error) {
+        if (recoverExceptions) {
+            LOGGER.debug(error.getMessage(), error);
+            return null;
+        }
+        if (error instanceof final RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new IllegalStateException("Unable to fetch attributes from attribute repository " + getRepositoryId(repository), error);
+    }
+
+    private Timer getTimer(final IPersonAttributeDao repository, final String outcome) {
+        return Timer.builder(METRIC_NAME)
+            .tag("source", getRepositoryId(repository))
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static String getRepositoryId(final IPersonAttributeDao repository) {
+        val id = repository.getId();
+        return id == null || id.length == 0 ? repository.getClass().getSimpleName() : String.join(",", id);
+    }
+}
@@ -0,0 +1,116 @@
+package org.apereo.cas.persondir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.apache.commons.lang3.time.StopWatch;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.StubPersonAttributeDao;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ParallelMergingPersonAttributeDaoTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Attributes")
+class ParallelMergingPersonAttributeDaoTests {
+
+    private static IPersonAttributeDao newRepository(final String id, final Map<String, List<Object>> attributes,
+                                                     final Duration latency) {
+        val repository = new StubPersonAttributeDao(attributes) {
+            @Override
+            public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                             final IPersonAttributeDaoFilter filter,
+                                                                             final Set<IPersonAttributes> resolvedPeople) {
+                try {
+                    Thread.sleep(latency.toMillis());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                return super.getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+            }
+        };
+        repository.setId(id);
+        return repository;
+    }
+
+    @Test
+    void verifyRepositoriesAreQueriedConcurrently() throws Throwable {
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val dao = new ParallelMergingPersonAttributeDao(meterRegistry)) {
+            dao.setPersonAttributeDaos(List.of(
+                newRepository("ldap", Map.of("cn", List.of("CAS")), Duration.ofMillis(300)),
+                newRepository("jdbc", Map.of("mail", List.of("cas@example.org")), Duration.ofMillis(300)),
+                newRepository("rest", Map.of("phone", List.of("123456")), Duration.ofMillis(300))));
+            val watch = StopWatch.createStarted();
+            val person = dao.getPerson("casuser");
+            watch.stop();
+            assertNotNull(person);
+            assertEquals(List.of("CAS"), person.getAttributeValues("cn"));
+            assertEquals(List.of("cas@example.org"), person.getAttributeValues("mail"));
+            assertEquals(List.of("123456"), person.getAttributeValues("phone"));
+            assertTrue(watch.getTime(TimeUnit.MILLISECONDS) < 900);
+            assertEquals(1, meterRegistry.get(ParallelMergingPersonAttributeDao.METRIC_NAME)
+                .tag("source", "ldap").tag("outcome", "success").timer().count());
+        }
+    }
+
+    @Test
+    void verifySlowRepositoryTimesOut() throws Throwable {
+        val meterRegistry = new SimpleMeterRegistry();
+        try (val dao = new ParallelMergingPersonAttributeDao(meterRegistry)) {
+            dao.setRepositoryTimeout(Duration.ofMillis(200));
+            dao.setPersonAttributeDaos(List.of(
+                newRepository("ldap", Map.of("cn", List.of("CAS")), Duration.ZERO),
+                newRepository("slow", Map.of("mail", List.of("cas@example.org")), Duration.ofSeconds(30))));
+            val person = dao.getPerson("casuser");
+            assertNotNull(person);
+            assertEquals(List.of("CAS"), person.getAttributeValues("cn"));
+            assertNull(person.getAttributeValues("mail"));
+            assertEquals(1, meterRegistry.get(ParallelMergingPersonAttributeDao.METRIC_NAME)
+                .tag("source", "slow").tag("outcome", "timeout").timer().count());
+        }
+    }
+
+    @Test
+    void verifyAllRepositoriesRequired() throws Throwable {
+        try (val dao = new ParallelMergingPersonAttributeDao(new SimpleMeterRegistry())) {
+            dao.setRequireAll(true);
+            dao.setAggregationTimeout(Duration.ofMillis(200));
+            dao.setPersonAttributeDaos(List.of(
+                newRepository("ldap", Map.of("cn", List.of("CAS")), Duration.ZERO),
+                newRepository("slow", Map.of("mail", List.of("cas@example.org")), Duration.ofSeconds(30))));
+            assertThrows(IllegalStateException.class, () -> dao.getPerson("casuser"));
+        }
+    }
+
+    @Test
+    void verifyFailuresAreNotRecovered() throws Throwable {
+        try (val dao = new ParallelMergingPersonAttributeDao(new SimpleMeterRegistry())) {
+            dao.setRecoverExceptions(false);
+            val failing = new StubPersonAttributeDao(Map.of()) {
+                @Override
+                public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                                 final IPersonAttributeDaoFilter filter,
+                                                                                 final Set<IPersonAttributes> resolvedPeople) {
+                    throw new IllegalArgumentException("failed");
+                }
+            };
+            dao.setPersonAttributeDaos(List.of(failing));
+            assertThrows(IllegalArgumentException.class, () -> dao.getPerson("casuser"));
+        }
+    }
+}
@@ -9,9 +9,12 @@ import org.apereo.cas.authentication.principal.PrincipalResolutionExecutionPlanC
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.resolvers.PersonDirectoryPrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.persondir.DefaultAttributeRepositoryResolver;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
+import org.apereo.cas.persondir.ParallelMergingPersonAttributeDao;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryCustomizer;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlan;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlanConfigurer;
@@ -217,13 +220,23 @@ class CasPersonDirectoryConfiguration {
             final CasConfigurationProperties casProperties,
             @Qualifier("personDirectoryAttributeRepositoryPlan")
             final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan) {
+            val list = personDirectoryAttributeRepositoryPlan.getAttributeRepositories();
+            val properties = casProperties.getAuthn().getAttributeRepository();
+            if (properties.getCore().getAggregation() == PrincipalAttributesCoreProperties.AggregationStrategyTypes.PARALLEL) {
+                val parallel = new ParallelMergingPersonAttributeDao();
+                parallel.setPersonAttributeDaos(list);
+                parallel.setMerger(attributeRepositoryAttributeMerger);
+                parallel.setRequireAll(properties.getCore().isRequireAllRepositorySources());
+                parallel.setRecoverExceptions(properties.getCore().isRecoverExceptions());
+                parallel.setRepositoryTimeout(Beans.newDuration(properties.getCore().getParallelRepositoryTimeout()));
+                parallel.setAggregationTimeout(Beans.newDuration(properties.getCore().getParallelAggregationTimeout()));
+                LOGGER.debug("Configured [{}] attribute repository sources to be queried concurrently", list.size());
+                return parallel;
+            }
+
             val aggregate = getAggregateAttributeRepository(casProperties);
             aggregate.setMerger(attributeRepositoryAttributeMerger);
-
-            val list = personDirectoryAttributeRepositoryPlan.getAttributeRepositories();
             aggregate.setPersonAttributeDaos(list);
-
-            val properties = casProperties.getAuthn().getAttributeRepository();
             aggregate.setRequireAll(properties.getCore().isRequireAllRepositorySources());
             if (list.isEmpty()) {
                 LOGGER.debug("No attribute repository sources are available/defined to merge together.");
@@ -17,6 +17,7 @@ import org.apereo.cas.ticket.registry.RedisTicketRegistryCacheEndpoint;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.key.PrincipalRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
+import org.apereo.cas.ticket.registry.key.TicketIndexRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.TicketRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.pub.DefaultRedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
@@ -214,7 +215,8 @@ public class CasRedisTicketRegistryAutoConfiguration {
         @ConditionalOnMissingBean(name = "redisKeyGeneratorFactory")
         public RedisKeyGeneratorFactory redisKeyGeneratorFactory() {
             val factory = new RedisKeyGeneratorFactory();
-            factory.registerRedisKeyGenerators(new TicketRedisKeyGenerator(), new PrincipalRedisKeyGenerator());
+            factory.registerRedisKeyGenerators(new TicketRedisKeyGenerator(),
+                new PrincipalRedisKeyGenerator(), new TicketIndexRedisKeyGenerator());
             return factory;
         }
 
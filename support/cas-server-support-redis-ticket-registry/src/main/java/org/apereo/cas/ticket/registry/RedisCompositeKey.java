@@ -36,6 +36,11 @@ public class RedisCompositeKey {
      */
     private static final String CAS_PRINCIPAL_PREFIX = "CAS_PRINCIPAL";
 
+    /**
+     * Ticket index prefix.
+     */
+    private static final String CAS_TICKET_INDEX_PREFIX = "CAS_TICKET_INDEX";
+
     @Builder.Default
     private final String query = "*";
 
@@ -60,6 +65,15 @@ public class RedisCompositeKey {
         return RedisCompositeKey.builder().prefix(CAS_PRINCIPAL_PREFIX).build();
     }
 
+    /**
+     * For ticket index redis composite key.
+     *
+     * @return the redis composite key
+     */
+    public static RedisCompositeKey forTicketIndex() {
+        return RedisCompositeKey.builder().prefix(CAS_TICKET_INDEX_PREFIX).build();
+    }
+
     /**
      * To key pattern string.
      *
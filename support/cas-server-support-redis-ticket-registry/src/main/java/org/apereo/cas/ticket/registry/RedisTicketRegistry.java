@@ -12,7 +12,9 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.ticket.registry.key.RedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
+import org.apereo.cas.ticket.registry.key.TicketIndexRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
@@ -20,6 +22,9 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.thread.Cleanable;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Streams;
 import com.redis.lettucemod.api.sync.RedisModulesCommands;
 import com.redis.lettucemod.search.CreateOptions;
 import com.redis.lettucemod.search.Document;
@@ -36,9 +41,13 @@ import org.hjson.JsonValue;
 import org.hjson.Stringify;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import java.io.Serializable;
@@ -49,14 +58,19 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -72,6 +86,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private static final String SEARCH_INDEX_NAME = RedisTicketDocument.class.getSimpleName() + "Index";
 
+    private static final int PIPELINE_BATCH_SIZE = 500;
+
+    private static final String TICKET_INDEX_MARKER = "_INDEXED";
+
     private final CasRedisTemplates casRedisTemplates;
 
     @Getter(AccessLevel.PACKAGE)
@@ -85,6 +103,8 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private final CasConfigurationProperties casProperties;
 
+    private volatile boolean ticketIndexComplete;
+
     public RedisTicketRegistry(final CipherExecutor cipherExecutor,
                                final TicketSerializationManager ticketSerializationManager,
                                final TicketCatalog ticketCatalog,
@@ -103,6 +123,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         this.redisKeyGeneratorFactory = redisKeyGeneratorFactory;
         this.casProperties = casProperties;
         createIndexesIfNecessary();
+        backfillTicketIndexesIfNecessary();
     }
 
     @Override
@@ -123,6 +144,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 });
             }
         });
+        markTicketIndexComplete();
         clean();
         return size.get();
     }
@@ -135,18 +157,73 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             .mapToInt(id -> BooleanUtils.toBoolean(casRedisTemplates.getTicketsRedisTemplate().delete(id)) ? 1 : 0)
             .sum();
 
-        redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
-            .ifPresent(principalGenerator -> {
-                val principal = digestIdentifier(getPrincipalIdFrom(ticket));
-                val redisPrincipalKey = principalGenerator.forEntry(principal);
-                Stream.of(redisPrincipalKey).forEach(id -> casRedisTemplates.getSessionsRedisTemplate().delete(id));
-            });
-
+        removeTicketFromIndexes(ticket, redisTicketsKey);
         ticketCache.invalidate(redisKeyGenerator.rawKey(redisTicketsKey));
         messagePublisher.delete(ticket);
         return count;
     }
 
+    @Override
+    protected long deleteSingleTickets(final Collection<? extends Ticket> tickets) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val redisTicketsKeys = tickets
+            .stream()
+            .collect(Collectors.toMap(ticket -> redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId())),
+                Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        if (redisTicketsKeys.isEmpty()) {
+            return 0;
+        }
+        val count = Objects.requireNonNullElse(casRedisTemplates.getTicketsRedisTemplate().delete(redisTicketsKeys.keySet()), 0L);
+        casRedisTemplates.getSessionsRedisTemplate().executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(final RedisOperations<K, V> operations) {
+                redisTicketsKeys.forEach((redisTicketsKey, ticket) -> removeTicketFromIndexes(ticket, redisTicketsKey));
+                return null;
+            }
+        });
+        redisTicketsKeys.forEach((redisTicketsKey, ticket) -> {
+            ticketCache.invalidate(redisKeyGenerator.rawKey(redisTicketsKey));
+            messagePublisher.delete(ticket);
+        });
+        return count;
+    }
+
+    @Override
+    protected Stream<? extends Ticket> findTickets(final Collection<String> ticketIds) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val redisKeys = ticketIds
+            .stream()
+            .filter(ticketId -> ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR) > 0)
+            .map(ticketId -> {
+                val ticketPrefix = StringUtils.substring(ticketId, 0, ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR));
+                return redisKeyGenerator.forEntry(ticketPrefix, digestIdentifier(ticketId));
+            })
+            .toList();
+        val cachedTickets = new ArrayList<Ticket>();
+        val missingKeys = new ArrayList<String>();
+        redisKeys.forEach(key -> {
+            val ticket = ticketCache.getIfPresent(redisKeyGenerator.rawKey(key));
+            if (ticket != null) {
+                cachedTickets.add(ticket);
+            } else {
+                missingKeys.add(key);
+            }
+        });
+        val loadedTickets = Lists.partition(missingKeys, PIPELINE_BATCH_SIZE)
+            .stream()
+            .flatMap(this::fetchTicketDocuments)
+            .map(document -> deserializeTicket(document.getJson(), document.getType()))
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull)
+            .peek(ticket -> {
+                if (!ticket.isExpired()) {
+                    val redisTicketsKey = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
+                    ticketCache.put(redisKeyGenerator.rawKey(redisTicketsKey), ticket);
+                }
+            });
+        return Stream.concat(cachedTickets.stream().map(this::decodeTicket), loadedTickets);
+    }
+
     @Override
     public List<? extends Ticket> addTicket(final Stream<? extends Ticket> toSave) {
         return (List) casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback) connection -> {
@@ -173,6 +250,16 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return ticket;
     }
 
+    @Override
+    public List<? extends Ticket> updateTickets(final Stream<? extends Ticket> toUpdate) {
+        val tickets = toUpdate.filter(Objects::nonNull).collect(Collectors.toList());
+        casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            tickets.forEach(this::updateTicket);
+            return null;
+        });
+        return tickets;
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         return FunctionUtils.doAndHandle(() -> {
@@ -193,18 +280,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     @Override
     public Stream<? extends Ticket> stream() {
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
-        return fetchKeysForTickets()
-            .map(redisKey -> {
-                val adapter = buildRedisKeyValueAdapter(redisKey);
-                val document = adapter.get(redisKey, redisKey, RedisTicketDocument.class);
-                if (document == null) {
-                    casRedisTemplates.getTicketsRedisTemplate().delete(redisKey);
-                    return null;
-                }
-                return document;
-            })
-            .filter(Objects::nonNull)
-            .map(RedisTicketDocument.class::cast)
+        return fetchTicketDocuments(fetchKeysForTickets())
             .map(document -> deserializeTicket(document.getJson(), document.getType()))
             .map(this::decodeTicket)
             .filter(Objects::nonNull)
@@ -224,7 +300,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 val userId = digestIdentifier(principalId);
                 val redisPrincipalKey = generator.forEntry(userId);
                 val members = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(redisPrincipalKey)
-                        .range(0, (long) Double.MAX_VALUE);
+                    .rangeByScore(Instant.now(Clock.systemUTC()).getEpochSecond(), Double.POSITIVE_INFINITY);
                 val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
 
                 return Objects.requireNonNull(members)
@@ -243,28 +319,19 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public long countSessionsFor(final String principalId) {
-        return getSessionsFor(principalId).count();
+        try (val sessions = getSessionsFor(principalId)) {
+            return sessions.count();
+        }
     }
 
     @Override
     public long sessionCount() {
-        val redisTicketsKey = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName())
-            .orElseThrow().forEntryType(TicketGrantingTicket.PREFIX);
-
-        val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().count();
-        }
+        return countTicketsByPrefix(TicketGrantingTicket.PREFIX);
     }
 
     @Override
     public long serviceTicketCount() {
-        val redisTicketsKey = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName())
-            .orElseThrow().forEntryType(ServiceTicket.PREFIX);
-        val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().count();
-        }
+        return countTicketsByPrefix(ServiceTicket.PREFIX);
     }
 
     @Override
@@ -327,18 +394,17 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         val redisTicketsKey = redisKeyGenerator.forEntryType(queryCriteria.getType());
 
         if (queryCriteria.isDecode()) {
-            try (val scanResults = casRedisTemplates.getTicketsRedisTemplate().scan(redisTicketsKey, queryCriteria.getCount())) {
-                return scanResults
-                    .map(key -> Optional.ofNullable(ticketCache.getIfPresent(redisKeyGenerator.rawKey(key)))
-                        .orElseGet(() -> {
-                            val adapter = buildRedisKeyValueAdapter(key);
-                            return Stream.ofNullable(adapter.get(key, key, RedisTicketDocument.class))
-                                .filter(Objects::nonNull)
-                                .map(document -> deserializeTicket(document.getJson(), document.getType()))
-                                .filter(Objects::nonNull)
-                                .findFirst()
-                                .orElse(null);
-                        }))
+            try (val keys = fetchKeysForTickets(queryCriteria.getType(), redisTicketsKey, queryCriteria.getCount())) {
+                val redisKeys = keys.toList();
+                val cachedTickets = redisKeys
+                    .stream()
+                    .map(key -> ticketCache.getIfPresent(redisKeyGenerator.rawKey(key)))
+                    .filter(Objects::nonNull);
+                val loadedTickets = fetchTicketDocuments(redisKeys
+                    .stream()
+                    .filter(key -> ticketCache.getIfPresent(redisKeyGenerator.rawKey(key)) == null))
+                    .map(document -> deserializeTicket(document.getJson(), document.getType()));
+                return Stream.concat(cachedTickets, loadedTickets)
                     .filter(Objects::nonNull)
                     .map(this::decodeTicket)
                     .filter(ticket -> StringUtils.isBlank(queryCriteria.getPrincipal())
@@ -352,8 +418,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                     .collect(Collectors.toList());
             }
         }
-        val keys = fetchKeysForTickets(redisTicketsKey);
-        return (queryCriteria.getCount() > 0 ? keys.limit(queryCriteria.getCount()) : keys).collect(Collectors.toList());
+        try (val keys = fetchKeysForTickets(queryCriteria.getType(), redisTicketsKey, queryCriteria.getCount())) {
+            return keys.collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -364,12 +431,149 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private Stream<String> fetchKeysForTickets() {
         val redisKey = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow().forAllEntries();
-        return fetchKeysForTickets(redisKey);
+        LOGGER.debug("Scanning keys for pattern [{}]", redisKey);
+        try (val keys = casRedisTemplates.getTicketsRedisTemplate().scan(redisKey, null)) {
+            return keys.toList().stream();
+        }
+    }
+
+    private Stream<String> fetchKeysForTickets(final String ticketPrefix, final String keyPattern, final Long count) {
+        val limit = count != null && count > 0 ? count : -1L;
+        return getTicketIndexKey(ticketPrefix)
+            .map(indexKey -> {
+                LOGGER.debug("Loading keys from ticket index [{}]", indexKey);
+                val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+                val members = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(indexKey)
+                    .rangeByScore(now, Double.POSITIVE_INFINITY, 0, limit);
+                return Objects.requireNonNull(members).stream();
+            })
+            .orElseGet(() -> {
+                LOGGER.debug("Scanning keys for pattern [{}]", keyPattern);
+                return casRedisTemplates.getTicketsRedisTemplate().scan(keyPattern, count);
+            });
+    }
+
+    private long countTicketsByPrefix(final String ticketPrefix) {
+        return getTicketIndexKey(ticketPrefix)
+            .map(indexKey -> {
+                val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+                return Objects.requireNonNull(casRedisTemplates.getSessionsRedisTemplate()
+                    .boundZSetOps(indexKey).count(now, Double.POSITIVE_INFINITY));
+            })
+            .orElseGet(() -> {
+                val redisTicketsKey = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName())
+                    .orElseThrow().forEntryType(ticketPrefix);
+                val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
+                try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
+                    return result.stream().count();
+                }
+            });
+    }
+
+    private void removeTicketFromIndexes(final Ticket ticket, final String redisTicketsKey) {
+        redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
+            .filter(__ -> ticket instanceof TicketGrantingTicket)
+            .ifPresent(principalGenerator -> {
+                val principal = digestIdentifier(getPrincipalIdFrom(ticket));
+                val redisPrincipalKey = principalGenerator.forEntry(principal);
+                casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(redisPrincipalKey).remove(digestIdentifier(ticket.getId()));
+            });
+        getTicketIndexKeyGenerator().ifPresent(generator -> casRedisTemplates.getSessionsRedisTemplate()
+            .boundZSetOps(generator.forEntry(ticket.getPrefix())).remove(redisTicketsKey));
+    }
+
+    private Optional<RedisKeyGenerator> getTicketIndexKeyGenerator() {
+        return redisKeyGeneratorFactory.getRedisKeyGenerator(TicketIndexRedisKeyGenerator.TYPE);
+    }
+
+    private Optional<String> getTicketIndexKey(final String ticketPrefix) {
+        return getTicketIndexKeyGenerator()
+            .filter(__ -> StringUtils.isNotBlank(ticketPrefix))
+            .filter(this::isTicketIndexComplete)
+            .map(generator -> generator.forEntry(ticketPrefix));
     }
 
-    private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).stream();
+    private boolean isTicketIndexComplete(final RedisKeyGenerator generator) {
+        if (!ticketIndexComplete) {
+            ticketIndexComplete = BooleanUtils.isTrue(casRedisTemplates.getSessionsRedisTemplate()
+                .hasKey(generator.forEntry(TICKET_INDEX_MARKER)));
+        }
+        return ticketIndexComplete;
+    }
+
+    private void markTicketIndexComplete() {
+        getTicketIndexKeyGenerator().ifPresent(generator -> {
+            casRedisTemplates.getSessionsRedisTemplate().boundValueOps(generator.forEntry(TICKET_INDEX_MARKER))
+                .set(Instant.now(Clock.systemUTC()).toString());
+            ticketIndexComplete = true;
+        });
+    }
+
+    /**
+     * Tickets that were written before ticket indexes were maintained are not found in the index.
+     * Until the index is marked as complete, queries by ticket type scan the registry instead,
+     * and the index is backfilled once from a scan of all tickets, scored by their remaining time to live.
+     */
+    private void backfillTicketIndexesIfNecessary() {
+        getTicketIndexKeyGenerator()
+            .filter(generator -> !isTicketIndexComplete(generator))
+            .ifPresent(generator -> {
+                val ticketKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+                val count = new AtomicLong();
+                try (val keys = casRedisTemplates.getTicketsRedisTemplate().scan(ticketKeyGenerator.forAllEntries(), null)) {
+                    Iterators.partition(keys.iterator(), PIPELINE_BATCH_SIZE).forEachRemaining(batch -> {
+                        val timeouts = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+                            batch.forEach(key -> connection.keyCommands().ttl(key.getBytes(StandardCharsets.UTF_8)));
+                            return null;
+                        });
+                        val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+                        val entries = new LinkedHashMap<String, Set<ZSetOperations.TypedTuple<String>>>();
+                        IntStream.range(0, batch.size()).forEach(index -> {
+                            if (timeouts.get(index) instanceof final Long timeout && timeout != -2) {
+                                val key = batch.get(index);
+                                val ticketPrefix = StringUtils.substringBefore(ticketKeyGenerator.rawKey(key), ":");
+                                val score = now + (timeout < 0 ? Integer.MAX_VALUE : timeout);
+                                entries.computeIfAbsent(generator.forEntry(ticketPrefix), __ -> new LinkedHashSet<>())
+                                    .add(ZSetOperations.TypedTuple.of(key, (double) score));
+                            }
+                        });
+                        entries.forEach((indexKey, tuples) -> {
+                            casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(indexKey).add(tuples);
+                            count.addAndGet(tuples.size());
+                        });
+                    });
+                }
+                LOGGER.info("Backfilled ticket indexes with [{}] existing ticket(s)", count.get());
+                markTicketIndexComplete();
+            });
+    }
+
+    private Stream<RedisTicketDocument> fetchTicketDocuments(final Stream<String> redisKeys) {
+        return Streams.stream(Iterators.partition(redisKeys.iterator(), PIPELINE_BATCH_SIZE))
+            .flatMap(this::fetchTicketDocuments)
+            .onClose(redisKeys::close);
+    }
+
+    private Stream<RedisTicketDocument> fetchTicketDocuments(final List<String> redisKeys) {
+        if (redisKeys.isEmpty()) {
+            return Stream.empty();
+        }
+        val results = Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            redisKeys.forEach(key -> connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8)));
+            return connection.closePipeline();
+        }));
+        val converter = buildRedisKeyValueAdapter(redisKeys.getFirst()).getConverter();
+        return IntStream.range(0, redisKeys.size())
+            .filter(index -> results.get(index) instanceof final Map<?, ?> hash && !hash.isEmpty())
+            .mapToObj(index -> {
+                val data = new RedisData((Map<byte[], byte[]>) results.get(index));
+                val redisKey = redisKeys.get(index);
+                data.setId(redisKey);
+                data.setKeyspace(redisKey);
+                return converter.read(RedisTicketDocument.class, data);
+            })
+            .filter(Objects::nonNull);
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -451,6 +655,13 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeout, TimeUnit.SECONDS);
         ticketCache.put(redisKeyGenerator.rawKey(redisKeyPattern), ticket);
 
+        getTicketIndexKeyGenerator().ifPresent(generator -> {
+            val ops = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(generator.forEntry(ticket.getPrefix()));
+            val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+            ops.removeRangeByScore(0, now);
+            ops.add(redisKeyPattern, Long.valueOf(now + timeout).doubleValue());
+        });
+
         redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName()).ifPresent(generator -> {
             val onlyTrackMostRecentSession = casProperties.getTicket().getTgt().getCore().isOnlyTrackMostRecentSession();
             val userId = digestIdentifier(getPrincipalIdFrom(ticket));
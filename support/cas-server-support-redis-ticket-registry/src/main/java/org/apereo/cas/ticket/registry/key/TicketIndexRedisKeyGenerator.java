@@ -0,0 +1,38 @@
+package org.apereo.cas.ticket.registry.key;
+
+import org.apereo.cas.ticket.registry.RedisCompositeKey;
+
+/**
+ * This is {@link TicketIndexRedisKeyGenerator}.
+ * Generates keys for sorted sets that index ticket keys by ticket prefix,
+ * scored by the expiration instant of each ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class TicketIndexRedisKeyGenerator implements RedisKeyGenerator {
+    /**
+     * Generator type.
+     */
+    public static final String TYPE = "TicketIndex";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public String forAllEntries() {
+        return RedisCompositeKey.forTicketIndex().toKeyPattern();
+    }
+
+    @Override
+    public String forEntry(final String type, final String entry) {
+        return RedisCompositeKey.forTicketIndex().withQuery(entry).toKeyPattern();
+    }
+
+    @Override
+    public String getNamespace() {
+        return RedisCompositeKey.forTicketIndex().getPrefix();
+    }
+}
@@ -210,6 +210,29 @@ class RedisServerTicketRegistryTests {
             assertEquals(criteria2.getCount(), queryResults.size());
         }
 
+        @RepeatedTest(2)
+        void verifyTicketIndex() throws Throwable {
+            val initialCount = getNewTicketRegistry().sessionCount();
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                .getNewTicketId(TicketGrantingTicket.PREFIX);
+            val tgt = new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            getNewTicketRegistry().addTicket(tgt);
+            assertEquals(initialCount + 1, getNewTicketRegistry().sessionCount());
+
+            val criteria = new TicketRegistryQueryCriteria()
+                .setDecode(Boolean.TRUE)
+                .setType(TicketGrantingTicket.PREFIX)
+                .setPrincipal(authentication.getPrincipal().getId());
+            val results = getNewTicketRegistry().query(criteria);
+            assertEquals(1, results.size());
+            assertEquals(tgtId, ((Ticket) results.getFirst()).getId());
+
+            getNewTicketRegistry().deleteTicket(tgtId);
+            assertEquals(initialCount, getNewTicketRegistry().sessionCount());
+            assertTrue(getNewTicketRegistry().query(criteria).isEmpty());
+        }
+
         private static <T> T executedTimedOperation(final String name, final Supplier<T> operation) {
             val stopwatch = new StopWatch();
             stopwatch.start();
@@ -42,6 +42,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -228,20 +229,47 @@ public class SingleSignOnSessionsEndpoint extends BaseCasActuatorEndpoint {
             if (ssoSessionsRequest.getCount() > 0) {
                 tickets = tickets.limit(ssoSessionsRequest.getCount());
             }
-            tickets.forEach(ticket -> sessionsMap.put(ticket.getId(), destroySsoSession(ticket.getId(), request, response)));
+            val ticketGrantingTickets = tickets.map(Ticket::getId).collect(Collectors.toList());
+            sessionsMap.putAll(destroySsoSessions(ticketGrantingTickets, request, response));
             return sessionsMap;
         }
 
         val sessionsMap = new HashMap<String, Object>();
-        val collection = getActiveSsoSessions(ssoSessionsRequest);
-        collection
+        val ticketGrantingTickets = getActiveSsoSessions(ssoSessionsRequest)
             .stream()
             .map(sso -> sso.get(SsoSessionAttributeKeys.TICKET_GRANTING_TICKET_ID.getAttributeKey()).toString())
-            .forEach(ticketGrantingTicket -> destroySsoSession(ticketGrantingTicket, request, response));
+            .collect(Collectors.toList());
+        destroySsoSessions(ticketGrantingTickets, request, response);
         sessionsMap.put(STATUS, HttpServletResponse.SC_OK);
         return sessionsMap;
     }
 
+    private Map<String, Object> destroySsoSessions(final List<String> ticketGrantingTickets,
+                                                   final HttpServletRequest request,
+                                                   final HttpServletResponse response) {
+        val sessionsMap = new LinkedHashMap<String, Object>(ticketGrantingTickets.size());
+        try {
+            val sloRequests = singleLogoutRequestExecutor.getObject().execute(ticketGrantingTickets, request, response);
+            ticketGrantingTickets.forEach(ticketGrantingTicket -> {
+                val sessionMap = new HashMap<String, Object>();
+                sessionMap.put(STATUS, HttpServletResponse.SC_OK);
+                sessionMap.put(TICKET_GRANTING_TICKET, ticketGrantingTicket);
+                sessionMap.put("singleLogoutRequests", sloRequests.getOrDefault(ticketGrantingTicket, List.of()));
+                sessionsMap.put(ticketGrantingTicket, sessionMap);
+            });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            ticketGrantingTickets.forEach(ticketGrantingTicket -> {
+                val sessionMap = new HashMap<String, Object>();
+                sessionMap.put(STATUS, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                sessionMap.put(TICKET_GRANTING_TICKET, ticketGrantingTicket);
+                sessionMap.put("message", e.getMessage());
+                sessionsMap.put(ticketGrantingTicket, sessionMap);
+            });
+        }
+        return sessionsMap;
+    }
+
     /**
      * The enum SSO session report options.
      */
@@ -31,12 +31,15 @@ import org.pac4j.core.context.WebContext;
 import org.pac4j.core.context.session.SessionStore;
 import org.pac4j.jee.context.JEEContext;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
@@ -78,7 +81,7 @@ public class SamlIdPSessionManager {
         val authnRequest = (AuthnRequest) context.getLeft();
         val messageContext = context.getValue();
         try (val writer = SamlUtils.transformSamlObject(openSamlConfigBean, authnRequest)) {
-            val samlRequest = EncodingUtils.encodeBase64(writer.toString().getBytes(StandardCharsets.UTF_8));
+            val samlRequest = encodeSamlRequest(writer.toString());
             val authnContext = SamlIdPAuthenticationContext.from(messageContext).encode();
             val entry = new SamlIdPSessionEntry()
                 .setId(authnRequest.getID())
@@ -141,6 +144,27 @@ public class SamlIdPSessionManager {
         }
     }
 
+    /**
+     * Encode the saml request in compact form, deflated without zlib headers
+     * and base64-encoded, as it would be for the redirect binding.
+     *
+     * @param samlRequest the saml request
+     * @return the encoded request
+     * @throws Exception the exception
+     */
+    protected String encodeSamlRequest(final String samlRequest) throws Exception {
+        val deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            val output = new ByteArrayOutputStream();
+            try (val os = new DeflaterOutputStream(output, deflater)) {
+                os.write(samlRequest.getBytes(StandardCharsets.UTF_8));
+            }
+            return EncodingUtils.encodeBase64(output.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
     private Optional<SamlIdPSessionEntry> getSamlIdPSessionEntryFromRequest(final WebContext context, final Map<String, SamlIdPSessionEntry> ctx) {
         val applicationContext = openSamlConfigBean.getApplicationContext();
         val argumentExtractor = applicationContext.getBean(ArgumentExtractor.BEAN_NAME, ArgumentExtractor.class);
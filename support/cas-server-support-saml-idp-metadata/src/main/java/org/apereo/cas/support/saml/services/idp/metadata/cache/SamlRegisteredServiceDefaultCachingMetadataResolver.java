@@ -19,6 +19,7 @@ import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
+import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 import org.opensaml.core.criterion.SatisfyAnyCriterion;
 import org.opensaml.saml.metadata.criteria.entity.impl.EvaluableEntityRoleEntityDescriptorCriterion;
@@ -53,11 +54,18 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
 
         val core = casProperties.getAuthn().getSamlIdp().getMetadata().getCore();
         val metadataCacheExpiration = Beans.newDuration(core.getCacheExpiration());
-        this.cache = Caffeine.newBuilder()
+        val cacheBuilder = Caffeine.newBuilder()
             .maximumSize(core.getCacheMaximumSize())
             .recordStats()
-            .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
-            .build(loader);
+            .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration));
+        if (StringUtils.isNotBlank(core.getCacheRefreshInterval())) {
+            val refreshInterval = Beans.newDuration(core.getCacheRefreshInterval());
+            if (refreshInterval.isPositive()) {
+                LOGGER.debug("Cached metadata will be refreshed in the background after [{}]", refreshInterval);
+                cacheBuilder.refreshAfterWrite(refreshInterval);
+            }
+        }
+        this.cache = cacheBuilder.build(loader);
     }
 
     private static long countResolvableEntityDescriptors(final MetadataResolutionResult result) {
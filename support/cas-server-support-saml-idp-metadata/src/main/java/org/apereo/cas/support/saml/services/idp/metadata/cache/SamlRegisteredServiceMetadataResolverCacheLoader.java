@@ -4,7 +4,6 @@ import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.idp.metadata.plan.SamlRegisteredServiceMetadataResolutionPlan;
 import org.apereo.cas.util.RandomUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
@@ -28,6 +27,9 @@ import java.util.stream.Collectors;
  * to keep track of metadata resources and resolvers. The cache loader here supports loading
  * metadata resources from SAML services, supports dynamic metadata queries and is able
  * to run various validation filters on the metadata before finally caching the resolver.
+ * <p>
+ * Loads are not serialized here; the cache coalesces concurrent loads of the same key,
+ * while metadata from unrelated locations is loaded concurrently.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -45,30 +47,26 @@ public class SamlRegisteredServiceMetadataResolverCacheLoader implements CacheLo
      * The Http client.
      */
     protected final HttpClient httpClient;
-    
-    private final CasReentrantLock lock = new CasReentrantLock();
 
     private final SamlRegisteredServiceMetadataResolutionPlan metadataResolutionPlan;
 
     @Override
     public CachedMetadataResolverResult load(final SamlRegisteredServiceCacheKey cacheKey) {
-        return lock.tryLock(() -> {
-            val metadataResolvers = loadMetadataResolvers(cacheKey);
-            if (metadataResolvers.isEmpty()) {
-                val registeredService = cacheKey.getRegisteredService();
-                val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(registeredService.getMetadataLocation());
-                throw new SamlException("No metadata resolvers could be configured for service " + registeredService.getName()
-                    + " with metadata location " + metadataLocation);
-            }
+        val metadataResolvers = loadMetadataResolvers(cacheKey);
+        if (metadataResolvers.isEmpty()) {
+            val registeredService = cacheKey.getRegisteredService();
+            val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(registeredService.getMetadataLocation());
+            throw new SamlException("No metadata resolvers could be configured for service " + registeredService.getName()
+                + " with metadata location " + metadataLocation);
+        }
 
-            val metadataResolver = initializeChainingMetadataResolver(metadataResolvers);
-            LOGGER.debug("Metadata resolvers active for this request are [{}]", Objects.requireNonNull(metadataResolvers));
-            return CachedMetadataResolverResult
-                .builder()
-                .cachedInstant(Instant.now(Clock.systemUTC()))
-                .metadataResolver(metadataResolver)
-                .build();
-        });
+        val metadataResolver = initializeChainingMetadataResolver(metadataResolvers);
+        LOGGER.debug("Metadata resolvers active for this request are [{}]", Objects.requireNonNull(metadataResolvers));
+        return CachedMetadataResolverResult
+            .builder()
+            .cachedInstant(Instant.now(Clock.systemUTC()))
+            .metadataResolver(metadataResolver)
+            .build();
     }
 
     protected MetadataResolver initializeChainingMetadataResolver(final List<MetadataResolver> metadataResolvers) {
@@ -10,6 +10,7 @@ import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.FileSyst
 import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.SamlRegisteredServiceMetadataResolver;
 import org.apereo.cas.support.saml.services.idp.metadata.plan.DefaultSamlRegisteredServiceMetadataResolutionPlan;
 import org.apereo.cas.util.RandomUtils;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
@@ -21,6 +22,10 @@ import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.apereo.cas.util.junit.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -52,6 +57,45 @@ class SamlRegisteredServiceMetadataResolverCacheLoaderTests extends BaseSamlIdPS
         assertNotNull(loader.load(key));
     }
 
+    @Test
+    void verifyConcurrentLoadsAreCoalescedByCache() throws Throwable {
+        val content = IOUtils.toString(new ClassPathResource("sample-sp.xml").getInputStream(), StandardCharsets.UTF_8);
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val slowLoads = new AtomicInteger();
+        val slowLocation = UUID.randomUUID().toString();
+        val metadataResolver = mock(SamlRegisteredServiceMetadataResolver.class);
+        when(metadataResolver.supports(any())).thenReturn(Boolean.TRUE);
+        when(metadataResolver.isAvailable(any())).thenReturn(Boolean.TRUE);
+        when(metadataResolver.resolve(any(SamlRegisteredService.class), any(CriteriaSet.class)))
+            .thenAnswer(args -> {
+                val service = args.getArgument(0, SamlRegisteredService.class);
+                if (slowLocation.equals(service.getMetadataLocation())) {
+                    slowLoads.incrementAndGet();
+                    started.countDown();
+                    assertTrue(release.await(30, TimeUnit.SECONDS));
+                }
+                return List.of(new InMemoryResourceMetadataResolver(content, openSamlConfigBean));
+            });
+        val loader = buildCacheLoader(metadataResolver);
+        val cache = Caffeine.newBuilder().build(loader);
+        try (val executor = Executors.newFixedThreadPool(3)) {
+            val slowKey = new SamlRegisteredServiceCacheKey(buildService(slowLocation), new CriteriaSet());
+            val first = executor.submit(() -> cache.get(slowKey));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            val second = executor.submit(() -> cache.get(slowKey));
+
+            val otherKey = new SamlRegisteredServiceCacheKey(buildService(UUID.randomUUID().toString()), new CriteriaSet());
+            assertNotNull(executor.submit(() -> loader.load(otherKey)).get(10, TimeUnit.SECONDS));
+            assertFalse(second.isDone());
+
+            release.countDown();
+            assertNotNull(first.get());
+            assertNotNull(second.get());
+        }
+        assertEquals(1, slowLoads.get());
+    }
+
     @Test
     void verifyClasspathByExpression() throws Throwable {
         System.setProperty("CLASSPATH_SP", "classpath:sample-sp.xml");
@@ -95,6 +139,15 @@ class SamlRegisteredServiceMetadataResolverCacheLoaderTests extends BaseSamlIdPS
         assertThrowsWithRootCause(RuntimeException.class, SamlException.class, () -> loader.load(key));
     }
 
+    private static SamlRegisteredService buildService(final String metadataLocation) {
+        val service = new SamlRegisteredService();
+        service.setName(RandomUtils.randomAlphabetic(4));
+        service.setId(RandomUtils.nextLong());
+        service.setServiceId("https://example.org/saml");
+        service.setMetadataLocation(metadataLocation);
+        return service;
+    }
+
     private SamlRegisteredServiceMetadataResolverCacheLoader buildCacheLoader() throws Throwable {
         val file = new File(FileUtils.getTempDirectory(), RandomUtils.randomAlphabetic(4));
         if (!file.mkdirs()) {
@@ -26,7 +26,7 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.EncodingUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.concurrent.CasStripedLock;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.validation.TicketValidationResult;
 import org.apereo.cas.web.BrowserStorage;
@@ -86,7 +86,7 @@ public abstract class AbstractSamlIdPProfileHandlerController {
      */
     protected final SamlProfileHandlerConfigurationContext configurationContext;
 
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private final CasStripedLock sessionLock = new CasStripedLock();
 
     protected static void logCasValidationAssertion(final TicketValidationResult assertion) {
         LOGGER.debug("CAS Assertion Principal: [{}]", assertion.getPrincipal());
@@ -494,26 +494,27 @@ public abstract class AbstractSamlIdPProfileHandlerController {
 
     protected final Pair<? extends RequestAbstractType, MessageContext> retrieveAuthenticationRequest(
         final HttpServletResponse response, final HttpServletRequest request) {
-        return lock.tryLock(() -> {
-            LOGGER.info("Received SAML callback profile request [{}]", request.getRequestURI());
-            val webContext = new JEEContext(request, response);
-            return SamlIdPSessionManager.of(configurationContext.getOpenSamlConfigBean(), configurationContext.getSessionStore())
-                .fetch(webContext, AuthnRequest.class)
-                .orElseThrow(() -> new IllegalArgumentException("SAML2 authentication request cannot be determined from the CAS session store. "
-                    + "This typically means that the original SAML2 authentication request that was submitted to CAS via a SAML2 service provider "
-                    + "cannot be retrieved and restored after an authentication attempt. If you are running a multi-node CAS deployment, you may "
-                    + "need to opt for a different session storage mechanism that what is configured now: %s"
-                    .formatted(configurationContext.getSessionStore().getClass().getName())));
-        });
+        LOGGER.info("Received SAML callback profile request [{}]", request.getRequestURI());
+        val webContext = new JEEContext(request, response);
+        return SamlIdPSessionManager.of(configurationContext.getOpenSamlConfigBean(), configurationContext.getSessionStore())
+            .fetch(webContext, AuthnRequest.class)
+            .orElseThrow(() -> new IllegalArgumentException("SAML2 authentication request cannot be determined from the CAS session store. "
+                + "This typically means that the original SAML2 authentication request that was submitted to CAS via a SAML2 service provider "
+                + "cannot be retrieved and restored after an authentication attempt. If you are running a multi-node CAS deployment, you may "
+                + "need to opt for a different session storage mechanism that what is configured now: %s"
+                .formatted(configurationContext.getSessionStore().getClass().getName())));
     }
 
     protected void storeAuthenticationRequest(final HttpServletRequest request, final HttpServletResponse response,
                                               final Pair<? extends SignableSAMLObject, MessageContext> context) throws Exception {
-        lock.tryLock(__ -> {
-            val webContext = new JEEContext(request, response);
-            SamlIdPSessionManager.of(configurationContext.getOpenSamlConfigBean(),
-                configurationContext.getSessionStore()).store(webContext, context);
-        });
+        val webContext = new JEEContext(request, response);
+        val sessionManager = SamlIdPSessionManager.of(configurationContext.getOpenSamlConfigBean(), configurationContext.getSessionStore());
+        val sessionId = configurationContext.getSessionStore().getSessionId(webContext, true);
+        if (sessionId.isPresent()) {
+            sessionLock.tryLock(sessionId.get(), __ -> sessionManager.store(webContext, context));
+        } else {
+            sessionManager.store(webContext, context);
+        }
     }
 
     protected String determineProfileBinding(final Pair<? extends RequestAbstractType, MessageContext> authenticationContext,
@@ -3,6 +3,8 @@ package org.apereo.cas.support.saml.idp;
 import org.apereo.cas.CasProtocolConstants;
 import org.apereo.cas.support.saml.BaseSamlIdPConfigurationTests;
 import org.apereo.cas.support.saml.SamlIdPConstants;
+import org.apereo.cas.support.saml.SamlUtils;
+import org.apereo.cas.util.EncodingUtils;
 import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hc.core5.net.URIBuilder;
@@ -13,6 +15,7 @@ import org.opensaml.saml.saml2.core.AuthnRequest;
 import org.pac4j.jee.context.JEEContext;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import java.nio.charset.StandardCharsets;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -64,4 +67,17 @@ class SamlIdPSessionManagerTests extends BaseSamlIdPConfigurationTests {
         request.setParameter(CasProtocolConstants.PARAMETER_SERVICE, serviceUrl);
         assertDoesNotThrow(() -> sessionManager.fetch(webContext, AuthnRequest.class).orElseThrow());
     }
+
+    @Test
+    void verifyCompactEncoding() throws Throwable {
+        val authnRequest = getAuthnRequestFor(getSamlRegisteredServiceForTestShib());
+        val sessionManager = SamlIdPSessionManager.of(openSamlConfigBean, samlIdPDistributedSessionStore);
+        try (val writer = SamlUtils.transformSamlObject(openSamlConfigBean, authnRequest)) {
+            val xml = writer.toString();
+            val encoded = sessionManager.encodeSamlRequest(xml);
+            assertTrue(encoded.length() < EncodingUtils.encodeBase64(xml.getBytes(StandardCharsets.UTF_8)).length());
+            val decoded = sessionManager.fetch(AuthnRequest.class, encoded);
+            assertEquals(authnRequest.getID(), decoded.getID());
+        }
+    }
 }
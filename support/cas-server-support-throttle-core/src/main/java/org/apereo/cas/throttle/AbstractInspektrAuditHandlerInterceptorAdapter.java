@@ -1,16 +1,114 @@
 package org.apereo.cas.throttle;
 
+import org.apereo.cas.web.support.ThrottledSubmission;
+import org.apereo.cas.web.support.ThrottledSubmissionReceiver;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.jooq.lambda.Unchecked;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * This is {@link AbstractInspektrAuditHandlerInterceptorAdapter}.
+ * <p>
+ * Failures are looked up in the audit store on every request, unless failures
+ * are tracked in memory via a {@link SlidingWindowThrottledSubmissionCounter}, in which case
+ * throttling decisions are made from the in-memory window and the audit store is only
+ * queried in the background to keep the window in sync. Failures that are recorded
+ * in memory are also passed onto available {@link ThrottledSubmissionReceiver}s
+ * so they may be shared with other nodes.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
+@Slf4j
 public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter {
+    private static final String REQUEST_ATTRIBUTE_FAILURE_RECORDED = AbstractInspektrAuditHandlerInterceptorAdapter.class.getName() + ".failureRecorded";
+
+    private final SlidingWindowThrottledSubmissionCounter failureCounter;
+
+    private final List<ThrottledSubmissionReceiver> throttledSubmissionReceivers;
+
     protected AbstractInspektrAuditHandlerInterceptorAdapter(final ThrottledSubmissionHandlerConfigurationContext configurationContext) {
         super(configurationContext);
+        val throttle = configurationContext.getCasProperties().getAuthn().getThrottle();
+        if (throttle.getWindow().isEnabled()) {
+            val applicationContext = configurationContext.getApplicationContext();
+            this.failureCounter = applicationContext.getBeanProvider(SlidingWindowThrottledSubmissionCounter.class)
+                .getIfAvailable(() -> SlidingWindowThrottledSubmissionCounter.from(throttle));
+            this.throttledSubmissionReceivers = new ArrayList<>(applicationContext
+                .getBeansOfType(ThrottledSubmissionReceiver.class).values());
+            AnnotationAwareOrderComparator.sort(throttledSubmissionReceivers);
+        } else {
+            this.failureCounter = null;
+            this.throttledSubmissionReceivers = List.of();
+        }
+    }
+
+    @Override
+    public boolean exceedsThreshold(final HttpServletRequest request) {
+        val remoteAddress = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        val username = getUsernameParameterFromRequest(request);
+        if (failureCounter == null) {
+            LOGGER.debug("Fetching failures in audit log for username [{}] and remote address [{}]", username, remoteAddress);
+            val failures = fetchFailuresFromAuditStore(remoteAddress, username);
+            LOGGER.debug("Found [{}] failure(s) in audit log", failures.size());
+            return calculateFailureThresholdRateAndCompare(failures);
+        }
+        val key = SlidingWindowThrottledSubmissionCounter.toKey(remoteAddress, username);
+        failureCounter.synchronizeIfNecessary(key, () -> fetchFailuresFromAuditStore(remoteAddress, username)
+            .stream()
+            .map(submission -> submission.getValue().toInstant())
+            .toList());
+        val failures = failureCounter.getFailures(key)
+            .stream()
+            .map(failure -> ThrottledSubmission.builder()
+                .key(key)
+                .value(failure.atZone(ZoneOffset.UTC))
+                .build())
+            .toList();
+        LOGGER.debug("Found [{}] failure(s) in memory for [{}]", failures.size(), key);
+        return calculateFailureThresholdRateAndCompare(failures);
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        if (failureCounter != null && request.getAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED) == null) {
+            request.setAttribute(REQUEST_ATTRIBUTE_FAILURE_RECORDED, Boolean.TRUE);
+            val username = getUsernameParameterFromRequest(request);
+            val remoteAddress = ClientInfoHolder.getClientInfo().getClientIpAddress();
+            val submission = ThrottledSubmission
+                .builder()
+                .id(UUID.randomUUID().toString())
+                .key(SlidingWindowThrottledSubmissionCounter.toKey(remoteAddress, username))
+                .username(username)
+                .clientIpAddress(remoteAddress)
+                .build();
+            LOGGER.debug("Recording submission failure [{}] in memory", submission);
+            failureCounter.record(submission.getKey(), submission.getValue().toInstant());
+            throttledSubmissionReceivers.forEach(Unchecked.consumer(receiver -> receiver.receive(submission)));
+        }
+    }
+
+    @Override
+    public void release() {
+        if (failureCounter != null) {
+            failureCounter.release();
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (failureCounter != null) {
+            failureCounter.clear();
+        }
     }
 
     @Override
@@ -18,4 +116,14 @@ public abstract class AbstractInspektrAuditHandlerInterceptorAdapter extends Abs
         super.recordThrottle(request);
         recordAuditAction(request, ACTION_THROTTLED_LOGIN_ATTEMPT);
     }
+
+    /**
+     * Fetch the most recent failures for the client address and username
+     * that fall within the failure range from the audit store, most recent first.
+     *
+     * @param remoteAddress the remote address
+     * @param username      the username
+     * @return the failures
+     */
+    protected abstract List<? extends ThrottledSubmission> fetchFailuresFromAuditStore(String remoteAddress, String username);
 }
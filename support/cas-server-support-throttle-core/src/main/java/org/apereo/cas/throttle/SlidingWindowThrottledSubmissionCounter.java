@@ -0,0 +1,292 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.configuration.model.support.throttle.ThrottleProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionCounter}.
+ * <p>
+ * Tracks the most recent authentication failures per client IP address and username
+ * in a sliding window that is kept in memory. Each window is an immutable snapshot held by an
+ * atomic reference and is updated without locks. Failures that fall outside the configured
+ * range are discarded, and only as many failures as the failure threshold are retained.
+ * <p>
+ * Windows are periodically synchronized with failures that are recorded in a durable store,
+ * such as the audit log, in the background so that failures recorded by other nodes are accounted for.
+ * Failures recorded or merged directly into a window are always retained, while failures reported
+ * by the durable store replace those of the previous synchronization. Since the durable store also
+ * holds the failures that were recorded directly, durable failures that occurred within a second
+ * of a recorded failure are considered the same failure and are skipped.
+ * <p>
+ * The number of synchronizations that may run at the same time is bounded, so that requests for
+ * many distinct client IP addresses and usernames do not turn into as many queries against the durable store.
+ * When all permits are taken, synchronizations are skipped and attempted again on a later request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class SlidingWindowThrottledSubmissionCounter {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "slidingWindowThrottledSubmissionCounter";
+
+    private static final int MINIMUM_CAPACITY = 2;
+
+    private static final Duration RECONCILIATION_TOLERANCE = Duration.ofSeconds(1);
+
+    private static final int DEFAULT_MAX_CONCURRENT_SYNCHRONIZATIONS = 16;
+
+    private final Map<String, AtomicReference<FailureWindow>> windows = new ConcurrentHashMap<>();
+
+    private final Set<String> synchronizations = ConcurrentHashMap.newKeySet();
+
+    private final Semaphore synchronizationPermits;
+
+    private final ThreadFactory synchronizationThreadFactory = Thread.ofVirtual().name("throttle-sync-", 0).factory();
+
+    private final Duration range;
+
+    private final Duration synchronizationInterval;
+
+    private final int capacity;
+
+    private final Clock clock;
+
+    public SlidingWindowThrottledSubmissionCounter(final Duration range, final Duration synchronizationInterval,
+                                                   final int capacity) {
+        this(range, synchronizationInterval, capacity, DEFAULT_MAX_CONCURRENT_SYNCHRONIZATIONS, Clock.systemUTC());
+    }
+
+    public SlidingWindowThrottledSubmissionCounter(final Duration range, final Duration synchronizationInterval,
+                                                   final int capacity, final int maxConcurrentSynchronizations,
+                                                   final Clock clock) {
+        this.range = range;
+        this.synchronizationInterval = synchronizationInterval;
+        this.capacity = Math.max(MINIMUM_CAPACITY, capacity);
+        this.synchronizationPermits = new Semaphore(Math.max(1, maxConcurrentSynchronizations));
+        this.clock = clock;
+    }
+
+    /**
+     * Build a counter from throttling settings.
+     *
+     * @param properties the throttle properties
+     * @return the counter
+     */
+    public static SlidingWindowThrottledSubmissionCounter from(final ThrottleProperties properties) {
+        return new SlidingWindowThrottledSubmissionCounter(
+            Duration.ofSeconds(properties.getFailure().getRangeSeconds()),
+            Beans.newDuration(properties.getWindow().getSynchronizationInterval()),
+            properties.getFailure().getThreshold(),
+            properties.getWindow().getMaxConcurrentSynchronizations(),
+            Clock.systemUTC());
+    }
+
+    /**
+     * Build the window key for the client IP address and username.
+     *
+     * @param clientIpAddress the client ip address
+     * @param username        the username
+     * @return the key
+     */
+    public static String toKey(final String clientIpAddress, final String username) {
+        return StringUtils.defaultString(clientIpAddress) + '|' + StringUtils.defaultString(username);
+    }
+
+    /**
+     * Record a failure.
+     *
+     * @param key     the key
+     * @param failure the failure instant
+     */
+    public void record(final String key, final Instant failure) {
+        merge(key, List.of(failure));
+    }
+
+    /**
+     * Merge failures into the window, typically received from other nodes.
+     *
+     * @param key      the key
+     * @param failures the failures
+     */
+    public void merge(final String key, final Collection<Instant> failures) {
+        val cutoff = getCutoff();
+        windows.computeIfAbsent(key, __ -> new AtomicReference<>(FailureWindow.EMPTY))
+            .updateAndGet(window -> window.merge(failures, cutoff, capacity));
+    }
+
+    /**
+     * Failures in range, most recent first.
+     *
+     * @param key the key
+     * @return the failures
+     */
+    public List<Instant> getFailures(final String key) {
+        val window = windows.get(key);
+        if (window == null) {
+            return List.of();
+        }
+        val cutoff = getCutoff();
+        return Arrays.stream(window.get().failures())
+            .filter(failure -> failure >= cutoff)
+            .mapToObj(Instant::ofEpochMilli)
+            .toList();
+    }
+
+    /**
+     * Synchronize the window with failures from the durable store in the background,
+     * if the window was never or not recently synchronized, no other synchronization
+     * for the same key is in progress and the number of concurrent synchronizations
+     * is below the limit.
+     *
+     * @param key    the key
+     * @param source the source of failures in the durable store
+     * @return true if a synchronization was started
+     */
+    public boolean synchronizeIfNecessary(final String key, final Supplier<? extends Collection<Instant>> source) {
+        if (!isSynchronizationDue(key) || !synchronizations.add(key)) {
+            return false;
+        }
+        if (!synchronizationPermits.tryAcquire()) {
+            synchronizations.remove(key);
+            LOGGER.trace("Skipping synchronization for [{}] since too many synchronizations are in progress", key);
+            return false;
+        }
+        synchronizationThreadFactory.newThread(() -> {
+            try {
+                synchronize(key, source);
+            } finally {
+                synchronizationPermits.release();
+            }
+        }).start();
+        return true;
+    }
+
+    /**
+     * Determine whether the window should be synchronized with the durable store.
+     *
+     * @param key the key
+     * @return true/false
+     */
+    public boolean isSynchronizationDue(final String key) {
+        val window = windows.get(key);
+        return window == null || isSynchronizationDue(window.get());
+    }
+
+    /**
+     * Remove windows that no longer hold failures in range and are due for synchronization.
+     */
+    public void release() {
+        val cutoff = getCutoff();
+        windows.keySet().forEach(key -> windows.computeIfPresent(key, (__, window) -> {
+            val failures = window.get().failures();
+            val inactive = failures.length == 0 || failures[0] < cutoff;
+            return inactive && isSynchronizationDue(window.get()) ? null : window;
+        }));
+    }
+
+    /**
+     * Clear all windows.
+     */
+    public void clear() {
+        windows.clear();
+    }
+
+    /**
+     * Number of tracked windows.
+     *
+     * @return the size
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    protected void synchronize(final String key, final Supplier<? extends Collection<Instant>> source) {
+        try {
+            val startedAt = clock.millis();
+            Collection<Instant> failures = null;
+            try {
+                failures = source.get();
+                LOGGER.trace("Synchronizing [{}] failure(s) for [{}] from the durable store", failures.size(), key);
+            } catch (final Throwable e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+            val durableFailures = failures;
+            val cutoff = getCutoff();
+            windows.computeIfAbsent(key, __ -> new AtomicReference<>(FailureWindow.EMPTY))
+                .updateAndGet(window -> window.synchronize(durableFailures, startedAt, cutoff, capacity, RECONCILIATION_TOLERANCE.toMillis()));
+        } finally {
+            synchronizations.remove(key);
+        }
+    }
+
+    private boolean isSynchronizationDue(final FailureWindow window) {
+        return window.synchronizedAt() + synchronizationInterval.toMillis() <= clock.millis();
+    }
+
+    private long getCutoff() {
+        return clock.millis() - range.toMillis();
+    }
+
+    private record FailureWindow(long[] recorded, long[] durable, long synchronizedAt) {
+        private static final FailureWindow EMPTY = new FailureWindow(new long[0], new long[0], 0);
+
+        long[] failures() {
+            return combine(Arrays.stream(recorded), Arrays.stream(durable), Long.MIN_VALUE, recorded.length + durable.length);
+        }
+
+        FailureWindow merge(final Collection<Instant> additions, final long cutoff, final int capacity) {
+            val merged = combine(Arrays.stream(recorded), additions.stream().mapToLong(Instant::toEpochMilli), cutoff, capacity);
+            return new FailureWindow(merged, durable, synchronizedAt);
+        }
+
+        FailureWindow synchronize(final Collection<Instant> durableFailures, final long startedAt,
+                                  final long cutoff, final int capacity, final long tolerance) {
+            if (durableFailures == null) {
+                return new FailureWindow(recorded, durable, startedAt);
+            }
+            val reconciled = durableFailures
+                .stream()
+                .mapToLong(Instant::toEpochMilli)
+                .filter(failure -> Arrays.stream(recorded).noneMatch(local -> Math.abs(local - failure) <= tolerance));
+            return new FailureWindow(recorded, combine(reconciled, LongStream.empty(), cutoff, capacity), startedAt);
+        }
+
+        private static long[] combine(final LongStream first, final LongStream second,
+                                      final long cutoff, final int capacity) {
+            return LongStream.concat(first, second)
+                .filter(failure -> failure >= cutoff)
+                .boxed()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(capacity)
+                .mapToLong(Long::longValue)
+                .toArray();
+        }
+    }
+}
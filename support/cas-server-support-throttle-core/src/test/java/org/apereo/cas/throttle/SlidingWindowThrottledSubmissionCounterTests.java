@@ -0,0 +1,53 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.util.function.FunctionUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionCounterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("AuthenticationThrottling")
+class SlidingWindowThrottledSubmissionCounterTests {
+
+    @Test
+    void verifySynchronizationsAreBounded() throws Throwable {
+        val counter = new SlidingWindowThrottledSubmissionCounter(Duration.ofSeconds(5), Duration.ofSeconds(1), 5, 1, Clock.systemUTC());
+        val latch = new CountDownLatch(1);
+        assertTrue(counter.synchronizeIfNecessary("first", () -> {
+            FunctionUtils.doUnchecked(__ -> latch.await());
+            return List.of();
+        }));
+        assertFalse(counter.synchronizeIfNecessary("second", List::of));
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> counter.synchronizeIfNecessary("second", List::of));
+        assertFalse(counter.isSynchronizationDue("first"));
+    }
+
+    @Test
+    void verifySynchronizationThreadNameHidesKey() throws Throwable {
+        val counter = new SlidingWindowThrottledSubmissionCounter(Duration.ofSeconds(5), Duration.ofSeconds(1), 5);
+        val key = SlidingWindowThrottledSubmissionCounter.toKey("1.2.3.4", "casuser");
+        val threadName = new CompletableFuture<String>();
+        assertTrue(counter.synchronizeIfNecessary(key, () -> {
+            threadName.complete(Thread.currentThread().getName());
+            return List.of();
+        }));
+        val name = threadName.get(5, TimeUnit.SECONDS);
+        assertTrue(name.startsWith("throttle-sync-"));
+        assertFalse(name.contains("1.2.3.4"));
+        assertFalse(name.contains("casuser"));
+    }
+}
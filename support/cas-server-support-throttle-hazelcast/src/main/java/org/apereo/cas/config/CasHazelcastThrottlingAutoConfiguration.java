@@ -4,19 +4,26 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
+import org.apereo.cas.throttle.SlidingWindowThrottledSubmissionCounter;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.support.HazelcastMapThrottledSubmissionsStore;
+import org.apereo.cas.web.support.HazelcastThrottledSubmissionReceiver;
 import org.apereo.cas.web.support.ThrottledSubmission;
+import org.apereo.cas.web.support.ThrottledSubmissionReceiver;
 import org.apereo.cas.web.support.ThrottledSubmissionsStore;
 
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 
@@ -35,6 +42,8 @@ public class CasHazelcastThrottlingAutoConfiguration {
 
     private static final String MAP_KEY = "ipMap";
 
+    private static final String TOPIC_KEY = "throttledSubmissionFailures";
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "hazelcastThrottleSubmissionStore")
@@ -49,4 +58,22 @@ public class CasHazelcastThrottlingAutoConfiguration {
         HazelcastConfigurationFactory.setConfigMap(ipMapConfig, casTicketRegistryHazelcastInstance.getConfig());
         return new HazelcastMapThrottledSubmissionsStore(casTicketRegistryHazelcastInstance.getMap(MAP_KEY), casProperties);
     }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "hazelcastThrottledSubmissionReceiver")
+    public ThrottledSubmissionReceiver hazelcastThrottledSubmissionReceiver(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier("casTicketRegistryHazelcastInstance")
+        final HazelcastInstance casTicketRegistryHazelcastInstance,
+        @Qualifier(SlidingWindowThrottledSubmissionCounter.BEAN_NAME)
+        final ObjectProvider<SlidingWindowThrottledSubmissionCounter> slidingWindowThrottledSubmissionCounter) {
+        return BeanSupplier.of(ThrottledSubmissionReceiver.class)
+            .when(BeanCondition.on("cas.authn.throttle.window.enabled").isTrue().given(applicationContext.getEnvironment()))
+            .supply(() -> new HazelcastThrottledSubmissionReceiver(
+                casTicketRegistryHazelcastInstance.getTopic(TOPIC_KEY),
+                slidingWindowThrottledSubmissionCounter.getObject()))
+            .otherwiseProxy()
+            .get();
+    }
 }
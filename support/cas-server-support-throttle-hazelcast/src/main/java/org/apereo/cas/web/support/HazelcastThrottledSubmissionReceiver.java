@@ -0,0 +1,61 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.throttle.SlidingWindowThrottledSubmissionCounter;
+
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.MessageListener;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.UUID;
+
+/**
+ * This is {@link HazelcastThrottledSubmissionReceiver}.
+ * <p>
+ * Publishes submission failures recorded by this node onto a Hazelcast topic,
+ * and merges failures published by other cluster members into the local
+ * {@link SlidingWindowThrottledSubmissionCounter}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class HazelcastThrottledSubmissionReceiver implements ThrottledSubmissionReceiver<ThrottledSubmission>,
+    MessageListener<ThrottledSubmission>, DisposableBean {
+
+    private final ITopic<ThrottledSubmission> topic;
+
+    private final SlidingWindowThrottledSubmissionCounter failureCounter;
+
+    private final UUID registrationId;
+
+    public HazelcastThrottledSubmissionReceiver(final ITopic<ThrottledSubmission> topic,
+                                                final SlidingWindowThrottledSubmissionCounter failureCounter) {
+        this.topic = topic;
+        this.failureCounter = failureCounter;
+        this.registrationId = topic.addMessageListener(this);
+    }
+
+    @Override
+    public void receive(final ThrottledSubmission submission) {
+        LOGGER.trace("Publishing submission failure [{}] to [{}]", submission, topic.getName());
+        topic.publish(submission);
+    }
+
+    @Override
+    public void onMessage(final Message<ThrottledSubmission> message) {
+        val member = message.getPublishingMember();
+        if (member == null || !member.localMember()) {
+            val submission = message.getMessageObject();
+            LOGGER.trace("Merging submission failure [{}] received from [{}]", submission, member);
+            failureCounter.record(submission.getKey(), submission.getValue().toInstant());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        topic.removeMessageListener(registrationId);
+    }
+}
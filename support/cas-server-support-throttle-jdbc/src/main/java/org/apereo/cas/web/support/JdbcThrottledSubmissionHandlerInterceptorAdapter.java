@@ -4,14 +4,12 @@ import org.apereo.cas.configuration.model.support.throttle.JdbcThrottlePropertie
 import org.apereo.cas.throttle.AbstractInspektrAuditHandlerInterceptorAdapter;
 import org.apereo.cas.throttle.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.util.DateTimeUtils;
-import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.jdbc.core.JdbcOperations;
-import jakarta.servlet.http.HttpServletRequest;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,7 +25,6 @@ import java.util.stream.Collectors;
  * @author Scott Battaglia
  * @since 3.3.5
  */
-@Slf4j
 public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractInspektrAuditHandlerInterceptorAdapter {
     private final JdbcOperations jdbcTemplate;
 
@@ -39,14 +36,9 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
+    protected List<ThrottledSubmission> fetchFailuresFromAuditStore(final String remoteAddress, final String username) {
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        val remoteAddress = clientInfo.getClientIpAddress();
-        val username = getUsernameParameterFromRequest(request);
-
-        LOGGER.debug("Fetching failures in audit log for username [{}] and remote address [{}]", username, remoteAddress);
-        val failuresInAudits = jdbcTemplate.query(
+        return jdbcTemplate.query(
             throttle.getJdbc().getAuditQuery(),
             ps -> {
                 ps.setString(1, remoteAddress);
@@ -60,12 +52,6 @@ public class JdbcThrottledSubmissionHandlerInterceptorAdapter extends AbstractIn
                 .key(UUID.randomUUID().toString())
                 .value(DateTimeUtils.zonedDateTimeOf(resultSet.getTimestamp("AUD_DATE")))
                 .build());
-        LOGGER.debug("Found [{}] failure(s) in audit log", failuresInAudits.size());
-        val result = calculateFailureThresholdRateAndCompare(failuresInAudits);
-        if (result) {
-            LOGGER.debug("Request from [{}] by user [{}] exceeds threshold", remoteAddress, username);
-        }
-        return result;
     }
 
     @Override
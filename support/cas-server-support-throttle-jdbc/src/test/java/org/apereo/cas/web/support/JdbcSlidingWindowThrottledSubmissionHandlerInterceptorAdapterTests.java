@@ -0,0 +1,72 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.config.CasHibernateJpaAutoConfiguration;
+import org.apereo.cas.config.CasJdbcAuditAutoConfiguration;
+import org.apereo.cas.config.CasJdbcThrottlingAutoConfiguration;
+import org.apereo.cas.throttle.SlidingWindowThrottledSubmissionCounter;
+import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import java.util.concurrent.TimeUnit;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JdbcSlidingWindowThrottledSubmissionHandlerInterceptorAdapterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@SpringBootTest(classes = {
+    CasJdbcThrottlingAutoConfiguration.class,
+    CasJdbcAuditAutoConfiguration.class,
+    CasHibernateJpaAutoConfiguration.class,
+    BaseThrottledSubmissionHandlerInterceptorAdapterTests.SharedTestConfiguration.class
+}, properties = {
+    "cas.authn.throttle.core.username-parameter=username",
+    "cas.authn.throttle.failure.code=AUTHENTICATION_FAILED",
+    "cas.audit.jdbc.asynchronous=false",
+    "cas.authn.throttle.failure.range-seconds=5",
+    "cas.authn.throttle.window.enabled=true",
+    "cas.authn.throttle.window.synchronization-interval=PT1S"
+})
+@Getter
+@Tag("JDBC")
+class JdbcSlidingWindowThrottledSubmissionHandlerInterceptorAdapterTests extends BaseThrottledSubmissionHandlerInterceptorAdapterTests {
+
+    @Autowired
+    @Qualifier(ThrottledSubmissionHandlerInterceptor.BEAN_NAME)
+    private ThrottledSubmissionHandlerInterceptor throttle;
+
+    @Autowired
+    @Qualifier(SlidingWindowThrottledSubmissionCounter.BEAN_NAME)
+    private SlidingWindowThrottledSubmissionCounter slidingWindowThrottledSubmissionCounter;
+
+    @Test
+    void verifyFailuresAreRecordedInMemoryOncePerRequest() throws Throwable {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("1.2.3.4");
+        request.setLocalAddr("4.5.6.7");
+        request.addParameter("username", "casuser");
+        request.addHeader("User-Agent", "Firefox");
+        ClientInfoHolder.setClientInfo(ClientInfo.from(request));
+
+        throttle.recordSubmissionFailure(request);
+        throttle.recordSubmissionFailure(request);
+        val key = SlidingWindowThrottledSubmissionCounter.toKey("1.2.3.4", "casuser");
+        assertEquals(1, slidingWindowThrottledSubmissionCounter.getFailures(key).size());
+        assertFalse(throttle.exceedsThreshold(request));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !slidingWindowThrottledSubmissionCounter.isSynchronizationDue(key));
+        assertEquals(1, slidingWindowThrottledSubmissionCounter.getFailures(key).size());
+
+        throttle.clear();
+        assertEquals(0, slidingWindowThrottledSubmissionCounter.size());
+    }
+}
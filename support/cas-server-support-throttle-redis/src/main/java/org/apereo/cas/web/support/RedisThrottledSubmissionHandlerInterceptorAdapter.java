@@ -6,10 +6,9 @@ import org.apereo.cas.throttle.AbstractInspektrAuditHandlerInterceptorAdapter;
 import org.apereo.cas.throttle.ThrottledSubmissionHandlerConfigurationContext;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
-import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.data.redis.core.BoundValueOperations;
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,13 +34,10 @@ public class RedisThrottledSubmissionHandlerInterceptorAdapter extends AbstractI
     }
 
     @Override
-    public boolean exceedsThreshold(final HttpServletRequest request) {
-        val clientInfo = ClientInfoHolder.getClientInfo();
-        val remoteAddress = clientInfo.getClientIpAddress();
+    protected List<ThrottledSubmission> fetchFailuresFromAuditStore(final String remoteAddress, final String username) {
         val throttle = getConfigurationContext().getCasProperties().getAuthn().getThrottle();
         try (val keys = redisTemplate.scan(RedisAuditTrailManager.CAS_AUDIT_CONTEXT_PREFIX + '*', this.scanCount)) {
-            val username = getUsernameParameterFromRequest(request);
-            val failures = keys
+            return keys
                 .map((Function<String, BoundValueOperations>) redisTemplate::boundValueOps)
                 .map(BoundValueOperations::get)
                 .map(AuditActionContext.class::cast)
@@ -55,7 +51,6 @@ public class RedisThrottledSubmissionHandlerInterceptorAdapter extends AbstractI
                 .limit(2)
                 .map(this::toThrottledSubmission)
                 .collect(Collectors.toList());
-            return calculateFailureThresholdRateAndCompare(failures);
         }
     }
 
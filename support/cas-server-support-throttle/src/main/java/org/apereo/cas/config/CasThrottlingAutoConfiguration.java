@@ -10,6 +10,7 @@ import org.apereo.cas.throttle.DefaultAuthenticationThrottlingExecutionPlan;
 import org.apereo.cas.throttle.DefaultThrottledRequestResponseHandler;
 import org.apereo.cas.throttle.DefaultThrottledSubmissionHandlerInterceptorAdapter;
 import org.apereo.cas.throttle.InMemoryThrottledSubmissionCleaner;
+import org.apereo.cas.throttle.SlidingWindowThrottledSubmissionCounter;
 import org.apereo.cas.throttle.ThrottledRequestExecutor;
 import org.apereo.cas.throttle.ThrottledRequestFilter;
 import org.apereo.cas.throttle.ThrottledRequestResponseHandler;
@@ -122,6 +123,12 @@ public class CasThrottlingAutoConfiguration {
             return new ConcurrentThrottledSubmissionsStore(casProperties);
         }
 
+        @ConditionalOnMissingBean(name = SlidingWindowThrottledSubmissionCounter.BEAN_NAME)
+        @Bean
+        public SlidingWindowThrottledSubmissionCounter slidingWindowThrottledSubmissionCounter(final CasConfigurationProperties casProperties) {
+            return SlidingWindowThrottledSubmissionCounter.from(casProperties.getAuthn().getThrottle());
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = "httpPostMethodThrottlingRequestFilter")
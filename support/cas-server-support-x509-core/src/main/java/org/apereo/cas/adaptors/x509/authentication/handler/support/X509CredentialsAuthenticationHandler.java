@@ -21,6 +21,7 @@ import javax.security.auth.login.FailedLoginException;
 import java.security.GeneralSecurityException;
 import java.security.Principal;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 /**
@@ -208,7 +209,7 @@ public class X509CredentialsAuthenticationHandler extends AbstractPreAndPostProc
             val certificate = certificates[i];
             LOGGER.debug("Evaluating [{}]", CertUtils.toString(certificate));
 
-            validate(certificate);
+            validate(certificate, findIssuer(certificate, certificates));
 
             if (!hasTrustedIssuer) {
                 hasTrustedIssuer = isCertificateFromTrustedIssuer(certificate);
@@ -231,9 +232,17 @@ public class X509CredentialsAuthenticationHandler extends AbstractPreAndPostProc
         throw new FailedLoginException();
     }
     
-    private void validate(final X509Certificate cert) throws GeneralSecurityException {
+    private static X509Certificate findIssuer(final X509Certificate cert, final X509Certificate[] certificates) {
+        return Arrays.stream(certificates)
+            .filter(candidate -> candidate != cert)
+            .filter(candidate -> candidate.getSubjectX500Principal().equals(cert.getIssuerX500Principal()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    private void validate(final X509Certificate cert, final X509Certificate issuer) throws GeneralSecurityException {
         cert.checkValidity();
-        this.revocationChecker.check(cert);
+        this.revocationChecker.check(cert, issuer);
 
         val pathLength = cert.getBasicConstraints();
         if (pathLength < 0) {
@@ -2,8 +2,12 @@ package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
 
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.crl.IndexedCRL;
+import org.apereo.cas.adaptors.x509.authentication.revocation.crl.IndexedCRLStore;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CertUtils;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -18,11 +22,13 @@ import org.bouncycastle.asn1.x509.GeneralName;
 import org.cryptacular.x509.ExtensionReader;
 import org.springframework.core.io.ByteArrayResource;
 
+import jakarta.annotation.Nonnull;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
@@ -39,6 +45,11 @@ import java.util.stream.IntStream;
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
  * check.
+ * <p>
+ * If an {@link IndexedCRLStore} is defined, CRLs are instead kept as compact indexes
+ * of revoked serial numbers that are refreshed in the background, and certificates
+ * are looked up in the indexes without parsing or holding CRLs in memory. CRLs whose
+ * indexes have expired are fetched and evaluated against the expired CRL policy.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
@@ -52,6 +63,8 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     private final boolean throwOnFetchFailure;
 
+    private final IndexedCRLStore crlStore;
+
     public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy) {
@@ -69,10 +82,53 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final Cache<URI, byte[]> crlCache,
                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
+        this(checkAll, unavailableCRLPolicy, expiredCRLPolicy, crlCache, fetcher, throwOnFetchFailure, null);
+    }
+
+    public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                 final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                 final Cache<URI, byte[]> crlCache,
+                                                 final CRLFetcher fetcher, final boolean throwOnFetchFailure,
+                                                 final IndexedCRLStore crlStore) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.crlCache = crlCache;
         this.fetcher = fetcher;
         this.throwOnFetchFailure = throwOnFetchFailure;
+        this.crlStore = crlStore;
+    }
+
+    @Override
+    public void check(@Nonnull final X509Certificate cert) throws GeneralSecurityException {
+        if (crlStore == null) {
+            super.check(cert);
+            return;
+        }
+        LOGGER.debug("Evaluating certificate revocation status for [{}] using indexed CRLs", CertUtils.toString(cert));
+        val indexes = getIndexedCRLs(cert);
+        if (indexes.isEmpty()) {
+            LOGGER.warn("CRL data is not available for [{}]", CertUtils.toString(cert));
+            getUnavailableCRLPolicy().apply(null);
+            return;
+        }
+        val now = crlStore.getClock().instant();
+        val validIndexes = indexes.stream().filter(index -> !index.isExpired(now)).toList();
+        if (validIndexes.isEmpty()) {
+            LOGGER.warn("All indexed CRLs have expired. Fetching CRLs to apply CRL expiration policy...");
+            super.check(cert);
+            return;
+        }
+        val revokedEntries = validIndexes.stream()
+            .map(index -> index.lookup(cert.getSerialNumber()))
+            .flatMap(Optional::stream)
+            .toList();
+        if (revokedEntries.size() == validIndexes.size()) {
+            val entry = revokedEntries.getFirst();
+            LOGGER.warn("All CRL entries have been revoked. Rejecting the first entry [{}]", entry);
+            val reason = entry.reason() >= 0 && entry.reason() < RevokedCertificateException.Reason.values().length
+                ? RevokedCertificateException.Reason.fromCode(entry.reason())
+                : null;
+            throw new RevokedCertificateException(DateTimeUtils.zonedDateTimeOf(entry.revocationDate()), entry.serial(), reason);
+        }
     }
 
 
@@ -182,6 +238,24 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         return listOfLocations;
     }
 
+    private List<IndexedCRL> getIndexedCRLs(final X509Certificate cert) {
+        val urls = getDistributionPoints(cert);
+        LOGGER.debug("Distribution points for [{}]: [{}].", CertUtils.toString(cert), CollectionUtils.wrap(urls));
+        val indexes = new ArrayList<IndexedCRL>(urls.length);
+        for (var index = 0; index < urls.length && (checkAll || indexes.isEmpty()); index++) {
+            val url = urls[index];
+            try {
+                indexes.add(crlStore.get(url));
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+                if (this.throwOnFetchFailure) {
+                    throw new RuntimeException(e.getMessage(), e);
+                }
+            }
+        }
+        return indexes;
+    }
+
     @Override
     protected boolean addCRL(final Object id, final X509CRL crl) {
         return FunctionUtils.doUnchecked(() -> {
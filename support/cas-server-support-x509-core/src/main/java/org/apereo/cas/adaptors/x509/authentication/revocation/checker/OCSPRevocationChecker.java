@@ -0,0 +1,428 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
+
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
+import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.crypto.CertUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpExecutionRequest;
+import org.apereo.cas.util.http.HttpUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.core5.http.HttpEntityContainer;
+import org.apache.hc.core5.http.HttpResponse;
+import org.bouncycastle.asn1.ASN1IA5String;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.ocsp.OCSPObjectIdentifiers;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.ExtendedKeyUsage;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.KeyPurposeId;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPReqBuilder;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.ocsp.UnknownStatus;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.cryptacular.x509.ExtensionReader;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import jakarta.annotation.Nonnull;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Performs revocation checking by consulting the OCSP responder defined
+ * in the authorityInfoAccess extension field on the certificate, or a responder
+ * that is configured for all certificates. Requests are sent via HTTP GET,
+ * optionally carrying a nonce.
+ * <p>
+ * Responses are cached by issuer and serial number until the {@code nextUpdate} time
+ * that is indicated by the responder, or for a default duration if the responder does not
+ * indicate one. Concurrent checks of the same certificate share a single request to the responder.
+ * Responses whose {@code thisUpdate} time is in the future beyond the allowed clock skew,
+ * or older than the maximum response age, are rejected so that replayed responses are not trusted.
+ * When the revocation status cannot be determined, the check is handed off to a fallback checker,
+ * typically one that consults CRLs, or the unavailable policy is applied if no fallback is defined.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class OCSPRevocationChecker implements RevocationChecker {
+    /**
+     * Media type for OCSP responses.
+     */
+    public static final String MEDIA_TYPE_OCSP_RESPONSE = "application/ocsp-response";
+
+    /**
+     * Default clock skew allowed for the {@code thisUpdate} time of responses.
+     */
+    public static final Duration DEFAULT_ALLOWED_CLOCK_SKEW = Duration.ofMinutes(5);
+
+    /**
+     * Default maximum age of responses, based on their {@code thisUpdate} time.
+     */
+    public static final Duration DEFAULT_MAX_RESPONSE_AGE = Duration.ofDays(7);
+
+    private static final int NONCE_LENGTH = 16;
+
+    private final Cache<String, OCSPStatus> responseCache;
+
+    private final RevocationPolicy<Void> unavailablePolicy;
+
+    private final RevocationChecker fallbackChecker;
+
+    private final boolean nonceEnabled;
+
+    private final String responderUrl;
+
+    private final Duration allowedClockSkew;
+
+    private final Duration maxResponseAge;
+
+    public OCSPRevocationChecker(final Cache<String, OCSPStatus> responseCache,
+                                 final RevocationPolicy<Void> unavailablePolicy) {
+        this(responseCache, unavailablePolicy, null, false, null);
+    }
+
+    public OCSPRevocationChecker(final Cache<String, OCSPStatus> responseCache,
+                                 final RevocationPolicy<Void> unavailablePolicy,
+                                 final RevocationChecker fallbackChecker,
+                                 final boolean nonceEnabled,
+                                 final String responderUrl) {
+        this(responseCache, unavailablePolicy, fallbackChecker, nonceEnabled, responderUrl,
+            DEFAULT_ALLOWED_CLOCK_SKEW, DEFAULT_MAX_RESPONSE_AGE);
+    }
+
+    public OCSPRevocationChecker(final Cache<String, OCSPStatus> responseCache,
+                                 final RevocationPolicy<Void> unavailablePolicy,
+                                 final RevocationChecker fallbackChecker,
+                                 final boolean nonceEnabled,
+                                 final String responderUrl,
+                                 final Duration allowedClockSkew,
+                                 final Duration maxResponseAge) {
+        this.responseCache = responseCache;
+        this.unavailablePolicy = Objects.requireNonNullElseGet(unavailablePolicy, DenyRevocationPolicy::new);
+        this.fallbackChecker = fallbackChecker;
+        this.nonceEnabled = nonceEnabled;
+        this.responderUrl = responderUrl;
+        this.allowedClockSkew = allowedClockSkew;
+        this.maxResponseAge = maxResponseAge;
+    }
+
+    /**
+     * Build a cache for OCSP responses whose entries expire at the {@code nextUpdate} time
+     * indicated by the responder, or after the given default duration.
+     *
+     * @param maximumSize     the maximum size
+     * @param defaultDuration the default duration
+     * @return the cache
+     */
+    public static Cache<String, OCSPStatus> newResponseCache(final long maximumSize, final Duration defaultDuration) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new OCSPStatusExpiry(defaultDuration, Clock.systemUTC()))
+            .build();
+    }
+
+    @Override
+    public void check(@Nonnull final X509Certificate certificate) throws GeneralSecurityException {
+        check(certificate, null);
+    }
+
+    @Override
+    public void check(@Nonnull final X509Certificate certificate, final X509Certificate issuer) throws GeneralSecurityException {
+        if (certificate.getSubjectX500Principal().equals(certificate.getIssuerX500Principal())) {
+            LOGGER.debug("Skipping OCSP revocation check for self-issued certificate [{}]", CertUtils.toString(certificate));
+            return;
+        }
+        val url = getResponderUrl(certificate);
+        if (issuer == null || StringUtils.isBlank(url)) {
+            LOGGER.warn("Unable to locate OCSP responder or issuer certificate for [{}]", CertUtils.toString(certificate));
+            applyUnavailablePolicy(certificate, issuer);
+            return;
+        }
+        val certificateId = buildCertificateId(certificate, issuer);
+        val key = buildCacheKey(certificateId);
+        val status = responseCache.get(key, __ -> FunctionUtils.doAndHandle(
+            () -> fetchStatus(url, certificateId, issuer),
+            e -> {
+                LoggingUtils.warn(LOGGER, "Unable to fetch OCSP response from " + url, e);
+                return null;
+            }).get());
+
+        if (status == null || status.status() == OCSPStatus.Status.UNKNOWN) {
+            LOGGER.warn("OCSP revocation status is not available for [{}]", CertUtils.toString(certificate));
+            applyUnavailablePolicy(certificate, issuer);
+            return;
+        }
+        LOGGER.debug("OCSP revocation status for [{}] is [{}]", CertUtils.toString(certificate), status.status());
+        if (status.status() == OCSPStatus.Status.REVOKED) {
+            throw new RevokedCertificateException(status.revocationDate(), certificate.getSerialNumber(), status.reason());
+        }
+    }
+
+    protected void applyUnavailablePolicy(final X509Certificate certificate, final X509Certificate issuer) throws GeneralSecurityException {
+        if (fallbackChecker != null) {
+            LOGGER.debug("Falling back onto [{}] to check revocation status", fallbackChecker.getClass().getSimpleName());
+            fallbackChecker.check(certificate, issuer);
+        } else {
+            unavailablePolicy.apply(null);
+        }
+    }
+
+    protected String getResponderUrl(final X509Certificate certificate) {
+        if (StringUtils.isNotBlank(responderUrl)) {
+            return responderUrl;
+        }
+        val accessDescriptions = FunctionUtils.doAndHandle(() -> new ExtensionReader(certificate).readAuthorityInformationAccess());
+        return Optional.ofNullable(accessDescriptions)
+            .flatMap(descriptions -> descriptions
+                .stream()
+                .filter(description -> AccessDescription.id_ad_ocsp.equals(description.getAccessMethod()))
+                .map(AccessDescription::getAccessLocation)
+                .filter(location -> location.getTagNo() == GeneralName.uniformResourceIdentifier)
+                .map(location -> ASN1IA5String.getInstance(location.getName()).getString())
+                .findFirst())
+            .orElse(null);
+    }
+
+    protected OCSPStatus fetchStatus(final String url, final CertificateID certificateId,
+                                     final X509Certificate issuer) throws Exception {
+        val nonce = nonceEnabled ? buildNonceExtension() : null;
+        val request = buildRequest(certificateId, nonce);
+        val encodedRequest = URLEncoder.encode(Base64.getEncoder().encodeToString(request.getEncoded()), StandardCharsets.UTF_8);
+        val requestUrl = StringUtils.appendIfMissing(url, "/") + encodedRequest;
+
+        HttpResponse response = null;
+        try {
+            val exec = HttpExecutionRequest.builder()
+                .method(HttpMethod.GET)
+                .url(requestUrl)
+                .headers(Map.of("Accept", MEDIA_TYPE_OCSP_RESPONSE))
+                .build();
+            LOGGER.debug("Sending OCSP request to [{}]", url);
+            response = HttpUtils.execute(exec);
+            if (response == null || response.getCode() != HttpStatus.OK.value()) {
+                LOGGER.warn("OCSP responder [{}] did not produce a successful response", url);
+                return null;
+            }
+            try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
+                return parseResponse(new OCSPResp(IOUtils.toByteArray(content)), certificateId, issuer, nonce);
+            }
+        } finally {
+            HttpUtils.close(response);
+        }
+    }
+
+    protected OCSPStatus parseResponse(final OCSPResp response, final CertificateID certificateId,
+                                       final X509Certificate issuer, final Extension nonce) throws Exception {
+        if (response.getStatus() != OCSPResp.SUCCESSFUL) {
+            LOGGER.warn("OCSP responder returned unsuccessful response status [{}]", response.getStatus());
+            return null;
+        }
+        val basicResponse = (BasicOCSPResp) response.getResponseObject();
+        if (!isValidSignature(basicResponse, issuer)) {
+            LOGGER.warn("OCSP response is not signed by the issuer or an authorized responder of [{}]",
+                issuer.getSubjectX500Principal());
+            return null;
+        }
+        if (nonce != null) {
+            val responseNonce = basicResponse.getExtension(OCSPObjectIdentifiers.id_pkix_ocsp_nonce);
+            if (responseNonce != null && !Arrays.equals(responseNonce.getExtnValue().getOctets(), nonce.getExtnValue().getOctets())) {
+                LOGGER.warn("OCSP response nonce does not match the request nonce");
+                return null;
+            }
+        }
+        val now = Instant.now(Clock.systemUTC());
+        return Arrays.stream(basicResponse.getResponses())
+            .filter(single -> certificateId.equals(single.getCertID()))
+            .filter(single -> single.getNextUpdate() == null || single.getNextUpdate().toInstant().isAfter(now))
+            .filter(single -> isCurrent(single.getThisUpdate().toInstant(), now))
+            .findFirst()
+            .map(single -> {
+                val nextUpdate = Optional.ofNullable(single.getNextUpdate()).map(Date::toInstant).orElse(null);
+                val status = single.getCertStatus();
+                if (status instanceof final RevokedStatus revoked) {
+                    val reason = revoked.hasRevocationReason() ? toReason(revoked.getRevocationReason()) : null;
+                    return new OCSPStatus(OCSPStatus.Status.REVOKED,
+                        DateTimeUtils.zonedDateTimeOf(revoked.getRevocationTime()), reason, nextUpdate);
+                }
+                if (status instanceof UnknownStatus) {
+                    return new OCSPStatus(OCSPStatus.Status.UNKNOWN, null, null, nextUpdate);
+                }
+                return new OCSPStatus(OCSPStatus.Status.GOOD, null, null, nextUpdate);
+            })
+            .orElse(null);
+    }
+
+    protected boolean isCurrent(final Instant thisUpdate, final Instant now) {
+        if (thisUpdate.isAfter(now.plus(allowedClockSkew))) {
+            LOGGER.warn("OCSP response was produced at [{}], which is in the future beyond the allowed clock skew of [{}]",
+                thisUpdate, allowedClockSkew);
+            return false;
+        }
+        if (thisUpdate.isBefore(now.minus(maxResponseAge))) {
+            LOGGER.warn("OCSP response was produced at [{}], which is older than the maximum response age of [{}]",
+                thisUpdate, maxResponseAge);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isValidSignature(final BasicOCSPResp response, final X509Certificate issuer) throws Exception {
+        if (isSignedBy(response, issuer.getPublicKey())) {
+            return true;
+        }
+        val converter = new JcaX509CertificateConverter();
+        for (val holder : response.getCerts()) {
+            if (isAuthorizedResponder(holder, issuer)) {
+                val responder = converter.getCertificate(holder);
+                if (isSignedBy(response, responder.getPublicKey())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAuthorizedResponder(final X509CertificateHolder holder, final X509Certificate issuer) throws Exception {
+        val issuerHolder = new JcaX509CertificateHolder(issuer);
+        if (!holder.getIssuer().equals(issuerHolder.getSubject()) || !holder.isValidOn(new Date())) {
+            return false;
+        }
+        if (!holder.isSignatureValid(new JcaContentVerifierProviderBuilder().build(issuer.getPublicKey()))) {
+            return false;
+        }
+        return Optional.ofNullable(holder.getExtensions())
+            .map(ExtendedKeyUsage::fromExtensions)
+            .map(usage -> usage.hasKeyPurposeId(KeyPurposeId.id_kp_OCSPSigning))
+            .orElse(Boolean.FALSE);
+    }
+
+    private static boolean isSignedBy(final BasicOCSPResp response, final PublicKey key) {
+        return FunctionUtils.doAndHandle(
+            () -> response.isSignatureValid(new JcaContentVerifierProviderBuilder().build(key)),
+            e -> Boolean.FALSE).get();
+    }
+
+    private static CertificateID buildCertificateId(final X509Certificate certificate,
+                                                    final X509Certificate issuer) {
+        return FunctionUtils.doUnchecked(() -> {
+            val digestCalculator = new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1);
+            return new CertificateID(digestCalculator, new JcaX509CertificateHolder(issuer), certificate.getSerialNumber());
+        });
+    }
+
+    private static String buildCacheKey(final CertificateID certificateId) {
+        return Hex.encodeHexString(certificateId.getIssuerNameHash())
+            + ':' + Hex.encodeHexString(certificateId.getIssuerKeyHash())
+            + ':' + certificateId.getSerialNumber().toString(16);
+    }
+
+    private static OCSPReq buildRequest(final CertificateID certificateId, final Extension nonce) throws Exception {
+        val builder = new OCSPReqBuilder().addRequest(certificateId);
+        if (nonce != null) {
+            builder.setRequestExtensions(new Extensions(nonce));
+        }
+        return builder.build();
+    }
+
+    private static Extension buildNonceExtension() throws Exception {
+        val nonce = new byte[NONCE_LENGTH];
+        RandomUtils.getNativeInstance().nextBytes(nonce);
+        return new Extension(OCSPObjectIdentifiers.id_pkix_ocsp_nonce, false, new DEROctetString(new DEROctetString(nonce).getEncoded()));
+    }
+
+    private static RevokedCertificateException.Reason toReason(final int code) {
+        val reasons = RevokedCertificateException.Reason.values();
+        return code >= 0 && code < reasons.length ? RevokedCertificateException.Reason.fromCode(code) : null;
+    }
+
+    /**
+     * Revocation status of a certificate as reported by an OCSP responder.
+     *
+     * @param status         the status
+     * @param revocationDate the revocation date, if revoked
+     * @param reason         the revocation reason, if revoked and known
+     * @param nextUpdate     the time at which newer status information is available, if known
+     */
+    public record OCSPStatus(Status status, ZonedDateTime revocationDate,
+                             RevokedCertificateException.Reason reason, Instant nextUpdate) {
+        /**
+         * Certificate status types.
+         */
+        public enum Status {
+            /**
+             * Certificate is not revoked.
+             */
+            GOOD,
+            /**
+             * Certificate is revoked.
+             */
+            REVOKED,
+            /**
+             * Responder does not know about the certificate.
+             */
+            UNKNOWN
+        }
+    }
+
+    private record OCSPStatusExpiry(Duration defaultDuration, Clock clock) implements Expiry<String, OCSPStatus> {
+        @Override
+        public long expireAfterCreate(final String key, final OCSPStatus value, final long currentTime) {
+            if (value.nextUpdate() == null) {
+                return defaultDuration.toNanos();
+            }
+            val remaining = Duration.between(clock.instant(), value.nextUpdate());
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final OCSPStatus value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final OCSPStatus value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
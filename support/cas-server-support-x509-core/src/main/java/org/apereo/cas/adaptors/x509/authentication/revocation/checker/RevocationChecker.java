@@ -19,4 +19,18 @@ public interface RevocationChecker {
      *                                  check fails for some reason such as revocation data not available.
      */
     default void check(final X509Certificate certificate) throws GeneralSecurityException {}
+
+    /**
+     * Checks the revocation status of the given certificate, issued by the given issuer.
+     * Checkers that need to identify the certificate to a revocation authority, such as
+     * an OCSP responder, require the issuer certificate.
+     *
+     * @param certificate Certificate to examine.
+     * @param issuer      Certificate of the issuer, if known; may be null.
+     * @throws GeneralSecurityException If certificate has been revoked or the revocation
+     *                                  check fails for some reason such as revocation data not available.
+     */
+    default void check(final X509Certificate certificate, final X509Certificate issuer) throws GeneralSecurityException {
+        check(certificate);
+    }
 }
@@ -0,0 +1,375 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.crl;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1GeneralizedTime;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.ASN1SequenceParser;
+import org.bouncycastle.asn1.ASN1StreamParser;
+import org.bouncycastle.asn1.ASN1UTCTime;
+import org.bouncycastle.asn1.InMemoryRepresentable;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.Time;
+
+import javax.security.auth.x500.X500Principal;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.cert.CRLException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * This is {@link IndexedCRL}.
+ * <p>
+ * A compact index of the certificates revoked by a CRL. The CRL is parsed as a stream,
+ * one revoked certificate entry at a time, into fixed-width records sorted by serial number.
+ * Records are kept outside the heap, either in a direct buffer or memory-mapped from the file
+ * the index is persisted to, so that revocation lookups are binary searches that do not require
+ * the parsed CRL to be held in memory. CRL signatures are not verified, and entries of indirect
+ * CRLs are attributed to the issuer of the CRL.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@ToString(of = {"issuer", "thisUpdate", "nextUpdate", "size"})
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IndexedCRL {
+    /**
+     * Reason code of entries that do not specify a revocation reason.
+     */
+    public static final int NO_REASON = -1;
+
+    private static final int MAGIC = 0x43524c58;
+
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Serial numbers are at most 20 octets long; one more octet holds the sign.
+     */
+    private static final int SERIAL_LENGTH = 21;
+
+    private static final int RECORD_LENGTH = SERIAL_LENGTH + Long.BYTES + 1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int DER_SEQUENCE_TAG = 0x30;
+
+    private static final long NO_NEXT_UPDATE = Long.MIN_VALUE;
+
+    private final String issuer;
+
+    private final Instant thisUpdate;
+
+    private final Instant nextUpdate;
+
+    private final int size;
+
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer records;
+
+    /**
+     * Parse a DER or PEM encoded CRL from the stream into an index held in a direct buffer.
+     *
+     * @param stream the stream
+     * @return the index
+     * @throws IOException  if the stream cannot be read
+     * @throws CRLException if the stream does not hold a CRL
+     */
+    public static IndexedCRL parse(final InputStream stream) throws IOException, CRLException {
+        val input = new BufferedInputStream(stream);
+        input.mark(1);
+        val der = input.read() == DER_SEQUENCE_TAG ? input : decodePem(input);
+        input.reset();
+        try {
+            val parser = new ASN1StreamParser(der);
+            val certificateList = (ASN1SequenceParser) parser.readObject();
+            val tbsCertList = (ASN1SequenceParser) certificateList.readObject();
+
+            var element = tbsCertList.readObject();
+            if (element instanceof ASN1Integer) {
+                element = tbsCertList.readObject();
+            }
+            load(element);
+            val issuer = new X500Principal(load(tbsCertList.readObject()).toASN1Primitive().getEncoded()).getName();
+            val thisUpdate = toInstant(tbsCertList.readObject());
+
+            element = tbsCertList.readObject();
+            var nextUpdate = (Instant) null;
+            if (element instanceof ASN1UTCTime || element instanceof ASN1GeneralizedTime) {
+                nextUpdate = toInstant(element);
+                element = tbsCertList.readObject();
+            }
+
+            val buffer = new RecordBuffer();
+            if (element instanceof final ASN1SequenceParser revokedCertificates) {
+                var entry = revokedCertificates.readObject();
+                while (entry != null) {
+                    val sequence = ASN1Sequence.getInstance(load(entry));
+                    val serial = ASN1Integer.getInstance(sequence.getObjectAt(0)).getValue();
+                    val revocationDate = toInstant(sequence.getObjectAt(1));
+                    val reason = sequence.size() > 2 ? getReason(Extensions.getInstance(sequence.getObjectAt(2))) : NO_REASON;
+                    buffer.add(serial, revocationDate, reason);
+                    entry = revokedCertificates.readObject();
+                }
+            }
+            val records = buffer.sort();
+            val direct = ByteBuffer.allocateDirect(Math.max(1, records.length)).put(records).flip();
+            return new IndexedCRL(issuer, thisUpdate, nextUpdate, buffer.count, direct.asReadOnlyBuffer());
+        } catch (final ClassCastException | IllegalArgumentException | NullPointerException e) {
+            throw new CRLException("Unable to parse CRL", e);
+        }
+    }
+
+    /**
+     * Load an index that was previously persisted to the given file by memory-mapping the file.
+     *
+     * @param file the file
+     * @return the index
+     * @throws IOException if the file cannot be read or does not hold an index
+     */
+    public static IndexedCRL load(final Path file) throws IOException {
+        try (val channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            val buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("File " + file + " does not hold a CRL index");
+            }
+            val thisUpdate = Instant.ofEpochMilli(buffer.getLong());
+            val nextUpdate = buffer.getLong();
+            val size = buffer.getInt();
+            val issuer = new byte[buffer.getInt()];
+            buffer.get(issuer);
+            if (buffer.remaining() != (long) size * RECORD_LENGTH) {
+                throw new IOException("CRL index in file " + file + " is truncated");
+            }
+            return new IndexedCRL(new String(issuer, StandardCharsets.UTF_8), thisUpdate,
+                nextUpdate == NO_NEXT_UPDATE ? null : Instant.ofEpochMilli(nextUpdate),
+                size, buffer.slice().asReadOnlyBuffer());
+        }
+    }
+
+    /**
+     * Persist the index to the given file, replacing the file atomically,
+     * and return the index memory-mapped from the file.
+     *
+     * @param file the file
+     * @return the persisted index
+     * @throws IOException if the file cannot be written
+     */
+    public IndexedCRL writeTo(final Path file) throws IOException {
+        val issuerBytes = issuer.getBytes(StandardCharsets.UTF_8);
+        val header = ByteBuffer.allocate(Integer.BYTES * 4 + Long.BYTES * 2 + issuerBytes.length)
+            .putInt(MAGIC)
+            .putInt(FORMAT_VERSION)
+            .putLong(thisUpdate.toEpochMilli())
+            .putLong(nextUpdate == null ? NO_NEXT_UPDATE : nextUpdate.toEpochMilli())
+            .putInt(size)
+            .putInt(issuerBytes.length)
+            .put(issuerBytes)
+            .flip();
+        val temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try (val channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            val content = records.duplicate().position(0).limit(size * RECORD_LENGTH);
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return load(file);
+    }
+
+    /**
+     * Look up the revocation entry for the given serial number.
+     *
+     * @param serial the serial
+     * @return the entry, if the certificate is revoked
+     */
+    public Optional<Entry> lookup(final BigInteger serial) {
+        val key = toKey(serial);
+        if (key == null) {
+            return Optional.empty();
+        }
+        val probe = new byte[SERIAL_LENGTH];
+        var low = 0;
+        var high = size - 1;
+        while (low <= high) {
+            val middle = (low + high) >>> 1;
+            val offset = middle * RECORD_LENGTH;
+            records.get(offset, probe);
+            val comparison = Arrays.compareUnsigned(probe, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                val revocationDate = Instant.ofEpochMilli(records.getLong(offset + SERIAL_LENGTH));
+                return Optional.of(new Entry(serial, revocationDate, records.get(offset + SERIAL_LENGTH + Long.BYTES)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether the CRL has passed its next update time.
+     *
+     * @param now the current time
+     * @return true/false
+     */
+    public boolean isExpired(final Instant now) {
+        return nextUpdate != null && nextUpdate.isBefore(now);
+    }
+
+    private static byte[] toKey(final BigInteger serial) {
+        val bytes = serial.toByteArray();
+        if (bytes.length > SERIAL_LENGTH) {
+            return null;
+        }
+        val key = new byte[SERIAL_LENGTH];
+        Arrays.fill(key, 0, SERIAL_LENGTH - bytes.length, serial.signum() < 0 ? (byte) -1 : 0);
+        System.arraycopy(bytes, 0, key, SERIAL_LENGTH - bytes.length, bytes.length);
+        return key;
+    }
+
+    private static ASN1Encodable load(final ASN1Encodable element) throws IOException {
+        return element instanceof final InMemoryRepresentable representable ? representable.getLoadedObject() : element;
+    }
+
+    private static Instant toInstant(final ASN1Encodable time) {
+        return Time.getInstance(time).getDate().toInstant();
+    }
+
+    private static int getReason(final Extensions extensions) {
+        return Optional.ofNullable(extensions.getExtension(Extension.reasonCode))
+            .map(extension -> CRLReason.getInstance(extension.getParsedValue()).getValue().intValue())
+            .orElse(NO_REASON);
+    }
+
+    private static InputStream decodePem(final InputStream input) {
+        val reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.US_ASCII));
+        return Base64.getMimeDecoder().wrap(new InputStream() {
+            private byte[] line = new byte[0];
+
+            private int position;
+
+            private boolean started;
+
+            private boolean ended;
+
+            @Override
+            public int read() throws IOException {
+                while (position >= line.length) {
+                    val next = ended ? null : reader.readLine();
+                    if (next == null || next.startsWith("-----END")) {
+                        ended = true;
+                        return -1;
+                    }
+                    if (next.startsWith("-----BEGIN")) {
+                        started = true;
+                    }
+                    line = started && !next.startsWith("-----BEGIN") ? next.strip().getBytes(StandardCharsets.US_ASCII) : new byte[0];
+                    position = 0;
+                }
+                return line[position++];
+            }
+        });
+    }
+
+    /**
+     * A certificate revocation entry.
+     *
+     * @param serial         the serial
+     * @param revocationDate the revocation date
+     * @param reason         the CRL reason code, or {@link #NO_REASON}
+     */
+    public record Entry(BigInteger serial, Instant revocationDate, int reason) {
+    }
+
+    private static final class RecordBuffer {
+        private byte[] records = new byte[INITIAL_CAPACITY * RECORD_LENGTH];
+
+        private int count;
+
+        void add(final BigInteger serial, final Instant revocationDate, final int reason) throws CRLException {
+            val key = toKey(serial);
+            if (key == null) {
+                throw new CRLException("Serial number " + serial + " exceeds " + (SERIAL_LENGTH - 1) + " octets");
+            }
+            if ((count + 1) * RECORD_LENGTH > records.length) {
+                records = Arrays.copyOf(records, Math.multiplyExact(records.length, 2));
+            }
+            ByteBuffer.wrap(records, count * RECORD_LENGTH, RECORD_LENGTH)
+                .put(key)
+                .putLong(revocationDate.toEpochMilli())
+                .put((byte) reason);
+            count++;
+        }
+
+        /**
+         * Sort records by serial number in place, using heap sort to avoid auxiliary memory.
+         *
+         * @return the sorted records
+         */
+        byte[] sort() {
+            val swap = new byte[RECORD_LENGTH];
+            for (var i = count / 2 - 1; i >= 0; i--) {
+                siftDown(i, count, swap);
+            }
+            for (var end = count - 1; end > 0; end--) {
+                swap(0, end, swap);
+                siftDown(0, end, swap);
+            }
+            return Arrays.copyOf(records, count * RECORD_LENGTH);
+        }
+
+        private void siftDown(final int start, final int end, final byte[] swap) {
+            var root = start;
+            var child = 2 * root + 1;
+            while (child < end) {
+                if (child + 1 < end && compare(child, child + 1) < 0) {
+                    child++;
+                }
+                if (compare(root, child) >= 0) {
+                    return;
+                }
+                swap(root, child, swap);
+                root = child;
+                child = 2 * root + 1;
+            }
+        }
+
+        private int compare(final int first, final int second) {
+            return Arrays.compareUnsigned(records, first * RECORD_LENGTH, first * RECORD_LENGTH + SERIAL_LENGTH,
+                records, second * RECORD_LENGTH, second * RECORD_LENGTH + SERIAL_LENGTH);
+        }
+
+        private void swap(final int first, final int second, final byte[] swap) {
+            System.arraycopy(records, first * RECORD_LENGTH, swap, 0, RECORD_LENGTH);
+            System.arraycopy(records, second * RECORD_LENGTH, records, first * RECORD_LENGTH, RECORD_LENGTH);
+            System.arraycopy(swap, 0, records, second * RECORD_LENGTH, RECORD_LENGTH);
+        }
+    }
+}
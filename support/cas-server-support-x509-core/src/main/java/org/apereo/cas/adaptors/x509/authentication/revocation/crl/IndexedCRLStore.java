@@ -0,0 +1,184 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.crl;
+
+import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.io.UrlResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link IndexedCRLStore}.
+ * <p>
+ * Keeps an {@link IndexedCRL} per CRL location. CRLs that are available over HTTP or from files
+ * are parsed as they are downloaded, while CRLs from other locations such as LDAP are obtained
+ * via the {@link CRLFetcher} and indexed right away. If a directory is defined, indexes are persisted
+ * to and memory-mapped from that directory, so that they survive restarts. Indexes are refreshed
+ * in the background ahead of the next update time of the CRL, or periodically if the CRL does not
+ * specify one, and remain in use until the refreshed index is available.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class IndexedCRLStore {
+    private static final String INDEX_FILE_EXTENSION = ".crlidx";
+
+    private static final Duration MINIMUM_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final Map<URI, IndexedCRL> indexes = new ConcurrentHashMap<>();
+
+    private final Map<URI, Instant> refreshedAt = new ConcurrentHashMap<>();
+
+    private final Set<URI> refreshes = ConcurrentHashMap.newKeySet();
+
+    private final CRLFetcher fetcher;
+
+    private final File directory;
+
+    private final Duration refreshAhead;
+
+    private final Duration refreshInterval;
+
+    private final Clock clock;
+
+    public IndexedCRLStore(final CRLFetcher fetcher, final File directory,
+                           final Duration refreshAhead, final Duration refreshInterval) {
+        this(fetcher, directory, refreshAhead, refreshInterval, Clock.systemUTC());
+    }
+
+    public IndexedCRLStore(final CRLFetcher fetcher, final File directory,
+                           final Duration refreshAhead, final Duration refreshInterval, final Clock clock) {
+        this.fetcher = fetcher;
+        this.directory = directory;
+        this.refreshAhead = refreshAhead;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the index of the CRL at the given location, loading it from disk or fetching it if necessary.
+     * A background refresh is started if the index is due for a refresh.
+     *
+     * @param uri the uri
+     * @return the index
+     * @throws Exception if the CRL cannot be fetched
+     */
+    public IndexedCRL get(final URI uri) throws Exception {
+        val index = indexes.computeIfAbsent(uri, __ -> FunctionUtils.doUnchecked(() -> loadOrFetch(uri)));
+        refreshIfNecessary(uri, index);
+        return index;
+    }
+
+    /**
+     * Refresh the index of the CRL at the given location in the background,
+     * if it is due for a refresh and no other refresh of the same location is in progress.
+     *
+     * @param uri   the uri
+     * @param index the current index
+     * @return true if a refresh was started
+     */
+    public boolean refreshIfNecessary(final URI uri, final IndexedCRL index) {
+        if (!isRefreshDue(uri, index) || !refreshes.add(uri)) {
+            return false;
+        }
+        Thread.ofVirtual().name("crl-refresh-" + uri).start(() -> {
+            try {
+                LOGGER.debug("Refreshing CRL index for [{}]", uri);
+                refreshedAt.put(uri, clock.instant());
+                indexes.put(uri, fetch(uri));
+            } catch (final Throwable e) {
+                LoggingUtils.warn(LOGGER, "Unable to refresh CRL index for " + uri, e);
+            } finally {
+                refreshes.remove(uri);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Determine whether the index is due for a refresh. Refreshes of the same
+     * location are at least a minute apart, so that a CRL that is not republished
+     * on time is not fetched continuously.
+     *
+     * @param uri   the uri
+     * @param index the index
+     * @return true/false
+     */
+    public boolean isRefreshDue(final URI uri, final IndexedCRL index) {
+        val now = clock.instant();
+        val lastRefresh = refreshedAt.get(uri);
+        if (lastRefresh != null && now.isBefore(lastRefresh.plus(MINIMUM_REFRESH_INTERVAL))) {
+            return false;
+        }
+        if (index.getNextUpdate() != null) {
+            return !now.isBefore(index.getNextUpdate().minus(refreshAhead));
+        }
+        return !now.isBefore(Objects.requireNonNullElse(lastRefresh, index.getThisUpdate()).plus(refreshInterval));
+    }
+
+    protected IndexedCRL loadOrFetch(final URI uri) throws Exception {
+        val file = getIndexFile(uri);
+        if (file != null && Files.exists(file)) {
+            try {
+                val index = IndexedCRL.load(file);
+                if (!index.isExpired(clock.instant())) {
+                    LOGGER.debug("Loaded CRL index [{}] for [{}] from [{}]", index, uri, file);
+                    refreshedAt.put(uri, Files.getLastModifiedTime(file).toInstant());
+                    return index;
+                }
+                LOGGER.debug("CRL index for [{}] at [{}] has expired", uri, file);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to load CRL index from " + file, e);
+            }
+        }
+        return fetch(uri);
+    }
+
+    protected IndexedCRL fetch(final URI uri) throws Exception {
+        val index = isStreamable(uri)
+            ? parse(uri)
+            : IndexedCRL.parse(new ByteArrayInputStream(fetcher.fetch(uri).getEncoded()));
+        LOGGER.info("Indexed CRL [{}] fetched from [{}]", index, uri);
+        refreshedAt.put(uri, clock.instant());
+        val file = getIndexFile(uri);
+        return file != null ? index.writeTo(file) : index;
+    }
+
+    private static IndexedCRL parse(final URI uri) throws Exception {
+        try (val stream = new UrlResource(uri).getInputStream()) {
+            return IndexedCRL.parse(stream);
+        }
+    }
+
+    private static boolean isStreamable(final URI uri) {
+        return StringUtils.equalsAnyIgnoreCase(uri.getScheme(), "http", "https", "file");
+    }
+
+    private Path getIndexFile(final URI uri) throws Exception {
+        if (directory == null) {
+            return null;
+        }
+        Files.createDirectories(directory.toPath());
+        val name = DigestUtils.sha256(uri.toString());
+        return directory.toPath().resolve(name + INDEX_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,121 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.crl.IndexedCRL;
+import org.apereo.cas.adaptors.x509.authentication.revocation.crl.IndexedCRLStore;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.ThresholdExpiredCRLRevocationPolicy;
+import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.file.Files;
+import java.security.cert.X509CRL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link IndexedCRLStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("X509")
+class IndexedCRLStoreTests {
+    private static final String CRL_FILE = "userCA-valid.crl";
+
+    @Test
+    void verifyIndexMatchesCRL() throws Throwable {
+        val resource = new ClassPathResource(CRL_FILE);
+        val crl = (X509CRL) CertUtils.getCertificateFactory().generateCRL(resource.getInputStream());
+        val index = IndexedCRL.parse(resource.getInputStream());
+        assertEquals(crl.getRevokedCertificates().size(), index.getSize());
+        assertEquals(crl.getIssuerX500Principal().getName(), index.getIssuer());
+        assertEquals(crl.getNextUpdate().toInstant(), index.getNextUpdate());
+        for (val entry : crl.getRevokedCertificates()) {
+            val result = index.lookup(entry.getSerialNumber()).orElseThrow();
+            assertEquals(entry.getRevocationDate().toInstant(), result.revocationDate());
+        }
+        assertTrue(index.lookup(BigInteger.valueOf(Long.MAX_VALUE)).isEmpty());
+
+        val derIndex = IndexedCRL.parse(new ByteArrayInputStream(crl.getEncoded()));
+        assertEquals(index.getSize(), derIndex.getSize());
+    }
+
+    @Test
+    void verifyIndexIsPersisted() throws Throwable {
+        val directory = Files.createTempDirectory("crl").toFile();
+        try (val webServer = new MockWebServer(new ClassPathResource(CRL_FILE), "application/pkix-crl")) {
+            webServer.start();
+            val uri = new URI("http://localhost:%s/ca.crl".formatted(webServer.getPort()));
+            val store = newStore(directory, Clock.systemUTC());
+            val index = store.get(uri);
+            assertEquals(4, index.getSize());
+            assertEquals(1, FileUtils.listFiles(directory, new String[]{"crlidx"}, false).size());
+            webServer.stop();
+
+            val restarted = newStore(directory, Clock.systemUTC());
+            val loaded = restarted.get(uri);
+            assertEquals(index.getSize(), loaded.getSize());
+            assertEquals(index.getNextUpdate(), loaded.getNextUpdate());
+            assertTrue(loaded.lookup(BigInteger.valueOf(0xCAC)).isPresent());
+        } finally {
+            FileUtils.deleteQuietly(directory);
+        }
+    }
+
+    @Test
+    void verifyIndexIsRefreshedAheadOfNextUpdate() throws Throwable {
+        try (val webServer = new MockWebServer(new ClassPathResource(CRL_FILE), "application/pkix-crl")) {
+            webServer.start();
+            val uri = new URI("http://localhost:%s/ca.crl".formatted(webServer.getPort()));
+            val index = IndexedCRL.parse(new ClassPathResource(CRL_FILE).getInputStream());
+            val clock = Clock.fixed(index.getNextUpdate().minus(Duration.ofMinutes(5)), ZoneOffset.UTC);
+            val store = newStore(null, clock);
+            store.getIndexes().put(uri, index);
+
+            assertSame(index, store.get(uri));
+            await().atMost(10, TimeUnit.SECONDS).until(() -> store.getIndexes().get(uri) != index);
+            assertFalse(store.refreshIfNecessary(uri, store.getIndexes().get(uri)));
+        }
+    }
+
+    @Test
+    void verifyCheckerUsesIndex() throws Throwable {
+        val store = newStore(null, Clock.systemUTC());
+        store.getIndexes().put(new URI("http://localhost:8085/ca.crl"),
+            IndexedCRL.parse(new ClassPathResource(CRL_FILE).getInputStream()));
+        val checker = new CRLDistributionPointRevocationChecker(false, new DenyRevocationPolicy(),
+            new ThresholdExpiredCRLRevocationPolicy(0), Caffeine.newBuilder().build(),
+            new ResourceCRLFetcher(), false, store);
+
+        val revoked = CertUtils.readCertificate(new ClassPathResource("user-revoked-distcrl.crt"));
+        val exception = assertThrows(RevokedCertificateException.class, () -> checker.check(revoked));
+        assertEquals(RevokedCertificateException.Reason.KeyCompromise, exception.getReason());
+
+        val valid = CertUtils.readCertificate(new ClassPathResource("user-valid-distcrl.crt"));
+        assertDoesNotThrow(() -> checker.check(valid));
+    }
+
+    private static IndexedCRLStore newStore(final File directory, final Clock clock) {
+        return new IndexedCRLStore(new ResourceCRLFetcher(), directory,
+            Duration.ofMinutes(15), Duration.ofHours(4), clock);
+    }
+}
@@ -0,0 +1,272 @@
+package org.apereo.cas.adaptors.x509.authentication.handler.support;
+
+import org.apereo.cas.adaptors.x509.authentication.revocation.RevokedCertificateException;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.OCSPRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.RevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevocationPolicy;
+import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
+import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.val;
+import org.bouncycastle.asn1.DEROctetString;
+import org.bouncycastle.asn1.ocsp.OCSPObjectIdentifiers;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x509.AccessDescription;
+import org.bouncycastle.asn1.x509.AuthorityInformationAccess;
+import org.bouncycastle.asn1.x509.BasicConstraints;
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.cert.ocsp.RevokedStatus;
+import org.bouncycastle.cert.ocsp.UnknownStatus;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OCSPRevocationCheckerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("X509")
+class OCSPRevocationCheckerTests {
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final AtomicReference<byte[]> response = new AtomicReference<>();
+
+    private MockWebServer webServer;
+
+    private KeyPair issuerKeyPair;
+
+    private X509Certificate issuer;
+
+    private X509Certificate certificate;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        webServer = new MockWebServer(0, socket -> FunctionUtils.doUnchecked(() -> {
+            requests.incrementAndGet();
+            val body = response.get();
+            val out = socket.getOutputStream();
+            out.write(("HTTP/1.1 200 OK\r\nContent-Type: " + OCSPRevocationChecker.MEDIA_TYPE_OCSP_RESPONSE
+                + "\r\nContent-Length: " + body.length + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(body);
+            out.flush();
+            return body.length;
+        }));
+        webServer.start();
+
+        issuerKeyPair = newKeyPair();
+        issuer = newCertificate("CN=OCSP Test CA", issuerKeyPair, "CN=OCSP Test CA", issuerKeyPair, BigInteger.ONE, null);
+        val url = "http://localhost:" + webServer.getPort() + "/ocsp";
+        certificate = newCertificate("CN=casuser", newKeyPair(), "CN=OCSP Test CA", issuerKeyPair, BigInteger.TEN, url);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        webServer.stop();
+    }
+
+    @Test
+    void verifyGoodStatusIsCached() throws Throwable {
+        response.set(newResponse(CertificateStatus.GOOD, issuerKeyPair, null));
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy());
+        checker.check(certificate, issuer);
+        checker.check(certificate, issuer);
+        assertEquals(1, requests.get());
+        assertEquals(1, checker.getResponseCache().estimatedSize());
+    }
+
+    @Test
+    void verifyRevokedStatus() throws Throwable {
+        response.set(newResponse(new RevokedStatus(new Date(), CRLReason.keyCompromise), issuerKeyPair, null));
+        val checker = new OCSPRevocationChecker(newCache(), new AllowRevocationPolicy());
+        val exception = assertThrows(RevokedCertificateException.class, () -> checker.check(certificate, issuer));
+        assertEquals(RevokedCertificateException.Reason.KeyCompromise, exception.getReason());
+        assertThrows(RevokedCertificateException.class, () -> checker.check(certificate, issuer));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void verifyConcurrentChecksShareRequest() throws Throwable {
+        response.set(newResponse(CertificateStatus.GOOD, issuerKeyPair, null));
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy());
+        val start = new CountDownLatch(1);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = new ArrayList<Future<Object>>();
+            for (var i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    checker.check(certificate, issuer);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (val result : results) {
+                result.get();
+            }
+        }
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void verifyUnknownStatusFallsBack() throws Throwable {
+        response.set(newResponse(new UnknownStatus(), issuerKeyPair, null));
+        val fallback = new AtomicInteger();
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy(),
+            newFallbackChecker(fallback), false, null);
+        checker.check(certificate, issuer);
+        assertEquals(1, fallback.get());
+        val denied = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy());
+        assertThrows(GeneralSecurityException.class, () -> denied.check(certificate, issuer));
+    }
+
+    @Test
+    void verifyUnavailableResponderIsNotCached() throws Throwable {
+        val fallback = new AtomicInteger();
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy(),
+            newFallbackChecker(fallback), false, "http://localhost:1/ocsp");
+        checker.check(certificate, issuer);
+        checker.check(certificate, issuer);
+        assertEquals(2, fallback.get());
+        assertEquals(0, checker.getResponseCache().estimatedSize());
+    }
+
+    @Test
+    void verifyResponseSignedByUnknownKey() throws Throwable {
+        response.set(newResponse(CertificateStatus.GOOD, newKeyPair(), null));
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy());
+        assertThrows(GeneralSecurityException.class, () -> checker.check(certificate, issuer));
+        assertEquals(0, checker.getResponseCache().estimatedSize());
+    }
+
+    @Test
+    void verifyMismatchedNonce() throws Throwable {
+        val nonce = new Extension(OCSPObjectIdentifiers.id_pkix_ocsp_nonce, false,
+            new DEROctetString(new DEROctetString("mismatch".getBytes(StandardCharsets.UTF_8)).getEncoded()));
+        response.set(newResponse(CertificateStatus.GOOD, issuerKeyPair, nonce));
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy(), null, true, null);
+        assertThrows(GeneralSecurityException.class, () -> checker.check(certificate, issuer));
+        val withoutNonce = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy());
+        assertDoesNotThrow(() -> withoutNonce.check(certificate, issuer));
+    }
+
+    @Test
+    void verifyStaleResponseIsRejected() throws Throwable {
+        val thisUpdate = Instant.now(Clock.systemUTC()).minus(Duration.ofDays(2));
+        response.set(newResponse(CertificateStatus.GOOD, issuerKeyPair, null, thisUpdate));
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy(), null, false, null,
+            Duration.ofMinutes(5), Duration.ofDays(1));
+        assertThrows(GeneralSecurityException.class, () -> checker.check(certificate, issuer));
+        assertEquals(0, checker.getResponseCache().estimatedSize());
+        val lenient = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy(), null, false, null,
+            Duration.ofMinutes(5), Duration.ofDays(3));
+        assertDoesNotThrow(() -> lenient.check(certificate, issuer));
+    }
+
+    @Test
+    void verifyResponseFromTheFutureIsRejected() throws Throwable {
+        val thisUpdate = Instant.now(Clock.systemUTC()).plus(Duration.ofMinutes(30));
+        response.set(newResponse(CertificateStatus.GOOD, issuerKeyPair, null, thisUpdate));
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy());
+        assertThrows(GeneralSecurityException.class, () -> checker.check(certificate, issuer));
+    }
+
+    @Test
+    void verifySelfIssuedCertificateIsSkipped() {
+        val checker = new OCSPRevocationChecker(newCache(), new DenyRevocationPolicy());
+        assertDoesNotThrow(() -> checker.check(issuer));
+        assertEquals(0, requests.get());
+    }
+
+    private static RevocationChecker newFallbackChecker(final AtomicInteger counter) {
+        return new RevocationChecker() {
+            @Override
+            public void check(final X509Certificate certificate) {
+                counter.incrementAndGet();
+            }
+        };
+    }
+
+    private static Cache<String, OCSPRevocationChecker.OCSPStatus> newCache() {
+        return OCSPRevocationChecker.newResponseCache(100, Duration.ofMinutes(5));
+    }
+
+    private static KeyPair newKeyPair() throws Exception {
+        val generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static X509Certificate newCertificate(final String subject, final KeyPair subjectKeyPair,
+                                                  final String issuerName, final KeyPair issuerKeyPair,
+                                                  final BigInteger serial, final String ocspUrl) throws Exception {
+        val now = Instant.now(Clock.systemUTC());
+        val builder = new JcaX509v3CertificateBuilder(new X500Principal(issuerName), serial,
+            Date.from(now.minus(Duration.ofDays(1))), Date.from(now.plus(Duration.ofDays(1))),
+            new X500Principal(subject), subjectKeyPair.getPublic());
+        if (ocspUrl == null) {
+            builder.addExtension(Extension.basicConstraints, true, new BasicConstraints(true));
+        } else {
+            builder.addExtension(Extension.authorityInfoAccess, false, new AuthorityInformationAccess(
+                new AccessDescription(AccessDescription.id_ad_ocsp, new GeneralName(GeneralName.uniformResourceIdentifier, ocspUrl))));
+        }
+        val signer = new JcaContentSignerBuilder("SHA256withRSA").build(issuerKeyPair.getPrivate());
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+    }
+
+    private byte[] newResponse(final CertificateStatus status, final KeyPair signingKeyPair,
+                               final Extension nonce) throws Exception {
+        return newResponse(status, signingKeyPair, nonce, Instant.now(Clock.systemUTC()));
+    }
+
+    private byte[] newResponse(final CertificateStatus status, final KeyPair signingKeyPair,
+                               final Extension nonce, final Instant thisUpdate) throws Exception {
+        val digestCalculator = new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1);
+        val certificateId = new CertificateID(digestCalculator, new JcaX509CertificateHolder(issuer), certificate.getSerialNumber());
+        val nextUpdate = Instant.now(Clock.systemUTC()).plus(Duration.ofHours(1));
+        val builder = new BasicOCSPRespBuilder(new RespID(X500Name.getInstance(issuer.getSubjectX500Principal().getEncoded())));
+        builder.addResponse(certificateId, status, Date.from(thisUpdate), Date.from(nextUpdate));
+        if (nonce != null) {
+            builder.setResponseExtensions(new Extensions(nonce));
+        }
+        val signer = new JcaContentSignerBuilder("SHA256withRSA").build(signingKeyPair.getPrivate());
+        val basicResponse = builder.build(signer, null, new Date());
+        return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, basicResponse).getEncoded();
+    }
+}
@@ -17,8 +17,10 @@ import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectDNPrinci
 import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectPrincipalResolver;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.NoOpRevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.checker.OCSPRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.ResourceCRLRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.RevocationChecker;
+import org.apereo.cas.adaptors.x509.authentication.revocation.crl.IndexedCRLStore;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.AllowRevocationPolicy;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.DenyRevocationPolicy;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
@@ -54,6 +56,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
+import java.io.File;
 import java.net.URI;
 import java.util.Locale;
 import java.util.stream.Collectors;
@@ -109,7 +112,8 @@ public class CasX509AuthenticationAutoConfiguration {
     private static RevocationChecker getRevocationCheckerFrom(final X509Properties x509,
                                                               final RevocationChecker resourceCrlRevocationChecker,
                                                               final RevocationChecker crlDistributionPointRevocationChecker,
-                                                              final RevocationChecker noOpRevocationChecker) {
+                                                              final RevocationChecker noOpRevocationChecker,
+                                                              final RevocationChecker ocspRevocationChecker) {
         val checker = x509.getRevocationChecker().trim();
         if ("resource".equalsIgnoreCase(checker)) {
             return resourceCrlRevocationChecker;
@@ -117,6 +121,9 @@ public class CasX509AuthenticationAutoConfiguration {
         if ("crl".equalsIgnoreCase(checker)) {
             return crlDistributionPointRevocationChecker;
         }
+        if ("ocsp".equalsIgnoreCase(checker)) {
+            return ocspRevocationChecker;
+        }
         return noOpRevocationChecker;
     }
 
@@ -202,10 +209,38 @@ public class CasX509AuthenticationAutoConfiguration {
             .expireAfterWrite(Beans.newDuration(x509.getCacheTimeToLiveSeconds()))
             .<URI, byte[]>build();
 
+        val crlIndex = x509.getCrlIndex();
+        val crlStore = crlIndex.isEnabled()
+            ? new IndexedCRLStore(crlFetcher,
+                StringUtils.isNotBlank(crlIndex.getDirectory()) ? new File(crlIndex.getDirectory()) : null,
+                Beans.newDuration(crlIndex.getRefreshAhead()),
+                Beans.newDuration(x509.getCacheTimeToLiveSeconds()))
+            : null;
         return new CRLDistributionPointRevocationChecker(x509.isCheckAll(),
             getRevocationPolicy(x509.getCrlUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
             getRevocationPolicy(x509.getCrlExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
-            cache, crlFetcher, x509.isThrowOnFetchFailure());
+            cache, crlFetcher, x509.isThrowOnFetchFailure(), crlStore);
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "ocspRevocationChecker")
+    public RevocationChecker ocspRevocationChecker(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("crlDistributionPointRevocationChecker")
+        final RevocationChecker crlDistributionPointRevocationChecker,
+        @Qualifier("allowRevocationPolicy")
+        final RevocationPolicy allowRevocationPolicy,
+        @Qualifier("denyRevocationPolicy")
+        final RevocationPolicy denyRevocationPolicy) {
+        val ocsp = casProperties.getAuthn().getX509().getOcsp();
+        val cache = OCSPRevocationChecker.newResponseCache(ocsp.getCacheMaxElementsInMemory(),
+            Beans.newDuration(ocsp.getDefaultCacheDuration()));
+        val unavailablePolicy = ocsp.getUnavailablePolicy().trim();
+        val fallbackChecker = "crl".equalsIgnoreCase(unavailablePolicy) ? crlDistributionPointRevocationChecker : null;
+        val policy = "allow".equalsIgnoreCase(unavailablePolicy) ? allowRevocationPolicy : denyRevocationPolicy;
+        return new OCSPRevocationChecker(cache, policy, fallbackChecker, ocsp.isNonceEnabled(), ocsp.getResponderUrl(),
+            Beans.newDuration(ocsp.getAllowedClockSkew()), Beans.newDuration(ocsp.getMaxResponseAge()));
     }
 
     @Bean
@@ -261,10 +296,13 @@ public class CasX509AuthenticationAutoConfiguration {
                                                                       final RevocationChecker crlDistributionPointRevocationChecker,
                                                                       @Qualifier("noOpRevocationChecker")
                                                                       final RevocationChecker noOpRevocationChecker,
+                                                                      @Qualifier("ocspRevocationChecker")
+                                                                      final RevocationChecker ocspRevocationChecker,
                                                                       @Qualifier(ServicesManager.BEAN_NAME)
                                                                       final ServicesManager servicesManager) {
         val x509 = casProperties.getAuthn().getX509();
-        val revChecker = getRevocationCheckerFrom(x509, resourceCrlRevocationChecker, crlDistributionPointRevocationChecker, noOpRevocationChecker);
+        val revChecker = getRevocationCheckerFrom(x509, resourceCrlRevocationChecker,
+            crlDistributionPointRevocationChecker, noOpRevocationChecker, ocspRevocationChecker);
         val subjectDnPattern = StringUtils.isNotBlank(x509.getRegExSubjectDnPattern()) ? RegexUtils.createPattern(x509.getRegExSubjectDnPattern()) : null;
         val trustedIssuerDnPattern = StringUtils.isNotBlank(x509.getRegExTrustedIssuerDnPattern()) ? RegexUtils.createPattern(x509.getRegExTrustedIssuerDnPattern()) : null;
 